@@ -68,6 +68,8 @@ public class ModelFile
         .Concat(Converters.SelectMany(c => c.DomainsToReferences.Select(d => (d as Reference, c.To.FirstOrDefault(dom => dom.Name == d.ReferenceName) as object))))
         .Concat(DataFlows.Select(d => (d.ClassReference as Reference, d.Class as object)))
         .Concat(DataFlows.Select(d => (d.ActivePropertyReference as Reference, d.ActiveProperty as object)))
+        .Concat(DataFlows.Select(d => (d.PartitionPropertyReference as Reference, d.PartitionProperty as object)))
+        .Concat(DataFlows.Select(d => (d.WatermarkPropertyReference as Reference, d.WatermarkProperty as object)))
         .Concat(DataFlows.SelectMany(d => d.DependsOnReference.Select(r => (r as Reference, d.DependsOn.FirstOrDefault(dd => dd?.Name == r.ReferenceName) as object))))
         .Concat(DataFlows.SelectMany(d => d.Sources).Select(s => (s.ClassReference as Reference, s.Class as object)))
         .Concat(DataFlows.SelectMany(d => d.Sources).SelectMany(s => s.JoinPropertyReferences.Select(j => (j, s.JoinProperties.FirstOrDefault(jc => jc?.Name == j.ReferenceName) as object))))
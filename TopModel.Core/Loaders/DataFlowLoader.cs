@@ -39,6 +39,24 @@ public class DataFlowLoader : ILoader<DataFlow>
                 case "activeProperty":
                     dataFlow.ActivePropertyReference = new Reference(value!);
                     break;
+                case "partitions":
+                    dataFlow.Partitions = int.Parse(value!.Value);
+                    break;
+                case "partitionProperty":
+                    dataFlow.PartitionPropertyReference = new Reference(value!);
+                    break;
+                case "watermarkProperty":
+                    dataFlow.WatermarkPropertyReference = new Reference(value!);
+                    break;
+                case "fetchSize":
+                    dataFlow.FetchSize = int.Parse(value!.Value);
+                    break;
+                case "chunkSize":
+                    dataFlow.ChunkSize = int.Parse(value!.Value);
+                    break;
+                case "adaptiveChunkSize":
+                    dataFlow.AdaptiveChunkSize = value!.Value == "true";
+                    break;
                 case "hooks":
                     parser.ConsumeSequence(() =>
                     {
@@ -30,6 +30,22 @@ public class DataFlow
 
     public Reference? ActivePropertyReference { get; set; }
 
+    public int? Partitions { get; set; }
+
+    public IProperty? PartitionProperty { get; set; }
+
+    public Reference? PartitionPropertyReference { get; set; }
+
+    public IProperty? WatermarkProperty { get; set; }
+
+    public Reference? WatermarkPropertyReference { get; set; }
+
+    public int? FetchSize { get; set; }
+
+    public int? ChunkSize { get; set; }
+
+    public bool AdaptiveChunkSize { get; set; }
+
     public List<DataFlowSource> Sources { get; set; } = [];
 
     public override string ToString()
@@ -25,5 +25,10 @@ public enum DataFlowType
     /// <summary>
     /// Fusion des données et désactivation des données non matchées (bulk merge + bulk update)
     /// </summary>
-    MergeDisable
+    MergeDisable,
+
+    /// <summary>
+    /// Fusion des seules données modifiées depuis la dernière exécution du flux (bulk merge des lignes dont la `watermarkProperty` est supérieure à la plus grande valeur déjà lue).
+    /// </summary>
+    Incremental
 }
\ No newline at end of file
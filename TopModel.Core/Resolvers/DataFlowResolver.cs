@@ -65,6 +65,35 @@ internal class DataFlowResolver(ModelFile modelFile, IDictionary<string, DataFlo
                     source.JoinProperties.Add(joinProperty);
                 }
             }
+
+            var firstSourceClass = dataFlow.Sources.FirstOrDefault()?.Class;
+            dataFlow.PartitionProperty = null;
+            if (dataFlow.PartitionPropertyReference != null && firstSourceClass != null)
+            {
+                dataFlow.PartitionProperty = firstSourceClass.ExtendedProperties.FirstOrDefault(fp => fp.Name == dataFlow.PartitionPropertyReference.ReferenceName);
+                if (dataFlow.PartitionProperty == null)
+                {
+                    yield return new ModelError(dataFlow, $"La propriété '{dataFlow.PartitionPropertyReference.ReferenceName}' n'existe pas sur la classe '{firstSourceClass}'.", dataFlow.PartitionPropertyReference) { ModelErrorType = ModelErrorType.TMD1011 };
+                }
+            }
+            else if (dataFlow.Partitions > 1 && firstSourceClass != null && firstSourceClass.PrimaryKey.Count() != 1)
+            {
+                yield return new ModelError(dataFlow, $"Le flux de données partitionné doit définir une 'partitionProperty', car la classe source '{firstSourceClass}' n'a pas de clé primaire simple.", dataFlow.Name.Location) { ModelErrorType = ModelErrorType.TMD2001 };
+            }
+
+            dataFlow.WatermarkProperty = null;
+            if (dataFlow.WatermarkPropertyReference != null && firstSourceClass != null)
+            {
+                dataFlow.WatermarkProperty = firstSourceClass.ExtendedProperties.FirstOrDefault(fp => fp.Name == dataFlow.WatermarkPropertyReference.ReferenceName);
+                if (dataFlow.WatermarkProperty == null)
+                {
+                    yield return new ModelError(dataFlow, $"La propriété '{dataFlow.WatermarkPropertyReference.ReferenceName}' n'existe pas sur la classe '{firstSourceClass}'.", dataFlow.WatermarkPropertyReference) { ModelErrorType = ModelErrorType.TMD1011 };
+                }
+            }
+            else if (dataFlow.Type == DataFlowType.Incremental)
+            {
+                yield return new ModelError(dataFlow, "Le flux de données incrémental doit définir une 'watermarkProperty'.", dataFlow.Name.Location) { ModelErrorType = ModelErrorType.TMD2002 };
+            }
         }
     }
 }
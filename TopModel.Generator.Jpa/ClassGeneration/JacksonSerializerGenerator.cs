@@ -0,0 +1,406 @@
+﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
+using TopModel.Generator.Core;
+using TopModel.Utils;
+
+namespace TopModel.Generator.Jpa.ClassGeneration;
+
+/// <summary>
+/// Générateur des serializers et deserializers Jackson des DTOs (sans introspection des beans), et des modules Jackson qui les enregistrent.
+/// Les DTOs abstraits (interfaces) n'ont qu'un serializer, et les classes qui portent des annotations Jackson sont laissées à l'introspection.
+/// </summary>
+public class JacksonSerializerGenerator(ILogger<JacksonSerializerGenerator> logger, IFileWriterProvider writerProvider)
+    : ClassGroupGeneratorBase<JpaConfig>(logger, writerProvider)
+{
+    private JpaModelPropertyGenerator? _jpaModelPropertyGenerator;
+
+    public override string Name => "JacksonSerializerGen";
+
+    protected virtual JpaModelPropertyGenerator JpaModelPropertyGenerator
+    {
+        get
+        {
+            _jpaModelPropertyGenerator ??= Config.UseJdbc ? new JdbcModelPropertyGenerator(Config, Classes, []) : new JpaModelPropertyGenerator(Config, Classes, []);
+            return _jpaModelPropertyGenerator;
+        }
+    }
+
+    protected override IEnumerable<(string FileType, string FileName)> GetFileNames(Class classe, string tag)
+    {
+        if (classe.IsPersistent || Config.CanClassUseEnums(classe, Classes)
+            || classe.Decorators.Any(d => Config.GetImplementation(d.Decorator)?.Extends is not null)
+            || HasJacksonAnnotations(classe, tag))
+        {
+            yield break;
+        }
+
+        yield return ("serializer", GetFilePath(classe.Namespace, GetSerializerName(classe), tag));
+
+        // Une interface ne peut pas être instanciée par un deserializer.
+        if (!classe.Abstract)
+        {
+            yield return ("deserializer", GetFilePath(classe.Namespace, GetDeserializerName(classe), tag));
+        }
+
+        yield return ("module", GetFilePath(classe.Namespace, GetModuleName(classe.Namespace), tag));
+    }
+
+    protected override void HandleFile(string fileType, string fileName, string tag, IEnumerable<Class> classes)
+    {
+        switch (fileType)
+        {
+            case "serializer":
+                WriteSerializer(fileName, classes.Single(), tag);
+                break;
+            case "deserializer":
+                WriteDeserializer(fileName, classes.Single(), tag);
+                break;
+            default:
+                WriteModule(fileName, classes.OrderBy(c => c.NamePascal, StringComparer.Ordinal).ToList(), tag);
+                break;
+        }
+    }
+
+    private static string GetDeserializerName(Class classe)
+    {
+        return $"{classe.NamePascal}Deserializer";
+    }
+
+    private static string GetModuleName(Namespace ns)
+    {
+        return $"{ns.ModuleFlat}JacksonModule".ToPascalCase();
+    }
+
+    private static string GetSerializerName(Class classe)
+    {
+        return $"{classe.NamePascal}Serializer";
+    }
+
+    private static bool IsJacksonAnnotation(string annotation, IEnumerable<string> imports)
+    {
+        return annotation.TrimStart('@').StartsWith("Json") || annotation.Contains("com.fasterxml.jackson")
+            || imports.Any(i => i.StartsWith("com.fasterxml.jackson"));
+    }
+
+    private string GetFilePath(Namespace ns, string name, string tag)
+    {
+        return Path.Combine(
+            Config.OutputDirectory,
+            Config.ResolveVariables(Config.DtosPath, tag, module: ns.Module).ToFilePath(),
+            $"{name}.java");
+    }
+
+    private List<IProperty> GetJsonProperties(Class classe)
+    {
+        var properties = new List<IProperty>();
+        for (var parent = classe; parent != null; parent = parent.Extends)
+        {
+            properties.InsertRange(0, parent.GetProperties(Classes));
+        }
+
+        return properties;
+    }
+
+    private string GetPropertyConstant(IProperty property)
+    {
+        return JpaModelPropertyGenerator.GetPropertyName(property).ToConstantCase();
+    }
+
+    private string GetPropertyRead(IProperty property)
+    {
+        var type = JpaModelPropertyGenerator.GetPropertyType(property);
+        return type switch
+        {
+            "String" => "p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class)",
+            "Integer" or "Long" => $"p.hasToken(JsonToken.VALUE_NUMBER_INT) ? {type}.valueOf(p.get{(type == "Integer" ? "Int" : type)}Value()) : readValue(p, ctxt, {type}.class)",
+            "Boolean" => "p.currentToken().isBoolean() ? Boolean.valueOf(p.getBooleanValue()) : readValue(p, ctxt, Boolean.class)",
+            _ when type.Contains('<') => $"readValue(p, ctxt, {GetPropertyConstant(property)}_TYPE)",
+            _ => $"readValue(p, ctxt, {type.Split('<')[0]}.class)"
+        };
+    }
+
+    /// <summary>
+    /// Propriétés écrites par le serializer, avec leur nom JSON, leur getter et leur type Java.
+    /// </summary>
+    /// <param name="classe">Classe.</param>
+    /// <returns>Propriétés sérialisées.</returns>
+    private IEnumerable<(string Name, string Getter, string Type)> GetSerializedProperties(Class classe)
+    {
+        if (classe.Abstract)
+        {
+            // Mêmes getters que l'interface générée par JpaInterfaceGen, dont Jackson déduit les noms des propriétés.
+            return classe.Properties
+                .Where(p => !(p is AssociationProperty apo && apo.Association.Reference && (apo.Type == AssociationType.OneToOne || apo.Type == AssociationType.ManyToOne)))
+                .Select(p => (p.NameByClassCamel, p.NameByClassPascal.WithPrefix(Config.GetType(p) == "boolean" ? "is" : "get"), Config.GetType(p)));
+        }
+
+        return GetJsonProperties(classe).Select(p => (
+            JpaModelPropertyGenerator.GetPropertyName(p),
+            JpaModelPropertyGenerator.GetGetterName(p),
+            JpaModelPropertyGenerator.GetPropertyType(p)));
+    }
+
+    private bool HasJacksonAnnotations(Class classe, string tag)
+    {
+        IEnumerable<IProperty> properties = classe.Abstract ? classe.Properties : GetJsonProperties(classe);
+        return Config.GetAnnotationsAndImports(classe, tag).Any(a => IsJacksonAnnotation(a.Annotation, a.Imports))
+            || properties.Any(p => Config.GetDomainAnnotationsAndImports(p, tag).Any(a => IsJacksonAnnotation(a.Annotation, a.Imports)));
+    }
+
+    private void WriteDeserializer(string fileName, Class classe, string tag)
+    {
+        var properties = GetJsonProperties(classe);
+        var genericProperties = properties.Where(p => JpaModelPropertyGenerator.GetPropertyType(p).Contains('<')).ToList();
+        var name = GetDeserializerName(classe);
+        var isRecord = Config.IsRecord(classe, Classes);
+
+        using var fw = this.OpenJavaWriter(fileName, Config.GetPackageName(classe, tag), null);
+        fw.AddImports([
+            "java.io.IOException",
+            "com.fasterxml.jackson.core.JsonParser",
+            "com.fasterxml.jackson.core.JsonToken",
+            "com.fasterxml.jackson.databind.DeserializationContext",
+            "com.fasterxml.jackson.databind.deser.std.StdDeserializer"
+        ]);
+
+        if (genericProperties.Count > 0)
+        {
+            fw.AddImports([
+                "com.fasterxml.jackson.core.type.TypeReference",
+                "com.fasterxml.jackson.databind.JavaType",
+                "com.fasterxml.jackson.databind.type.TypeFactory"
+            ]);
+        }
+
+        foreach (var property in properties)
+        {
+            fw.AddImports(property.GetTypeImports(Config, tag));
+        }
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"Deserializer Jackson de '{classe.NamePascal}', qui alimente directement {(isRecord ? "le constructeur du record" : "les setters")} sans introspection de la classe");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteClassDeclaration(name, null, $"StdDeserializer<{classe.NamePascal}>");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private static final long serialVersionUID = 1L;");
+
+        foreach (var property in genericProperties)
+        {
+            fw.WriteLine();
+            fw.WriteLine(1, $"private static final JavaType {GetPropertyConstant(property)}_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<{JpaModelPropertyGenerator.GetPropertyType(property)}>() {{ }});");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(1, $"public {name}() {{");
+        fw.WriteLine(2, $"super({classe.NamePascal}.class);");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, $"public {classe.NamePascal} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {{");
+        fw.WriteLine(2, "JsonToken token = p.currentToken();");
+        fw.WriteLine(2, "if (token == JsonToken.START_OBJECT) {");
+        fw.WriteLine(3, "token = p.nextToken();");
+        fw.WriteLine(2, "} else if (token != JsonToken.FIELD_NAME) {");
+        fw.WriteLine(3, $"return ({classe.NamePascal}) ctxt.handleUnexpectedToken({classe.NamePascal}.class, p);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        if (isRecord)
+        {
+            // Les composants du record sont lus dans des variables locales, puis passés au constructeur canonique.
+            foreach (var property in properties)
+            {
+                fw.WriteLine(2, $"{JpaModelPropertyGenerator.GetPropertyType(property)} {JpaModelPropertyGenerator.GetPropertyName(property)} = null;");
+            }
+        }
+        else
+        {
+            fw.WriteLine(2, $"{classe.NamePascal} dto = new {classe.NamePascal}();");
+        }
+
+        fw.WriteLine(2, "for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {");
+        fw.WriteLine(3, "String fieldName = p.currentName();");
+        fw.WriteLine(3, "p.nextToken();");
+        fw.WriteLine(3, "switch (fieldName) {");
+        foreach (var property in properties)
+        {
+            var propertyName = JpaModelPropertyGenerator.GetPropertyName(property);
+            fw.WriteLine(4, $@"case ""{propertyName}"":");
+            fw.WriteLine(5, isRecord
+                ? $"{propertyName} = {GetPropertyRead(property)};"
+                : $"dto.{JpaModelPropertyGenerator.GetSetterName(property)}({GetPropertyRead(property)});");
+            fw.WriteLine(5, "break;");
+        }
+
+        fw.WriteLine(4, "default:");
+        fw.WriteLine(5, $"ctxt.handleUnknownProperty(p, this, {(isRecord ? $"{classe.NamePascal}.class" : "dto")}, fieldName);");
+        fw.WriteLine(3, "}");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, isRecord
+            ? $"return new {classe.NamePascal}({string.Join(", ", properties.Select(JpaModelPropertyGenerator.GetPropertyName))});"
+            : "return dto;");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private static <T> T readValue(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {");
+        fw.WriteLine(2, "return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);");
+        fw.WriteLine(1, "}");
+
+        if (genericProperties.Count > 0)
+        {
+            fw.WriteLine();
+            fw.WriteLine(1, "private static <T> T readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {");
+            fw.WriteLine(2, "return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);");
+            fw.WriteLine(1, "}");
+        }
+
+        fw.WriteLine("}");
+    }
+
+    private void WriteModule(string fileName, List<Class> classes, string tag)
+    {
+        var ns = classes.First().Namespace;
+        var name = GetModuleName(ns);
+
+        using var fw = this.OpenJavaWriter(fileName, Config.GetPackageName(ns, Config.DtosPath, tag), null);
+        fw.AddImports([
+            "com.fasterxml.jackson.databind.module.SimpleModule",
+            "org.springframework.stereotype.Component"
+        ]);
+
+        foreach (var classe in classes)
+        {
+            fw.AddImport(classe.GetImport(Config, tag));
+            fw.AddImport($"{Config.GetPackageName(classe, tag)}.{GetSerializerName(classe)}");
+            if (!classe.Abstract)
+            {
+                fw.AddImport($"{Config.GetPackageName(classe, tag)}.{GetDeserializerName(classe)}");
+            }
+        }
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"Module Jackson qui enregistre les serializers et deserializers générés des DTOs du module '{ns.Module}'");
+        fw.WriteLine(" * Spring Boot l'ajoute automatiquement à l'ObjectMapper de l'application.");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteLine("@Component");
+        fw.WriteClassDeclaration(name, null, "SimpleModule");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private static final long serialVersionUID = 1L;");
+
+        fw.WriteLine();
+        fw.WriteLine(1, $"public {name}() {{");
+        fw.WriteLine(2, $@"super(""{name}"");");
+        foreach (var classe in classes)
+        {
+            fw.WriteLine(2, $"addSerializer({classe.NamePascal}.class, new {GetSerializerName(classe)}());");
+            if (!classe.Abstract)
+            {
+                fw.WriteLine(2, $"addDeserializer({classe.NamePascal}.class, new {GetDeserializerName(classe)}());");
+            }
+        }
+
+        fw.WriteLine(1, "}");
+        fw.WriteLine("}");
+    }
+
+    private void WriteSerializer(string fileName, Class classe, string tag)
+    {
+        var properties = GetSerializedProperties(classe).ToList();
+        var name = GetSerializerName(classe);
+
+        using var fw = this.OpenJavaWriter(fileName, Config.GetPackageName(classe, tag), null);
+        fw.AddImports([
+            "java.io.IOException",
+            "com.fasterxml.jackson.annotation.JsonInclude",
+            "com.fasterxml.jackson.core.JsonGenerator",
+            "com.fasterxml.jackson.core.io.SerializedString",
+            "com.fasterxml.jackson.databind.SerializerProvider",
+            "com.fasterxml.jackson.databind.ser.std.StdSerializer"
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"Serializer Jackson de '{classe.NamePascal}', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteClassDeclaration(name, null, $"StdSerializer<{classe.NamePascal}>");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private static final long serialVersionUID = 1L;");
+
+        foreach (var property in properties)
+        {
+            fw.WriteLine();
+            fw.WriteLine(1, $@"private static final SerializedString {property.Name.ToConstantCase()} = new SerializedString(""{property.Name}"");");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(1, $"public {name}() {{");
+        fw.WriteLine(2, $"super({classe.NamePascal}.class);");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, $"public void serialize({classe.NamePascal} value, JsonGenerator gen, SerializerProvider provider) throws IOException {{");
+        fw.WriteLine(2, $"JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion({classe.NamePascal}.class).getValueInclusion();");
+        fw.WriteLine(2, "gen.writeStartObject(value);");
+        foreach (var property in properties)
+        {
+            var getter = $"value.{property.Getter}()";
+            fw.WriteLine(2, $"if (include({getter}, inclusion, provider)) {{");
+            fw.WriteLine(3, $"gen.writeFieldName({property.Name.ToConstantCase()});");
+            switch (property.Type)
+            {
+                case "String":
+                    fw.WriteLine(3, $"gen.writeString({getter});");
+                    break;
+                case "BigDecimal":
+                    fw.WriteLine(3, $"gen.writeNumber({getter});");
+                    break;
+                case "Integer" or "Long" or "Short" or "Double" or "Float" or "Boolean":
+                    fw.WriteLine(3, $"if ({getter} == null) {{");
+                    fw.WriteLine(4, "gen.writeNull();");
+                    fw.WriteLine(3, "} else {");
+                    fw.WriteLine(4, $"gen.write{(property.Type == "Boolean" ? "Boolean" : "Number")}({getter});");
+                    fw.WriteLine(3, "}");
+                    break;
+                default:
+                    fw.WriteLine(3, $"provider.defaultSerializeValue({getter}, gen);");
+                    break;
+            }
+
+            fw.WriteLine(2, "}");
+        }
+
+        fw.WriteLine(2, "gen.writeEndObject();");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY)");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {");
+        fw.WriteLine(2, "return switch (inclusion) {");
+        fw.WriteLine(3, "case ALWAYS, USE_DEFAULTS -> true;");
+        fw.WriteLine(3, "case NON_NULL, NON_ABSENT -> value != null;");
+        fw.WriteLine(3, "default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);");
+        fw.WriteLine(2, "};");
+        fw.WriteLine(1, "}");
+        fw.WriteLine("}");
+    }
+}
\ No newline at end of file
@@ -56,6 +56,28 @@ public abstract class JavaClassGeneratorBase(ILogger<JavaClassGeneratorBase> log
         }
     }
 
+    /// <summary>
+    /// Indique si la classe générée expose un getter pour la propriété.
+    /// </summary>
+    /// <param name="classe">Classe.</param>
+    /// <param name="property">Propriété.</param>
+    /// <returns>Vrai si le getter est généré.</returns>
+    protected virtual bool HasGetter(Class classe, IProperty property)
+    {
+        return true;
+    }
+
+    /// <summary>
+    /// Indique si la classe générée expose un setter pour la propriété.
+    /// </summary>
+    /// <param name="classe">Classe.</param>
+    /// <param name="property">Propriété.</param>
+    /// <returns>Vrai si le setter est généré.</returns>
+    protected virtual bool HasSetter(Class classe, IProperty property)
+    {
+        return true;
+    }
+
     protected virtual void WriteAnnotations(JavaWriter fw, Class classe, string tag)
     {
         fw.WriteDocStart(0, classe.Comment);
@@ -87,6 +109,13 @@ public abstract class JavaClassGeneratorBase(ILogger<JavaClassGeneratorBase> log
         }
 
         enumDeclaration += " {";
+
+        // Les setters des champs de type générique (List<...>, Set<...>) castent la valeur sans vérification possible
+        if (Config.FieldsEnumAccessors && classe.GetProperties(Classes).Any(prop => HasSetter(classe, prop) && JpaModelPropertyGenerator.GetPropertyType(prop).Contains('<')))
+        {
+            fw.WriteLine(1, @"@SuppressWarnings(""unchecked"")");
+        }
+
         fw.WriteLine(1, enumDeclaration);
 
         var props = classe.GetProperties(Classes).Select(prop =>
@@ -101,19 +130,54 @@ public abstract class JavaClassGeneratorBase(ILogger<JavaClassGeneratorBase> log
                 name = prop.NameCamel.ToConstantCase();
             }
 
-            var javaType = Config.GetType(prop, useClassForAssociation: classe.IsPersistent && !Config.UseJdbc && prop is AssociationProperty asp && asp.Association.IsPersistent);
+            var javaType = Config.GetCollectionType(prop, Config.GetType(prop, useClassForAssociation: classe.IsPersistent && !Config.UseJdbc && prop is AssociationProperty asp && asp.Association.IsPersistent));
             javaType = javaType.Split("<")[0];
-            return $"        {name}({javaType}.class)";
+            if (!Config.FieldsEnumAccessors)
+            {
+                return $"        {name}({javaType}.class)";
+            }
+
+            var args = new List<string> { $"{javaType}.class" };
+            if (classe.IsPersistent)
+            {
+                args.Add(GetFieldColumn(prop));
+            }
+
+            args.Add(HasGetter(classe, prop) ? $"{classe.NamePascal}::{JpaModelPropertyGenerator.GetGetterName(prop)}" : "null");
+            args.Add(HasSetter(classe, prop) ? $"(item, value) -> item.{JpaModelPropertyGenerator.GetSetterName(prop)}(({JpaModelPropertyGenerator.GetPropertyType(prop)}) value)" : "null");
+            return $"        {name}({string.Join(", ", args)})";
         });
 
         fw.WriteLine(string.Join(", //\n", props) + ";");
 
         fw.WriteLine();
 
-        fw.WriteLine(2, "private final Class<?> type;");
-        fw.WriteLine();
-        fw.WriteLine(2, "Fields(Class<?> type) {");
-        fw.WriteLine(3, "this.type = type;");
+        var parameters = new List<string> { "Class<?> type" };
+        if (Config.FieldsEnumAccessors)
+        {
+            fw.AddImports(["java.util.function.BiConsumer", "java.util.function.Function"]);
+            if (classe.IsPersistent)
+            {
+                parameters.Add("String columnName");
+            }
+
+            parameters.Add($"Function<{classe.NamePascal}, ?> getter");
+            parameters.Add($"BiConsumer<{classe.NamePascal}, Object> setter");
+        }
+
+        foreach (var parameter in parameters)
+        {
+            fw.WriteLine(2, $"private final {parameter};");
+            fw.WriteLine();
+        }
+
+        fw.WriteLine(2, $"Fields({string.Join(", ", parameters)}) {{");
+        foreach (var parameter in parameters)
+        {
+            var parameterName = parameter.Split(' ').Last();
+            fw.WriteLine(3, $"this.{parameterName} = {parameterName};");
+        }
+
         fw.WriteLine(2, "}");
 
         fw.WriteLine();
@@ -122,6 +186,36 @@ public abstract class JavaClassGeneratorBase(ILogger<JavaClassGeneratorBase> log
         fw.WriteLine(3, "return this.type;");
         fw.WriteLine(2, "}");
 
+        if (Config.FieldsEnumAccessors)
+        {
+            if (classe.IsPersistent)
+            {
+                fw.WriteLine();
+                fw.WriteDocStart(2, "Nom de la colonne du champ en base de données");
+                fw.WriteReturns(2, "Nom de la colonne, ou null si le champ n'est pas porté par la table");
+                fw.WriteDocEnd(2);
+                fw.WriteLine(2, "public String getColumnName() {");
+                fw.WriteLine(3, "return this.columnName;");
+                fw.WriteLine(2, "}");
+            }
+
+            fw.WriteLine();
+            fw.WriteDocStart(2, "Accesseur en lecture du champ, sans réflexion");
+            fw.WriteReturns(2, "Getter du champ, ou null si la classe n'en expose pas");
+            fw.WriteDocEnd(2);
+            fw.WriteLine(2, $"public Function<{classe.NamePascal}, ?> getGetter() {{");
+            fw.WriteLine(3, "return this.getter;");
+            fw.WriteLine(2, "}");
+
+            fw.WriteLine();
+            fw.WriteDocStart(2, "Accesseur en écriture du champ, sans réflexion");
+            fw.WriteReturns(2, "Setter du champ, ou null si la classe n'en expose pas");
+            fw.WriteDocEnd(2);
+            fw.WriteLine(2, $"public BiConsumer<{classe.NamePascal}, Object> getSetter() {{");
+            fw.WriteLine(3, "return this.setter;");
+            fw.WriteLine(2, "}");
+        }
+
         fw.WriteLine(1, "}");
     }
 
@@ -175,4 +269,15 @@ public abstract class JavaClassGeneratorBase(ILogger<JavaClassGeneratorBase> log
             }
         }
     }
+
+    private string GetFieldColumn(IProperty property)
+    {
+        var association = property as AssociationProperty ?? (property as AliasProperty)?.Property as AssociationProperty;
+        if (property is CompositionProperty || (association != null && (association.Type == AssociationType.OneToMany || association.Type == AssociationType.ManyToMany)))
+        {
+            return "null";
+        }
+
+        return $@"""{Config.GetRowMapperColumn(property)}""";
+    }
 }
\ No newline at end of file
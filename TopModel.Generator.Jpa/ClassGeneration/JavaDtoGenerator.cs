@@ -33,6 +33,12 @@ public class JavaDtoGenerator(ILogger<JavaDtoGenerator> logger, IFileWriterProvi
 
         fw.WriteLine();
 
+        if (Config.IsRecord(classe, Classes))
+        {
+            WriteRecord(fw, classe, tag);
+            return;
+        }
+
         WriteAnnotations(fw, classe, tag);
 
         var extends = Config.GetClassExtends(classe);
@@ -68,12 +74,18 @@ public class JavaDtoGenerator(ILogger<JavaDtoGenerator> logger, IFileWriterProvi
         fw.WriteLine("}");
     }
 
+    protected override bool HasSetter(Class classe, IProperty property)
+    {
+        return !Config.IsRecord(classe, Classes);
+    }
+
     protected virtual void WriteConstuctors(JavaWriter fw, Class classe, string tag)
     {
         if (Config.MappersInClass && classe.FromMappers.Any(c => c.ClassParams.All(p => Classes.Contains(p.Class)))
             || classe.Extends != null
             || Classes.Any(c => c.Extends == classe)
-            || classe.Decorators.Any(d => Config.GetImplementation(d.Decorator)?.Extends is not null))
+            || classe.Decorators.Any(d => Config.GetImplementation(d.Decorator)?.Extends is not null)
+            || classe.FromMappers.Any(m => Config.IsProjectionMapper(classe, m, Classes)))
         {
             ConstructorGenerator.WriteNoArgConstructor(fw, classe);
         }
@@ -82,6 +94,101 @@ public class JavaDtoGenerator(ILogger<JavaDtoGenerator> logger, IFileWriterProvi
         {
             ConstructorGenerator.WriteFromMappers(fw, classe, Classes, tag);
         }
+
+        WriteProjectionConstructors(fw, classe, tag);
+    }
+
+    /// <summary>
+    /// Ecrit les constructeurs utilisés par les requêtes de projection des DAOs.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteProjectionConstructors(JavaWriter fw, Class classe, string tag)
+    {
+        var isRecord = Config.IsRecord(classe, Classes);
+        var signatures = new HashSet<string>();
+        if (isRecord)
+        {
+            // Le constructeur canonique du record est déjà déclaré.
+            signatures.Add(string.Join(",", classe.GetProperties(Classes).Select(JpaModelPropertyGenerator.GetPropertyType)));
+        }
+
+        foreach (var mapper in classe.FromMappers.Where(m => Config.IsProjectionMapper(classe, m, Classes)))
+        {
+            var properties = Config.GetProjectionMappings(classe, mapper).Select(m => m.Key).ToList();
+            if (!signatures.Add(string.Join(",", properties.Select(JpaModelPropertyGenerator.GetPropertyType))))
+            {
+                continue;
+            }
+
+            var constructor = new JavaConstructor(classe.NamePascal)
+            {
+                Visibility = "public",
+                Comment = $"Constructeur de projection, utilisé par les requêtes du DAO de '{mapper.ClassParams.Single().Class.NamePascal}'"
+            };
+
+            foreach (var property in properties)
+            {
+                var propertyName = JpaModelPropertyGenerator.GetPropertyName(property);
+                fw.AddImports(property.GetTypeImports(Config, tag));
+                constructor.AddParameter(new JavaMethodParameter(JpaModelPropertyGenerator.GetPropertyType(property), propertyName)
+                {
+                    Comment = property.Comment
+                });
+            }
+
+            if (isRecord)
+            {
+                constructor.Body.Clear();
+                constructor.AddBodyLine($"this({string.Join(", ", classe.GetProperties(Classes).Select(p => properties.Contains(p) ? JpaModelPropertyGenerator.GetPropertyName(p) : "null"))});");
+            }
+
+            fw.WriteLine();
+            fw.Write(1, constructor);
+        }
+    }
+
+    /// <summary>
+    /// Ecrit la classe sous forme de record, dont les composants sont les propriétés de la classe.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteRecord(JavaWriter fw, Class classe, string tag)
+    {
+        var properties = classe.GetProperties(Classes).ToList();
+
+        fw.WriteDocStart(0, classe.Comment);
+        foreach (var property in properties)
+        {
+            fw.WriteParam(0, JpaModelPropertyGenerator.GetPropertyName(property), property.Comment);
+        }
+
+        fw.WriteDocEnd(0);
+        fw.AddImports(Config.GetDecoratorImports(classe, tag).ToList());
+        fw.WriteAnnotations(0, GetAnnotations(classe, tag));
+
+        var implements = Config.GetClassImplements(classe).ToList();
+        implements.Add("Serializable");
+        fw.AddImport("java.io.Serializable");
+
+        fw.WriteLine($"public record {classe.NamePascal}(");
+        for (var i = 0; i < properties.Count; i++)
+        {
+            var component = JpaModelPropertyGenerator.GetRecordComponent(fw, properties[i], tag);
+            fw.WriteLine(2, i < properties.Count - 1 ? $"{component}," : $"{component}) implements {string.Join(", ", implements)} {{");
+        }
+
+        WriteStaticMembers(fw, classe);
+        WriteProjectionConstructors(fw, classe, tag);
+
+        if ((Config.FieldsEnum & Target.Dto) > 0)
+        {
+            WriteFieldsEnum(fw, classe, tag);
+        }
+
+        fw.WriteLine("}");
     }
 
     protected virtual void WriteStaticMembers(JavaWriter fw, Class classe)
@@ -66,4 +66,42 @@ public class JavaEnumConstructorGenerator(JpaConfig config)
 
         fw.WriteLine(1, $"}}");
     }
+
+    public void WriteEnumValueOf(JavaWriter fw, Class classe)
+    {
+        var codeType = Config.GetEnumName(classe.EnumKey!, classe);
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Retourne l'instance partagée de '{classe.NamePascal}' correspondant au code");
+        fw.WriteParam(classe.EnumKey!.NameCamel, "Code dont on veut obtenir l'instance");
+        fw.WriteReturns(1, $"Instance de '{classe.NamePascal}', ou null si le code est null");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $"public static {classe.NamePascal} valueOf({codeType} {classe.EnumKey!.NameCamel}) {{");
+        fw.WriteLine(2, $"return VALUES.get({classe.EnumKey!.NameCamel});");
+        fw.WriteLine(1, "}");
+    }
+
+    public void WriteEnumValuesMap(JavaWriter fw, Class classe)
+    {
+        var codeProperty = classe.EnumKey!;
+        var codeType = Config.GetEnumName(codeProperty, classe);
+        fw.AddImport("java.util.EnumMap");
+        fw.AddImport("java.util.Map");
+        fw.WriteLine();
+        if (classe.IsPersistent)
+        {
+            fw.AddImport($"{Config.JavaxOrJakarta}.persistence.Transient");
+            fw.WriteLine(1, "@Transient");
+        }
+
+        fw.WriteLine(1, $"private static final Map<{codeType}, {classe.NamePascal}> VALUES = new EnumMap<>({codeType}.class);");
+        fw.WriteLine();
+        fw.WriteLine(1, "static {");
+        foreach (var refValue in classe.Values.OrderBy(x => x.Name, StringComparer.Ordinal))
+        {
+            var code = refValue.Value[codeProperty];
+            fw.WriteLine(2, $"VALUES.put({codeType}.{code}, {code});");
+        }
+
+        fw.WriteLine(1, "}");
+    }
 }
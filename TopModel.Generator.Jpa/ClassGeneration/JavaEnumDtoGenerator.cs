@@ -32,6 +32,7 @@ public class JavaEnumDtoGenerator(ILogger<JavaEnumDtoGenerator> logger, IFileWri
     {
         ConstructorGenerator.WriteNoArgConstructor(fw, classe);
         ConstructorGenerator.WriteEnumConstructor(fw, classe, Classes, tag);
+        ConstructorGenerator.WriteEnumValueOf(fw, classe);
     }
 
     protected override void WriteSetters(JavaWriter fw, Class classe, string tag)
@@ -49,5 +50,7 @@ public class JavaEnumDtoGenerator(ILogger<JavaEnumDtoGenerator> logger, IFileWri
             var code = refValue.Value[codeProperty];
             fw.WriteLine(1, $@"public static final {classe.NamePascal} {code} = new {classe.NamePascal}({Config.GetEnumName(codeProperty, classe)}.{code});");
         }
+
+        ConstructorGenerator.WriteEnumValuesMap(fw, classe);
     }
 }
\ No newline at end of file
@@ -129,6 +129,16 @@ public class JdbcEntityGenerator(ILogger<JdbcEntityGenerator> logger, IFileWrite
         fw.WriteLine("}");
     }
 
+    protected override bool HasGetter(Class classe, IProperty property)
+    {
+        return !(property is AssociationProperty ap && (ap.Type == AssociationType.OneToMany || ap.Type == AssociationType.ManyToMany));
+    }
+
+    protected override bool HasSetter(Class classe, IProperty property)
+    {
+        return HasGetter(classe, property) && !Config.CanClassUseEnums(classe, Classes);
+    }
+
     protected override void WriteGetters(JavaWriter fw, Class classe, string tag)
     {
         var properties = classe.Properties.Where(p => !(p is AssociationProperty ap && (ap.Type == AssociationType.OneToMany || ap.Type == AssociationType.ManyToMany)));
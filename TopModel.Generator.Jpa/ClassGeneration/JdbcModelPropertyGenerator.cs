@@ -22,7 +22,7 @@ public class JdbcModelPropertyGenerator(JpaConfig config, IEnumerable<Class> cla
 
     public override string GetPropertyType(IProperty property)
     {
-        return Config.GetType(property, Classes, false);
+        return Config.GetPrimitiveType(property, Config.GetType(property, Classes, false));
     }
 
     public override void WriteProperties(JavaWriter fw, Class classe, string tag)
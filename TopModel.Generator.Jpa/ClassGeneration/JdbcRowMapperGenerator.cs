@@ -0,0 +1,165 @@
+﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
+using TopModel.Generator.Core;
+using TopModel.Utils;
+
+namespace TopModel.Generator.Jpa.ClassGeneration;
+
+/// <summary>
+/// Générateur des RowMappers des classes persistées, qui lisent les colonnes par leur position (sans réflexion).
+/// </summary>
+public class JdbcRowMapperGenerator(ILogger<JdbcRowMapperGenerator> logger, IFileWriterProvider writerProvider)
+    : ClassGeneratorBase<JpaConfig>(logger, writerProvider)
+{
+    private JpaModelPropertyGenerator? _jpaModelPropertyGenerator;
+
+    public override string Name => "JdbcRowMapperGen";
+
+    protected virtual JpaModelPropertyGenerator JpaModelPropertyGenerator
+    {
+        get
+        {
+            _jpaModelPropertyGenerator ??= Config.UseJdbc ? new JdbcModelPropertyGenerator(Config, Classes, []) : new JpaModelPropertyGenerator(Config, Classes, []);
+            return _jpaModelPropertyGenerator;
+        }
+    }
+
+    protected override bool FilterClass(Class classe)
+    {
+        return Config.GetRowMapperProperties(classe, Classes).Any();
+    }
+
+    protected override string GetFileName(Class classe, string tag)
+    {
+        return Config.GetRowMapperFilePath(classe, tag);
+    }
+
+    protected override void HandleClass(string fileName, Class classe, string tag)
+    {
+        var packageName = Config.GetPackageName(classe, tag);
+        var properties = Config.GetRowMapperProperties(classe, Classes).ToList();
+        var entity = classe.NameCamel;
+
+        using var fw = this.OpenJavaWriter(fileName, packageName, null);
+        fw.AddImports([
+            "java.sql.ResultSet",
+            "java.sql.SQLException",
+            "org.springframework.jdbc.core.RowMapper"
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"RowMapper de '{classe.NamePascal}', qui lit les colonnes par leur position");
+        fw.WriteLine(" * Les requêtes qui l'utilisent doivent sélectionner les colonnes {@link #COLUMNS}, dans cet ordre.");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteClassDeclaration(Config.GetRowMapperName(classe), null, null, [$"RowMapper<{classe.NamePascal}>"]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Colonnes lues par le RowMapper, dans l'ordre attendu");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $@"public static final String COLUMNS = ""{string.Join(", ", properties.Select(Config.GetRowMapperColumn))}"";");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, $"public {classe.NamePascal} mapRow(ResultSet rs, int rowNum) throws SQLException {{");
+        fw.WriteLine(2, $"{classe.NamePascal} {entity} = new {classe.NamePascal}();");
+
+        var index = 1;
+        foreach (var property in properties)
+        {
+            WriteColumnRead(fw, property, entity, index++, tag);
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(2, $"return {entity};");
+        fw.WriteLine(1, "}");
+        fw.WriteLine("}");
+    }
+
+    private static string GetColumnRead(string type, bool required, int index)
+    {
+        return type switch
+        {
+            "String" => $"rs.getString({index})",
+            "BigDecimal" => $"rs.getBigDecimal({index})",
+            "byte[]" => $"rs.getBytes({index})",
+            "int" or "long" or "short" or "byte" or "double" or "float" or "boolean" => $"rs.get{type.ToFirstUpper()}({index})",
+            "Integer" when required => $"rs.getInt({index})",
+            "Long" or "Short" or "Byte" or "Double" or "Float" or "Boolean" when required => $"rs.get{type}({index})",
+            _ when type.Contains('<') => $"({type}) rs.getObject({index})",
+            _ => $"rs.getObject({index}, {type}.class)"
+        };
+    }
+
+    private void WriteColumnRead(JavaWriter fw, IProperty property, string entity, int index, string tag)
+    {
+        var setter = $"{entity}.{JpaModelPropertyGenerator.GetSetterName(property)}";
+        var type = Config.GetType(property, Classes);
+        var required = property.Required || property.PrimaryKey;
+        fw.AddImports(property.GetTypeImports(Config, tag));
+
+        var association = property as AssociationProperty ?? (property as AliasProperty)?.Property as AssociationProperty;
+        if (Config.IsReferenceColumn(property, Classes))
+        {
+            WriteReferenceRead(fw, association!, setter, type, required, index, tag);
+            return;
+        }
+
+        if (!Config.IsEnumColumn(property, Classes) || type.Contains('<'))
+        {
+            fw.WriteLine(2, $"{setter}({GetColumnRead(type, required, index)});");
+            return;
+        }
+
+        // Les codes des listes de référence sont lus comme des chaînes, puis convertis en enum (et en instance partagée pour les associations JPA).
+        string ToValue(string code)
+        {
+            if (association != null && !Config.UseJdbc && !Config.EnumsAsEnums)
+            {
+                fw.AddImport($"{Config.GetEnumPackageName(association.Association, Config.GetBestClassTag(association.Association, tag))}.{type}");
+                return $"{association.Association.NamePascal}.valueOf({type}.valueOf({code}))";
+            }
+
+            return $"{type}.valueOf({code})";
+        }
+
+        if (required)
+        {
+            fw.WriteLine(2, $"{setter}({ToValue($"rs.getString({index})")});");
+        }
+        else
+        {
+            var code = $"{property.NameCamel}Code";
+            fw.WriteLine(2, $"String {code} = rs.getString({index});");
+            fw.WriteLine(2, $"{setter}({code} == null ? null : {ToValue(code)});");
+        }
+    }
+
+    private void WriteReferenceRead(JavaWriter fw, AssociationProperty association, string setter, string type, bool required, int index, string tag)
+    {
+        // La clé étrangère est lue dans une référence qui ne porte que l'identifiant de l'entité associée, sans la charger.
+        var reference = association.Association;
+        var variable = JpaModelPropertyGenerator.GetPropertyName(association);
+        var idSetter = JpaModelPropertyGenerator.GetSetterName(reference.PrimaryKey.Single());
+        fw.AddImport(reference.GetImport(Config, Config.GetBestClassTag(reference, tag)));
+
+        if (required)
+        {
+            fw.WriteLine(2, $"{reference.NamePascal} {variable} = new {reference.NamePascal}();");
+            fw.WriteLine(2, $"{variable}.{idSetter}({GetColumnRead(type, required, index)});");
+            fw.WriteLine(2, $"{setter}({variable});");
+            return;
+        }
+
+        fw.WriteLine(2, $"{type} {variable}Id = {GetColumnRead(type, required, index)};");
+        fw.WriteLine(2, $"if ({variable}Id != null) {{");
+        fw.WriteLine(3, $"{reference.NamePascal} {variable} = new {reference.NamePascal}();");
+        fw.WriteLine(3, $"{variable}.{idSetter}({variable}Id);");
+        fw.WriteLine(3, $"{setter}({variable});");
+        fw.WriteLine(2, "}");
+    }
+}
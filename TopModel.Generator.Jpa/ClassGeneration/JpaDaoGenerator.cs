@@ -97,7 +97,454 @@ public class JpaDaoGenerator(ILogger<JpaDaoGenerator> logger, IFileWriterProvide
             fw.WriteLine($"public interface {classe.NamePascal}DAO extends {daosInterface} {{");
         }
 
+        if (Config.DaosProjections)
+        {
+            WriteProjections(fw, classe, pk, tag);
+        }
+
+        if (Config.EntityGraphs && classe.PrimaryKey.Count() == 1)
+        {
+            WriteEntityGraphFinders(fw, classe, pk);
+        }
+
+        WriteKeysetFinders(fw, classe, tag);
+
+        if (Config.AssociationCounts && !Config.UseJdbc)
+        {
+            WriteAssociationCounts(fw, classe, tag);
+        }
+
+        if (Config.StreamingEndpoints != null && !Config.UseJdbc)
+        {
+            WriteStreamFinder(fw, classe, tag);
+        }
+
+        if (Config.UseJdbc)
+        {
+            WriteRowMapperFinders(fw, classe, pk, tag);
+        }
+
         fw.WriteLine();
         fw.WriteLine("}");
     }
+
+    /// <summary>
+    /// Ecrit les requêtes de comptage des instances de la classe par association manyToOne, pour les associations qui ont une association réciproque dans la classe associée.
+    /// Le comptage groupé permet d'alimenter les compteurs de toute une page de résultats en une seule requête, sans charger les collections.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteAssociationCounts(JavaWriter fw, Class classe, string tag)
+    {
+        var associations = classe.Properties.OfType<AssociationProperty>()
+            .Where(ap => ap.Type == AssociationType.ManyToOne)
+            .Select(ap => (Association: ap, Reverse: ap.Association.GetProperties(Classes).OfType<ReverseAssociationProperty>().FirstOrDefault(r => r.ReverseProperty == ap)))
+            .Where(a => a.Reverse != null)
+            .ToList();
+
+        if (associations.Count == 0)
+        {
+            return;
+        }
+
+        var alias = classe.NameCamel;
+        fw.AddImport("org.springframework.data.jpa.repository.Query");
+        fw.AddImport("org.springframework.data.repository.query.Param");
+        fw.AddImport("java.util.Collection");
+        fw.AddImport("java.util.HashMap");
+        fw.AddImport("java.util.List");
+        fw.AddImport("java.util.Map");
+
+        foreach (var (ap, reverse) in associations)
+        {
+            var name = reverse!.NameByClassPascal;
+            var key = $"{ap.NameByClassPascal}{ap.Property.NameByClassPascal}";
+            var param = key.ToFirstLower();
+            var type = Config.GetType(ap.Property);
+            var path = $"{alias}.{ap.NameByClassCamel}.{ap.Property.NameByClassCamel}";
+            fw.AddImports(ap.Property.GetTypeImports(Config, tag));
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Compte les instances de '{classe.NamePascal}' associées à une instance de '{ap.Association.NamePascal}'");
+            fw.WriteParam(param, $"Valeur de '{ap.Property.NameByClassCamel}' de '{ap.Association.NamePascal}'");
+            fw.WriteReturns(1, $"Le nombre d'instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"long count{name}By{key}({type} {param});");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Vérifie s'il existe des instances de '{classe.NamePascal}' associées à une instance de '{ap.Association.NamePascal}', sans les compter");
+            fw.WriteParam(param, $"Valeur de '{ap.Property.NameByClassCamel}' de '{ap.Association.NamePascal}'");
+            fw.WriteReturns(1, $"Vrai s'il existe au moins une instance de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"boolean exists{name}By{key}({type} {param});");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Compte en une seule requête les instances de '{classe.NamePascal}' associées à chacune des instances de '{ap.Association.NamePascal}'");
+            fw.WriteParam($"{param}s", $"Liste des valeurs de '{ap.Property.NameByClassCamel}' de '{ap.Association.NamePascal}'");
+            fw.WriteReturns(1, $"Les lignes (valeur de '{ap.Property.NameByClassCamel}' de '{ap.Association.NamePascal}', nombre d'instances de '{classe.NamePascal}'), sans les instances qui n'en ont aucune");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@Query(""select {path}, count({alias}) from {classe.NamePascal} {alias} where {path} in :{param}s group by {path}"")");
+            fw.WriteLine(1, $@"List<Object[]> count{name}GroupBy{key}(@Param(""{param}s"") Collection<{type}> {param}s);");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Nombre d'instances de '{classe.NamePascal}' associées à chacune des instances de '{ap.Association.NamePascal}', calculé en une seule requête (pour toute une page de résultats)");
+            fw.WriteParam($"{param}s", $"Liste des valeurs de '{ap.Property.NameByClassCamel}' de '{ap.Association.NamePascal}'");
+            fw.WriteReturns(1, $"Le nombre d'instances de '{classe.NamePascal}' par valeur de '{ap.Property.NameByClassCamel}' de '{ap.Association.NamePascal}' (0 pour celles qui n'en ont aucune)");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"default Map<{type}, Long> count{name}By{key}In(Collection<{type}> {param}s) {{");
+            fw.WriteLine(2, $"Map<{type}, Long> counts = new HashMap<>();");
+            fw.WriteLine(2, $"for ({type} {param} : {param}s) {{");
+            fw.WriteLine(3, $"counts.put({param}, 0L);");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+            fw.WriteLine(2, $"for (Object[] row : count{name}GroupBy{key}({param}s)) {{");
+            fw.WriteLine(3, $"counts.put(({type}) row[0], (Long) row[1]);");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+            fw.WriteLine(2, "return counts;");
+            fw.WriteLine(1, "}");
+        }
+    }
+
+    /// <summary>
+    /// Ecrit les méthodes de chargement utilisant les entity graphs de la classe.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="pk">Type de la clé primaire.</param>
+    protected virtual void WriteEntityGraphFinders(JavaWriter fw, Class classe, string pk)
+    {
+        var entityGraphs = Config.GetEntityGraphs(classe, Classes).ToList();
+        if (entityGraphs.Count == 0)
+        {
+            return;
+        }
+
+        var pkProperty = classe.PrimaryKey.Single();
+        fw.AddImport("org.springframework.data.jpa.repository.EntityGraph");
+        fw.AddImport("java.util.Collection");
+        fw.AddImport("java.util.List");
+        fw.AddImport("java.util.Optional");
+
+        foreach (var (target, _) in entityGraphs)
+        {
+            var entityGraphName = Config.GetEntityGraphName(classe, target);
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge une instance de '{classe.NamePascal}' avec les associations nécessaires au mapping vers '{target.NamePascal}'");
+            fw.WriteParam(pkProperty.NameByClassCamel, pkProperty.Comment);
+            fw.WriteReturns(1, $"L'instance de '{classe.NamePascal}' correspondante, si elle existe");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@EntityGraph(""{entityGraphName}"")");
+            fw.WriteLine(1, $"Optional<{classe.NamePascal}> findFor{target.NamePascal}By{pkProperty.NameByClassPascal}({pk} {pkProperty.NameByClassCamel});");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge les instances de '{classe.NamePascal}' avec les associations nécessaires au mapping vers '{target.NamePascal}'");
+            fw.WriteParam($"{pkProperty.NameByClassCamel}s", $"Liste des identifiants de '{classe.NamePascal}'");
+            fw.WriteReturns(1, $"Les instances de '{classe.NamePascal}' correspondantes");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@EntityGraph(""{entityGraphName}"")");
+            fw.WriteLine(1, $"List<{classe.NamePascal}> findAllFor{target.NamePascal}By{pkProperty.NameByClassPascal}In(Collection<{pk}> {pkProperty.NameByClassCamel}s);");
+        }
+    }
+
+    /// <summary>
+    /// Ecrit les méthodes de pagination par clé (keyset) de la classe, pour chacune des propriétés utilisables comme curseur.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteKeysetFinders(JavaWriter fw, Class classe, string tag)
+    {
+        var keys = Config.GetKeysetKeys(classe).ToList();
+        if (keys.Count == 0)
+        {
+            return;
+        }
+
+        fw.AddImport("org.springframework.data.domain.PageRequest");
+        fw.AddImport("org.springframework.data.domain.Pageable");
+        fw.AddImport("org.springframework.data.domain.Slice");
+
+        foreach (var key in keys)
+        {
+            fw.AddImports(key.GetTypeImports(Config, tag));
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge la première page des instances de '{classe.NamePascal}', triées par '{key.NameByClassCamel}'");
+            fw.WriteParam("pageable", "Taille de la page");
+            fw.WriteReturns(1, $"La page d'instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"Slice<{classe.NamePascal}> findAllByOrderBy{key.NameByClassPascal}Asc(Pageable pageable);");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge la page des instances de '{classe.NamePascal}' qui suivent le curseur, triées par '{key.NameByClassCamel}'");
+            fw.WriteParam(key.NameByClassCamel, $"Valeur de '{key.NameByClassCamel}' du dernier élément de la page précédente");
+            fw.WriteParam("pageable", "Taille de la page");
+            fw.WriteReturns(1, $"La page d'instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"Slice<{classe.NamePascal}> findBy{key.NameByClassPascal}GreaterThanOrderBy{key.NameByClassPascal}Asc({Config.GetType(key)} {key.NameByClassCamel}, Pageable pageable);");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge la page des instances de '{classe.NamePascal}' qui suivent le curseur, triées par '{key.NameByClassCamel}', en bornant sa taille");
+            fw.WriteParam("after", $"Valeur de '{key.NameByClassCamel}' du dernier élément de la page précédente (première page si null)");
+            fw.WriteParam("limit", $"Nombre maximum d'éléments à retourner, ramené entre 1 et {Config.KeysetMaxPageSize} ({Config.KeysetPageSize} si null)");
+            fw.WriteReturns(1, $"La page d'instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"default Slice<{classe.NamePascal}> findPageOrderBy{key.NameByClassPascal}({Config.GetType(key)} after, Integer limit) {{");
+            fw.WriteLine(2, $"Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(limit == null ? {Config.KeysetPageSize} : limit, {Config.KeysetMaxPageSize})));");
+            fw.WriteLine(2, $"return after == null ? findAllByOrderBy{key.NameByClassPascal}Asc(pageable) : findBy{key.NameByClassPascal}GreaterThanOrderBy{key.NameByClassPascal}Asc(after, pageable);");
+            fw.WriteLine(1, "}");
+        }
+
+        WriteKeysetSearchFinders(fw, classe, tag);
+    }
+
+    /// <summary>
+    /// Ecrit, pour chaque endpoint paginé dont le curseur est une propriété de la classe et dont les paramètres sont des critères sur la classe, la requête de la page qui suit le curseur filtrée par ces critères.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteKeysetSearchFinders(JavaWriter fw, Class classe, string tag)
+    {
+        var endpoints = Files.Values
+            .SelectMany(file => file.Endpoints)
+            .Where(endpoint => Config.GetKeysetCursor(endpoint)?.Property.Class == classe && GetEndpointFilters(endpoint, classe).Count > 0)
+            .OrderBy(endpoint => endpoint.NamePascal)
+            .ToList();
+
+        if (endpoints.Count == 0)
+        {
+            return;
+        }
+
+        fw.AddImport("org.springframework.data.jpa.repository.Query");
+        fw.AddImport("org.springframework.data.repository.query.Param");
+
+        var alias = classe.NameCamel;
+        foreach (var endpoint in endpoints)
+        {
+            var key = Config.GetKeysetCursor(endpoint)!.Property;
+            var filters = GetEndpointFilters(endpoint, classe);
+            foreach (var filter in filters)
+            {
+                fw.AddImports(filter.GetTypeImports(Config, tag));
+            }
+
+            var conditions = GetFilterConditions(filters, alias).Append($"(:after is null or {alias}.{key.NameByClassCamel} > :after)");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge la page des instances de '{classe.NamePascal}' qui respectent les critères de l'endpoint '{endpoint.NamePascal}' et suivent le curseur, triées par '{key.NameByClassCamel}'");
+            fw.WriteLine(1, " * Un critère null n'est pas appliqué.");
+            foreach (var filter in filters)
+            {
+                fw.WriteParam(filter.GetParamName(), filter.Comment);
+            }
+
+            fw.WriteParam("after", $"Valeur de '{key.NameByClassCamel}' du dernier élément de la page précédente (première page si null)");
+            fw.WriteParam("pageable", "Taille de la page");
+            fw.WriteReturns(1, $"La page d'instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@Query(""select {alias} from {classe.NamePascal} {alias} where {string.Join(" and ", conditions)} order by {alias}.{key.NameByClassCamel} asc"")");
+            fw.WriteLine(1, $@"Slice<{classe.NamePascal}> find{endpoint.NamePascal}PageAfter({string.Join(string.Empty, filters.Select(f => $@"@Param(""{f.GetParamName()}"") {Config.GetType(f)} {f.GetParamName()}, "))}@Param(""after"") {Config.GetType(key)} after, Pageable pageable);");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge la page des instances de '{classe.NamePascal}' qui respectent les critères de l'endpoint '{endpoint.NamePascal}' et suivent le curseur, triées par '{key.NameByClassCamel}', en bornant sa taille");
+            fw.WriteLine(1, " * Un critère null n'est pas appliqué.");
+            foreach (var filter in filters)
+            {
+                fw.WriteParam(filter.GetParamName(), filter.Comment);
+            }
+
+            fw.WriteParam("after", $"Valeur de '{key.NameByClassCamel}' du dernier élément de la page précédente (première page si null)");
+            fw.WriteParam("limit", $"Nombre maximum d'éléments à retourner, ramené entre 1 et {Config.KeysetMaxPageSize} ({Config.KeysetPageSize} si null)");
+            fw.WriteReturns(1, $"La page d'instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"default Slice<{classe.NamePascal}> find{endpoint.NamePascal}Page({string.Join(string.Empty, filters.Select(f => $"{Config.GetType(f)} {f.GetParamName()}, "))}{Config.GetType(key)} after, Integer limit) {{");
+            fw.WriteLine(2, $"Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(limit == null ? {Config.KeysetPageSize} : limit, {Config.KeysetMaxPageSize})));");
+            fw.WriteLine(2, $"return find{endpoint.NamePascal}PageAfter({string.Join(string.Empty, filters.Select(f => $"{f.GetParamName()}, "))}after, pageable);");
+            fw.WriteLine(1, "}");
+        }
+    }
+
+    /// <summary>
+    /// Ecrit la requête qui lit toutes les instances de la classe au fil de l'eau, puis, pour chaque endpoint au fil de l'eau dont les paramètres sont des critères sur la classe, celle qui les lit filtrées par ces critères.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteStreamFinder(JavaWriter fw, Class classe, string tag)
+    {
+        fw.AddImport("java.util.stream.Stream");
+        fw.AddImport("org.springframework.data.jpa.repository.Query");
+        fw.AddImport("org.springframework.data.jpa.repository.QueryHints");
+        fw.AddImport($"{Config.JavaxOrJakarta}.persistence.QueryHint");
+
+        var alias = classe.NameCamel;
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Lit toutes les instances de '{classe.NamePascal}' au fil de l'eau, sans les charger toutes en mémoire");
+        fw.WriteLine(1, " * Le stream doit être consommé dans une transaction, puis fermé. Les instances lues restent attachées au contexte de persistance : les détacher au fur et à mesure pour que la mémoire utilisée reste constante.");
+        fw.WriteReturns(1, $"Les instances de '{classe.NamePascal}'");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $@"@Query(""select {alias} from {classe.NamePascal} {alias}"")");
+        fw.WriteLine(1, $@"@QueryHints({{@QueryHint(name = ""org.hibernate.fetchSize"", value = ""{Config.StreamingFetchSize}""), @QueryHint(name = ""org.hibernate.readOnly"", value = ""true"")}})");
+        fw.WriteLine(1, $"Stream<{classe.NamePascal}> streamAll();");
+
+        var endpoints = Files.Values
+            .SelectMany(file => file.Endpoints)
+            .Where(endpoint => Config.IsStreamingEndpoint(endpoint) && GetEndpointFilters(endpoint, classe).Count > 0)
+            .OrderBy(endpoint => endpoint.NamePascal)
+            .ToList();
+
+        if (endpoints.Count > 0)
+        {
+            fw.AddImport("org.springframework.data.repository.query.Param");
+        }
+
+        foreach (var endpoint in endpoints)
+        {
+            var filters = GetEndpointFilters(endpoint, classe);
+            foreach (var filter in filters)
+            {
+                fw.AddImports(filter.GetTypeImports(Config, tag));
+            }
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Lit au fil de l'eau les instances de '{classe.NamePascal}' qui respectent les critères de l'endpoint '{endpoint.NamePascal}', sans les charger toutes en mémoire");
+            fw.WriteLine(1, " * Un critère null n'est pas appliqué. Le stream doit être consommé dans une transaction, puis fermé, et les instances lues détachées au fur et à mesure.");
+            foreach (var filter in filters)
+            {
+                fw.WriteParam(filter.GetParamName(), filter.Comment);
+            }
+
+            fw.WriteReturns(1, $"Les instances de '{classe.NamePascal}'");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@Query(""select {alias} from {classe.NamePascal} {alias} where {string.Join(" and ", GetFilterConditions(filters, alias))}"")");
+            fw.WriteLine(1, $@"@QueryHints({{@QueryHint(name = ""org.hibernate.fetchSize"", value = ""{Config.StreamingFetchSize}""), @QueryHint(name = ""org.hibernate.readOnly"", value = ""true"")}})");
+            fw.WriteLine(1, $@"Stream<{classe.NamePascal}> stream{endpoint.NamePascal}({string.Join(", ", filters.Select(f => $@"@Param(""{f.GetParamName()}"") {Config.GetType(f)} {f.GetParamName()}"))});");
+        }
+    }
+
+    /// <summary>
+    /// Ecrit les requêtes de chargement de la classe qui utilisent son RowMapper généré, à la place du mapping par réflexion de Spring Data JDBC.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="pk">Type de la clé primaire.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteRowMapperFinders(JavaWriter fw, Class classe, string pk, string tag)
+    {
+        if (!Config.GetRowMapperProperties(classe, Classes).Any())
+        {
+            return;
+        }
+
+        var rowMapperName = Config.GetRowMapperName(classe);
+        var select = $@"""select "" + {rowMapperName}.COLUMNS + "" from {classe.SqlName.ToLower()}";
+        fw.AddImport($"{Config.GetPackageName(classe, tag)}.{rowMapperName}");
+        fw.AddImport("org.springframework.data.jdbc.repository.query.Query");
+        fw.AddImport("java.util.List");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Charge toutes les instances de '{classe.NamePascal}' avec le RowMapper généré");
+        fw.WriteReturns(1, $"Les instances de '{classe.NamePascal}'");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $@"@Query(value = {select}"", rowMapperClass = {rowMapperName}.class)");
+        fw.WriteLine(1, $"List<{classe.NamePascal}> findAll();");
+
+        if (classe.PrimaryKey.Count() != 1)
+        {
+            return;
+        }
+
+        var pkProperty = classe.PrimaryKey.Single();
+        fw.AddImport("org.springframework.data.repository.query.Param");
+        fw.AddImport("java.util.Optional");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Charge une instance de '{classe.NamePascal}' avec le RowMapper généré");
+        fw.WriteParam("id", pkProperty.Comment);
+        fw.WriteReturns(1, $"L'instance de '{classe.NamePascal}' correspondante, si elle existe");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $@"@Query(value = {select} where {Config.GetRowMapperColumn(pkProperty)} = :id"", rowMapperClass = {rowMapperName}.class)");
+        fw.WriteLine(1, $@"Optional<{classe.NamePascal}> findById(@Param(""id"") {pk} id);");
+    }
+
+    /// <summary>
+    /// Ecrit les requêtes de projection des mappers `from` qui ont la classe en paramètre.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe persistée du DAO.</param>
+    /// <param name="pk">Type de la clé primaire.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteProjections(JavaWriter fw, Class classe, string pk, string tag)
+    {
+        var projections = Classes
+            .Where(c => c.FromMappers.Any(m => m.ClassParams.Count() == 1 && m.ClassParams.Single().Class == classe && Config.IsProjectionMapper(c, m, Classes)))
+            .Select(c => (Classe: c, Mapper: c.FromMappers.First(m => m.ClassParams.Count() == 1 && m.ClassParams.Single().Class == classe && Config.IsProjectionMapper(c, m, Classes))))
+            .OrderBy(p => p.Classe.NamePascal)
+            .ToList();
+
+        if (projections.Count == 0)
+        {
+            return;
+        }
+
+        var pkProperty = classe.PrimaryKey.Single();
+        var alias = classe.NameCamel;
+        fw.AddImport("org.springframework.data.jpa.repository.Query");
+        fw.AddImport("org.springframework.data.repository.query.Param");
+        fw.AddImport("java.util.Collection");
+        fw.AddImport("java.util.List");
+        fw.AddImport("java.util.Optional");
+
+        foreach (var (dto, mapper) in projections)
+        {
+            var dtoImport = dto.GetImport(Config, Config.GetBestClassTag(dto, tag));
+            fw.AddImport(dtoImport);
+            var select = $"select new {dtoImport}({string.Join(", ", Config.GetProjectionMappings(dto, mapper).Select(m => GetProjectionPath(m.Value, alias)))}) from {classe.NamePascal} {alias}";
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge une instance de '{dto.NamePascal}' en ne sélectionnant que les champs mappés depuis '{classe.NamePascal}'");
+            fw.WriteParam(pkProperty.NameByClassCamel, pkProperty.Comment);
+            fw.WriteReturns(1, $"L'instance de '{dto.NamePascal}' correspondante, si elle existe");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@Query(""{select} where {alias}.{pkProperty.NameByClassCamel} = :{pkProperty.NameByClassCamel}"")");
+            fw.WriteLine(1, $@"Optional<{dto.NamePascal}> find{dto.NamePascal}By{pkProperty.NameByClassPascal}(@Param(""{pkProperty.NameByClassCamel}"") {pk} {pkProperty.NameByClassCamel});");
+
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Charge les instances de '{dto.NamePascal}' en ne sélectionnant que les champs mappés depuis '{classe.NamePascal}'");
+            fw.WriteParam($"{pkProperty.NameByClassCamel}s", $"Liste des identifiants de '{classe.NamePascal}'");
+            fw.WriteReturns(1, $"Les instances de '{dto.NamePascal}' correspondantes");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $@"@Query(""{select} where {alias}.{pkProperty.NameByClassCamel} in :{pkProperty.NameByClassCamel}s"")");
+            fw.WriteLine(1, $@"List<{dto.NamePascal}> find{dto.NamePascal}By{pkProperty.NameByClassPascal}In(@Param(""{pkProperty.NameByClassCamel}s"") Collection<{pk}> {pkProperty.NameByClassCamel}s);");
+        }
+    }
+
+    // Critères d'un endpoint sur la classe : ses paramètres, s'ils sont tous des alias simples (non liste) de propriétés de la classe.
+    private List<AliasProperty> GetEndpointFilters(Endpoint endpoint, Class classe)
+    {
+        var filters = endpoint.Params.OfType<AliasProperty>().Where(p => p.As == null && p.Property.Class == classe).ToList();
+        return filters.Count == endpoint.Params.Count ? filters : [];
+    }
+
+    // Conditions JPQL des critères d'un endpoint, chacune ignorée si le paramètre correspondant est null.
+    private IEnumerable<string> GetFilterConditions(IEnumerable<AliasProperty> filters, string alias)
+    {
+        return filters.Select(filter => $"(:{filter.GetParamName()} is null or {GetProjectionPath(filter.Property, alias)} = :{filter.GetParamName()})");
+    }
+
+    private string GetProjectionPath(IProperty property, string alias)
+    {
+        if ((property is AliasProperty alp ? alp.Property : property) is AssociationProperty ap
+            && !(Config.EnumsAsEnums && Config.CanClassUseEnums(ap.Association, prop: ap.Property, availableClasses: Classes)))
+        {
+            return $"{alias}.{property.NameByClassCamel}.{ap.Property.NameByClassCamel}";
+        }
+
+        return $"{alias}.{property.NameByClassCamel}";
+    }
 }
\ No newline at end of file
@@ -52,6 +52,17 @@ public class JpaEntityGenerator(ILogger<JpaEntityGenerator> logger, IFileWriterP
                 .AddAttribute("value", $"{classe.NamePascal}.{classe.NamePascal}Id.class");
         }
 
+        var entityGraphs = Config.GetEntityGraphs(classe, Classes).Select(g => GetEntityGraphAnnotation(classe, g.Classe, g.Mappings)).ToList();
+        if (entityGraphs.Count == 1)
+        {
+            yield return entityGraphs.Single();
+        }
+        else if (entityGraphs.Count > 1)
+        {
+            yield return new JavaAnnotation("NamedEntityGraphs", imports: $"{JavaxOrJakarta}.persistence.NamedEntityGraphs")
+                .AddAttribute("value", entityGraphs);
+        }
+
         if (classe.Reference)
         {
             var cacheAnnotation = new JavaAnnotation("Cache", imports: "org.hibernate.annotations.Cache");
@@ -69,6 +80,40 @@ public class JpaEntityGenerator(ILogger<JpaEntityGenerator> logger, IFileWriterP
         }
     }
 
+    protected virtual JavaAnnotation GetEntityGraphAnnotation(Class classe, Class target, ClassMappings mappings)
+    {
+        var attributeNodes = new List<JavaAnnotation>();
+        var subgraphs = new List<JavaAnnotation>();
+        foreach (var (property, subgraph) in Config.GetEntityGraphNodes(mappings))
+        {
+            var propertyName = JpaModelPropertyGenerator.GetPropertyName(property);
+            var subgraphNodes = subgraph != null
+                ? Config.GetEntityGraphNodes(subgraph).Select(n => GetNamedAttributeNode(JpaModelPropertyGenerator.GetPropertyName(n.Property))).ToList()
+                : [];
+            if (subgraphNodes.Count > 0)
+            {
+                attributeNodes.Add(GetNamedAttributeNode(propertyName).AddAttribute("subgraph", $@"""{propertyName}"""));
+                subgraphs.Add(new JavaAnnotation("NamedSubgraph", imports: $"{JavaxOrJakarta}.persistence.NamedSubgraph")
+                    .AddAttribute("name", $@"""{propertyName}""")
+                    .AddAttribute("attributeNodes", subgraphNodes));
+            }
+            else
+            {
+                attributeNodes.Add(GetNamedAttributeNode(propertyName));
+            }
+        }
+
+        var entityGraph = new JavaAnnotation("NamedEntityGraph", imports: $"{JavaxOrJakarta}.persistence.NamedEntityGraph")
+            .AddAttribute("name", $@"""{Config.GetEntityGraphName(classe, target)}""")
+            .AddAttribute("attributeNodes", attributeNodes);
+        if (subgraphs.Count > 0)
+        {
+            entityGraph.AddAttribute("subgraphs", subgraphs);
+        }
+
+        return entityGraph;
+    }
+
     protected override string GetFileName(Class classe, string tag)
     {
         return Path.Combine(
@@ -119,6 +164,7 @@ public class JpaEntityGenerator(ILogger<JpaEntityGenerator> logger, IFileWriterP
         WriteSetters(fw, classe, tag);
         WriteAdders(fw, classe, tag);
         WriteRemovers(fw, classe, tag);
+        WriteEqualsHashCode(fw, classe);
 
         if (Config.MappersInClass)
         {
@@ -250,6 +296,58 @@ public class JpaEntityGenerator(ILogger<JpaEntityGenerator> logger, IFileWriterP
         }
     }
 
+    /// <summary>
+    /// Ecrit equals et hashCode sur la clé naturelle des entités référencées par une association manyToMany générée en `Set`.
+    /// La clé naturelle est la première clé d'unicité de la classe, ou à défaut sa clé primaire. Une clé primaire générée n'étant connue qu'après la persistance, le hashCode est alors constant.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="classe">Classe.</param>
+    protected virtual void WriteEqualsHashCode(JavaWriter fw, Class classe)
+    {
+        if (!Classes.SelectMany(c => c.GetProperties(Classes)).OfType<AssociationProperty>().Any(ap => ap.Association == classe && Config.IsSetAssociation(ap)))
+        {
+            return;
+        }
+
+        var key = classe.UniqueKeys.FirstOrDefault() ?? classe.PrimaryKey.ToList();
+        if (key.Count == 0)
+        {
+            return;
+        }
+
+        var getters = key.Select(p => $"{JpaModelPropertyGenerator.GetGetterName(p)}()").ToList();
+        var generated = key.Count == 1 && key[0].PrimaryKey && (key[0].Domain?.AutoGeneratedValue ?? false);
+        fw.AddImport("java.util.Objects");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, "public boolean equals(Object o) {");
+        fw.WriteLine(2, "if(o == this) {");
+        fw.WriteLine(3, "return true;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, $"if(!(o instanceof {classe.NamePascal} other)) {{");
+        fw.WriteLine(3, "return false;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        if (generated)
+        {
+            fw.WriteLine(2, $"return this.{getters[0]} != null && Objects.equals(this.{getters[0]}, other.{getters[0]});");
+        }
+        else
+        {
+            fw.WriteLine(2, $"return {string.Join("\n\t\t\t&& ", getters.Select(g => $"Objects.equals(this.{g}, other.{g})"))};");
+        }
+
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, "public int hashCode() {");
+        fw.WriteLine(2, generated ? $"return {classe.NamePascal}.class.hashCode();" : $"return Objects.hash({string.Join(", ", getters.Select(g => $"this.{g}"))});");
+        fw.WriteLine(1, "}");
+    }
+
     protected virtual void WriteRemovers(JavaWriter fw, Class classe, string tag)
     {
         if (classe.IsPersistent && Config.AssociationRemovers)
@@ -280,4 +378,10 @@ public class JpaEntityGenerator(ILogger<JpaEntityGenerator> logger, IFileWriterP
             }
         }
     }
+
+    private JavaAnnotation GetNamedAttributeNode(string propertyName)
+    {
+        return new JavaAnnotation("NamedAttributeNode", imports: $"{JavaxOrJakarta}.persistence.NamedAttributeNode")
+            .AddAttribute("value", $@"""{propertyName}""");
+    }
 }
\ No newline at end of file
@@ -61,10 +61,12 @@ public class JpaEnumEntityGenerator(ILogger<JpaEnumEntityGenerator> logger, IFil
             fw.WriteLine(1, $@"public static final {classe.NamePascal} {code} = new {classe.NamePascal}({Config.GetEnumName(codeProperty, classe)}.{code});");
         }
 
+        ConstructorGenerator.WriteEnumValuesMap(fw, classe);
         JpaModelPropertyGenerator.WriteProperties(fw, classe, tag);
         WriteConstructors(classe, tag, fw);
 
         WriteGetters(fw, classe, tag);
+        WriteEqualsHashCode(fw, classe);
 
         if (Config.MappersInClass)
         {
@@ -79,10 +81,16 @@ public class JpaEnumEntityGenerator(ILogger<JpaEnumEntityGenerator> logger, IFil
         fw.WriteLine("}");
     }
 
+    protected override bool HasSetter(Class classe, IProperty property)
+    {
+        return false;
+    }
+
     protected override void WriteConstructors(Class classe, string tag, JavaWriter fw)
     {
         ConstructorGenerator.WriteNoArgConstructor(fw, classe);
         ConstructorGenerator.WriteEnumConstructor(fw, classe, Classes, tag);
+        ConstructorGenerator.WriteEnumValueOf(fw, classe);
     }
 
     protected override void WriteSetters(JavaWriter fw, Class classe, string tag)
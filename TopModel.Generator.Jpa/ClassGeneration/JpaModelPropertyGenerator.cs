@@ -123,6 +123,11 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
     public virtual string GetGetterName(IProperty property)
     {
         var propertyName = GetPropertyName(property);
+        if (Config.IsRecord(property.Class, Classes))
+        {
+            return propertyName;
+        }
+
         var propertyType = GetPropertyType(property);
         var getterPrefix = propertyType == "boolean" ? "is" : "get";
         if (property.Class.PreservePropertyCasing)
@@ -155,7 +160,7 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
     {
         var isAssociationNotPersistent = property is AssociationProperty apr && !apr.Association.IsPersistent;
         var useClassForAssociation = property.Class.IsPersistent && !isAssociationNotPersistent;
-        return Config.GetType(property, Classes, useClassForAssociation);
+        return Config.GetCollectionType(property, Config.GetPrimitiveType(property, Config.GetType(property, Classes, useClassForAssociation)));
     }
 
     public virtual string GetSetterName(IProperty property)
@@ -203,6 +208,24 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
         }
     }
 
+    /// <summary>
+    /// Retourne la déclaration d'un composant de record, avec ses annotations.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="property">Propriété.</param>
+    /// <param name="tag">Tag.</param>
+    /// <returns>La déclaration du composant.</returns>
+    public virtual string GetRecordComponent(JavaWriter fw, IProperty property, string tag)
+    {
+        var annotations = GetDomainAnnotations(property, tag).Concat(GetAnnotations(property, tag))
+            .DistinctBy(a => a.Name.Split('(').First())
+            .ToList();
+
+        fw.AddImports(annotations.SelectMany(a => a.Imports).ToList());
+        fw.AddImports(property.GetTypeImports(Config, tag));
+        return string.Join(' ', annotations.Select(a => a.ToString()).Append(GetPropertyType(property)).Append(GetPropertyName(property)));
+    }
+
     public virtual void WriteProperty(JavaWriter fw, IProperty property, string tag)
     {
         fw.WriteLine();
@@ -404,6 +427,19 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
             autoGenerated
                 .AddAttribute("strategy", "GenerationType.SEQUENCE", $"{JavaxOrJakarta}.persistence.GenerationType")
                 .AddAttribute("generator", $@"""{seqName}""");
+            if (Config.Identity.Optimizer != null)
+            {
+                // En jakarta (Hibernate 6), @GenericGenerator est déprécié : l'optimiseur se choisit avec "hibernate.id.optimizer.pooled.preferred"
+                if (Config.PersistenceMode == PersistenceMode.Jakarta)
+                {
+                    throw new ModelException(classe, "L'option 'identity.optimizer' n'est pas supportée en mode 'jakarta' : l'optimiseur doit être choisi avec la propriété Hibernate 'hibernate.id.optimizer.pooled.preferred'");
+                }
+
+                yield return GetOptimizedSequenceGenerator(seqName);
+                yield return autoGenerated;
+                yield break;
+            }
+
             var sequenceGenerator = new JavaAnnotation("SequenceGenerator", imports: $"{JavaxOrJakarta}.persistence.SequenceGenerator")
                 .AddAttribute("sequenceName", $@"""{seqName}""")
                 .AddAttribute("name", $@"""{seqName}""");
@@ -423,6 +459,32 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
         yield return autoGenerated;
     }
 
+    /// <summary>
+    /// Générateur de séquence Hibernate 5 (SequenceStyleGenerator) avec l'optimiseur défini dans la configuration.
+    /// </summary>
+    /// <param name="seqName">Nom de la séquence.</param>
+    /// <returns>Annotation @GenericGenerator.</returns>
+    protected virtual JavaAnnotation GetOptimizedSequenceGenerator(string seqName)
+    {
+        var genericGenerator = new JavaAnnotation("GenericGenerator", imports: "org.hibernate.annotations.GenericGenerator")
+            .AddAttribute("name", $@"""{seqName}""")
+            .AddAttribute("strategy", @"""org.hibernate.id.enhanced.SequenceStyleGenerator""");
+
+        var parameters = new List<JavaAnnotation> { GetGeneratorParameter("sequence_name", seqName) };
+        if (Config.Identity.Start != null)
+        {
+            parameters.Add(GetGeneratorParameter("initial_value", $"{Config.Identity.Start}"));
+        }
+
+        if (Config.Identity.Increment != null)
+        {
+            parameters.Add(GetGeneratorParameter("increment_size", $"{Config.Identity.Increment}"));
+        }
+
+        parameters.Add(GetGeneratorParameter("optimizer", Config.Identity.Optimizer == IdentityOptimizer.PooledLo ? "pooled-lo" : "pooled"));
+        return genericGenerator.AddAttribute("parameters", parameters);
+    }
+
     protected virtual JavaAnnotation GetConvertAnnotation(CompositionProperty property, string tag)
     {
         var convert = new JavaAnnotation("Convert", imports: $"{JavaxOrJakarta}.persistence.Convert");
@@ -448,7 +510,7 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
                     }
                     else
                     {
-                        return $" = new {ap.Association.NamePascal}({defaultValue})";
+                        return $" = {ap.Association.NamePascal}.valueOf({defaultValue})";
                     }
                 }
             }
@@ -496,6 +558,36 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
         yield return new JavaAnnotation("Id", imports: $"{JavaxOrJakarta}.persistence.Id");
     }
 
+    /// <summary>
+    /// Annotations Hibernate de chargement par lots d'une collection lazy : `@BatchSize` ou `@Fetch(FetchMode.SUBSELECT)`.
+    /// La propriété personnalisée `batchFetch` de l'association (taille des lots, `subselect` ou `none`) surcharge la configuration `batchFetchSize`.
+    /// </summary>
+    /// <param name="property">Association (oneToMany ou manyToMany).</param>
+    /// <returns>Annotations.</returns>
+    protected virtual IEnumerable<JavaAnnotation> GetBatchFetchAnnotations(AssociationProperty property)
+    {
+        var batchFetch = property.CustomProperties.TryGetValue("batchFetch", out var value) ? value : Config.BatchFetchSize?.ToString();
+        if (batchFetch == null || batchFetch == "none")
+        {
+            yield break;
+        }
+
+        if (batchFetch == "subselect")
+        {
+            yield return new JavaAnnotation("Fetch", imports: "org.hibernate.annotations.Fetch")
+                .AddAttribute("value", "FetchMode.SUBSELECT", "org.hibernate.annotations.FetchMode");
+        }
+        else if (int.TryParse(batchFetch, out var size) && size > 0)
+        {
+            yield return new JavaAnnotation("BatchSize", imports: "org.hibernate.annotations.BatchSize")
+                .AddAttribute("size", size.ToString());
+        }
+        else
+        {
+            throw new ModelException(property.Class, $"La valeur '{batchFetch}' de 'batchFetch' sur la propriété {property.Name} est invalide (taille des lots, 'subselect' ou 'none' attendus)");
+        }
+    }
+
     protected virtual IEnumerable<JavaAnnotation> GetManyToManyAnnotations(AssociationProperty property)
     {
         var role = property.Role is not null ? "_" + property.Role.ToConstantCase() : string.Empty;
@@ -525,6 +617,11 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
                 .AddAttribute("inverseJoinColumns", inverseJoinColumns);
             yield return joinTable;
         }
+
+        foreach (var a in GetBatchFetchAnnotations(property))
+        {
+            yield return a;
+        }
     }
 
     protected virtual IEnumerable<JavaAnnotation> GetManyToOneAnnotations(AssociationProperty property, string tag)
@@ -575,6 +672,11 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
         }
 
         yield return association;
+
+        foreach (var a in GetBatchFetchAnnotations(property))
+        {
+            yield return a;
+        }
     }
 
     protected virtual IEnumerable<JavaAnnotation> GetOneToOneAnnotations(AssociationProperty property)
@@ -593,4 +695,11 @@ public class JpaModelPropertyGenerator(JpaConfig config, IEnumerable<Class> clas
             .AddAttribute("unique", "true");
         yield return joinColumn;
     }
+
+    private static JavaAnnotation GetGeneratorParameter(string name, string value)
+    {
+        return new JavaAnnotation("Parameter", imports: "org.hibernate.annotations.Parameter")
+            .AddAttribute("name", $@"""{name}""")
+            .AddAttribute("value", $@"""{value}""");
+    }
 }
@@ -0,0 +1,169 @@
+﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
+using TopModel.Generator.Core;
+using TopModel.Utils;
+
+namespace TopModel.Generator.Jpa.ClassGeneration;
+
+/// <summary>
+/// Générateur des caches de listes de référence (un composant Spring par module).
+/// </summary>
+public class JpaReferenceDataCacheGenerator(ILogger<JpaReferenceDataCacheGenerator> logger, IFileWriterProvider writerProvider)
+    : ClassGroupGeneratorBase<JpaConfig>(logger, writerProvider)
+{
+    private JpaModelPropertyGenerator? _jpaModelPropertyGenerator;
+
+    public override string Name => "JpaReferenceDataCacheGen";
+
+    protected virtual JpaModelPropertyGenerator JpaModelPropertyGenerator
+    {
+        get
+        {
+            _jpaModelPropertyGenerator ??= new JpaModelPropertyGenerator(Config, Classes, []);
+            return _jpaModelPropertyGenerator;
+        }
+    }
+
+    protected override IEnumerable<(string FileType, string FileName)> GetFileNames(Class classe, string tag)
+    {
+        if (!classe.Abstract && classe.IsPersistent && Config.CanClassUseEnums(classe, Classes))
+        {
+            yield return ("main", Config.GetReferenceDataCacheFilePath(classe, tag));
+        }
+    }
+
+    protected override void HandleFile(string fileType, string fileName, string tag, IEnumerable<Class> classes)
+    {
+        var classList = classes.OrderBy(c => c.NamePascal, StringComparer.Ordinal).ToList();
+        var ns = classList.First().Namespace;
+        var className = Config.GetReferenceDataCacheName(ns);
+        var packageName = Config.GetPackageName(ns, Config.EntitiesPath, tag);
+
+        using var fw = this.OpenJavaWriter(fileName, packageName, null);
+        fw.AddImports([
+            "java.util.Collections",
+            "java.util.EnumMap",
+            "java.util.EnumSet",
+            "java.util.Map",
+            "java.util.concurrent.atomic.LongAdder",
+            "java.util.function.Function",
+            "org.springframework.stereotype.Component",
+            "org.springframework.transaction.support.TransactionSynchronizationManager",
+            $"{Config.JavaxOrJakarta}.annotation.PostConstruct",
+            $"{Config.JavaxOrJakarta}.persistence.EntityManager"
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"Cache des listes de référence du module '{ns.Module}', chargé au démarrage de l'application");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteLine("@Component");
+        fw.WriteClassDeclaration(className, null);
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private final EntityManager entityManager;");
+        fw.WriteLine();
+        fw.WriteLine(1, "private final LongAdder hits = new LongAdder();");
+        fw.WriteLine();
+        fw.WriteLine(1, "private final LongAdder misses = new LongAdder();");
+
+        foreach (var classe in classList)
+        {
+            var codeType = Config.GetEnumName(classe.EnumKey!, classe);
+            fw.AddImport(classe.GetImport(Config, GetBestClassTag(classe, tag)));
+            fw.AddImport($"{Config.GetEnumPackageName(classe, GetBestClassTag(classe, tag))}.{codeType}");
+            fw.WriteLine();
+            fw.WriteLine(1, $"private Map<{codeType}, {classe.NamePascal}> {classe.NameCamel}Values = Collections.emptyMap();");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(1, $"public {className}(EntityManager entityManager) {{");
+        fw.WriteLine(2, "this.entityManager = entityManager;");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Charge les listes de référence du module et vérifie que la base de données contient toutes les valeurs des enums générées");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "@PostConstruct");
+        fw.WriteLine(1, "public void load() {");
+        foreach (var classe in classList)
+        {
+            var codeType = Config.GetEnumName(classe.EnumKey!, classe);
+            var alias = classe.NameCamel;
+            var fetches = classe.Properties.OfType<AssociationProperty>()
+                .Where(ap => ap.Association.IsPersistent)
+                .Select(ap => $" left join fetch {alias}.{JpaModelPropertyGenerator.GetPropertyName(ap)}");
+            var query = $"select {alias} from {classe.NamePascal} {alias}{string.Join(string.Empty, fetches)}";
+            fw.WriteLine(2, $@"{classe.NameCamel}Values = load(""{query}"", {classe.NamePascal}.class, {codeType}.class, {classe.NamePascal}::{JpaModelPropertyGenerator.GetGetterName(classe.EnumKey!)});");
+        }
+
+        fw.WriteLine(1, "}");
+
+        foreach (var classe in classList)
+        {
+            var codeType = Config.GetEnumName(classe.EnumKey!, classe);
+            var code = classe.EnumKey!.NameCamel;
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Retourne l'instance de '{classe.NamePascal}' chargée au démarrage correspondant au code");
+            fw.WriteLine(1, " * Si le cache n'est pas (encore) chargé, retourne une référence obtenue par l'EntityManager dans une transaction, ou l'instance lue en base hors transaction (une référence ne pourrait pas y être initialisée).");
+            fw.WriteParam(code, $"Code de '{classe.NamePascal}'");
+            fw.WriteReturns(1, $"Instance de '{classe.NamePascal}', ou null si le code est null");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"public {classe.NamePascal} get{classe.NamePascal}({codeType} {code}) {{");
+            fw.WriteLine(2, $"if ({code} == null) {{");
+            fw.WriteLine(3, "return null;");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+            fw.WriteLine(2, $"{classe.NamePascal} value = {classe.NameCamel}Values.get({code});");
+            fw.WriteLine(2, "if (value != null) {");
+            fw.WriteLine(3, "hits.increment();");
+            fw.WriteLine(3, "return value;");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+            fw.WriteLine(2, "misses.increment();");
+            fw.WriteLine(2, "if (TransactionSynchronizationManager.isActualTransactionActive()) {");
+            fw.WriteLine(3, $"return entityManager.getReference({classe.NamePascal}.class, {code});");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+            fw.WriteLine(2, $"return entityManager.find({classe.NamePascal}.class, {code});");
+            fw.WriteLine(1, "}");
+        }
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Nombre de lectures servies par le cache");
+        fw.WriteReturns(1, "Nombre de lectures servies par le cache");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "public long getHitCount() {");
+        fw.WriteLine(2, "return hits.sum();");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Nombre de lectures non servies par le cache");
+        fw.WriteReturns(1, "Nombre de lectures non servies par le cache");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "public long getMissCount() {");
+        fw.WriteLine(2, "return misses.sum();");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private <C extends Enum<C>, E> Map<C, E> load(String query, Class<E> entityClass, Class<C> codeClass, Function<E, C> getCode) {");
+        fw.WriteLine(2, "Map<C, E> values = new EnumMap<>(codeClass);");
+        fw.WriteLine(2, "for (E value : entityManager.createQuery(query, entityClass).getResultList()) {");
+        fw.WriteLine(3, "values.put(getCode.apply(value), value);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "EnumSet<C> missing = EnumSet.allOf(codeClass);");
+        fw.WriteLine(2, "missing.removeAll(values.keySet());");
+        fw.WriteLine(2, "if (!missing.isEmpty()) {");
+        fw.WriteLine(3, @"throw new IllegalStateException(""Valeurs manquantes en base de données pour "" + entityClass.getSimpleName() + "" : "" + missing);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "return Collections.unmodifiableMap(values);");
+        fw.WriteLine(1, "}");
+        fw.WriteLine("}");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+﻿namespace TopModel.Generator.Jpa;
+
+public enum CollectionMode
+{
+    /// <summary>
+    /// Collections `Set`, avec égalité des entités sur leur clé naturelle
+    /// </summary>
+    Set
+}
\ No newline at end of file
@@ -80,10 +80,11 @@ public class FlowTree
 
         if (Subflows.Count == 1)
         {
-            result += $"//\n{indent}{baseIndent}.{next}({Subflows.First().ToFlow(indentLevel + 2)})";
+            result += $" //\n{indent}{baseIndent}.{next}({Subflows.First().ToFlow(indentLevel + 2)})";
         }
-        else
+        else if (Subflows.Count > 1)
         {
+            // Les sous-arbres sont indépendants les uns des autres : ils sont exécutés en parallèle
             if (RootFlows.Any())
             {
                 result += $" //\n{indent}.{next}(";
@@ -10,6 +10,126 @@ namespace TopModel.Generator.Jpa.DataflowGeneration;
 public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IFileWriterProvider writerProvider)
     : GeneratorBase<JpaConfig>(logger, writerProvider)
 {
+    /// <summary>
+    /// Méthodes de décodage des colonnes du flux binaire de la commande `COPY`, par nom : type retourné, imports, méthode utilisée et corps.
+    /// </summary>
+    private static readonly Dictionary<string, (string ReturnType, string[] Imports, string? Dependency, string[] Lines)> CopyReadMethods = new()
+    {
+        ["readString"] = ("String", [], null, [
+            "int length = input.readInt();",
+            "return length == -1 ? null : new String(input.readNBytes(length), StandardCharsets.UTF_8);"
+        ]),
+        ["readInteger"] = ("Integer", [], "readLong", [
+            "Long value = readLong(input);",
+            "return value == null ? null : value.intValue();"
+        ]),
+        ["readShort"] = ("Short", [], "readLong", [
+            "Long value = readLong(input);",
+            "return value == null ? null : value.shortValue();"
+        ]),
+        ["readLong"] = ("Long", [], null, [
+            "// Les entiers sont lus selon leur taille (smallint, integer ou bigint)",
+            "int length = input.readInt();",
+            "if (length == -1) {",
+            "\treturn null;",
+            "} else if (length == 2) {",
+            "\treturn (long) input.readShort();",
+            "} else if (length == 4) {",
+            "\treturn (long) input.readInt();",
+            "}",
+            string.Empty,
+            "return input.readLong();"
+        ]),
+        ["readBoolean"] = ("Boolean", [], null, [
+            "int length = input.readInt();",
+            "return length == -1 ? null : input.readByte() != 0;"
+        ]),
+        ["readFloat"] = ("Float", [], "readDouble", [
+            "Double value = readDouble(input);",
+            "return value == null ? null : value.floatValue();"
+        ]),
+        ["readDouble"] = ("Double", [], null, [
+            "int length = input.readInt();",
+            "if (length == -1) {",
+            "\treturn null;",
+            "} else if (length == 4) {",
+            "\treturn (double) input.readFloat();",
+            "}",
+            string.Empty,
+            "return input.readDouble();"
+        ]),
+        ["readBigDecimal"] = ("BigDecimal", ["java.math.BigDecimal"], null, [
+            "// Type numeric : nombre de chiffres (en base 10000), poids du premier chiffre, signe, échelle, puis chiffres",
+            "if (input.readInt() == -1) {",
+            "\treturn null;",
+            "}",
+            string.Empty,
+            "int digits = input.readShort();",
+            "int weight = input.readShort();",
+            "int sign = input.readShort() & 0xFFFF;",
+            "int scale = input.readShort();",
+            "if (sign != 0 && sign != 0x4000) {",
+            "\tthrow new IllegalStateException(\"Les valeurs NaN et infinies ne sont pas supportées\");",
+            "}",
+            string.Empty,
+            "BigDecimal value = BigDecimal.ZERO;",
+            "for (int i = 0; i < digits; i++) {",
+            "\tvalue = value.add(BigDecimal.valueOf(input.readShort(), 4 * (i - weight)));",
+            "}",
+            string.Empty,
+            "value = value.setScale(scale);",
+            "return sign == 0x4000 ? value.negate() : value;"
+        ]),
+        ["readLocalDate"] = ("LocalDate", ["java.time.LocalDate", "java.time.LocalDateTime", "java.time.temporal.ChronoUnit"], null, [
+            "// Les dates sont lues selon leur taille (date ou timestamp), à partir du 01/01/2000",
+            "int length = input.readInt();",
+            "if (length == -1) {",
+            "\treturn null;",
+            "} else if (length == 4) {",
+            "\treturn LocalDate.of(2000, 1, 1).plusDays(input.readInt());",
+            "}",
+            string.Empty,
+            "return LocalDateTime.of(2000, 1, 1, 0, 0).plus(input.readLong(), ChronoUnit.MICROS).toLocalDate();"
+        ]),
+        ["readLocalDateTime"] = ("LocalDateTime", ["java.time.LocalDate", "java.time.LocalDateTime", "java.time.temporal.ChronoUnit"], null, [
+            "// Les dates sont lues selon leur taille (date ou timestamp), à partir du 01/01/2000",
+            "int length = input.readInt();",
+            "if (length == -1) {",
+            "\treturn null;",
+            "} else if (length == 4) {",
+            "\treturn LocalDate.of(2000, 1, 1).plusDays(input.readInt()).atStartOfDay();",
+            "}",
+            string.Empty,
+            "return LocalDateTime.of(2000, 1, 1, 0, 0).plus(input.readLong(), ChronoUnit.MICROS);"
+        ]),
+        ["readInstant"] = ("Instant", ["java.time.Instant", "java.time.LocalDateTime", "java.time.ZoneOffset"], "readLocalDateTime", [
+            "// Les timestamp with time zone sont exprimés en UTC",
+            "LocalDateTime value = readLocalDateTime(input);",
+            "return value == null ? null : value.toInstant(ZoneOffset.UTC);"
+        ]),
+        ["readOffsetDateTime"] = ("OffsetDateTime", ["java.time.LocalDateTime", "java.time.OffsetDateTime", "java.time.ZoneOffset"], "readLocalDateTime", [
+            "// Les timestamp with time zone sont exprimés en UTC",
+            "LocalDateTime value = readLocalDateTime(input);",
+            "return value == null ? null : value.atOffset(ZoneOffset.UTC);"
+        ]),
+        ["readZonedDateTime"] = ("ZonedDateTime", ["java.time.LocalDateTime", "java.time.ZoneOffset", "java.time.ZonedDateTime"], "readLocalDateTime", [
+            "// Les timestamp with time zone sont exprimés en UTC",
+            "LocalDateTime value = readLocalDateTime(input);",
+            "return value == null ? null : value.atZone(ZoneOffset.UTC);"
+        ]),
+        ["readUuid"] = ("UUID", ["java.util.UUID"], null, [
+            "if (input.readInt() == -1) {",
+            "\treturn null;",
+            "}",
+            string.Empty,
+            "return new UUID(input.readLong(), input.readLong());"
+        ]),
+        ["readBytes"] = ("byte[]", [], null, [
+            "int length = input.readInt();",
+            "return length == -1 ? null : input.readNBytes(length);"
+        ])
+    };
+
     public override IEnumerable<string> GeneratedFiles =>
         Files.Values.SelectMany(f => f.DataFlows)
             .SelectMany(df => Config.Tags.Intersect(df.ModelFile.Tags)
@@ -150,33 +270,420 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
         }
     }
 
-    protected virtual void WriteBeanReader(JavaWriter fw, DataFlow dataFlow, string tag)
+    /// <summary>
+    /// Détermine si le step du flux est partitionné : la lecture de la source et l'écriture sont réparties sur plusieurs steps exécutés en parallèle.
+    /// </summary>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <returns>Vrai si le step est partitionné.</returns>
+    protected static bool IsPartitioned(DataFlow dataFlow)
+    {
+        return dataFlow.Partitions > 1 && dataFlow.Sources.Count == 1 && dataFlow.Sources[0].Mode == DataFlowSourceMode.QueryAll && dataFlow.Type != DataFlowType.Incremental;
+    }
+
+    protected virtual string GetSourceTable(DataFlow dataFlow, string tag)
     {
-        fw.WriteLine();
         var tagToUse = tag;
         if (!dataFlow.Class.ModelFile.Tags.Contains(tag))
         {
             tagToUse = Config.Tags.Intersect(dataFlow.Sources.First().Class.ModelFile.Tags).First();
         }
 
-        var query = $"select * from {(Config.ResolveVariables(Config.DbSchema!, tag: tagToUse) == null ? string.Empty : $"{Config.ResolveVariables(Config.DbSchema!, tag: tagToUse)}.")}{dataFlow.Sources.First().Class.SqlName}";
+        var dbSchema = Config.DbSchema == null ? null : Config.ResolveVariables(Config.DbSchema, tag: tagToUse);
+        return $"{(dbSchema == null ? string.Empty : $"{dbSchema}.")}{dataFlow.Sources.First().Class.SqlName}";
+    }
+
+    protected virtual void WriteBeanPartitioner(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        var sourceClass = dataFlow.Sources.First().Class;
+        var column = (dataFlow.PartitionProperty ?? sourceClass.PrimaryKey.Single()).SqlName;
+        fw.AddImports([
+            "java.util.HashMap",
+            "java.util.Map",
+            "org.springframework.batch.core.partition.support.Partitioner",
+            "org.springframework.batch.item.ExecutionContext",
+            "org.springframework.jdbc.core.JdbcTemplate",
+            "javax.sql.DataSource"
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Découpe la source en partitions de même étendue de valeurs de '{column}'");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, @$"@Bean(""{dataFlow.Name.ToPascalCase()}Partitioner"")");
+        fw.WriteLine(1, @$"public static Partitioner {dataFlow.Name.ToCamelCase()}Partitioner(@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource dataSource) {{");
+        fw.WriteLine(2, "return gridSize -> {");
+        fw.WriteLine(3, @$"Map<String, Object> bounds = new JdbcTemplate(dataSource).queryForMap(""select min({column}) as min_value, max({column}) as max_value from {GetSourceTable(dataFlow, tag)}"");");
+        fw.WriteLine(3, @"Number minValue = (Number) bounds.get(""min_value"");");
+        fw.WriteLine(3, @"Number maxValue = (Number) bounds.get(""max_value"");");
+        fw.WriteLine(3, "long min = minValue == null ? 0 : minValue.longValue();");
+        fw.WriteLine(3, "long max = maxValue == null ? -1 : maxValue.longValue();");
+        fw.WriteLine(3, "long size = (max - min) / gridSize + 1;");
+        fw.WriteLine(3, "Map<String, ExecutionContext> partitions = new HashMap<>();");
+        fw.WriteLine(3, "for (int i = 0; i < gridSize && (i == 0 || min + i * size <= max); i++) {");
+        fw.WriteLine(4, "ExecutionContext context = new ExecutionContext();");
+        fw.WriteLine(4, @"context.putLong(""minValue"", min + i * size);");
+        fw.WriteLine(4, @"context.putLong(""maxValue"", Math.min(min + (i + 1) * size - 1, max));");
+        fw.WriteLine(4, @"partitions.put(""partition"" + i, context);");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "return partitions;");
+        fw.WriteLine(2, "};");
+        fw.WriteLine(1, "}");
+    }
+
+    protected virtual void WriteBeanPartitionStep(JavaWriter fw, DataFlow dataFlow)
+    {
+        fw.AddImport("org.springframework.batch.core.partition.support.Partitioner");
+        fw.AddImport("org.springframework.core.task.SimpleAsyncTaskExecutor");
+
+        fw.WriteLine();
+        fw.WriteLine(1, @$"@Bean(""{dataFlow.Name.ToPascalCase()}Step"")");
+        fw.WriteLine(1, @$"public static Step {dataFlow.Name.ToCamelCase()}Step( //");
+        fw.WriteLine(1, @$"		JobRepository jobRepository, //");
+        fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Name.ToPascalCase()}Partitioner"") Partitioner partitioner, //");
+        fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Name.ToPascalCase()}WorkerStep"") Step workerStep) {{");
+        fw.WriteLine(2, "// Exécuteur dédié, pour que les partitions ne soient pas en concurrence avec les flux exécutés en parallèle par le job");
+        fw.WriteLine(2, @$"SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(""{dataFlow.Name.ToPascalCase()}-"");");
+        fw.WriteLine(2, $"taskExecutor.setConcurrencyLimit({dataFlow.Partitions});");
+        fw.WriteLine(2, @$"return new StepBuilder(""{dataFlow.Name.ToPascalCase()}Step"", jobRepository) //");
+        fw.WriteLine(3, @$".partitioner(""{dataFlow.Name.ToPascalCase()}WorkerStep"", partitioner) //");
+        fw.WriteLine(3, ".step(workerStep) //");
+        fw.WriteLine(3, $".gridSize({dataFlow.Partitions}) //");
+        fw.WriteLine(3, ".taskExecutor(taskExecutor) //");
+        fw.WriteLine(3, ".build();");
+        fw.WriteLine(1, "}");
+    }
+
+    protected virtual void WriteBeanReader(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        if (IsCopyReader(dataFlow))
+        {
+            WriteBeanCopyReader(fw, dataFlow, tag);
+            return;
+        }
+
+        fw.WriteLine();
+        var sourceClass = dataFlow.Sources.First().Class;
+        var partitioned = IsPartitioned(dataFlow);
+        var incremental = dataFlow.Type == DataFlowType.Incremental;
+        var where = partitioned ? $" where {(dataFlow.PartitionProperty ?? sourceClass.PrimaryKey.Single()).SqlName} >= ? and {(dataFlow.PartitionProperty ?? sourceClass.PrimaryKey.Single()).SqlName} <= ?" : string.Empty;
+        var table = GetSourceTable(dataFlow, tag);
         fw.AddImport("org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder");
-        fw.AddImport("io.github.kleecontrib.spring.batch.bulk.mapping.JdbcEntityRowMapper");
-        fw.AddImport("org.springframework.batch.item.ItemReader");
+
+        // Le RowMapper généré lit les colonnes par position : la requête doit les sélectionner dans l'ordre attendu.
+        string rowMapper;
+        Func<string, string> query;
+        if (Config.GetRowMapperProperties(sourceClass, Classes).Any())
+        {
+            var rowMapperName = Config.GetRowMapperName(sourceClass);
+            fw.AddImport($"{Config.GetPackageName(sourceClass, Config.GetBestClassTag(sourceClass, tag))}.{rowMapperName}");
+            rowMapper = $"new {rowMapperName}()";
+            query = filter => $@"""select "" + {rowMapperName}.COLUMNS + "" from {table}{filter}""";
+        }
+        else
+        {
+            fw.AddImport("io.github.kleecontrib.spring.batch.bulk.mapping.JdbcEntityRowMapper");
+            rowMapper = $"new JdbcEntityRowMapper<>({sourceClass.NamePascal}.class)";
+            query = filter => $@"""select * from {table}{filter}""";
+        }
+
         fw.WriteLine(1, @$"@Bean(""{dataFlow.Name.ToPascalCase()}Reader"")");
-        fw.WriteLine(1, @$"public static ItemReader<{dataFlow.Sources.First().Class.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
         fw.AddImport("javax.sql.DataSource");
-        fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource) {{");
-        fw.WriteLine(2, $"return new JdbcCursorItemReaderBuilder<{dataFlow.Sources.First().Class.NamePascal}>() //");
+        if (incremental)
+        {
+            // Le reader est créé pour chaque exécution, avec la plus grande valeur lue lors de la dernière exécution terminée
+            fw.AddImport("org.springframework.batch.core.configuration.annotation.StepScope");
+            fw.AddImport("org.springframework.batch.item.database.JdbcCursorItemReader");
+            fw.AddImport("org.springframework.beans.factory.annotation.Value");
+            fw.AddImports(dataFlow.WatermarkProperty!.GetTypeImports(Config, tag));
+            fw.WriteLine(1, "@StepScope");
+            fw.WriteLine(1, @$"public static JdbcCursorItemReader<{sourceClass.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
+            fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource, //");
+            fw.WriteLine(1, @$"		@Value(""#{{stepExecutionContext['watermark']}}"") {GetWatermarkType(dataFlow)} watermark) {{");
+            fw.WriteLine(2, "// Sans exécution précédente, toute la source est lue");
+        }
+        else if (partitioned)
+        {
+            // Le reader est créé pour chaque partition, avec les bornes calculées par le partitioner
+            fw.AddImport("org.springframework.batch.core.configuration.annotation.StepScope");
+            fw.AddImport("org.springframework.batch.item.database.JdbcCursorItemReader");
+            fw.AddImport("org.springframework.beans.factory.annotation.Value");
+            fw.WriteLine(1, "@StepScope");
+            fw.WriteLine(1, @$"public static JdbcCursorItemReader<{sourceClass.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
+            fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource, //");
+            fw.WriteLine(1, @"		@Value(""#{stepExecutionContext['minValue']}"") Long minValue, //");
+            fw.WriteLine(1, @"		@Value(""#{stepExecutionContext['maxValue']}"") Long maxValue) {");
+        }
+        else
+        {
+            fw.AddImport("org.springframework.batch.item.ItemReader");
+            fw.WriteLine(1, @$"public static ItemReader<{sourceClass.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
+            fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource) {{");
+        }
+
+        fw.WriteLine(2, $"return new JdbcCursorItemReaderBuilder<{sourceClass.NamePascal}>() //");
         fw.WriteLine(2, @$"		.name(""{dataFlow.Name.ToPascalCase()}Reader"") //");
-        fw.WriteLine(2, @$"		.rowMapper(new JdbcEntityRowMapper<>({dataFlow.Sources.First().Class.NamePascal}.class)) //");
-        fw.WriteLine(2, @$"		.sql(""{query}"") //");
-        fw.WriteLine(2, @$"		.fetchSize({Config.DataFlowsBulkSize}) //");
+        fw.WriteLine(2, @$"		.rowMapper({rowMapper}) //");
+        if (incremental)
+        {
+            var column = dataFlow.WatermarkProperty!.SqlName;
+            fw.WriteLine(2, @$"		.sql(watermark == null //");
+            fw.WriteLine(2, @$"				? {query($" order by {column}")} //");
+            fw.WriteLine(2, @$"				: {query($" where {column} >= ? order by {column}")}) //");
+            fw.WriteLine(2, @$"		.queryArguments(watermark == null ? new Object[0] : new Object[] {{ watermark }}) //");
+        }
+        else
+        {
+            fw.WriteLine(2, @$"		.sql({query(where)}) //");
+        }
+
+        if (partitioned)
+        {
+            fw.WriteLine(2, @$"		.queryArguments(minValue, maxValue) //");
+        }
+
+        fw.WriteLine(2, @$"		.fetchSize({dataFlow.FetchSize ?? Config.DataFlowsBulkSize}) //");
         fw.WriteLine(2, @$"		.dataSource(datasource) //");
         fw.WriteLine(2, @$"		.build();");
         fw.WriteLine(1, "}");
     }
 
+    /// <summary>
+    /// Détermine si la source du flux est lue avec `COPY ... TO STDOUT (FORMAT binary)` : la source est déclarée dans `dataFlowsCopySources`, et toutes les colonnes lues ont un type que le reader sait décoder.
+    /// </summary>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <returns>Vrai si le reader généré utilise la commande `COPY`.</returns>
+    protected virtual bool IsCopyReader(DataFlow dataFlow)
+    {
+        var source = dataFlow.Sources.First();
+        if (!Config.DataFlowsCopySources.Contains(source.Source))
+        {
+            return false;
+        }
+
+        // La commande COPY n'accepte pas de paramètres : la valeur de la propriété de suivi est ajoutée à la requête, ce qui n'est pas fait pour les chaînes
+        if (dataFlow.Type == DataFlowType.Incremental && GetWatermarkType(dataFlow) == "String")
+        {
+            return false;
+        }
+
+        var properties = Config.GetColumnProperties(source.Class, Classes).ToList();
+        return properties.Count > 0 && properties.All(p =>
+        {
+            var type = Config.GetType(p, Classes);
+            return Config.IsEnumColumn(p, Classes) ? !type.Contains('<') : CopyReadMethods.ContainsKey(GetCopyReadMethod(type));
+        });
+    }
+
+    protected virtual void WriteBeanCopyReader(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        var sourceClass = dataFlow.Sources.First().Class;
+        var readerName = $"{sourceClass.NamePascal}CopyReader";
+        var columns = string.Join(", ", Config.GetColumnProperties(sourceClass, Classes).Select(Config.GetRowMapperColumn));
+        var query = $"COPY (select {columns} from {GetSourceTable(dataFlow, tag)}";
+
+        fw.WriteLine();
+        fw.WriteLine(1, @$"@Bean(""{dataFlow.Name.ToPascalCase()}Reader"")");
+        fw.AddImport("javax.sql.DataSource");
+        if (IsPartitioned(dataFlow))
+        {
+            // La commande COPY n'accepte pas de paramètres : les bornes (entières) de la partition sont ajoutées à la requête
+            var column = (dataFlow.PartitionProperty ?? sourceClass.PrimaryKey.Single()).SqlName;
+            fw.AddImport("org.springframework.batch.core.configuration.annotation.StepScope");
+            fw.AddImport("org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader");
+            fw.AddImport("org.springframework.beans.factory.annotation.Value");
+            fw.WriteLine(1, "@StepScope");
+            fw.WriteLine(1, @$"public static AbstractItemCountingItemStreamItemReader<{sourceClass.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
+            fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource, //");
+            fw.WriteLine(1, @"		@Value(""#{stepExecutionContext['minValue']}"") Long minValue, //");
+            fw.WriteLine(1, @"		@Value(""#{stepExecutionContext['maxValue']}"") Long maxValue) {");
+            fw.WriteLine(2, @$"return new {readerName}(""{dataFlow.Name.ToPascalCase()}Reader"", datasource, //");
+            fw.WriteLine(2, @$"		""{query} where {column} >= "" + minValue + "" and {column} <= "" + maxValue + "") TO STDOUT (FORMAT binary)"");");
+        }
+        else if (dataFlow.Type == DataFlowType.Incremental)
+        {
+            // Le reader est créé pour chaque exécution, avec la plus grande valeur lue lors de la dernière exécution terminée
+            var column = dataFlow.WatermarkProperty!.SqlName;
+            fw.AddImport("org.springframework.batch.core.configuration.annotation.StepScope");
+            fw.AddImport("org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader");
+            fw.AddImport("org.springframework.beans.factory.annotation.Value");
+            fw.AddImports(dataFlow.WatermarkProperty.GetTypeImports(Config, tag));
+            fw.WriteLine(1, "@StepScope");
+            fw.WriteLine(1, @$"public static AbstractItemCountingItemStreamItemReader<{sourceClass.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
+            fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource, //");
+            fw.WriteLine(1, @$"		@Value(""#{{stepExecutionContext['watermark']}}"") {GetWatermarkType(dataFlow)} watermark) {{");
+            fw.WriteLine(2, "// Sans exécution précédente, toute la source est lue");
+            fw.WriteLine(2, @$"String filter = watermark == null ? """" : "" where {column} >= '"" + watermark + ""'"";");
+            fw.WriteLine(2, @$"return new {readerName}(""{dataFlow.Name.ToPascalCase()}Reader"", datasource, //");
+            fw.WriteLine(2, @$"		""{query}"" + filter + "" order by {column}) TO STDOUT (FORMAT binary)"");");
+        }
+        else
+        {
+            fw.AddImport("org.springframework.batch.item.ItemReader");
+            fw.WriteLine(1, @$"public static ItemReader<{sourceClass.NamePascal}> {dataFlow.Name.ToCamelCase()}Reader( //");
+            fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Sources.First().Source}"") DataSource datasource) {{");
+            fw.WriteLine(2, @$"return new {readerName}(""{dataFlow.Name.ToPascalCase()}Reader"", datasource, ""{query}) TO STDOUT (FORMAT binary)"");");
+        }
+
+        fw.WriteLine(1, "}");
+        WriteCopyReader(fw, dataFlow, tag);
+    }
+
+    /// <summary>
+    /// Écrit le reader qui décode le flux binaire de la commande `COPY` de PostgreSQL, colonne par colonne, directement dans l'entité source.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteCopyReader(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        var sourceClass = dataFlow.Sources.First().Class;
+        var readerName = $"{sourceClass.NamePascal}CopyReader";
+        var entity = sourceClass.NameCamel;
+        var propertyGenerator = Config.UseJdbc ? new JdbcModelPropertyGenerator(Config, Classes, []) : new JpaModelPropertyGenerator(Config, Classes, []);
+        fw.AddImports([
+            "java.io.BufferedInputStream",
+            "java.io.DataInputStream",
+            "java.io.IOException",
+            "java.nio.charset.StandardCharsets",
+            "java.sql.Connection",
+            "java.util.Arrays",
+            "org.postgresql.PGConnection",
+            "org.postgresql.copy.PGCopyInputStream",
+            "org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader",
+            sourceClass.GetImport(Config, Config.GetBestClassTag(sourceClass, tag))
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Reader de '{sourceClass.NamePascal}', qui décode le flux binaire de la commande COPY de PostgreSQL");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, @$"private static class {readerName} extends AbstractItemCountingItemStreamItemReader<{sourceClass.NamePascal}> {{");
+        fw.WriteLine();
+        fw.WriteLine(2, @"private static final byte[] SIGNATURE = ""PGCOPY\n\377\r\n\0"".getBytes(StandardCharsets.ISO_8859_1);");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final DataSource dataSource;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final String query;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private Connection connection;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private DataInputStream input;");
+        fw.WriteLine();
+        fw.WriteLine(2, @$"public {readerName}(String name, DataSource dataSource, String query) {{");
+        fw.WriteLine(3, "this.dataSource = dataSource;");
+        fw.WriteLine(3, "this.query = query;");
+        fw.WriteLine(3, "setName(name);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "protected void doOpen() throws Exception {");
+        fw.WriteLine(3, "connection = dataSource.getConnection();");
+        fw.WriteLine(3, "input = new DataInputStream(new BufferedInputStream(new PGCopyInputStream(connection.unwrap(PGConnection.class), query), 65536));");
+        fw.WriteLine(3, "if (!Arrays.equals(input.readNBytes(SIGNATURE.length), SIGNATURE)) {");
+        fw.WriteLine(4, @"throw new IllegalStateException(""Le flux lu n'est pas au format binaire de la commande COPY"");");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "// Flags, puis extension de l'en-tête");
+        fw.WriteLine(3, "input.readInt();");
+        fw.WriteLine(3, "input.readNBytes(input.readInt());");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, @$"protected {sourceClass.NamePascal} doRead() throws Exception {{");
+        fw.WriteLine(3, "// Nombre de colonnes de la ligne, ou -1 à la fin du flux");
+        fw.WriteLine(3, "if (input.readShort() == -1) {");
+        fw.WriteLine(4, "return null;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, $"{sourceClass.NamePascal} {entity} = new {sourceClass.NamePascal}();");
+
+        var methods = new HashSet<string>();
+        foreach (var property in Config.GetColumnProperties(sourceClass, Classes))
+        {
+            var setter = $"{entity}.{propertyGenerator.GetSetterName(property)}";
+            var type = Config.GetType(property, Classes);
+            fw.AddImports(property.GetTypeImports(Config, tag));
+
+            if (Config.IsReferenceColumn(property, Classes))
+            {
+                // La clé étrangère est lue dans une référence qui ne porte que l'identifiant de l'entité associée, sans la charger.
+                var reference = (property as AssociationProperty ?? (AssociationProperty)((AliasProperty)property).Property).Association;
+                var variable = propertyGenerator.GetPropertyName(property);
+                var method = GetCopyReadMethod(type);
+                methods.Add(method);
+                fw.AddImport(reference.GetImport(Config, Config.GetBestClassTag(reference, tag)));
+                fw.WriteLine(3, $"{CopyReadMethods[method].ReturnType} {variable}Id = {method}(input);");
+                fw.WriteLine(3, $"if ({variable}Id != null) {{");
+                fw.WriteLine(4, $"{reference.NamePascal} {variable} = new {reference.NamePascal}();");
+                fw.WriteLine(4, $"{variable}.{propertyGenerator.GetSetterName(reference.PrimaryKey.Single())}({variable}Id);");
+                fw.WriteLine(4, $"{setter}({variable});");
+                fw.WriteLine(3, "}");
+                continue;
+            }
+
+            if (!Config.IsEnumColumn(property, Classes))
+            {
+                methods.Add(GetCopyReadMethod(type));
+                fw.WriteLine(3, $"{setter}({GetCopyReadMethod(type)}(input));");
+                continue;
+            }
+
+            // Les codes des listes de référence sont lus comme des chaînes, puis convertis en enum (et en instance partagée pour les associations JPA).
+            var association = property as AssociationProperty ?? (property as AliasProperty)?.Property as AssociationProperty;
+            var code = $"{property.NameCamel}Code";
+            var value = $"{type}.valueOf({code})";
+            if (association != null && !Config.UseJdbc && !Config.EnumsAsEnums)
+            {
+                fw.AddImport($"{Config.GetEnumPackageName(association.Association, Config.GetBestClassTag(association.Association, tag))}.{type}");
+                value = $"{association.Association.NamePascal}.valueOf({value})";
+            }
+
+            methods.Add("readString");
+            fw.WriteLine(3, $"String {code} = readString(input);");
+            fw.WriteLine(3, $"{setter}({code} == null ? null : {value});");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(3, $"return {entity};");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "protected void doClose() throws Exception {");
+        fw.WriteLine(3, "// La fermeture du flux annule la commande COPY si elle n'a pas été lue jusqu'au bout");
+        fw.WriteLine(3, "if (input != null) {");
+        fw.WriteLine(4, "input.close();");
+        fw.WriteLine(4, "input = null;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "if (connection != null) {");
+        fw.WriteLine(4, "connection.close();");
+        fw.WriteLine(4, "connection = null;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine(2, "}");
+
+        foreach (var (method, (returnType, imports, _, lines)) in CopyReadMethods
+            .Where(m => methods.Contains(m.Key) || methods.Any(used => CopyReadMethods[used].Dependency == m.Key)))
+        {
+            fw.AddImports(imports);
+            fw.WriteLine();
+            fw.WriteLine(2, $"private static {returnType} {method}(DataInputStream input) throws IOException {{");
+            foreach (var line in lines)
+            {
+                if (line.Length == 0)
+                {
+                    fw.WriteLine();
+                }
+                else
+                {
+                    fw.WriteLine(3 + line.TakeWhile(c => c == '\t').Count(), line.TrimStart('\t'));
+                }
+            }
+
+            fw.WriteLine(2, "}");
+        }
+
+        fw.WriteLine(1, "}");
+    }
+
     protected void WriteBeanStep(JavaWriter fw, DataFlow dataFlow, string tag)
     {
         fw.AddImport("org.springframework.batch.core.step.builder.StepBuilder");
@@ -186,9 +693,12 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
         fw.AddImport(dataFlow.Sources.First().Class.GetImport(Config, tag));
         fw.AddImport(dataFlow.Class.GetImport(Config, tag));
 
+        // Si le flux est partitionné, ce step est exécuté pour chaque partition
+        var stepName = $"{dataFlow.Name.ToPascalCase()}{(IsPartitioned(dataFlow) ? "WorkerStep" : "Step")}";
+
         fw.WriteLine();
-        fw.WriteLine(1, @$"@Bean(""{dataFlow.Name.ToPascalCase()}Step"")");
-        fw.WriteLine(1, @$"public static Step {dataFlow.Name.ToCamelCase()}Step(");
+        fw.WriteLine(1, @$"@Bean(""{stepName}"")");
+        fw.WriteLine(1, @$"public static Step {stepName.ToCamelCase()}(");
         fw.WriteLine(1, @$"		JobRepository jobRepository, //");
         fw.WriteLine(1, @$"		PlatformTransactionManager transactionManager, //");
         foreach (var listener in Config.DataFlowsListeners)
@@ -209,12 +719,41 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
             fw.WriteLine(1, @$"		{dataFlow.Name.ToPascalCase()}PartialFlow {dataFlow.Name.ToCamelCase()}PartialFlow,");
         }
 
+        if (dataFlow.Type == DataFlowType.Incremental)
+        {
+            fw.AddImport("org.springframework.batch.core.explore.JobExplorer");
+            fw.WriteLine(1, @$"		JobExplorer jobExplorer, //");
+        }
+
+        if (Config.DataFlowsMetrics)
+        {
+            fw.AddImport("io.micrometer.core.instrument.MeterRegistry");
+            fw.WriteLine(1, @$"		MeterRegistry meterRegistry, //");
+        }
+
         fw.WriteLine(1, @$"		@Qualifier(""{dataFlow.Name.ToPascalCase()}Writer"") ItemWriter<{dataFlow.Class.NamePascal}> writer //");
 
         var processors = new List<string>();
         fw.WriteLine(1, ") {");
-        fw.WriteLine(2, @$"return new StepBuilder(""{dataFlow.Name.ToPascalCase()}Step"", jobRepository) //");
-        fw.WriteLine(3, @$".<{dataFlow.Sources.First().Class.NamePascal}, {dataFlow.Class.NamePascal}>chunk({Config.DataFlowsBulkSize}, transactionManager) //");
+        if (dataFlow.Type == DataFlowType.Incremental)
+        {
+            fw.WriteLine(2, $"{dataFlow.Sources.First().Class.NamePascal}WatermarkListener watermarkListener = new {dataFlow.Sources.First().Class.NamePascal}WatermarkListener(jobExplorer);");
+        }
+
+        var chunkSize = dataFlow.ChunkSize ?? Config.DataFlowsBulkSize;
+        if (dataFlow.AdaptiveChunkSize)
+        {
+            // Le mapping du writer (sans schéma) sert à mesurer la largeur des lignes écrites
+            fw.WriteLine(2, $"AdaptiveChunkPolicy chunkPolicy = new AdaptiveChunkPolicy({chunkSize}, {Config.DataFlowsChunkWriteTime}, {Config.DataFlowsChunkMemory}, new {dataFlow.Class.NamePascal}Mapping(null));");
+        }
+
+        if (Config.DataFlowsMetrics)
+        {
+            fw.WriteLine(2, "MetricsListener metricsListener = new MetricsListener(meterRegistry);");
+        }
+
+        fw.WriteLine(2, @$"return new StepBuilder(""{stepName}"", jobRepository) //");
+        fw.WriteLine(3, @$".<{dataFlow.Sources.First().Class.NamePascal}, {dataFlow.Class.NamePascal}>chunk({(dataFlow.AdaptiveChunkSize ? "chunkPolicy" : chunkSize.ToString())}, transactionManager) //");
         foreach (var source in dataFlow.Sources)
         {
             if (source.Mode == DataFlowSourceMode.QueryAll)
@@ -266,9 +805,43 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
             fw.WriteLine(3, $".listener({listener.ToCamelCase()}) //");
         }
 
+        if (dataFlow.Type == DataFlowType.Incremental)
+        {
+            // Le listener est enregistré pour chacune des interfaces qu'il implémente
+            fw.WriteLine(3, ".listener((StepExecutionListener) watermarkListener) //");
+            fw.WriteLine(3, $".listener((ItemReadListener<{dataFlow.Sources.First().Class.NamePascal}>) watermarkListener) //");
+            fw.WriteLine(3, ".listener((ChunkListener) watermarkListener) //");
+        }
+
+        if (dataFlow.AdaptiveChunkSize)
+        {
+            // La politique observe les écritures et publie la taille choisie à la fin de chaque chunk
+            fw.WriteLine(3, ".listener((ChunkListener) chunkPolicy) //");
+            fw.WriteLine(3, $".listener((ItemWriteListener<{dataFlow.Class.NamePascal}>) chunkPolicy) //");
+        }
+
+        if (Config.DataFlowsMetrics)
+        {
+            fw.WriteLine(3, $".listener((ItemReadListener<{dataFlow.Sources.First().Class.NamePascal}>) metricsListener) //");
+            fw.WriteLine(3, $".listener((ItemProcessListener<{dataFlow.Sources.First().Class.NamePascal}, {dataFlow.Class.NamePascal}>) metricsListener) //");
+            fw.WriteLine(3, $".listener((ItemWriteListener<{dataFlow.Class.NamePascal}>) metricsListener) //");
+        }
+
         fw.WriteLine(3, ".faultTolerant() //");
         fw.AddImport("org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy");
         fw.WriteLine(3, ".skipPolicy(new AlwaysSkipItemSkipPolicy()) //");
+        if (Config.DataFlowsMetrics)
+        {
+            // Les éléments ignorés par la politique de skip sont comptés
+            fw.WriteLine(3, $".listener((SkipListener<{dataFlow.Sources.First().Class.NamePascal}, {dataFlow.Class.NamePascal}>) metricsListener) //");
+        }
+
+        if (dataFlow.Type == DataFlowType.Incremental)
+        {
+            // Les éléments ignorés sont relus par l'exécution suivante
+            fw.WriteLine(3, $".listener((SkipListener<{dataFlow.Sources.First().Class.NamePascal}, {dataFlow.Class.NamePascal}>) watermarkListener) //");
+        }
+
         fw.WriteLine(3, ".writer(writer) //");
         fw.WriteLine(3, ".build();");
         fw.WriteLine(1, "}");
@@ -294,7 +867,7 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
             tag,
             module: dataFlow.ModelFile.Namespace.Module).ToPackageName();
 
-        using var fw = this.OpenJavaWriter(fileName, packageName);
+        using var fw = this.OpenJavaWriter(fileName, packageName, null);
         fw.AddImport("org.springframework.context.annotation.Configuration");
         fw.WriteLine();
         fw.WriteLine("@Configuration");
@@ -313,6 +886,12 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
         WriteBeanFlow(fw, dataFlow);
         WriteBeanStep(fw, dataFlow, tag);
 
+        if (IsPartitioned(dataFlow))
+        {
+            WriteBeanPartitionStep(fw, dataFlow);
+            WriteBeanPartitioner(fw, dataFlow, tag);
+        }
+
         if (dataFlow.Type == DataFlowType.Replace || dataFlow.Type == DataFlowType.HardReplace)
         {
             WriteBeanTruncateStep(fw, dataFlow);
@@ -323,6 +902,21 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
             WriteBeanReader(fw, dataFlow, tag);
         }
 
+        if (dataFlow.AdaptiveChunkSize)
+        {
+            WriteAdaptiveChunkPolicy(fw, dataFlow, tag);
+        }
+
+        if (Config.DataFlowsMetrics)
+        {
+            WriteMetricsListener(fw, dataFlow, tag);
+        }
+
+        if (dataFlow.Type == DataFlowType.Incremental)
+        {
+            WriteWatermarkListener(fw, dataFlow, tag);
+        }
+
         WriteBeanWriter(fw, dataFlow, tag);
         fw.WriteLine("}");
     }
@@ -333,7 +927,7 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
         var packageName = Config.ResolveVariables(
             Config.DataFlowsPath!,
             module: module).ToPackageName();
-        using var fw = this.OpenJavaWriter(configFilePath, packageName);
+        using var fw = this.OpenJavaWriter(configFilePath, packageName, null);
         fw.AddImports([
             "org.springframework.context.annotation.Configuration",
             "org.springframework.context.annotation.Bean",
@@ -356,13 +950,13 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
 
         fw.WriteLine(@$"@Import({{{string.Join(", ", flows.Select(f => $@"{f.Name.ToPascalCase()}Flow.class"))}}})");
 
-        var className = configFilePath.Split("\\").Last().Split('.').First();
+        var className = Path.GetFileNameWithoutExtension(configFilePath);
         fw.WriteClassDeclaration($"{className}", null);
         fw.WriteLine(1, @$"@Bean(""{module.ToPascalCase()}Job"")");
         fw.WriteLine(1, @$"public Job {module.ToCamelCase()}Job( //");
         fw.WriteLine(1, @$"			JobRepository jobRepository, //");
         fw.WriteLine(1, @$"			TaskExecutor taskExecutor, //");
-        fw.WriteLine("			" + string.Join(", //\n			", flows.Select(f => $@"@Qualifier(""{f.Name}Flow"") Flow {f.Name.ToCamelCase()}Flow")));
+        fw.WriteLine("			" + string.Join(", //\n			", flows.Select(f => $@"@Qualifier(""{f.Name.ToPascalCase()}Flow"") Flow {f.Name.ToCamelCase()}Flow")));
         fw.WriteLine(1, ") {");
         fw.WriteLine(2, $@"return new JobBuilder(""{module.ToPascalCase()}Job"", jobRepository) //");
         fw.WriteLine(2, $@"		.incrementer(new RunIdIncrementer()) //");
@@ -448,10 +1042,395 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
         }
     }
 
+    /// <summary>
+    /// Écrit la politique de taille des chunks adaptative : la taille est ajustée après chaque écriture selon le débit observé, pour que l'écriture d'un chunk dure environ `dataFlowsChunkWriteTime`, sans dépasser la taille maximale.
+    /// La taille est aussi limitée pour que les lignes d'un chunk n'occupent pas plus de `dataFlowsChunkMemory` Mo, d'après la largeur des lignes écrites (encodées par le mapping du writer).
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteAdaptiveChunkPolicy(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        var target = dataFlow.Class.NamePascal;
+        fw.AddImports([
+            "java.io.OutputStream",
+            "java.util.List",
+            "java.util.concurrent.TimeUnit",
+            "de.bytefish.pgbulkinsert.mapping.AbstractMapping",
+            "de.bytefish.pgbulkinsert.model.ColumnDefinition",
+            "de.bytefish.pgbulkinsert.pgsql.PgBinaryWriter",
+            "org.springframework.batch.core.ChunkListener",
+            "org.springframework.batch.core.ItemWriteListener",
+            "org.springframework.batch.core.scope.context.ChunkContext",
+            "org.springframework.batch.item.Chunk",
+            "org.springframework.batch.repeat.policy.SimpleCompletionPolicy",
+            dataFlow.Class.GetImport(Config, Config.GetBestClassTag(dataFlow.Class, tag))
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Politique de taille des chunks du flux, ajustée après chaque écriture selon le débit observé et la largeur des lignes écrites");
+        fw.WriteLine(1, " * La taille commence au dixième de la taille maximale. La taille choisie est conservée dans le contexte d'exécution du step ('chunkSize').");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $"private static class AdaptiveChunkPolicy extends SimpleCompletionPolicy implements ChunkListener, ItemWriteListener<{target}> {{");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Nombre maximal d'éléments de chaque chunk encodés pour mesurer la largeur des lignes");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, "private static final int WIDTH_SAMPLE_SIZE = 100;");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Taille de l'en-tête (19 octets) et de la fin (2 octets) du flux binaire de la commande COPY, qui ne font pas partie des lignes");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, "private static final int COPY_ENVELOPE_SIZE = 21;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final int maxChunkSize;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final long targetNanos;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final long maxChunkBytes;");
+        fw.WriteLine();
+        fw.WriteLine(2, $"private final AbstractMapping<{target}> mapping;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Les partitions d'un flux partitionné partagent la politique");
+        fw.WriteLine(2, "private final ThreadLocal<Long> writeStart = new ThreadLocal<>();");
+        fw.WriteLine();
+        fw.WriteLine(2, $"public AdaptiveChunkPolicy(int maxChunkSize, long targetMillis, long maxChunkMegabytes, AbstractMapping<{target}> mapping) {{");
+        fw.WriteLine(3, "super(Math.max(1, maxChunkSize / 10));");
+        fw.WriteLine(3, "this.maxChunkSize = maxChunkSize;");
+        fw.WriteLine(3, "this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);");
+        fw.WriteLine(3, "this.maxChunkBytes = maxChunkMegabytes * 1024 * 1024;");
+        fw.WriteLine(3, "this.mapping = mapping;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void beforeWrite(Chunk<? extends {target}> items) {{");
+        fw.WriteLine(3, "writeStart.set(System.nanoTime());");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void afterWrite(Chunk<? extends {target}> items) {{");
+        fw.WriteLine(3, "if (items.isEmpty() || writeStart.get() == null) {");
+        fw.WriteLine(4, "return;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "long elapsed = Math.max(1, System.nanoTime() - writeStart.get());");
+        fw.WriteLine(3, "// Taille proportionnelle au débit observé, sans plus que doubler ou diviser par deux d'un chunk à l'autre");
+        fw.WriteLine(3, "long size = items.size() * targetNanos / elapsed;");
+        fw.WriteLine(3, "size = Math.max(getChunkSize() / 2, Math.min(size, getChunkSize() * 2L));");
+        fw.WriteLine(3, "// Sans dépasser la mémoire allouée aux lignes d'un chunk");
+        fw.WriteLine(3, "size = Math.min(size, maxChunkBytes / rowWidth(items));");
+        fw.WriteLine(3, "setChunkSize((int) Math.max(1, Math.min(size, maxChunkSize)));");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void afterChunk(ChunkContext context) {");
+        fw.WriteLine(3, @"context.getStepContext().getStepExecution().getExecutionContext().putInt(""chunkSize"", getChunkSize());");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Largeur moyenne (en octets) des lignes du chunk, mesurée en encodant un échantillon de ses éléments au format binaire de la commande COPY, avec le mapping du writer");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, $"private long rowWidth(Chunk<? extends {target}> items) {{");
+        fw.WriteLine(3, "long[] bytes = new long[1];");
+        fw.WriteLine(3, "OutputStream counter = new OutputStream() {");
+        fw.WriteLine(4, "@Override");
+        fw.WriteLine(4, "public void write(int b) {");
+        fw.WriteLine(5, "bytes[0]++;");
+        fw.WriteLine(4, "}");
+        fw.WriteLine();
+        fw.WriteLine(4, "@Override");
+        fw.WriteLine(4, "public void write(byte[] b, int off, int len) {");
+        fw.WriteLine(5, "bytes[0] += len;");
+        fw.WriteLine(4, "}");
+        fw.WriteLine(3, "};");
+        fw.WriteLine();
+        fw.WriteLine(3, $"List<? extends {target}> sample = items.getItems();");
+        fw.WriteLine(3, "int count = Math.min(sample.size(), WIDTH_SAMPLE_SIZE);");
+        fw.WriteLine(3, "try (PgBinaryWriter writer = new PgBinaryWriter(counter)) {");
+        fw.WriteLine(4, "for (int i = 0; i < count; i++) {");
+        fw.WriteLine(5, "// Éléments répartis sur tout le chunk");
+        fw.WriteLine(5, $"{target} item = sample.get(i * sample.size() / count);");
+        fw.WriteLine(5, "writer.startRow(mapping.getColumns().size());");
+        fw.WriteLine(5, $"for (ColumnDefinition<{target}> column : mapping.getColumns()) {{");
+        fw.WriteLine(6, "column.getWrite().accept(writer, item);");
+        fw.WriteLine(5, "}");
+        fw.WriteLine(4, "}");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "return Math.max(1, (bytes[0] - COPY_ENVELOPE_SIZE) / count);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine(1, "}");
+    }
+
+    /// <summary>
+    /// Écrit le listener qui publie les métriques Micrometer du flux, avec les tags `flow` et `module`.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteMetricsListener(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        var source = dataFlow.Sources.First().Class.NamePascal;
+        var target = dataFlow.Class.NamePascal;
+        fw.AddImports([
+            "java.util.concurrent.TimeUnit",
+            "io.micrometer.core.instrument.Counter",
+            "io.micrometer.core.instrument.MeterRegistry",
+            "io.micrometer.core.instrument.Tags",
+            "io.micrometer.core.instrument.Timer",
+            "org.springframework.batch.core.ItemProcessListener",
+            "org.springframework.batch.core.ItemReadListener",
+            "org.springframework.batch.core.ItemWriteListener",
+            "org.springframework.batch.core.SkipListener",
+            "org.springframework.batch.item.Chunk",
+            dataFlow.Sources.First().Class.GetImport(Config, Config.GetBestClassTag(dataFlow.Sources.First().Class, tag)),
+            dataFlow.Class.GetImport(Config, Config.GetBestClassTag(dataFlow.Class, tag))
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Listener qui publie les métriques Micrometer du flux : durées de lecture, de transformation et d'écriture, éléments lus, écrits et ignorés");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $"private static class MetricsListener implements ItemReadListener<{source}>, ItemProcessListener<{source}, {target}>, ItemWriteListener<{target}>, SkipListener<{source}, {target}> {{");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Timer readTimer;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Timer processTimer;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Timer writeTimer;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Counter readItems;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Counter writtenItems;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Counter readSkips;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Counter processSkips;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final Counter writeSkips;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Début de la lecture, de la transformation et de l'écriture en cours (les partitions d'un flux partitionné partagent le listener)");
+        fw.WriteLine(2, "private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[3]);");
+        fw.WriteLine();
+        fw.WriteLine(2, "public MetricsListener(MeterRegistry registry) {");
+        fw.WriteLine(3, @$"Tags tags = Tags.of(""flow"", ""{dataFlow.Name.ToPascalCase()}"", ""module"", ""{dataFlow.ModelFile.Namespace.Module}"");");
+        fw.WriteLine(3, @"readTimer = Timer.builder(""dataflow.read"").description(""Durée de lecture d'un élément"").tags(tags).register(registry);");
+        fw.WriteLine(3, @"processTimer = Timer.builder(""dataflow.process"").description(""Durée de transformation d'un élément"").tags(tags).register(registry);");
+        fw.WriteLine(3, @"writeTimer = Timer.builder(""dataflow.write"").description(""Durée d'écriture d'un chunk"").tags(tags).register(registry);");
+        fw.WriteLine(3, @"readItems = Counter.builder(""dataflow.items.read"").description(""Éléments lus"").tags(tags).register(registry);");
+        fw.WriteLine(3, @"writtenItems = Counter.builder(""dataflow.items.written"").description(""Éléments écrits"").tags(tags).register(registry);");
+        fw.WriteLine(3, @"readSkips = Counter.builder(""dataflow.skips"").description(""Éléments ignorés"").tags(tags).tag(""phase"", ""read"").register(registry);");
+        fw.WriteLine(3, @"processSkips = Counter.builder(""dataflow.skips"").description(""Éléments ignorés"").tags(tags).tag(""phase"", ""process"").register(registry);");
+        fw.WriteLine(3, @"writeSkips = Counter.builder(""dataflow.skips"").description(""Éléments ignorés"").tags(tags).tag(""phase"", ""write"").register(registry);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void beforeRead() {");
+        fw.WriteLine(3, "starts.get()[0] = System.nanoTime();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void afterRead({source} item) {{");
+        fw.WriteLine(3, "readTimer.record(System.nanoTime() - starts.get()[0], TimeUnit.NANOSECONDS);");
+        fw.WriteLine(3, "readItems.increment();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void beforeProcess({source} item) {{");
+        fw.WriteLine(3, "starts.get()[1] = System.nanoTime();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void afterProcess({source} item, {target} result) {{");
+        fw.WriteLine(3, "processTimer.record(System.nanoTime() - starts.get()[1], TimeUnit.NANOSECONDS);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void beforeWrite(Chunk<? extends {target}> items) {{");
+        fw.WriteLine(3, "starts.get()[2] = System.nanoTime();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void afterWrite(Chunk<? extends {target}> items) {{");
+        fw.WriteLine(3, "writeTimer.record(System.nanoTime() - starts.get()[2], TimeUnit.NANOSECONDS);");
+        fw.WriteLine(3, "writtenItems.increment(items.size());");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void onSkipInRead(Throwable t) {");
+        fw.WriteLine(3, "readSkips.increment();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void onSkipInProcess({source} item, Throwable t) {{");
+        fw.WriteLine(3, "processSkips.increment();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void onSkipInWrite({target} item, Throwable t) {{");
+        fw.WriteLine(3, "writeSkips.increment();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine(1, "}");
+    }
+
+    /// <summary>
+    /// Écrit le listener d'un flux incrémental, qui conserve dans le contexte d'exécution du step la plus grande valeur de la propriété de suivi écrite.
+    /// </summary>
+    /// <param name="fw">Writer.</param>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteWatermarkListener(JavaWriter fw, DataFlow dataFlow, string tag)
+    {
+        var sourceClass = dataFlow.Sources.First().Class;
+        var source = sourceClass.NamePascal;
+        var target = dataFlow.Class.NamePascal;
+        var type = GetWatermarkType(dataFlow);
+        var propertyGenerator = Config.UseJdbc ? new JdbcModelPropertyGenerator(Config, Classes, []) : new JpaModelPropertyGenerator(Config, Classes, []);
+        fw.AddImports([
+            "org.springframework.batch.core.BatchStatus",
+            "org.springframework.batch.core.ChunkListener",
+            "org.springframework.batch.core.ExitStatus",
+            "org.springframework.batch.core.ItemReadListener",
+            "org.springframework.batch.core.JobExecution",
+            "org.springframework.batch.core.JobInstance",
+            "org.springframework.batch.core.SkipListener",
+            "org.springframework.batch.core.StepExecution",
+            "org.springframework.batch.core.StepExecutionListener",
+            "org.springframework.batch.core.explore.JobExplorer",
+            "org.springframework.batch.core.scope.context.ChunkContext",
+            "org.springframework.batch.item.ExecutionContext",
+            sourceClass.GetImport(Config, Config.GetBestClassTag(sourceClass, tag)),
+            dataFlow.Class.GetImport(Config, Config.GetBestClassTag(dataFlow.Class, tag))
+        ]);
+        fw.AddImports(dataFlow.WatermarkProperty!.GetTypeImports(Config, tag));
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Listener du flux incrémental, qui conserve dans le contexte d'exécution du step la plus grande valeur de '{dataFlow.WatermarkProperty.NameCamel}' écrite");
+        fw.WriteLine(1, " * Le reader ne lit que les lignes dont la valeur est supérieure ou égale à celle de la dernière exécution terminée.");
+        fw.WriteLine(1, " * La valeur n'avance qu'à la fin de chaque chunk écrit. Si des éléments sont ignorés par la politique de skip, la valeur conservée est celle de l'élément ignoré (ou du début de son chunk), pour qu'il soit relu par l'exécution suivante.");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, @$"private static class {source}WatermarkListener implements StepExecutionListener, ItemReadListener<{source}>, ChunkListener, SkipListener<{source}, {target}> {{");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Nombre maximal d'instances du job parcourues pour trouver la dernière exécution terminée du step");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, "private static final int MAX_JOB_INSTANCES = 100;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final JobExplorer jobExplorer;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Plus grande valeur des chunks écrits");
+        fw.WriteLine(2, $"private {type} watermark;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Plus grande valeur lue, conservée à la fin du chunk en cours");
+        fw.WriteLine(2, $"private {type} readWatermark;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Valeur de début du chunk en cours");
+        fw.WriteLine(2, $"private {type} chunkWatermark;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Plus petite valeur à relire, si des éléments ont été ignorés");
+        fw.WriteLine(2, $"private {type} skipWatermark;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private boolean skipped;");
+        fw.WriteLine();
+        fw.WriteLine(2, @$"public {source}WatermarkListener(JobExplorer jobExplorer) {{");
+        fw.WriteLine(3, "this.jobExplorer = jobExplorer;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void beforeStep(StepExecution stepExecution) {");
+        fw.WriteLine(3, "ExecutionContext context = stepExecution.getExecutionContext();");
+        fw.WriteLine(3, "// En cas de reprise, le contexte contient déjà la valeur utilisée par l'exécution interrompue");
+        fw.WriteLine(3, @"if (!context.containsKey(""watermark"")) {");
+        fw.WriteLine(4, $"{type} previous = findLastWatermark(stepExecution);");
+        fw.WriteLine(4, "if (previous != null) {");
+        fw.WriteLine(5, @"context.put(""watermark"", previous);");
+        fw.WriteLine(4, "}");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, @$"watermark = ({type}) context.get(""watermark"");");
+        fw.WriteLine(3, "readWatermark = watermark;");
+        fw.WriteLine(3, "skipWatermark = null;");
+        fw.WriteLine(3, "skipped = false;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void beforeChunk(ChunkContext context) {");
+        fw.WriteLine(3, "chunkWatermark = watermark;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void afterRead({source} item) {{");
+        fw.WriteLine(3, $"{type} value = item.{propertyGenerator.GetGetterName(dataFlow.WatermarkProperty)}();");
+        fw.WriteLine(3, "if (value != null && (readWatermark == null || value.compareTo(readWatermark) > 0)) {");
+        fw.WriteLine(4, "readWatermark = value;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void afterChunk(ChunkContext context) {");
+        fw.WriteLine(3, "// Le chunk est écrit : les éléments lus (triés selon la valeur) n'ont plus à être relus");
+        fw.WriteLine(3, "// Après une erreur d'écriture, les éléments du chunk sont réécrits un par un, chacun dans sa transaction : la valeur n'avance qu'une fois tout le chunk traité");
+        fw.WriteLine(3, "if (context.isComplete()) {");
+        fw.WriteLine(4, "watermark = readWatermark;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public void onSkipInRead(Throwable t) {");
+        fw.WriteLine(3, "// La valeur de la ligne ignorée n'est pas connue : le chunk sera relu depuis son début");
+        fw.WriteLine(3, "skip(chunkWatermark);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void onSkipInProcess({source} item, Throwable t) {{");
+        fw.WriteLine(3, $"skip(item.{propertyGenerator.GetGetterName(dataFlow.WatermarkProperty)}());");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, $"public void onSkipInWrite({target} item, Throwable t) {{");
+        fw.WriteLine(3, "skip(chunkWatermark);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "@Override");
+        fw.WriteLine(2, "public ExitStatus afterStep(StepExecution stepExecution) {");
+        fw.WriteLine(3, $"{type} value = skipped ? skipWatermark : watermark;");
+        fw.WriteLine(3, "if (stepExecution.getStatus() == BatchStatus.COMPLETED && value != null) {");
+        fw.WriteLine(4, @"stepExecution.getExecutionContext().put(""watermark"", value);");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "return stepExecution.getExitStatus();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Abaisse la valeur conservée à celle d'un élément ignoré (null : toute la source sera relue)");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, $"private void skip({type} value) {{");
+        fw.WriteLine(3, "if (!skipped || (skipWatermark != null && (value == null || value.compareTo(skipWatermark) < 0))) {");
+        fw.WriteLine(4, "skipWatermark = value;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "skipped = true;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Recherche la valeur conservée par la dernière exécution terminée du step, parmi les instances du job les plus récentes");
+        fw.WriteLine(2, " * Si aucune n'est trouvée, toute la source est relue (le writer fait un upsert).");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, $"private {type} findLastWatermark(StepExecution stepExecution) {{");
+        fw.WriteLine(3, "String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();");
+        fw.WriteLine(3, "for (JobInstance instance : jobExplorer.getJobInstances(jobName, 0, MAX_JOB_INSTANCES)) {");
+        fw.WriteLine(4, "for (JobExecution jobExecution : jobExplorer.getJobExecutions(instance)) {");
+        fw.WriteLine(5, "for (StepExecution previous : jobExecution.getStepExecutions()) {");
+        fw.WriteLine(6, "if (previous.getStepName().equals(stepExecution.getStepName()) && previous.getStatus() == BatchStatus.COMPLETED");
+        fw.WriteLine(8, @"&& previous.getExecutionContext().containsKey(""watermark"")) {");
+        fw.WriteLine(7, @$"return ({type}) previous.getExecutionContext().get(""watermark"");");
+        fw.WriteLine(6, "}");
+        fw.WriteLine(5, "}");
+        fw.WriteLine(4, "}");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "return null;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine(1, "}");
+    }
+
     protected virtual void WriteWriterMapper(JavaWriter fw, DataFlow dataFlow, string tag)
     {
         fw.WriteLine();
-        if (dataFlow.Type != DataFlowType.Merge)
+        if (dataFlow.Type is not (DataFlowType.Merge or DataFlowType.Incremental))
         {
             fw.AddImport("de.bytefish.pgbulkinsert.mapping.AbstractMapping");
             fw.WriteLine(1, @$"private static class {dataFlow.Class.NamePascal}Mapping extends AbstractMapping<{dataFlow.Class.NamePascal}> {{");
@@ -471,7 +1450,7 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
             tagToUse = Config.Tags.Intersect(dataFlow.Class.ModelFile.Tags).First();
         }
 
-        if (dataFlow.Type != DataFlowType.Merge)
+        if (dataFlow.Type is not (DataFlowType.Merge or DataFlowType.Incremental))
         {
             fw.WriteLine(3, @$"super(schema, ""{dataFlow.Class.SqlName}"");");
         }
@@ -498,20 +1477,89 @@ public class SpringDataFlowGenerator(ILogger<SpringDataFlowGenerator> logger, IF
             mapper = null;
         }
 
+        var propertyGenerator = Config.UseJdbc ? new JdbcModelPropertyGenerator(Config, Classes, []) : new JpaModelPropertyGenerator(Config, Classes, []);
         foreach (var property in dataFlow.Class.ExtendedProperties
-            .Where(p => !(p is AssociationProperty ap && (ap.Type == AssociationType.OneToMany || ap.Type == AssociationType.OneToMany)))
+            .Where(p => p is not CompositionProperty && !(p is AssociationProperty ap && ap.Type.IsToMany()))
             .Where(p => mapper == null || mapper.ClassParams.SelectMany(pa => pa.Mappings).Select(mapping => mapping.Key).Contains(p)))
         {
             var sqlType = property.Domain.Implementations["sql"].Type ?? string.Empty;
-            string dataType = sqlType.ToUpper() switch
-            {
-                "VARCHAR" => "VarChar",
-                _ => sqlType.ToPascalCase()
-            };
-            fw.WriteLine(3, $@"map(""{property.SqlName}"", DataType.{dataType}, {dataFlow.Class.NamePascal}::{(Config.GetType(property) == "boolean" ? "is" : "get")}{property.NamePascal.ToFirstUpper()});");
+            fw.WriteLine(3, $@"map(""{property.SqlName}"", DataType.{GetBulkDataType(sqlType, Config.GetType(property))}, {GetWriterValue(propertyGenerator, dataFlow.Class, property)});");
         }
 
         fw.WriteLine(2, "}");
         fw.WriteLine(1, "}");
     }
+
+    // Constante de l'enum DataType de pgbulkinsert correspondant au type SQL de la colonne
+    // Pour les dates, pgbulkinsert convertit la valeur selon la constante : elle est choisie d'après le type Java de la propriété, le type SQL pouvant être moins précis (ex : "date" pour un LocalDateTime)
+    private static string GetBulkDataType(string sqlType, string javaType)
+    {
+        switch (javaType)
+        {
+            case "LocalDate":
+                return "Date";
+            case "LocalDateTime":
+                return "Timestamp";
+            case "ZonedDateTime":
+                return "TimestampTz";
+        }
+
+        return sqlType.Split('(').First().Trim().ToUpper() switch
+        {
+            "VARCHAR" or "CHARACTER VARYING" => "VarChar",
+            "INT" or "INTEGER" or "INT4" or "SERIAL" => "Int4",
+            "BIGINT" or "INT8" or "BIGSERIAL" => "Int8",
+            "SMALLINT" or "INT2" => "Int2",
+            "NUMERIC" or "DECIMAL" => "Numeric",
+            "REAL" or "FLOAT4" => "SinglePrecision",
+            "DOUBLE PRECISION" or "FLOAT8" => "DoublePrecision",
+            "TIMESTAMPTZ" or "TIMESTAMP WITH TIME ZONE" => "TimestampTz",
+            _ => sqlType.ToPascalCase()
+        };
+    }
+
+    private static string GetCopyReadMethod(string type)
+    {
+        return type switch
+        {
+            "int" => "readInteger",
+            "byte[]" => "readBytes",
+            "UUID" => "readUuid",
+            _ => $"read{type.ToFirstUpper()}"
+        };
+    }
+
+    // Valeur écrite dans la colonne : les clés étrangères sont lues dans l'entité associée, et les codes des listes de référence sont écrits comme des chaînes
+    private string GetWriterValue(JpaModelPropertyGenerator propertyGenerator, Class classe, IProperty property)
+    {
+        var getter = $"item.{propertyGenerator.GetGetterName(property)}()";
+        var association = property as AssociationProperty ?? (property as AliasProperty)?.Property as AssociationProperty;
+        if (Config.IsReferenceColumn(property, Classes))
+        {
+            return $"item -> {getter} == null ? null : {getter}.{propertyGenerator.GetGetterName(association!.Association.PrimaryKey.Single())}()";
+        }
+
+        if (Config.IsEnumColumn(property, Classes) && !Config.GetType(property, Classes).Contains('<'))
+        {
+            var code = association != null && !Config.UseJdbc && !Config.EnumsAsEnums ? $".{propertyGenerator.GetGetterName(association.Property)}()" : string.Empty;
+            return $"item -> {getter} == null ? null : {getter}{code}.name()";
+        }
+
+        return $"{classe.NamePascal}::{propertyGenerator.GetGetterName(property)}";
+    }
+
+    /// <summary>
+    /// Type Java de la propriété de suivi d'un flux incrémental (conservée dans le contexte d'exécution, donc jamais primitive).
+    /// </summary>
+    /// <param name="dataFlow">Flux de données.</param>
+    /// <returns>Le type de la propriété.</returns>
+    private string GetWatermarkType(DataFlow dataFlow)
+    {
+        return Config.GetType(dataFlow.WatermarkProperty!, Classes) switch
+        {
+            "int" => "Integer",
+            "long" => "Long",
+            var type => type
+        };
+    }
 }
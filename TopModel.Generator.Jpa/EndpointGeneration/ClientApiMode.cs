@@ -19,4 +19,9 @@ public static class ClientApiMode
     /// Gébération d'un client en mode template (abstract class à initialiser).
     /// </summary>
     public const string RestTemplate = nameof(RestTemplate);
+
+    /// <summary>
+    /// Génération d'un client réactif (interface Exchange retournant des `Mono` et des `Flux`).
+    /// </summary>
+    public const string WebClient = nameof(WebClient);
 }
\ No newline at end of file
@@ -1,4 +1,5 @@
 ﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
 using TopModel.Core.FileModel;
 using TopModel.Generator.Core;
 using TopModel.Utils;
@@ -42,4 +43,9 @@ public class FeignClientApiGenerator(ILogger<FeignClientApiGenerator> logger, IF
     {
         return $"{fileName.ToPascalCase()}Api";
     }
+
+    protected override bool HasStreamingVariant(Endpoint endpoint)
+    {
+        return false;
+    }
 }
@@ -21,7 +21,19 @@ public class SpringClientApiGenerator(ILogger<SpringClientApiGenerator> logger,
 
     protected override bool FilterTag(string tag)
     {
-        return Config.ResolveVariables(Config.ApiGeneration!, tag) == ApiGeneration.Client;
+        return Config.ResolveVariables(Config.ApiGeneration!, tag) == ApiGeneration.Client && Config.ResolveVariables(Config.ClientApiGeneration!, tag) == ClientApiMode.RestClient;
+    }
+
+    /// <summary>
+    /// Méthode de l'interface correspondant à un endpoint.
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <param name="returnType">Type de retour du endpoint.</param>
+    /// <param name="stream">Variante au fil de l'eau du endpoint.</param>
+    /// <returns>La méthode, sans annotations ni paramètres.</returns>
+    protected virtual JavaMethod GetEndpointMethod(Endpoint endpoint, string returnType, bool stream)
+    {
+        return new JavaMethod("org.springframework.http.ResponseEntity", @$"ResponseEntity<{returnType}>", endpoint.NameCamel);
     }
 
     protected override string GetFilePath(ModelFile file, string tag)
@@ -31,13 +43,13 @@ public class SpringClientApiGenerator(ILogger<SpringClientApiGenerator> logger,
 
     protected virtual IEnumerable<string> GetTypeImports(IEnumerable<Endpoint> endpoints, string tag)
     {
-        var properties = endpoints.SelectMany(endpoint => endpoint.Params)
-            .Concat(endpoints.Where(endpoint => endpoint.Returns is not null)
-            .Select(endpoint => endpoint.Returns));
+        var returns = endpoints.Where(endpoint => endpoint.Returns is not null && Config.GetKeysetCursor(endpoint) == null).Select(endpoint => endpoint.Returns);
+        var properties = endpoints.SelectMany(endpoint => endpoint.Params).Concat(returns);
         return properties.SelectMany(property => property!.GetTypeImports(Config, tag))
-                .Concat(endpoints.Where(endpoint => endpoint.Returns is not null)
-                .Select(e => e.Returns).OfType<CompositionProperty>()
-                .SelectMany(c => c.GetKindImports(Config, tag)));
+                .Concat(returns.OfType<CompositionProperty>()
+                .SelectMany(c => c.GetKindImports(Config, tag)))
+                .Concat(endpoints.Where(endpoint => Config.GetKeysetCursor(endpoint) != null)
+                .SelectMany(endpoint => Config.GetKeysetPageImports(endpoint, tag)));
     }
 
     protected override void HandleFile(string filePath, string fileName, string tag, IList<Endpoint> endpoints)
@@ -68,21 +80,42 @@ public class SpringClientApiGenerator(ILogger<SpringClientApiGenerator> logger,
         foreach (var endpoint in endpoints)
         {
             WriteEndpoint(fw, endpoint, tag);
+            if (HasStreamingVariant(endpoint))
+            {
+                WriteEndpoint(fw, endpoint, tag, true);
+            }
         }
 
         fw.WriteLine("}");
     }
 
-    protected virtual void WriteEndpoint(JavaWriter fw, Endpoint endpoint, string tag)
+    /// <summary>
+    /// Détermine si le client expose la variante au fil de l'eau d'un endpoint. Un client bloquant ne peut pas lire les éléments au fur et à mesure : seul le client réactif l'expose.
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <returns>Vrai si la variante doit être générée.</returns>
+    protected virtual bool HasStreamingVariant(Endpoint endpoint)
+    {
+        return false;
+    }
+
+    protected virtual void WriteEndpoint(JavaWriter fw, Endpoint endpoint, string tag, bool stream = false)
     {
         fw.WriteLine();
-        fw.WriteDocStart(1, endpoint.Description);
+        fw.WriteDocStart(1, stream ? $"{endpoint.Description}, au fil de l'eau" : endpoint.Description);
 
         foreach (var param in endpoint.Params)
         {
             fw.WriteLine(1, $" * @param {param.GetParamName()} {param.Comment}");
         }
 
+        var cursor = stream ? null : Config.GetKeysetCursor(endpoint);
+        if (cursor != null)
+        {
+            fw.WriteLine(1, $" * @param after Valeur de '{cursor.NameByClassCamel}' du dernier élément de la page précédente (première page si non renseigné)");
+            fw.WriteLine(1, " * @param limit Nombre maximum d'éléments à retourner");
+        }
+
         if (endpoint.Returns != null)
         {
             fw.WriteLine(1, $" * @return {endpoint.Returns.Comment}");
@@ -91,12 +124,16 @@ public class SpringClientApiGenerator(ILogger<SpringClientApiGenerator> logger,
         fw.WriteLine(1, " */");
         var returnType = "Void";
 
-        if (endpoint.Returns != null)
+        if (cursor != null)
+        {
+            returnType = Config.GetKeysetPageType(endpoint);
+        }
+        else if (endpoint.Returns != null)
         {
             returnType = Config.GetType(endpoint.Returns);
         }
 
-        var method = new JavaMethod("org.springframework.http.ResponseEntity", @$"ResponseEntity<{returnType}>", endpoint.NameCamel);
+        var method = GetEndpointMethod(endpoint, returnType, stream);
         {
             foreach (var annotation in Config.GetDecoratorAnnotations(endpoint, tag))
             {
@@ -105,8 +142,12 @@ public class SpringClientApiGenerator(ILogger<SpringClientApiGenerator> logger,
 
             var accept = string.Empty;
             var exchangeAnnotation = new JavaAnnotation($"{endpoint.Method.ToPascalCase(true)}Exchange", imports: $"org.springframework.web.service.annotation.{endpoint.Method.ToPascalCase(true)}Exchange")
-                .AddAttribute($@"""{endpoint.Route}""");
-            if (endpoint.Returns != null && endpoint.Returns.Domain?.MediaType != null)
+                .AddAttribute($@"""{(stream ? Config.GetStreamingRoute(endpoint) : endpoint.Route)}""");
+            if (stream)
+            {
+                exchangeAnnotation.AddAttribute("accept", $@"{{ ""{Config.GetStreamingMediaType()}"" }}");
+            }
+            else if (endpoint.Returns != null && endpoint.Returns.Domain?.MediaType != null)
             {
                 exchangeAnnotation.AddAttribute("accept", $@"{{ ""{endpoint.Returns.Domain.MediaType}"" }}");
             }
@@ -142,6 +183,20 @@ public class SpringClientApiGenerator(ILogger<SpringClientApiGenerator> logger,
             method.AddParameter(parameter);
         }
 
+        if (cursor != null)
+        {
+            var afterAnnotation = new JavaAnnotation("RequestParam", imports: "org.springframework.web.bind.annotation.RequestParam")
+                .AddAttribute(@"""after""")
+                .AddAttribute("required", "false");
+            method.AddParameter(new JavaMethodParameter(Config.GetType(cursor), "after").AddAnnotation(afterAnnotation));
+
+            var limitAnnotation = new JavaAnnotation("RequestParam", imports: "org.springframework.web.bind.annotation.RequestParam")
+                .AddAttribute(@"""limit""")
+                .AddAttribute("required", "false")
+                .AddAttribute("defaultValue", $@"""{Config.KeysetPageSize}""");
+            method.AddParameter(new JavaMethodParameter("Integer", "limit").AddAnnotation(limitAnnotation));
+        }
+
         if (endpoint.IsMultipart)
         {
             foreach (var param in endpoint.Params.Where(param => param is CompositionProperty || (param.Domain?.BodyParam ?? false) || (param.Domain?.IsMultipart ?? false)))
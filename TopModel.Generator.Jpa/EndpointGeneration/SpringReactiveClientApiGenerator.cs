@@ -0,0 +1,52 @@
+﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
+using TopModel.Generator.Core;
+
+namespace TopModel.Generator.Jpa.EndpointGeneration;
+
+/// <summary>
+/// Générateur des clients d'API réactifs (interfaces Exchange retournant des `Mono` et des `Flux`).
+/// </summary>
+public class SpringReactiveClientApiGenerator(ILogger<SpringReactiveClientApiGenerator> logger, IFileWriterProvider writerProvider)
+    : SpringClientApiGenerator(logger, writerProvider)
+{
+    public override string Name => "SpringApiReactiveClientGen";
+
+    protected override bool FilterTag(string tag)
+    {
+        return Config.ResolveVariables(Config.ApiGeneration!, tag) == ApiGeneration.Client && Config.ResolveVariables(Config.ClientApiGeneration!, tag) == ClientApiMode.WebClient;
+    }
+
+    protected override JavaMethod GetEndpointMethod(Endpoint endpoint, string returnType, bool stream)
+    {
+        if (stream || IsFluxEndpoint(endpoint))
+        {
+            return new JavaMethod("reactor.core.publisher.Flux", $"Flux<{((CompositionProperty)endpoint.Returns!).Composition.NamePascal}>", $"{endpoint.NameCamel}{(stream ? "Stream" : string.Empty)}");
+        }
+
+        return new JavaMethod("reactor.core.publisher.Mono", $"Mono<{returnType}>", endpoint.NameCamel);
+    }
+
+    protected override IEnumerable<string> GetTypeImports(IEnumerable<Endpoint> endpoints, string tag)
+    {
+        var fluxEndpoints = endpoints.Where(IsFluxEndpoint).ToList();
+        return base.GetTypeImports(endpoints.Except(fluxEndpoints), tag)
+            .Concat(fluxEndpoints.SelectMany(endpoint => endpoint.Params).SelectMany(param => param.GetTypeImports(Config, tag)))
+            .Concat(fluxEndpoints.Select(endpoint => ((CompositionProperty)endpoint.Returns!).Composition).Select(c => c.GetImport(Config, Config.GetBestClassTag(c, tag))));
+    }
+
+    protected override bool HasStreamingVariant(Endpoint endpoint)
+    {
+        return Config.IsStreamingEndpoint(endpoint);
+    }
+
+    /// <summary>
+    /// Détermine si un endpoint retourne un `Flux` des éléments de sa liste (au lieu d'un `Mono` de la liste).
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <returns>Vrai si l'endpoint retourne une liste non paginée.</returns>
+    private bool IsFluxEndpoint(Endpoint endpoint)
+    {
+        return endpoint.Returns is CompositionProperty { Domain: not null } && Config.GetKeysetCursor(endpoint) == null;
+    }
+}
@@ -21,7 +21,7 @@ public class SpringRestTemplateApiGenerator(ILogger<SpringRestTemplateApiGenerat
 
     protected override bool FilterTag(string tag)
     {
-        return Config.ResolveVariables(Config.ApiGeneration!, tag) == ApiGeneration.Client;
+        return Config.ResolveVariables(Config.ApiGeneration!, tag) == ApiGeneration.Client && Config.ResolveVariables(Config.ClientApiGeneration!, tag) == ClientApiMode.RestTemplate;
     }
 
     protected override string GetFilePath(ModelFile file, string tag)
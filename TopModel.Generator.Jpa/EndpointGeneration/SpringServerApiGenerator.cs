@@ -50,13 +50,13 @@ public class SpringServerApiGenerator(ILogger<SpringServerApiGenerator> logger,
 
     protected virtual IEnumerable<string> GetTypeImports(IEnumerable<Endpoint> endpoints, string tag)
     {
-        var properties = endpoints.SelectMany(endpoint => endpoint.Params)
-            .Concat(endpoints.Where(endpoint => endpoint.Returns is not null)
-            .Select(endpoint => endpoint.Returns));
+        var returns = endpoints.Where(endpoint => endpoint.Returns is not null && Config.GetKeysetCursor(endpoint) == null).Select(endpoint => endpoint.Returns);
+        var properties = endpoints.SelectMany(endpoint => endpoint.Params).Concat(returns);
         return properties.SelectMany(property => property!.GetTypeImports(Config, tag))
-                .Concat(endpoints.Where(endpoint => endpoint.Returns is not null)
-                .Select(e => e.Returns).OfType<CompositionProperty>()
-                .SelectMany(c => c.GetKindImports(Config, tag)));
+                .Concat(returns.OfType<CompositionProperty>()
+                .SelectMany(c => c.GetKindImports(Config, tag)))
+                .Concat(endpoints.Where(endpoint => Config.GetKeysetCursor(endpoint) != null)
+                .SelectMany(endpoint => Config.GetKeysetPageImports(endpoint, tag)));
     }
 
     protected override void HandleFile(string filePath, string fileName, string tag, IList<Endpoint> endpoints)
@@ -74,21 +74,42 @@ public class SpringServerApiGenerator(ILogger<SpringServerApiGenerator> logger,
         foreach (var endpoint in endpoints)
         {
             WriteEndpoint(fw, endpoint, tag);
+            if (HasStreamingVariant(endpoint))
+            {
+                WriteEndpoint(fw, endpoint, tag, true);
+            }
         }
 
         fw.WriteLine("}");
     }
 
-    protected virtual void WriteEndpoint(JavaWriter fw, Endpoint endpoint, string tag)
+    /// <summary>
+    /// Détermine si l'interface générée expose la variante au fil de l'eau d'un endpoint.
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <returns>Vrai si la variante doit être générée.</returns>
+    protected virtual bool HasStreamingVariant(Endpoint endpoint)
+    {
+        return Config.IsStreamingEndpoint(endpoint);
+    }
+
+    protected virtual void WriteEndpoint(JavaWriter fw, Endpoint endpoint, string tag, bool stream = false)
     {
         fw.WriteLine();
-        fw.WriteDocStart(1, endpoint.Description);
+        fw.WriteDocStart(1, stream ? $"{endpoint.Description}, au fil de l'eau" : endpoint.Description);
 
         foreach (var param in endpoint.Params)
         {
             fw.WriteLine(1, $" * @param {param.GetParamName()} {param.Comment}");
         }
 
+        var cursor = stream ? null : Config.GetKeysetCursor(endpoint);
+        if (cursor != null)
+        {
+            fw.WriteLine(1, $" * @param after Valeur de '{cursor.NameByClassCamel}' du dernier élément de la page précédente (première page si non renseigné)");
+            fw.WriteLine(1, " * @param limit Nombre maximum d'éléments à retourner");
+        }
+
         if (endpoint.Returns != null)
         {
             fw.WriteLine(1, $" * @return {endpoint.Returns.Comment}");
@@ -97,15 +118,28 @@ public class SpringServerApiGenerator(ILogger<SpringServerApiGenerator> logger,
         fw.WriteLine(1, " */");
         var returnType = "void";
 
-        if (endpoint.Returns != null)
+        if (stream)
+        {
+            returnType = Config.GetStreamingType(endpoint);
+            fw.AddImport(Config.GetStreamingImport());
+        }
+        else if (cursor != null)
+        {
+            returnType = Config.GetKeysetPageType(endpoint);
+        }
+        else if (endpoint.Returns != null)
         {
             returnType = Config.GetType(endpoint.Returns);
         }
 
         {
             var mappingAnnotation = new JavaAnnotation($@"@{endpoint.Method.ToPascalCase(true)}Mapping", imports: $"org.springframework.web.bind.annotation.{endpoint.Method.ToPascalCase(true)}Mapping")
-                .AddAttribute("path", $@"""{endpoint.Route}""");
-            if (endpoint.Returns != null && endpoint.Returns.Domain?.MediaType != null)
+                .AddAttribute("path", $@"""{(stream ? Config.GetStreamingRoute(endpoint) : endpoint.Route)}""");
+            if (stream)
+            {
+                mappingAnnotation.AddAttribute("produces", @$"""{Config.GetStreamingMediaType()}""");
+            }
+            else if (endpoint.Returns != null && endpoint.Returns.Domain?.MediaType != null)
             {
                 mappingAnnotation.AddAttribute("produces", @$"""{endpoint.Returns.Domain.MediaType}""");
             }
@@ -145,6 +179,13 @@ public class SpringServerApiGenerator(ILogger<SpringServerApiGenerator> logger,
             methodParams.Add($"{ann}{(decoratorAnnotations.Length > 0 ? $" {decoratorAnnotations}" : string.Empty)}{Config.GetType(param)} {param.GetParamName()}");
         }
 
+        if (cursor != null)
+        {
+            fw.AddImport("org.springframework.web.bind.annotation.RequestParam");
+            methodParams.Add(@$"@RequestParam(value = ""after"", required = false) {Config.GetType(cursor)} after");
+            methodParams.Add(@$"@RequestParam(value = ""limit"", required = false, defaultValue = ""{Config.KeysetPageSize}"") Integer limit");
+        }
+
         if (endpoint.IsMultipart)
         {
             foreach (var param in endpoint.Params.Where(param => param is CompositionProperty || (param.Domain?.BodyParam ?? false) || (param.Domain?.IsMultipart ?? false)))
@@ -177,6 +218,6 @@ public class SpringServerApiGenerator(ILogger<SpringServerApiGenerator> logger,
             }
         }
 
-        fw.WriteLine(1, $"{returnType} {endpoint.NameCamel}({string.Join(", ", methodParams)});");
+        fw.WriteLine(1, $"{returnType} {endpoint.NameCamel}{(stream ? "Stream" : string.Empty)}({string.Join(", ", methodParams)});");
     }
 }
@@ -24,6 +24,7 @@ public class GeneratorRegistration : IGeneratorRegistration<JpaConfig>
         TrimSlashes(config, c => c.EnumsValuesPath);
         TrimSlashes(config, c => c.ApiPath);
         TrimSlashes(config, c => c.ResourcesPath);
+        TrimSlashes(config, c => c.MessageSourcePath);
 
         config.Language ??= "java";
 
@@ -43,6 +44,11 @@ public class GeneratorRegistration : IGeneratorRegistration<JpaConfig>
                 services.AddGenerator<JpaEnumGenerator, JpaConfig>(config, number);
                 services.AddGenerator<JpaEnumEntityGenerator, JpaConfig>(config, number);
                 services.AddGenerator<JavaEnumDtoGenerator, JpaConfig>(config, number);
+
+                if (config.ReferenceDataCache)
+                {
+                    services.AddGenerator<JpaReferenceDataCacheGenerator, JpaConfig>(config, number);
+                }
             }
 
             services.AddGenerator<JpaEntityGenerator, JpaConfig>(config, number);
@@ -50,6 +56,16 @@ public class GeneratorRegistration : IGeneratorRegistration<JpaConfig>
 
         services.AddGenerator<JpaModelInterfaceGenerator, JpaConfig>(config, number);
         services.AddGenerator<JpaMapperGenerator, JpaConfig>(config, number);
+        if (config.RowMappers)
+        {
+            services.AddGenerator<JdbcRowMapperGenerator, JpaConfig>(config, number);
+        }
+
+        if (config.JacksonSerializers)
+        {
+            services.AddGenerator<JacksonSerializerGenerator, JpaConfig>(config, number);
+        }
+
         if (config.DaosPath != null)
         {
             services.AddGenerator<JpaDaoGenerator, JpaConfig>(config, number);
@@ -65,6 +81,16 @@ public class GeneratorRegistration : IGeneratorRegistration<JpaConfig>
             services.AddGenerator<JpaResourceGenerator, JpaConfig>(config, number);
         }
 
+        if (config.ResourcesCatalog)
+        {
+            services.AddGenerator<JpaResourceCatalogGenerator, JpaConfig>(config, number);
+        }
+
+        if (config.ResourcesTableName != null)
+        {
+            services.AddGenerator<JpaMessageSourceGenerator, JpaConfig>(config, number);
+        }
+
         if (config.ApiGeneration != null)
         {
             if (config.ApiGeneration != ApiGeneration.Client)
@@ -74,17 +100,28 @@ public class GeneratorRegistration : IGeneratorRegistration<JpaConfig>
 
             if (config.ApiGeneration != ApiGeneration.Server)
             {
-                switch (config.ClientApiGeneration)
+                // Si le mode de génération du client est une variable, tous les générateurs sont ajoutés et filtrent les tags selon sa valeur.
+                var clientApiModes = config.ClientApiGeneration != null && config.ClientApiGeneration.StartsWith('{')
+                    ? new[] { ClientApiMode.RestClient, ClientApiMode.RestTemplate, ClientApiMode.FeignClient, ClientApiMode.WebClient }
+                    : new[] { config.ClientApiGeneration! };
+
+                foreach (var clientApiMode in clientApiModes)
                 {
-                    case ClientApiMode.RestClient:
-                        services.AddGenerator<SpringClientApiGenerator, JpaConfig>(config, number);
-                        break;
-                    case ClientApiMode.RestTemplate:
-                        services.AddGenerator<SpringRestTemplateApiGenerator, JpaConfig>(config, number);
-                        break;
-                    case ClientApiMode.FeignClient:
-                        services.AddGenerator<FeignClientApiGenerator, JpaConfig>(config, number);
-                        break;
+                    switch (clientApiMode)
+                    {
+                        case ClientApiMode.RestClient:
+                            services.AddGenerator<SpringClientApiGenerator, JpaConfig>(config, number);
+                            break;
+                        case ClientApiMode.RestTemplate:
+                            services.AddGenerator<SpringRestTemplateApiGenerator, JpaConfig>(config, number);
+                            break;
+                        case ClientApiMode.FeignClient:
+                            services.AddGenerator<FeignClientApiGenerator, JpaConfig>(config, number);
+                            break;
+                        case ClientApiMode.WebClient:
+                            services.AddGenerator<SpringReactiveClientApiGenerator, JpaConfig>(config, number);
+                            break;
+                    }
                 }
             }
         }
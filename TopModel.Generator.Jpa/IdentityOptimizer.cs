@@ -0,0 +1,14 @@
+﻿namespace TopModel.Generator.Jpa;
+
+public enum IdentityOptimizer
+{
+    /// <summary>
+    /// Optimiseur "pooled" : la valeur de la séquence est la borne haute du bloc d'identifiants.
+    /// </summary>
+    Pooled,
+
+    /// <summary>
+    /// Optimiseur "pooled-lo" : la valeur de la séquence est la borne basse du bloc d'identifiants.
+    /// </summary>
+    PooledLo
+}
@@ -52,7 +52,12 @@ public static class ImportsJpaExtensions
     {
         foreach (var import in config.GetDomainImports(ap, config.GetBestClassTag(ap.Association, tag)))
         {
-            yield return import;
+            yield return import == "java.util.List" && config.IsSetAssociation(ap) ? "java.util.Set" : import;
+        }
+
+        if (config.IsUntypedCollection(ap))
+        {
+            yield return config.IsSetAssociation(ap) ? "java.util.Set" : "java.util.List";
         }
 
         if (config.EnumsAsEnums && config.CanClassUseEnums(ap.Association, prop: ap.Property))
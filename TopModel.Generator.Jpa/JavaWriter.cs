@@ -274,10 +274,21 @@ public class JavaWriter(IFileWriter writer, string packageName) : IDisposable
     /// <param name="paramName">Nom du paramètre.</param>
     /// <param name="value">Valeur du paramètre.</param>
     public void WriteParam(string paramName, string value)
+    {
+        WriteParam(1, paramName, value);
+    }
+
+    /// <summary>
+    /// Ecrit le commentaire de parametre avec le niveau indenté.
+    /// </summary>
+    /// <param name="indentationLevel">Niveau d'indentation.</param>
+    /// <param name="paramName">Nom du paramètre.</param>
+    /// <param name="value">Valeur du paramètre.</param>
+    public void WriteParam(int indentationLevel, string paramName, string value)
     {
         if (!string.IsNullOrEmpty(paramName) && !string.IsNullOrEmpty(value))
         {
-            WriteLine(1, LoadParam(paramName, value));
+            WriteLine(indentationLevel, LoadParam(paramName, value));
         }
     }
 
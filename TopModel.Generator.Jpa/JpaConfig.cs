@@ -59,6 +59,21 @@ public class JpaConfig : GeneratorConfigBase
     /// </summary>
     public ResourcesEncoding? ResourcesEncoding { get; set; } = Jpa.ResourcesEncoding.Latin1;
 
+    /// <summary>
+    /// Nom de la table contenant les traductions (`resourcesTableName` du générateur SQL). Si renseigné, génère un `MessageSource` Spring qui lit les traductions dans cette table.
+    /// </summary>
+    public string? ResourcesTableName { get; set; }
+
+    /// <summary>
+    /// Colonne de version (incrémentée à chaque modification) de la table des traductions, utilisée pour ne relire que les traductions modifiées.
+    /// </summary>
+    public string? ResourcesTableVersionColumn { get; set; }
+
+    /// <summary>
+    /// Localisation du `MessageSource` des traductions, relative au répertoire de génération. Par défaut, 'javagen:{app}/i18n'.
+    /// </summary>
+    public string MessageSourcePath { get; set; } = "javagen:{app}/i18n";
+
     /// <summary>
     /// Nom du schéma sur lequel les entités sont sauvegardées
     /// </summary>
@@ -106,6 +121,11 @@ public class JpaConfig : GeneratorConfigBase
     /// </summary>
     public string? FieldsEnumInterface { get; set; }
 
+    /// <summary>
+    /// Ajoute aux fields enum générés le getter, le setter et la colonne de chaque champ, pour y accéder sans réflexion.
+    /// </summary>
+    public bool FieldsEnumAccessors { get; set; }
+
     /// <summary>
     /// Précise le nom du package dans lequel générer les controllers.
     /// </summary>
@@ -114,7 +134,7 @@ public class JpaConfig : GeneratorConfigBase
     /// <summary>
     /// Mode de génération des séquences.
     /// </summary>
-    public IdentityConfig Identity { get; set; } = new() { Mode = IdentityMode.IDENTITY };
+    public JpaIdentityConfig Identity { get; set; } = new() { Mode = IdentityMode.IDENTITY };
 
     /// <summary>
     /// Location des flux de données générés.
@@ -136,21 +156,126 @@ public class JpaConfig : GeneratorConfigBase
     /// </summary>
     public string? DaosInterface { get; set; }
 
+    /// <summary>
+    /// Génère dans les DAOs des requêtes de projection (JPQL) pour les mappers `from` des classes non persistées.
+    /// </summary>
+    public bool DaosProjections { get; set; } = false;
+
+    /// <summary>
+    /// Génère des entity graphs pour les mappers `from` des classes persistées, et les méthodes des DAOs qui les utilisent.
+    /// </summary>
+    public bool EntityGraphs { get; set; } = false;
+
+    /// <summary>
+    /// Taille des lots de chargement des collections lazy (`@BatchSize`). Peut être surchargée par association avec la propriété personnalisée `batchFetch` (taille, `subselect` ou `none`).
+    /// </summary>
+    public int? BatchFetchSize { get; set; }
+
+    /// <summary>
+    /// Type des collections des associations manyToMany persistées : `Set` (égalité des entités sur leur clé naturelle). Par défaut, les associations sont des `List` sans index.
+    /// </summary>
+    public CollectionMode? ManyToManyCollections { get; set; }
+
+    /// <summary>
+    /// Génère dans les DAOs des classes qui ont une association manyToOne (avec une association réciproque) des requêtes de comptage et d'existence par association, et un comptage groupé pour une liste d'identifiants.
+    /// </summary>
+    public bool AssociationCounts { get; set; } = false;
+
+    /// <summary>
+    /// Génère, par module, un composant Spring qui charge au démarrage les listes de référence persistées (enums) dans des EnumMap.
+    /// </summary>
+    public bool ReferenceDataCache { get; set; } = false;
+
+    /// <summary>
+    /// Génère la pagination par clé (keyset) sur les endpoints GET qui retournent une liste, et les requêtes correspondantes dans les DAOs.
+    /// </summary>
+    public bool KeysetPagination { get; set; } = false;
+
+    /// <summary>
+    /// Nom complet de la classe générique (paramétrée par le type des éléments et celui du curseur) retournée par les endpoints paginés. Obligatoire si des endpoints sont paginés.
+    /// </summary>
+    public string? KeysetPageClass { get; set; }
+
+    /// <summary>
+    /// Nombre d'éléments retournés par défaut par les endpoints paginés (paramètre `limit`).
+    /// </summary>
+    public int KeysetPageSize { get; set; } = 50;
+
+    /// <summary>
+    /// Nombre maximum d'éléments retournés par les méthodes de pagination des DAOs : un paramètre `limit` supérieur est ramené à cette valeur.
+    /// </summary>
+    public int KeysetMaxPageSize { get; set; } = 1000;
+
+    /// <summary>
+    /// Génère, pour chaque endpoint GET qui retourne une liste, une variante qui retourne les éléments au fil de l'eau (`Flux` ou `Stream`), et les requêtes `streamAll` et `stream[Endpoint]` dans les DAOs.
+    /// </summary>
+    public StreamingMode? StreamingEndpoints { get; set; }
+
+    /// <summary>
+    /// Nombre de lignes lues à chaque aller-retour avec la base de données par les requêtes `stream[...]` des DAOs.
+    /// </summary>
+    public int StreamingFetchSize { get; set; } = 1000;
+
+    /// <summary>
+    /// Génère, pour chaque classe persistée, un `RowMapper` qui lit les colonnes par leur position, utilisé par les readers des dataflows et par les DAOs en mode JDBC.
+    /// </summary>
+    public bool RowMappers { get; set; } = false;
+
+    /// <summary>
+    /// Génère, pour chaque DTO, un serializer et un deserializer Jackson qui lisent et écrivent les propriétés sans introspection, et un module Jackson par module qui les enregistre.
+    /// </summary>
+    public bool JacksonSerializers { get; set; } = false;
+
+    /// <summary>
+    /// Génère les DTOs en lecture seule (sans mapper `to`, ni héritage) sous forme de records Java, alimentés par des mappers qui passent par leur constructeur.
+    /// </summary>
+    public bool RecordDtos { get; set; } = false;
+
+    /// <summary>
+    /// Utilise les types primitifs (`int`, `long`, `boolean`...) pour les propriétés obligatoires des classes persistées, hors clés primaires et associations.
+    /// </summary>
+    public bool PrimitiveTypes { get; set; } = false;
+
+    /// <summary>
+    /// Génère, par module, un catalogue Java des libellés (une classe par langue, chargée à la première utilisation), accessible par une enum de clés ou par le code des listes de référence.
+    /// </summary>
+    public bool ResourcesCatalog { get; set; } = false;
+
     /// <summary>
     /// Indique s'il faut ajouter les mappers en tant méthode ou constructeur dans les classes qui les déclarent.
     /// </summary>
     public bool MappersInClass { get; set; } = true;
 
     /// <summary>
-    /// Taille des chunks à extraire et insérer
+    /// Taille des chunks à extraire et insérer, pour les dataflows qui ne définissent pas de `fetchSize` ou de `chunkSize`
     /// </summary>
     public long DataFlowsBulkSize { get; set; } = 100000;
 
+    /// <summary>
+    /// Durée cible (en millisecondes) de l'écriture d'un chunk, pour les dataflows dont la taille des chunks est adaptative
+    /// </summary>
+    public long DataFlowsChunkWriteTime { get; set; } = 1000;
+
+    /// <summary>
+    /// Mémoire maximale (en Mo) occupée par les lignes d'un chunk, estimée d'après la largeur des lignes écrites, pour les dataflows dont la taille des chunks est adaptative
+    /// </summary>
+    public long DataFlowsChunkMemory { get; set; } = 64;
+
     /// <summary>
     /// Listeners à ajouter aux dataflows
     /// </summary>
     public List<string> DataFlowsListeners { get; set; } = [];
 
+    /// <summary>
+    /// Publie les métriques Micrometer de chaque dataflow (durées de lecture, transformation et écriture, éléments lus, écrits et ignorés)
+    /// </summary>
+    public bool DataFlowsMetrics { get; set; } = false;
+
+    /// <summary>
+    /// Sources des dataflows (bases PostgreSQL) lues avec `COPY ... TO STDOUT (FORMAT binary)` au lieu d'un curseur JDBC.
+    /// </summary>
+    public List<string> DataFlowsCopySources { get; set; } = [];
+
     public override string[] PropertiesWithLangVariableSupport =>
     [
         nameof(ResourcesPath)
@@ -165,7 +290,9 @@ public class JpaConfig : GeneratorConfigBase
         nameof(EnumsPath),
         nameof(EnumsValuesPath),
         nameof(ApiGeneration),
+        nameof(ClientApiGeneration),
         nameof(ResourcesPath),
+        nameof(MessageSourcePath),
         nameof(DbSchema)
     ];
 
@@ -334,6 +461,69 @@ public class JpaConfig : GeneratorConfigBase
         return $"{ns.ModuleFlat}{(modelPath == EntitiesPath ? string.Empty : "DTO")}Mappers".ToPascalCase();
     }
 
+    public string GetReferenceDataCacheFilePath(Class classe, string tag)
+    {
+        return Path.Combine(
+            OutputDirectory,
+            ResolveVariables(EntitiesPath, tag: tag, module: classe.Namespace.Module).ToFilePath(),
+            $"{GetReferenceDataCacheName(classe.Namespace)}.java");
+    }
+
+    public string GetReferenceDataCacheName(Namespace ns)
+    {
+        return $"{ns.ModuleFlat}ReferenceDataCache".ToPascalCase();
+    }
+
+    /// <summary>
+    /// Chemin du catalogue des libellés d'un module, ou de ses libellés dans une langue.
+    /// </summary>
+    /// <param name="module">Module racine.</param>
+    /// <param name="tag">Tag.</param>
+    /// <param name="lang">Langue (null pour la classe d'accès du catalogue).</param>
+    /// <returns>Chemin du fichier.</returns>
+    public string GetResourcesCatalogFilePath(string module, string tag, string? lang = null)
+    {
+        return Path.Combine(
+            OutputDirectory,
+            ResolveVariables(EnumsPath, tag: tag, module: module).ToFilePath(),
+            $"{GetResourcesCatalogName(module, lang)}.java");
+    }
+
+    /// <summary>
+    /// Nom du catalogue des libellés d'un module, ou de ses libellés dans une langue.
+    /// </summary>
+    /// <param name="module">Module racine.</param>
+    /// <param name="lang">Langue (null pour la classe d'accès du catalogue).</param>
+    /// <returns>Nom de la classe.</returns>
+    public string GetResourcesCatalogName(string module, string? lang = null)
+    {
+        var suffix = lang == null ? string.Empty : lang == string.Empty ? "Default" : lang.ToPascalCase();
+        return $"{module.ToPascalCase()}Labels{suffix}";
+    }
+
+    public string GetResourcesCatalogPackageName(string module, string tag)
+    {
+        return ResolveVariables(EnumsPath, tag, module: module).ToPackageName();
+    }
+
+    public string GetMessageSourceFilePath(string tag)
+    {
+        return Path.Combine(
+            OutputDirectory,
+            ResolveVariables(MessageSourcePath, tag: tag).ToFilePath(),
+            $"{GetMessageSourceName()}.java");
+    }
+
+    public string GetMessageSourceName()
+    {
+        return "DatabaseMessageSource";
+    }
+
+    public string GetMessageSourcePackageName(string tag)
+    {
+        return ResolveVariables(MessageSourcePath, tag).ToPackageName();
+    }
+
     public string GetPackageName(Endpoint endpoint, string tag)
     {
         return GetPackageName(endpoint.Namespace, ApiPath, tag);
@@ -352,6 +542,382 @@ public class JpaConfig : GeneratorConfigBase
         return ResolveVariables(modelPath, tag, module: ns.Module).ToPackageName();
     }
 
+    /// <summary>
+    /// Détermine si une propriété est générée avec un type primitif.
+    /// </summary>
+    /// <param name="property">Propriété.</param>
+    /// <returns>Vrai si la propriété est générée avec un type primitif.</returns>
+    public bool IsPrimitive(IProperty property)
+    {
+        return PrimitiveTypes
+            && property.Required && !property.PrimaryKey
+            && property.Class != null && property.Class.IsPersistent
+            && (property is AliasProperty alp ? alp.Property : property) is not (AssociationProperty or CompositionProperty)
+            && PrimitiveType(GetType(property)) != null;
+    }
+
+    /// <summary>
+    /// Retourne le type primitif d'une propriété si elle doit en avoir un, ou le type donné sinon.
+    /// </summary>
+    /// <param name="property">Propriété.</param>
+    /// <param name="type">Type Java de la propriété.</param>
+    /// <returns>Le type à utiliser.</returns>
+    public string GetPrimitiveType(IProperty property, string type)
+    {
+        return IsPrimitive(property) ? PrimitiveType(type) ?? type : type;
+    }
+
+    /// <summary>
+    /// Retourne le type de collection d'une association persistée "toMany" : une `List` si le domaine de l'association n'en définit pas (associations réciproques), puis un `Set` pour les manyToMany selon `manyToManyCollections`.
+    /// </summary>
+    /// <param name="property">Propriété.</param>
+    /// <param name="type">Type Java de la propriété.</param>
+    /// <returns>Le type à utiliser.</returns>
+    public string GetCollectionType(IProperty property, string type)
+    {
+        if (IsUntypedCollection(property))
+        {
+            type = $"List<{type}>";
+        }
+
+        return IsSetAssociation(property) && type.StartsWith("List<") ? $"Set{type[4..]}" : type;
+    }
+
+    /// <summary>
+    /// Retourne le collecteur des streams à affecter à une propriété de liste (`Collectors.toSet()` pour les associations générées en `Set`).
+    /// </summary>
+    /// <param name="property">Propriété cible.</param>
+    /// <returns>Le collecteur.</returns>
+    public string GetCollector(IProperty property)
+    {
+        return IsSetAssociation(property) ? "Collectors.toSet()" : "Collectors.toList()";
+    }
+
+    /// <summary>
+    /// Détermine si l'association est une manyToMany persistée générée sous forme de `Set`.
+    /// </summary>
+    /// <param name="property">Propriété.</param>
+    /// <returns>Vrai si l'association est un `Set`.</returns>
+    public bool IsSetAssociation(IProperty property)
+    {
+        return ManyToManyCollections == CollectionMode.Set && property is AssociationProperty { Type: AssociationType.ManyToMany } && IsPersistedToMany(property);
+    }
+
+    /// <summary>
+    /// Détermine si l'association est une association persistée "toMany" dont le domaine ne définit pas de type de liste (c'est le cas des associations réciproques, qui ont le domaine de la clé primaire de leur classe).
+    /// </summary>
+    /// <param name="property">Propriété.</param>
+    /// <returns>Vrai si le type de collection doit être ajouté au type de l'association.</returns>
+    public bool IsUntypedCollection(IProperty property)
+    {
+        return IsPersistedToMany(property) && property is AssociationProperty ap && ap.Domain == ap.Property.Domain;
+    }
+
+    /// <summary>
+    /// Détermine si une classe est générée sous forme de record Java.
+    /// </summary>
+    /// <param name="classe">Classe.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>Vrai si la classe est un record.</returns>
+    public bool IsRecord(Class classe, IEnumerable<Class> availableClasses)
+    {
+        return RecordDtos
+            && !classe.IsPersistent && !classe.Abstract
+            && classe.Extends == null && classe.Properties.Any()
+            && !classe.ToMappers.Any()
+            && !CanClassUseEnums(classe, availableClasses)
+            && !availableClasses.Any(c => c.Extends == classe || c.ToMappers.Any(m => m.Class == classe))
+            && !classe.Decorators.Any(d => GetImplementation(d.Decorator)?.Extends is not null);
+    }
+
+    /// <summary>
+    /// Détermine si un mapper `from` peut être généré sous forme de requête de projection dans le DAO de sa classe source.
+    /// </summary>
+    /// <param name="classe">Classe cible du mapper.</param>
+    /// <param name="mapper">Mapper.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>Vrai si une projection peut être générée.</returns>
+    public bool IsProjectionMapper(Class classe, FromMapper mapper, IEnumerable<Class> availableClasses)
+    {
+        if (!DaosProjections || DaosPath == null || UseJdbc
+            || classe.IsPersistent || classe.Abstract || classe.Extends != null
+            || mapper.PropertyParams.Any() || mapper.ClassParams.Count() != 1)
+        {
+            return false;
+        }
+
+        var param = mapper.ClassParams.Single();
+        return param.Class.IsPersistent
+            && availableClasses.Contains(param.Class)
+            && !CanClassUseEnums(param.Class, availableClasses)
+            && param.Class.PrimaryKey.Count() == 1
+            && param.Mappings.Count > 0
+            && param.Mappings.All(m =>
+                m.Key is not CompositionProperty
+                && GetConverter(m.Value.Domain, m.Key.Domain) == null
+                && (m.Value is AliasProperty alp ? alp.Property : m.Value) switch
+                {
+                    AssociationProperty ap => ap.Association.IsPersistent && (ap.Type == AssociationType.ManyToOne || ap.Type == AssociationType.OneToOne),
+                    CompositionProperty => false,
+                    _ => true
+                });
+    }
+
+    /// <summary>
+    /// Liste les mappings d'un mapper de projection, dans l'ordre des propriétés de la classe cible.
+    /// </summary>
+    /// <param name="classe">Classe cible du mapper.</param>
+    /// <param name="mapper">Mapper.</param>
+    /// <returns>Les mappings (cible, source).</returns>
+    public IEnumerable<KeyValuePair<IProperty, IProperty>> GetProjectionMappings(Class classe, FromMapper mapper)
+    {
+        return mapper.ClassParams.Single().Mappings.OrderBy(m => classe.Properties.IndexOf(m.Key));
+    }
+
+    /// <summary>
+    /// Liste les entity graphs à générer sur une classe persistée, à partir des mappers `from` qui l'ont en paramètre.
+    /// </summary>
+    /// <param name="classe">Classe persistée.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>La classe cible de chaque mapper et le paramètre correspondant à la classe persistée.</returns>
+    public IEnumerable<(Class Classe, ClassMappings Mappings)> GetEntityGraphs(Class classe, IEnumerable<Class> availableClasses)
+    {
+        if (!EntityGraphs || UseJdbc)
+        {
+            return [];
+        }
+
+        return availableClasses
+            .SelectMany(c => c.FromMappers.SelectMany(m => m.ClassParams).Where(p => p.Class == classe && GetEntityGraphNodes(p).Any()).Select(p => (Classe: c, Mappings: p)))
+            .DistinctBy(g => g.Classe)
+            .OrderBy(g => g.Classe.NamePascal);
+    }
+
+    /// <summary>
+    /// Liste les associations à charger pour mapper un paramètre de mapper `from`.
+    /// </summary>
+    /// <param name="mappings">Paramètre du mapper.</param>
+    /// <returns>Les propriétés à charger, et le paramètre du mapper de la composition cible s'il y en a un.</returns>
+    public IEnumerable<(IProperty Property, ClassMappings? Subgraph)> GetEntityGraphNodes(ClassMappings mappings)
+    {
+        foreach (var (target, source) in mappings.Mappings)
+        {
+            if ((source is AliasProperty alp ? alp.Property : source) is not AssociationProperty ap || !ap.Association.IsPersistent)
+            {
+                continue;
+            }
+
+            if (target is CompositionProperty cp)
+            {
+                var subgraph = cp.Composition.FromMappers
+                    .Where(m => m.Params.Count == 1)
+                    .SelectMany(m => m.ClassParams)
+                    .FirstOrDefault(p => p.Class == ap.Association);
+                yield return (source, subgraph);
+            }
+            else if (ap.Type.IsToMany())
+            {
+                yield return (source, null);
+            }
+        }
+    }
+
+    /// <summary>
+    /// Liste les propriétés d'une classe persistée utilisables comme curseur de pagination : sa propriété d'ordre si elle est unique, puis sa clé primaire.
+    /// </summary>
+    /// <param name="classe">Classe persistée.</param>
+    /// <returns>Les propriétés utilisables comme curseur.</returns>
+    public IEnumerable<IProperty> GetKeysetKeys(Class classe)
+    {
+        if (!KeysetPagination || UseJdbc || !classe.IsPersistent || classe.PrimaryKey.Count() != 1 || CanClassUseEnums(classe))
+        {
+            yield break;
+        }
+
+        if (classe.OrderProperty is RegularProperty { PrimaryKey: false } order && classe.UniqueKeys.Any(uk => uk.Count == 1 && uk.Single() == order))
+        {
+            yield return order;
+        }
+
+        yield return classe.PrimaryKey.Single();
+    }
+
+    /// <summary>
+    /// Détermine le curseur de pagination d'un endpoint : une propriété de l'élément retourné qui est un alias d'une propriété utilisable comme curseur.
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <returns>Le curseur, ou null si l'endpoint n'est pas paginé.</returns>
+    public AliasProperty? GetKeysetCursor(Endpoint endpoint)
+    {
+        if (!KeysetPagination
+            || endpoint.Method != "GET"
+            || endpoint.Returns is not CompositionProperty { Domain: not null } cp
+            || endpoint.Params.Any(p => p.GetParamName() is "after" or "limit"))
+        {
+            return null;
+        }
+
+        var aliases = cp.Composition.ExtendedProperties.OfType<AliasProperty>().ToList();
+        return aliases
+            .Select(alp => alp.Property.Class)
+            .Distinct()
+            .SelectMany(GetKeysetKeys)
+            .SelectMany(key => aliases.Where(alp => alp.Property == key))
+            .FirstOrDefault();
+    }
+
+    /// <summary>
+    /// Type de retour d'un endpoint paginé.
+    /// </summary>
+    /// <param name="endpoint">Endpoint paginé.</param>
+    /// <returns>Le type de retour.</returns>
+    public string GetKeysetPageType(Endpoint endpoint)
+    {
+        var item = ((CompositionProperty)endpoint.Returns!).Composition.NamePascal;
+        return $"{GetKeysetPageClass(endpoint).Split('.').Last()}<{item}, {GetType(GetKeysetCursor(endpoint)!)}>";
+    }
+
+    /// <summary>
+    /// Imports du type de retour et du curseur d'un endpoint paginé.
+    /// </summary>
+    /// <param name="endpoint">Endpoint paginé.</param>
+    /// <param name="tag">Tag.</param>
+    /// <returns>Les imports.</returns>
+    public IEnumerable<string> GetKeysetPageImports(Endpoint endpoint, string tag)
+    {
+        var composition = ((CompositionProperty)endpoint.Returns!).Composition;
+        return GetKeysetCursor(endpoint)!.GetTypeImports(this, tag)
+            .Append(composition.GetImport(this, GetBestClassTag(composition, tag)))
+            .Append(GetKeysetPageClass(endpoint));
+    }
+
+    /// <summary>
+    /// Détermine si un endpoint a une variante qui retourne ses éléments au fil de l'eau.
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <returns>Vrai si la variante doit être générée.</returns>
+    public bool IsStreamingEndpoint(Endpoint endpoint)
+    {
+        return StreamingEndpoints != null
+            && endpoint.Method == "GET"
+            && endpoint.Returns is CompositionProperty { Domain: not null };
+    }
+
+    public string GetStreamingRoute(Endpoint endpoint)
+    {
+        return $"{endpoint.Route.TrimEnd('/')}/stream";
+    }
+
+    public string GetStreamingMediaType()
+    {
+        return StreamingEndpoints == StreamingMode.Flux ? "application/x-ndjson" : "application/json";
+    }
+
+    /// <summary>
+    /// Type de retour de la variante au fil de l'eau d'un endpoint, côté serveur.
+    /// </summary>
+    /// <param name="endpoint">Endpoint.</param>
+    /// <returns>Le type de retour.</returns>
+    public string GetStreamingType(Endpoint endpoint)
+    {
+        var item = ((CompositionProperty)endpoint.Returns!).Composition.NamePascal;
+        return StreamingEndpoints == StreamingMode.Flux ? $"Flux<{item}>" : $"Stream<{item}>";
+    }
+
+    public string GetStreamingImport()
+    {
+        return StreamingEndpoints == StreamingMode.Flux ? "reactor.core.publisher.Flux" : "java.util.stream.Stream";
+    }
+
+    /// <summary>
+    /// Liste les propriétés d'une classe persistée lues colonne par colonne (par le RowMapper ou le reader `COPY` des dataflows), dans l'ordre des colonnes de la requête.
+    /// En mode JPA, les associations vers des entités qui ne sont pas des listes de référence sont lues dans une référence qui ne porte que l'identifiant de l'entité associée.
+    /// </summary>
+    /// <param name="classe">Classe persistée.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>Les propriétés lues, ou aucune si la classe ne peut pas être lue colonne par colonne.</returns>
+    public IEnumerable<IProperty> GetColumnProperties(Class classe, IEnumerable<Class> availableClasses)
+    {
+        if (classe.Abstract || !classe.IsPersistent || classe.Extends != null || CanClassUseEnums(classe, availableClasses))
+        {
+            return [];
+        }
+
+        return classe.Properties
+            .Where(p => p is not CompositionProperty)
+            .Where(p => (p as AssociationProperty ?? (p as AliasProperty)?.Property as AssociationProperty) switch
+            {
+                null => true,
+                { Type: AssociationType.OneToMany or AssociationType.ManyToMany } => false,
+                AssociationProperty ap => UseJdbc || CanClassUseEnums(ap.Association, availableClasses, ap.Property) || ap.Association.PrimaryKey.Count() == 1
+            });
+    }
+
+    /// <summary>
+    /// Liste les propriétés lues par le RowMapper d'une classe persistée, dans l'ordre des colonnes de la requête.
+    /// </summary>
+    /// <param name="classe">Classe persistée.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>Les propriétés lues, ou aucune si la classe n'a pas de RowMapper.</returns>
+    public IEnumerable<IProperty> GetRowMapperProperties(Class classe, IEnumerable<Class> availableClasses)
+    {
+        return RowMappers ? GetColumnProperties(classe, availableClasses) : [];
+    }
+
+    /// <summary>
+    /// Détermine si une colonne lue contient le code d'une liste de référence, à convertir en enum.
+    /// </summary>
+    /// <param name="property">Propriété lue.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>Vrai si la colonne doit être convertie en enum.</returns>
+    public bool IsEnumColumn(IProperty property, IEnumerable<Class> availableClasses)
+    {
+        return property switch
+        {
+            AssociationProperty ap => CanClassUseEnums(ap.Association, availableClasses, ap.Property),
+            AliasProperty { Property: AssociationProperty ap } => CanClassUseEnums(ap.Association, availableClasses, ap.Property),
+            RegularProperty { Class: not null } rp => CanClassUseEnums(rp.Class, availableClasses, rp),
+            AliasProperty { Property: RegularProperty { Class: not null } rp } => CanClassUseEnums(rp.Class, availableClasses, rp),
+            _ => false
+        };
+    }
+
+    /// <summary>
+    /// Détermine si une colonne lue contient la clé étrangère d'une association JPA vers une entité qui n'est pas une liste de référence.
+    /// La colonne est lue dans une référence qui ne porte que l'identifiant de l'entité associée.
+    /// </summary>
+    /// <param name="property">Propriété lue.</param>
+    /// <param name="availableClasses">Classes disponibles.</param>
+    /// <returns>Vrai si la colonne doit être lue dans une référence.</returns>
+    public bool IsReferenceColumn(IProperty property, IEnumerable<Class> availableClasses)
+    {
+        var association = property as AssociationProperty ?? (property as AliasProperty)?.Property as AssociationProperty;
+        return !UseJdbc && association != null && !IsEnumColumn(property, availableClasses);
+    }
+
+    public string GetRowMapperColumn(IProperty property)
+    {
+        return UseJdbc ? property.SqlName.ToLower() : property.SqlName;
+    }
+
+    public string GetRowMapperFilePath(Class classe, string tag)
+    {
+        return Path.Combine(
+            OutputDirectory,
+            ResolveVariables(EntitiesPath, tag: tag, module: classe.Namespace.Module).ToFilePath(),
+            $"{GetRowMapperName(classe)}.java");
+    }
+
+    public string GetRowMapperName(Class classe)
+    {
+        return $"{classe.NamePascal}RowMapper";
+    }
+
+    public string GetEntityGraphName(Class classe, Class target)
+    {
+        return $"{classe.NamePascal}.{target.NamePascal}";
+    }
+
     public bool IsEnumNameJavaValid(string name)
     {
         return IsEnumNameValid(name);
@@ -376,4 +942,33 @@ public class JpaConfig : GeneratorConfigBase
     {
         return base.IsEnumNameValid(name) && !Regex.IsMatch(name ?? string.Empty, "(?<=[^$\\w'\"\\])(?!(abstract|assert|boolean|break|byte|case|catch|char|class|const|continue|default|double|do|else|enum|extends|false|final|finally|float|for|goto|if|implements|import|instanceof|int|interface|long|native|new|null|package|private|protected|public|return|short|static|strictfp|super|switch|synchronized|this|throw|throws|transient|true|try|void|volatile|while|_\\b))([A-Za-z_$][$\\w]*)");
     }
+
+    private static string? PrimitiveType(string type)
+    {
+        return type switch
+        {
+            "Integer" => "int",
+            "Long" => "long",
+            "Boolean" => "boolean",
+            "Double" => "double",
+            "Float" => "float",
+            "Short" => "short",
+            "Byte" => "byte",
+            _ => null
+        };
+    }
+
+    // Un Slice Spring Data ne peut pas être désérialisé par un client et n'expose pas le curseur de la page suivante : la classe de page doit être fournie.
+    private string GetKeysetPageClass(Endpoint endpoint)
+    {
+        return KeysetPageClass ?? throw new ModelException(endpoint, $"L'endpoint {endpoint.Name} est paginé par clé : 'keysetPageClass' doit être renseigné dans la configuration JPA");
+    }
+
+    private bool IsPersistedToMany(IProperty property)
+    {
+        return !UseJdbc
+            && property is AssociationProperty ap && ap.Type.IsToMany()
+            && ap.Class != null && ap.Class.IsPersistent && ap.Association.IsPersistent
+            && !(EnumsAsEnums && CanClassUseEnums(ap.Association, prop: ap.Property));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+﻿using TopModel.Generator.Core;
+
+namespace TopModel.Generator.Jpa;
+
+/// <summary>
+/// Paramètres de génération des séquences pour le générateur JPA.
+/// </summary>
+public class JpaIdentityConfig : IdentityConfig
+{
+    /// <summary>
+    /// Optimiseur Hibernate de la séquence (mode séquence, persistence javax uniquement)
+    /// </summary>
+    public IdentityOptimizer? Optimizer { get; set; }
+}
\ No newline at end of file
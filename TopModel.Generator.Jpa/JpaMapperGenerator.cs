@@ -48,13 +48,15 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
             }
         }
 
+        // Une valeur nullable ne peut pas être affectée à une propriété de type primitif.
+        var unboxed = Config.IsPrimitive(propertyTarget) && !Config.IsPrimitive(propertySource);
         if (Config.UseJdbc)
         {
             getter = $"{sourceName}.{getterName}()";
             return (Getter: Config.GetConvertedValue(
                 getter,
                 propertySource.Domain,
-                propertyTarget.Domain), CheckSourceNull: false);
+                propertyTarget.Domain), CheckSourceNull: unboxed);
         }
 
         var checkSourceNull = false;
@@ -78,7 +80,7 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                     var cpMapper = propertySource.Class.ToMappers.Find(t => t.Class == cp.Composition)!;
                     var (cpMapperNs, cpMapperModelPath) = Config.GetMapperLocation((cpMapper.Class, cpMapper));
 
-                    getter = $"{Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.{cpMapper.Name.Value.ToCamelCase()}({sourceName}.{getterName}(), target.get{apSource.NameByClassPascal}())";
+                    getter = $"{Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.{cpMapper.Name.Value.ToCamelCase()}({sourceName}.{getterName}(), {GetTargetValue(classe, apSource.NameByClassPascal)})";
                     fw.AddImport(Config.GetMapperImport(cpMapperNs, cpMapperModelPath, tag)!);
                 }
                 else if (cp.Composition.FromMappers.Any(f => f.Params.Count == 1 && f.ClassParams.First().Class == apSource.Association))
@@ -87,14 +89,21 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                     var (cpMapperNs, cpMapperModelPath) = Config.GetMapperLocation((cp.Composition, cpMapper));
 
                     getter = $"{sourceName}.{getterName}()";
-                    if (apSource.Type.IsToMany())
+                    var listMapperName = GetFromListMapperName(cp.Composition, cpMapper);
+                    if (apSource.Type.IsToMany() && listMapperName != null)
                     {
-                        getter = $"{getter}.stream().map(item -> {Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.create{cp.Composition}(item, null)).collect(Collectors.toList())";
+                        getter = $"{Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.{listMapperName}({getter})";
+                    }
+                    else if (apSource.Type.IsToMany())
+                    {
+                        getter = $"{getter}.stream().map(item -> {Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.create{cp.Composition}(item{(Config.IsRecord(cp.Composition, Classes) ? string.Empty : ", null")})).collect(Collectors.toList())";
                         fw.AddImport("java.util.stream.Collectors");
                     }
                     else
                     {
-                        getter = $"{Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.create{cp.Composition}({getter}, target.get{propertyTarget.NameByClassPascal}())";
+                        getter = Config.IsRecord(cp.Composition, Classes)
+                            ? $"{Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.create{cp.Composition}({getter})"
+                            : $"{Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.create{cp.Composition}({getter}, {GetTargetValue(classe, propertyTarget.NameByClassPascal)})";
                     }
 
                     fw.AddImport(Config.GetMapperImport(cpMapperNs, cpMapperModelPath, tag)!);
@@ -128,7 +137,7 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                     }
                     else
                     {
-                        getter = $"{sourceName}.{getterName}().stream().filter(Objects::nonNull).map({apSource.Association.NamePascal}::get{apSource.Property.NameByClassPascal}).collect(Collectors.toList())";
+                        getter = $"{sourceName}.{getterName}().stream().filter(Objects::nonNull).map({apSource.Association.NamePascal}::get{apSource.Property.NameByClassPascal}){(Config.IsSetAssociation(apSource) ? ".sorted()" : string.Empty)}.collect(Collectors.toList())";
                         fw.AddImport(apSource.Association.GetImport(Config, tag));
                     }
                 }
@@ -145,7 +154,7 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                     {
                         if (apTarget.Type.IsToMany())
                         {
-                            getter = $@"{sourceName}.{getterName}().stream().collect(Collectors.toList())";
+                            getter = $@"{sourceName}.{getterName}().stream().collect({Config.GetCollector(apTarget)})";
                             fw.AddImport("java.util.stream.Collectors");
                         }
                         else
@@ -159,12 +168,12 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                     {
                         if (apTarget.Type.IsToMany())
                         {
-                            getter = $@"{sourceName}.{getterName}().stream().map({apTarget.Association.NamePascal}::new).collect(Collectors.toList())";
+                            getter = $@"{sourceName}.{getterName}().stream().map({apTarget.Association.NamePascal}::valueOf).collect({Config.GetCollector(apTarget)})";
                             fw.AddImport("java.util.stream.Collectors");
                         }
                         else
                         {
-                            getter = $"new {apTarget.Association.NamePascal}({sourceName}.{getterName}())";
+                            getter = $"{apTarget.Association.NamePascal}.valueOf({sourceName}.{getterName}())";
                             fw.AddImport(apTarget.Association.GetImport(Config, tag));
                             checkSourceNull = true;
                         }
@@ -189,7 +198,7 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                     var isMultiple = apTarget.Type == AssociationType.OneToMany || apTarget.Type == AssociationType.ManyToMany;
                     if (isMultiple)
                     {
-                        getter = $@"{sourceName}.{getterName}(){(!propertySource.Class.IsPersistent ? $".stream().map(src -> {Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.{cpMapper.Name.ToCamelCase()}(src, null)).collect(Collectors.toList())" : string.Empty)}";
+                        getter = $@"{sourceName}.{getterName}(){(!propertySource.Class.IsPersistent ? $".stream().map(src -> {Config.GetMapperName(cpMapperNs, cpMapperModelPath)}.{cpMapper.Name.ToCamelCase()}(src, null)).collect({Config.GetCollector(apTarget)})" : string.Empty)}";
                         fw.AddImport("java.util.stream.Collectors");
                     }
                     else
@@ -213,7 +222,47 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
         return (Getter: Config.GetConvertedValue(
                 getter,
                 propertySource.Domain,
-                propertyTarget.Domain), CheckSourceNull: checkSourceNull);
+                propertyTarget.Domain), CheckSourceNull: checkSourceNull || unboxed);
+    }
+
+    /// <summary>
+    /// Nom du mapper de liste associé à un mapper `from`, ou null s'il n'y en a pas.
+    /// </summary>
+    /// <param name="classe">Classe cible.</param>
+    /// <param name="mapper">Mapper.</param>
+    /// <returns>Le nom du mapper de liste.</returns>
+    protected virtual string? GetFromListMapperName(Class classe, FromMapper mapper)
+    {
+        bool HasListMapper(FromMapper m) => m.Params.Count == 1 && m.ClassParams.Count() == 1;
+
+        if (classe.Abstract || Config.CanClassUseEnums(classe, Classes) || !HasListMapper(mapper))
+        {
+            return null;
+        }
+
+        return classe.FromMappers.Count(HasListMapper) > 1
+            ? $"create{classe.NamePascal}ListFrom{mapper.ClassParams.Single().Class.NamePascal}"
+            : $"create{classe.NamePascal}List";
+    }
+
+    /// <summary>
+    /// Nom du mapper de liste associé à un mapper `to`, ou null s'il n'y en a pas.
+    /// </summary>
+    /// <param name="classe">Classe source.</param>
+    /// <param name="mapper">Mapper.</param>
+    /// <returns>Le nom du mapper de liste.</returns>
+    protected virtual string? GetToListMapperName(Class classe, ClassMappings mapper)
+    {
+        if (mapper.Class.Abstract || Config.CanClassUseEnums(mapper.Class, Classes))
+        {
+            return null;
+        }
+
+        var location = Config.GetMapperLocation((classe, mapper));
+        var hasHomonym = Classes.Any(c => c != classe && c.ToMappers.Any(m => m.Name.Value == mapper.Name.Value && Config.GetMapperLocation((c, m)).Equals(location)));
+        return hasHomonym
+            ? $"{mapper.Name.Value.ToCamelCase()}ListFrom{classe.NamePascal}"
+            : $"{mapper.Name.Value.ToCamelCase()}List";
     }
 
     protected override void HandleFile(string fileName, string tag, IList<(Class Classe, FromMapper Mapper)> fromMappers, IList<(Class Classe, ClassMappings Mapper)> toMappers)
@@ -253,11 +302,13 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
         foreach (var (classe1, mapper) in fromMappers)
         {
             WriteFromMapper(classe1, mapper, fw, GetBestClassTag(classe1, tag));
+            WriteFromListMapper(classe1, mapper, fw);
         }
 
         foreach (var (classe, mapper1) in toMappers)
         {
             WriteToMapper(classe, mapper1, fw, GetBestClassTag(classe, tag));
+            WriteToListMapper(classe, mapper1, fw);
         }
 
         fw.WriteLine("}");
@@ -271,6 +322,12 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
             return;
         }
 
+        if (Config.IsRecord(classe, Classes))
+        {
+            WriteRecordFromMapper(classe, mapper, fw, tag);
+            return;
+        }
+
         fw.WriteLine();
         fw.WriteDocStart(1, $"Map les champs des classes passées en paramètre dans l'objet target'");
         fw.WriteParam("target", $"Instance de '{classe}' (ou null pour créer une nouvelle instance)");
@@ -347,6 +404,12 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
             }
         }
 
+        if (GetFromListMapperName(classe, mapper) != null)
+        {
+            var classParam = mapper.ClassParams.Single();
+            WriteUncheckedMapperStart(fw, classe.NamePascal, $"create{classe.NamePascal}", [(classParam.Class.NamePascal, classParam.Name.ToCamelCase()), (classe.NamePascal, "target")]);
+        }
+
         foreach (var param in mapper.ClassParams.Where(p => p.Mappings.Count > 0))
         {
             var mappings = param.Mappings.ToList();
@@ -447,6 +510,136 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
         fw.WriteLine(1, "}");
     }
 
+    protected virtual void WriteFromListMapper(Class classe, FromMapper mapper, JavaWriter fw)
+    {
+        var listMapperName = GetFromListMapperName(classe, mapper);
+        if (listMapperName == null)
+        {
+            return;
+        }
+
+        var param = mapper.ClassParams.Single();
+        WriteListMapper(fw, listMapperName, $"create{classe.NamePascal}", param.Class.NamePascal, classe.NamePascal, !Config.IsRecord(classe, Classes));
+    }
+
+    protected virtual void WriteListMapper(JavaWriter fw, string listMapperName, string mapperName, string sourceType, string targetType, bool hasTarget = true)
+    {
+        fw.AddImport("java.util.ArrayList");
+        fw.AddImport("java.util.Collection");
+        fw.AddImport("java.util.List");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Mappe une liste de '{sourceType}' vers une nouvelle liste de '{targetType}'");
+        fw.WriteParam("sources", $"Instances de '{sourceType}', non null");
+        fw.WriteReturns(1, $"Une nouvelle liste de '{targetType}', dans l'ordre des instances sources");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, $"public static List<{targetType}> {listMapperName}(Collection<{sourceType}> sources) {{");
+        fw.WriteLine(2, "if (sources == null) {");
+        fw.WriteLine(3, $"throw new IllegalArgumentException(\"sources cannot be null\");");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, $"List<{targetType}> target = new ArrayList<>(sources.size());");
+        fw.WriteLine(2, $"for ({sourceType} source : sources) {{");
+        fw.WriteLine(3, $"target.add({mapperName}Unchecked(source{(hasTarget ? $", new {targetType}()" : string.Empty)}));");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "return target;");
+        fw.WriteLine(1, "}");
+    }
+
+    /// <summary>
+    /// Ecrit un mapper `from` vers un record, qui calcule chaque composant puis appelle le constructeur canonique.
+    /// </summary>
+    /// <param name="classe">Classe cible.</param>
+    /// <param name="mapper">Mapper.</param>
+    /// <param name="fw">Writer.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteRecordFromMapper(Class classe, FromMapper mapper, JavaWriter fw, string tag)
+    {
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Crée une nouvelle instance de '{classe}' à partir des classes passées en paramètre");
+        foreach (var param in mapper.ClassParams)
+        {
+            fw.WriteParam(param.Name.ToCamelCase(), param.Comment ?? $"Instance de '{param.Class}'");
+        }
+
+        foreach (var param in mapper.PropertyParams)
+        {
+            fw.WriteParam(param.Property.NameCamel, param.Property.Comment);
+        }
+
+        fw.WriteReturns(1, $"Une nouvelle instance de '{classe.NamePascal}'");
+        fw.WriteDocEnd(1);
+
+        var entryParams = mapper.ClassParams.Select(p => $"{p.Class} {p.Name.ToCamelCase()}").Concat(mapper.PropertyParams.Select(p => $"{Config.GetType(p.Property, Classes)} {p.Property.NameCamel}"));
+        fw.AddImports(mapper.PropertyParams.SelectMany(p => p.Property.GetTypeImports(Config, tag)).ToList());
+        fw.WriteLine(1, $"public static {classe.NamePascal} create{classe.NamePascal}({string.Join(", ", entryParams)}) {{");
+
+        foreach (var param in mapper.ClassParams.Where(p => p.Mappings.Count > 0 && p.Required))
+        {
+            fw.WriteLine(2, $"if ({param.Name.ToCamelCase()} == null) {{");
+            fw.WriteLine(3, $"throw new IllegalArgumentException(\"{param.Name} cannot be null\");");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+        }
+
+        foreach (var param in mapper.PropertyParams.Where(p => p.Property.Required))
+        {
+            fw.WriteLine(2, $"if ({param.Property.NameCamel} == null) {{");
+            fw.WriteLine(3, $"throw new IllegalArgumentException(\"{param.Property.NameCamel} cannot be null\");");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+        }
+
+        var values = new Dictionary<IProperty, string>();
+        foreach (var param in mapper.ClassParams.Where(p => p.Mappings.Count > 0))
+        {
+            var paramName = param.Name.ToCamelCase();
+            foreach (var mapping in param.Mappings)
+            {
+                var (getter, checkSourceNull) = GetSourceGetter(mapping.Value!, mapping.Key, classe, fw, paramName, tag);
+                if (getter == string.Empty)
+                {
+                    continue;
+                }
+
+                var nullConditions = new List<string>();
+                if (!param.Required)
+                {
+                    nullConditions.Add($"{paramName} == null");
+                }
+
+                if (checkSourceNull)
+                {
+                    nullConditions.Add($"{paramName}.{JpaModelPropertyGenerator.GetGetterName(mapping.Value!)}() == null");
+                }
+
+                values[mapping.Key] = nullConditions.Count > 0 ? $"{string.Join(" || ", nullConditions)} ? null : {getter}" : getter;
+            }
+        }
+
+        foreach (var param in mapper.PropertyParams)
+        {
+            values[param.TargetProperty] = param.Property.NameCamel;
+        }
+
+        if (GetFromListMapperName(classe, mapper) != null)
+        {
+            var classParam = mapper.ClassParams.Single();
+            WriteUncheckedMapperStart(fw, classe.NamePascal, $"create{classe.NamePascal}", [(classParam.Class.NamePascal, classParam.Name.ToCamelCase())]);
+        }
+
+        // Les composants non mappés sont initialisés à null.
+        var properties = classe.GetProperties(Classes).ToList();
+        fw.WriteLine(2, $"return new {classe.NamePascal}(");
+        for (var i = 0; i < properties.Count; i++)
+        {
+            fw.WriteLine(4, $"{values.GetValueOrDefault(properties[i], "null")}{(i < properties.Count - 1 ? "," : ");")}");
+        }
+
+        fw.WriteLine(1, "}");
+    }
+
     protected virtual void WriteToMapper(Class classe, ClassMappings mapper, JavaWriter fw, string tag)
     {
         if (Config.CanClassUseEnums(mapper.Class, Classes))
@@ -491,12 +684,17 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
             hydrate = "target.hydrate(";
         }
 
+        if (GetToListMapperName(classe, mapper) != null)
+        {
+            WriteUncheckedMapperStart(fw, mapper.Class.NamePascal, mapper.Name.Value.ToCamelCase(), [(classe.NamePascal, "source"), (mapper.Class.NamePascal, "target")]);
+        }
+
         var isFirst = true;
         foreach (var mapping in mapper.Mappings.OrderBy(m => m.Key.Class.Properties.IndexOf(m.Key)))
         {
             var propertyTarget = mapping.Value;
             var propertySource = mapping.Key;
-            var getterPrefix = Config.GetType(propertyTarget!) == "boolean" ? "is" : "get";
+            var getterPrefix = Config.GetPrimitiveType(propertyTarget!, Config.GetType(propertyTarget!)) == "boolean" ? "is" : "get";
             var (getter, checkSourceNull) = GetSourceGetter(propertySource, propertyTarget!, classe, fw, "source", tag);
             var propertyTargetName = Config.UseJdbc || propertyTarget is AssociationProperty asp && !asp.Association.IsPersistent ? propertyTarget!.NamePascal : propertyTarget!.NameByClassPascal;
             if (mapper.Class.Abstract)
@@ -525,7 +723,7 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
                 {
                     if (checkSourceNull)
                     {
-                        fw.WriteLine(2, $"if (source.{propertySource.NameByClassPascal.WithPrefix(getterPrefix)}() != null) {{");
+                        fw.WriteLine(2, $"if (source.{_jpaModelPropertyGenerator!.GetGetterName(propertySource)}() != null) {{");
                     }
 
                     fw.WriteLine(2 + (checkSourceNull ? 1 : 0), $"target.{_jpaModelPropertyGenerator!.GetSetterName(propertyTarget)}({getter});");
@@ -548,4 +746,29 @@ public class JpaMapperGenerator(ILogger<JpaMapperGenerator> logger, IFileWriterP
         fw.WriteLine(2, "return target;");
         fw.WriteLine(1, "}");
     }
+
+    protected virtual void WriteToListMapper(Class classe, ClassMappings mapper, JavaWriter fw)
+    {
+        var listMapperName = GetToListMapperName(classe, mapper);
+        if (listMapperName == null)
+        {
+            return;
+        }
+
+        WriteListMapper(fw, listMapperName, mapper.Name.Value.ToCamelCase(), classe.NamePascal, mapper.Class.NamePascal);
+    }
+
+    // Termine le mapper unitaire en appelant sa version sans contrôles, partagée avec le mapper de liste, puis ouvre la déclaration de celle-ci.
+    private void WriteUncheckedMapperStart(JavaWriter fw, string returnType, string mapperName, IList<(string Type, string Name)> parameters)
+    {
+        fw.WriteLine(2, $"return {mapperName}Unchecked({string.Join(", ", parameters.Select(p => p.Name))});");
+        fw.WriteLine(1, "}");
+        fw.WriteLine();
+        fw.WriteLine(1, $"private static {returnType} {mapperName}Unchecked({string.Join(", ", parameters.Select(p => $"{p.Type} {p.Name}"))}) {{");
+    }
+
+    private string GetTargetValue(Class classe, string propertyName)
+    {
+        return Config.IsRecord(classe, Classes) ? "null" : $"target.get{propertyName}()";
+    }
 }
\ No newline at end of file
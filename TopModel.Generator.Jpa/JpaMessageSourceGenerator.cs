@@ -0,0 +1,328 @@
+﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
+using TopModel.Core.FileModel;
+using TopModel.Generator.Core;
+
+namespace TopModel.Generator.Jpa;
+
+/// <summary>
+/// Générateur du MessageSource Spring qui lit les traductions dans la table des ressources générée par le générateur SQL.
+/// </summary>
+public class JpaMessageSourceGenerator(ILogger<JpaMessageSourceGenerator> logger, TranslationStore translationStore, IFileWriterProvider writerProvider)
+    : GeneratorBase<JpaConfig>(logger, writerProvider)
+{
+    private readonly TranslationStore _translationStore = translationStore;
+
+    public override string Name => "JpaMessageSourceGen";
+
+    public override IEnumerable<string> GeneratedFiles => Config.Tags.Select(Config.GetMessageSourceFilePath).Distinct();
+
+    private string DefaultLang => _translationStore.Translations.Keys.First();
+
+    /// <summary>
+    /// Même règle que le générateur SQL : la colonne LOCALE n'existe que si l'application a des traductions.
+    /// </summary>
+    private bool HasLocale => _translationStore.Translations.Keys.Count > 1 || _translationStore.Translations.Keys.Any(lang => lang != string.Empty);
+
+    protected override void HandleFiles(IEnumerable<ModelFile> files)
+    {
+        foreach (var file in Config.Tags.GroupBy(Config.GetMessageSourceFilePath))
+        {
+            WriteMessageSource(file.Key, file.First());
+        }
+    }
+
+    /// <summary>
+    /// Ecrit le MessageSource.
+    /// </summary>
+    /// <param name="fileName">Chemin du fichier.</param>
+    /// <param name="tag">Tag.</param>
+    protected virtual void WriteMessageSource(string fileName, string tag)
+    {
+        var table = Config.ResourcesTableName!;
+        var version = Config.ResourcesTableVersionColumn;
+        var langs = _translationStore.Translations.Keys.Skip(1)
+            .GroupBy(lang => lang.Split('-', '_')[0])
+            .Select(g => (Locale: g.Key, Lang: g.First()))
+            .ToList();
+        var langParam = HasLocale ? ", lang" : string.Empty;
+
+        using var fw = this.OpenJavaWriter(fileName, Config.GetMessageSourcePackageName(tag), null);
+        fw.AddImports([
+            "java.text.MessageFormat",
+            "java.util.Locale",
+            "java.util.Map",
+            "java.util.concurrent.ConcurrentHashMap",
+            "java.util.concurrent.atomic.LongAdder",
+            "org.springframework.beans.factory.annotation.Value",
+            "org.springframework.context.support.AbstractMessageSource",
+            "org.springframework.context.support.ResourceBundleMessageSource",
+            "org.springframework.jdbc.core.JdbcTemplate",
+            "org.springframework.jdbc.core.RowCallbackHandler",
+            "org.springframework.stereotype.Component",
+            "org.springframework.util.StringUtils"
+        ]);
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"MessageSource des traductions de la table '{table}'");
+        fw.WriteLine($" * Les traductions d'une langue sont chargées en une seule requête à sa première utilisation, puis mises à jour par {{@link #refresh()}}, qui n'est jamais appelée par le code généré : l'application doit planifier son appel.");
+        fw.WriteLine(" * Ce composant remplace le MessageSource de Spring Boot : les messages absents de la table sont lus dans les fichiers de ressources de {@code spring.messages.basename}.");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteLine(@"@Component(""messageSource"")");
+        fw.WriteClassDeclaration(Config.GetMessageSourceName(), null, "AbstractMessageSource");
+
+        fw.WriteLine();
+        fw.WriteLine(1, $@"private static final String QUERY = ""select RESOURCE_KEY, LABEL{(version != null ? $", {version}" : string.Empty)} from {table}{(HasLocale ? " where coalesce(LOCALE, '') = ?" : string.Empty)}"";");
+        if (version != null)
+        {
+            fw.WriteLine();
+            fw.WriteLine(1, $@"private static final String REFRESH_QUERY = QUERY + "" {(HasLocale ? "and" : "where")} {version} > ?"";");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private final JdbcTemplate jdbcTemplate;");
+        fw.WriteLine();
+        fw.WriteLine(1, "private final Map<String, Labels> labels = new ConcurrentHashMap<>();");
+        fw.WriteLine();
+        fw.WriteLine(1, "private final LongAdder hits = new LongAdder();");
+        fw.WriteLine();
+        fw.WriteLine(1, "private final LongAdder misses = new LongAdder();");
+        fw.WriteLine();
+        fw.WriteLine(1, "private final LongAdder refreshes = new LongAdder();");
+
+        fw.WriteLine();
+        fw.WriteLine(1, $"public {Config.GetMessageSourceName()}(JdbcTemplate jdbcTemplate, @Value(\"${{spring.messages.basename:messages}}\") String basenames, @Value(\"${{spring.messages.encoding:UTF-8}}\") String encoding) {{");
+        fw.WriteLine(2, "this.jdbcTemplate = jdbcTemplate;");
+        fw.WriteLine();
+        fw.WriteLine(2, "// Mêmes fichiers de ressources que le MessageSource de Spring Boot, que ce composant remplace");
+        fw.WriteLine(2, "ResourceBundleMessageSource parent = new ResourceBundleMessageSource();");
+        fw.WriteLine(2, "parent.setBasenames(StringUtils.commaDelimitedListToStringArray(StringUtils.trimAllWhitespace(basenames)));");
+        fw.WriteLine(2, "parent.setDefaultEncoding(encoding);");
+        fw.WriteLine(2, "parent.setFallbackToSystemLocale(false);");
+        fw.WriteLine(2, "setParentMessageSource(parent);");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Traduction correspondant à la clé, dans la langue demandée (ou dans la langue par défaut si elle n'y est pas traduite)");
+        fw.WriteParam("key", "Clé de traduction");
+        fw.WriteParam("locale", "Langue de la traduction");
+        fw.WriteReturns(1, "Traduction, ou null si la clé n'existe pas");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "public String getLabel(String key, Locale locale) {");
+        if (langs.Count == 0)
+        {
+            fw.WriteLine(2, "String label = labels(lang(locale)).get(key);");
+        }
+        else
+        {
+            fw.WriteLine(2, "String lang = lang(locale);");
+            fw.WriteLine(2, "String label = labels(lang).get(key);");
+            fw.WriteLine(2, $@"if (label == null && !lang.equals(""{DefaultLang}"")) {{");
+            fw.WriteLine(3, $@"label = labels(""{DefaultLang}"").get(key);");
+            fw.WriteLine(2, "}");
+            fw.WriteLine();
+        }
+
+        fw.WriteLine(2, "if (label == null) {");
+        fw.WriteLine(3, "misses.increment();");
+        fw.WriteLine(2, "} else {");
+        fw.WriteLine(3, "hits.increment();");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteLine(2, "return label;");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        if (version != null)
+        {
+            fw.WriteDocStart(1, $"Met à jour les langues déjà chargées avec les traductions modifiées depuis le dernier chargement (colonne '{version}')");
+            fw.WriteLine(1, " * Les traductions supprimées de la table ne sont pas retirées.");
+        }
+        else
+        {
+            fw.WriteDocStart(1, "Recharge les langues déjà chargées");
+        }
+
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "public void refresh() {");
+        fw.WriteLine(2, $"labels.replaceAll((lang, current) -> load(lang{(version != null ? ", current" : string.Empty)}));");
+        fw.WriteLine(2, "refreshes.increment();");
+        fw.WriteLine(1, "}");
+
+        foreach (var (name, counter, label) in new[] { ("Hit", "hits", "Nombre de traductions trouvées"), ("Miss", "misses", "Nombre de traductions non trouvées"), ("Refresh", "refreshes", "Nombre de mises à jour des traductions") })
+        {
+            fw.WriteLine();
+            fw.WriteDocStart(1, label);
+            fw.WriteReturns(1, label);
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"public long get{name}Count() {{");
+            fw.WriteLine(2, $"return {counter}.sum();");
+            fw.WriteLine(1, "}");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, "protected String resolveCodeWithoutArguments(String code, Locale locale) {");
+        fw.WriteLine(2, "return getLabel(code, locale);");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "@Override");
+        fw.WriteLine(1, "protected MessageFormat resolveCode(String code, Locale locale) {");
+        fw.WriteLine(2, "String label = getLabel(code, locale);");
+        fw.WriteLine(2, "return label == null ? null : createMessageFormat(label, locale);");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private Labels labels(String lang) {");
+        fw.WriteLine(2, $"return labels.computeIfAbsent(lang, l -> load(l{(version != null ? ", null" : string.Empty)}));");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        if (version != null)
+        {
+            fw.WriteLine(1, "private Labels load(String lang, Labels current) {");
+            fw.WriteLine(2, "Labels result = current == null ? new Labels(256) : current.copy();");
+            fw.WriteLine(2, "RowCallbackHandler handler = rs -> {");
+            fw.WriteLine(3, "result.put(rs.getString(1), rs.getString(2));");
+            fw.WriteLine(3, "result.version = Math.max(result.version, rs.getLong(3));");
+            fw.WriteLine(2, "};");
+            fw.WriteLine();
+            fw.WriteLine(2, "if (current == null) {");
+            fw.WriteLine(3, $"jdbcTemplate.query(QUERY, handler{langParam});");
+            fw.WriteLine(2, "} else {");
+            fw.WriteLine(3, $"jdbcTemplate.query(REFRESH_QUERY, handler{langParam}, current.version);");
+            fw.WriteLine(2, "}");
+        }
+        else
+        {
+            fw.WriteLine(1, "private Labels load(String lang) {");
+            fw.WriteLine(2, "Labels result = new Labels(256);");
+            fw.WriteLine(2, $"jdbcTemplate.query(QUERY, (RowCallbackHandler) rs -> result.put(rs.getString(1), rs.getString(2)){langParam});");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(2, "return result;");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private static String lang(Locale locale) {");
+        if (langs.Count == 0)
+        {
+            fw.WriteLine(2, $@"return ""{DefaultLang}"";");
+        }
+        else
+        {
+            fw.WriteLine(2, "return switch (locale == null ? \"\" : locale.getLanguage()) {");
+            foreach (var (locale, lang) in langs)
+            {
+                fw.WriteLine(3, $@"case ""{locale}"" -> ""{lang}"";");
+            }
+
+            fw.WriteLine(3, $@"default -> ""{DefaultLang}"";");
+            fw.WriteLine(2, "};");
+        }
+
+        fw.WriteLine(1, "}");
+
+        WriteLabels(fw, version != null);
+        fw.WriteLine("}");
+    }
+
+    private static void WriteLabels(JavaWriter fw, bool hasVersion)
+    {
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Traductions d'une langue, dans une table de hachage à adressage ouvert (sondage linéaire)");
+        fw.WriteLine(1, " * Une table n'est plus modifiée une fois publiée : les mises à jour travaillent sur une copie.");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "private static final class Labels {");
+        fw.WriteLine();
+        fw.WriteLine(2, "private String[] keys;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private String[] values;");
+        fw.WriteLine();
+        fw.WriteLine(2, "private int size;");
+        if (hasVersion)
+        {
+            fw.WriteLine();
+            fw.WriteLine(2, "private long version;");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(2, "private Labels(int capacity) {");
+        fw.WriteLine(3, "keys = new String[Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1];");
+        fw.WriteLine(3, "values = new String[keys.length];");
+        fw.WriteLine(2, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(2, "private String get(String key) {");
+        fw.WriteLine(3, "int mask = keys.length - 1;");
+        fw.WriteLine(3, "for (int i = hash(key) & mask; keys[i] != null; i = (i + 1) & mask) {");
+        fw.WriteLine(4, "if (keys[i].equals(key)) {");
+        fw.WriteLine(5, "return values[i];");
+        fw.WriteLine(4, "}");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "return null;");
+        fw.WriteLine(2, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(2, "private void put(String key, String value) {");
+        fw.WriteLine(3, "if (2 * (size + 1) > keys.length) {");
+        fw.WriteLine(4, "resize(keys.length * 2);");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "int mask = keys.length - 1;");
+        fw.WriteLine(3, "int i = hash(key) & mask;");
+        fw.WriteLine(3, "while (keys[i] != null && !keys[i].equals(key)) {");
+        fw.WriteLine(4, "i = (i + 1) & mask;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "if (keys[i] == null) {");
+        fw.WriteLine(4, "keys[i] = key;");
+        fw.WriteLine(4, "size++;");
+        fw.WriteLine(3, "}");
+        fw.WriteLine();
+        fw.WriteLine(3, "values[i] = value;");
+        fw.WriteLine(2, "}");
+
+        if (hasVersion)
+        {
+            fw.WriteLine();
+            fw.WriteLine(2, "private Labels copy() {");
+            fw.WriteLine(3, "Labels copy = new Labels(keys.length);");
+            fw.WriteLine(3, "copy.keys = keys.clone();");
+            fw.WriteLine(3, "copy.values = values.clone();");
+            fw.WriteLine(3, "copy.size = size;");
+            fw.WriteLine(3, "copy.version = version;");
+            fw.WriteLine(3, "return copy;");
+            fw.WriteLine(2, "}");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(2, "private void resize(int capacity) {");
+        fw.WriteLine(3, "String[] oldKeys = keys;");
+        fw.WriteLine(3, "String[] oldValues = values;");
+        fw.WriteLine(3, "keys = new String[capacity];");
+        fw.WriteLine(3, "values = new String[capacity];");
+        fw.WriteLine(3, "size = 0;");
+        fw.WriteLine(3, "for (int i = 0; i < oldKeys.length; i++) {");
+        fw.WriteLine(4, "if (oldKeys[i] != null) {");
+        fw.WriteLine(5, "put(oldKeys[i], oldValues[i]);");
+        fw.WriteLine(4, "}");
+        fw.WriteLine(3, "}");
+        fw.WriteLine(2, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(2, "private static int hash(String key) {");
+        fw.WriteLine(3, "int h = key.hashCode();");
+        fw.WriteLine(3, "return h ^ (h >>> 16);");
+        fw.WriteLine(2, "}");
+        fw.WriteLine(1, "}");
+    }
+}
\ No newline at end of file
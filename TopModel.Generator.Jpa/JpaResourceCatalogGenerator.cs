@@ -0,0 +1,248 @@
+﻿using Microsoft.Extensions.Logging;
+using TopModel.Core;
+using TopModel.Core.FileModel;
+using TopModel.Generator.Core;
+using TopModel.Utils;
+
+namespace TopModel.Generator.Jpa;
+
+/// <summary>
+/// Générateur des catalogues de libellés compilés (une classe par module, et une classe par module et par langue).
+/// </summary>
+public class JpaResourceCatalogGenerator(ILogger<JpaResourceCatalogGenerator> logger, TranslationStore translationStore, IFileWriterProvider writerProvider)
+    : GeneratorBase<JpaConfig>(logger, writerProvider)
+{
+    private readonly TranslationStore _translationStore = translationStore;
+
+    public override string Name => "JpaResourceCatalogGen";
+
+    public override IEnumerable<string> GeneratedFiles => Config.Tags
+        .SelectMany(tag => GetCatalogs(tag).SelectMany(catalog => Langs
+            .Select(lang => Config.GetResourcesCatalogFilePath(catalog.Key, tag, lang))
+            .Prepend(Config.GetResourcesCatalogFilePath(catalog.Key, tag))))
+        .Distinct();
+
+    private IEnumerable<string> Langs => _translationStore.Translations.Keys;
+
+    protected override void HandleFiles(IEnumerable<ModelFile> files)
+    {
+        foreach (var tag in Config.Tags)
+        {
+            foreach (var catalog in GetCatalogs(tag))
+            {
+                var entries = GetEntries(catalog).ToList();
+                WriteCatalog(catalog.Key, tag, entries);
+                foreach (var lang in Langs)
+                {
+                    WriteLangCatalog(catalog.Key, tag, lang, entries);
+                }
+            }
+        }
+    }
+
+    /// <summary>
+    /// Ecrit la classe du catalogue du module, avec l'enum des clés et les méthodes d'accès aux libellés.
+    /// </summary>
+    /// <param name="module">Module racine.</param>
+    /// <param name="tag">Tag.</param>
+    /// <param name="entries">Libellés du module, dans l'ordre des clés.</param>
+    protected virtual void WriteCatalog(string module, string tag, IList<(string Key, string ResourceKey, object Source)> entries)
+    {
+        var className = Config.GetResourcesCatalogName(module);
+        using var fw = this.OpenJavaWriter(Config.GetResourcesCatalogFilePath(module, tag), Config.GetResourcesCatalogPackageName(module, tag), null);
+        fw.AddImport("java.util.Locale");
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"Catalogue des libellés du module '{module}'");
+        fw.WriteLine(" * Les libellés de chaque langue sont chargés à la première utilisation de la langue.");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteClassDeclaration(className, "final");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, $"Clés des libellés du module '{module}'");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "public enum Key {");
+        fw.WriteLine(2, string.Join(", //\n\t\t", entries.Select(e => $@"{e.Key}(""{e.ResourceKey}"")")) + ";");
+        fw.WriteLine();
+        fw.WriteLine(2, "private final String resourceKey;");
+        fw.WriteLine();
+        fw.WriteLine(2, "Key(String resourceKey) {");
+        fw.WriteLine(3, "this.resourceKey = resourceKey;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine();
+        fw.WriteDocStart(2, "Clé du libellé dans les fichiers de ressources");
+        fw.WriteReturns(2, "Clé du libellé");
+        fw.WriteDocEnd(2);
+        fw.WriteLine(2, "public String getResourceKey() {");
+        fw.WriteLine(3, "return resourceKey;");
+        fw.WriteLine(2, "}");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteLine(1, $"private {className}() {{");
+        fw.WriteLine(1, "}");
+
+        fw.WriteLine();
+        fw.WriteDocStart(1, "Libellé correspondant à la clé, dans la langue demandée");
+        fw.WriteParam("key", "Clé du libellé");
+        fw.WriteParam("locale", "Langue du libellé");
+        fw.WriteReturns(1, "Libellé");
+        fw.WriteDocEnd(1);
+        fw.WriteLine(1, "public static String label(Key key, Locale locale) {");
+        fw.WriteLine(2, "return values(locale)[key.ordinal()];");
+        fw.WriteLine(1, "}");
+
+        foreach (var (classe, first) in GetEnumClasses(entries))
+        {
+            var codeType = Config.GetEnumName(classe.EnumKey!, classe);
+            fw.AddImport($"{Config.GetEnumPackageName(classe, GetBestClassTag(classe, tag))}.{codeType}");
+            fw.WriteLine();
+            fw.WriteDocStart(1, $"Libellé de la valeur de '{classe.NamePascal}' correspondant au code, dans la langue demandée");
+            fw.WriteParam("code", $"Code de '{classe.NamePascal}'");
+            fw.WriteParam("locale", "Langue du libellé");
+            fw.WriteReturns(1, "Libellé");
+            fw.WriteDocEnd(1);
+            fw.WriteLine(1, $"public static String label({codeType} code, Locale locale) {{");
+            fw.WriteLine(2, $"return values(locale)[Key.{first}.ordinal() + code.ordinal()];");
+            fw.WriteLine(1, "}");
+        }
+
+        fw.WriteLine();
+        fw.WriteLine(1, "private static String[] values(Locale locale) {");
+        var langs = Langs.Skip(1)
+            .GroupBy(lang => lang.Split('-', '_')[0])
+            .Select(g => (Lang: g.Key, Catalog: Config.GetResourcesCatalogName(module, g.First())))
+            .ToList();
+        if (langs.Count == 0)
+        {
+            fw.WriteLine(2, $"return {Config.GetResourcesCatalogName(module, Langs.First())}.VALUES;");
+        }
+        else
+        {
+            fw.WriteLine(2, "return switch (locale == null ? \"\" : locale.getLanguage()) {");
+            foreach (var (lang, catalog) in langs)
+            {
+                fw.WriteLine(3, $@"case ""{lang}"" -> {catalog}.VALUES;");
+            }
+
+            fw.WriteLine(3, $"default -> {Config.GetResourcesCatalogName(module, Langs.First())}.VALUES;");
+            fw.WriteLine(2, "};");
+        }
+
+        fw.WriteLine(1, "}");
+        fw.WriteLine("}");
+    }
+
+    /// <summary>
+    /// Ecrit la classe des libellés du module dans une langue.
+    /// </summary>
+    /// <param name="module">Module racine.</param>
+    /// <param name="tag">Tag.</param>
+    /// <param name="lang">Langue.</param>
+    /// <param name="entries">Libellés du module, dans l'ordre des clés.</param>
+    protected virtual void WriteLangCatalog(string module, string tag, string lang, IList<(string Key, string ResourceKey, object Source)> entries)
+    {
+        using var fw = this.OpenJavaWriter(Config.GetResourcesCatalogFilePath(module, tag, lang), Config.GetResourcesCatalogPackageName(module, tag), null);
+
+        fw.WriteLine();
+        fw.WriteDocStart(0, $"Libellés du module '{module}'{(string.IsNullOrEmpty(lang) ? string.Empty : $" en langue '{lang}'")}, dans l'ordre des clés de {{@link {Config.GetResourcesCatalogName(module)}.Key}}");
+        fw.WriteDocEnd(0);
+        if (Config.GeneratedHint)
+        {
+            fw.WriteLine(0, Config.GeneratedAnnotation);
+        }
+
+        fw.WriteLine($"final class {Config.GetResourcesCatalogName(module, lang)} {{");
+        fw.WriteLine();
+        fw.WriteLine(1, "static final String[] VALUES = {");
+        fw.WriteLine(2, string.Join(", //\n\t\t", entries.Select(e => ToJavaString(e.Source switch
+        {
+            ClassValue value => _translationStore.GetTranslation(value, lang),
+            _ => _translationStore.GetTranslation((IProperty)e.Source, lang)
+        }))));
+        fw.WriteLine(1, "};");
+        fw.WriteLine();
+        fw.WriteLine(1, $"private {Config.GetResourcesCatalogName(module, lang)}() {{");
+        fw.WriteLine(1, "}");
+        fw.WriteLine("}");
+    }
+
+    private static string ToJavaString(string value)
+    {
+        return $@"""{value.Replace("\\", "\\\\").Replace("\"", "\\\"").Replace("\r", "\\r").Replace("\n", "\\n")}""";
+    }
+
+    /// <summary>
+    /// Regroupe par module racine les propriétés à traduire des classes du tag (mêmes règles que les fichiers de ressources).
+    /// </summary>
+    /// <param name="tag">Tag.</param>
+    /// <returns>Propriétés par module racine.</returns>
+    private IEnumerable<IGrouping<string, IProperty>> GetCatalogs(string tag)
+    {
+        return Classes
+            .Where(c => c.Tags.Contains(tag))
+            .SelectMany(c => c.Properties)
+            .Where(p => Config.TranslateProperties == true || Config.TranslateReferences == true && (p.Class?.Values.Any() ?? false))
+            .Select(p => p.ResourceProperty)
+            .Where(p => p.Label != null || p.Class?.Values.Count > 0 && p.Class?.DefaultProperty != null)
+            .Distinct()
+            .GroupBy(p => p.Parent.Namespace.RootModule)
+            .OrderBy(g => g.Key, StringComparer.Ordinal);
+    }
+
+    /// <summary>
+    /// Classes dont les libellés des valeurs sont accessibles par le code de leur enum, avec la clé de leur première valeur.
+    /// </summary>
+    /// <param name="entries">Libellés du module.</param>
+    /// <returns>Classes et clé de la première valeur.</returns>
+    private IEnumerable<(Class Classe, string First)> GetEnumClasses(IList<(string Key, string ResourceKey, object Source)> entries)
+    {
+        if (Config.UseJdbc || Config.EnumsAsEnums)
+        {
+            return [];
+        }
+
+        return entries
+            .Where(e => e.Source is ClassValue)
+            .GroupBy(e => ((ClassValue)e.Source).Class)
+            .Where(g => g.Key.EnumKey != null && g.Key.Extends == null && !Classes.Any(c => c.Extends == g.Key) && Config.CanClassUseEnums(g.Key, Classes))
+            .Select(g => (g.Key, g.First().Key));
+    }
+
+    /// <summary>
+    /// Libellés du module, dans l'ordre des clés. Les valeurs de listes de référence sont triées comme les enums des codes.
+    /// </summary>
+    /// <param name="catalog">Propriétés du module.</param>
+    /// <returns>Libellés.</returns>
+    private IEnumerable<(string Key, string ResourceKey, object Source)> GetEntries(IGrouping<string, IProperty> catalog)
+    {
+        foreach (var container in catalog.GroupBy(p => p.Parent).OrderBy(c => c.Key.NameCamel))
+        {
+            if (Config.TranslateProperties == true)
+            {
+                foreach (var property in container.Where(p => p.Label != null))
+                {
+                    yield return (GetKey(property.ResourceKey), property.ResourceKey, property);
+                }
+            }
+
+            if (container.Key is Class classe && classe.DefaultProperty != null && Config.TranslateReferences == true)
+            {
+                foreach (var value in classe.Values.OrderBy(v => v.Name, StringComparer.Ordinal))
+                {
+                    yield return (GetKey(value.ResourceKey), value.ResourceKey, value);
+                }
+            }
+        }
+
+        static string GetKey(string resourceKey)
+        {
+            return string.Join("_", resourceKey.Split('.').Skip(1).Select(s => s.ToConstantCase()));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+﻿namespace TopModel.Generator.Jpa;
+
+public enum StreamingMode
+{
+    /// <summary>
+    /// Endpoints retournant un `Flux` (NDJSON)
+    /// </summary>
+    Flux,
+
+    /// <summary>
+    /// Endpoints retournant un `Stream` (tableau JSON écrit au fil de l'eau)
+    /// </summary>
+    Stream
+}
\ No newline at end of file
@@ -289,7 +289,7 @@ public class CompletionHandler : CompletionHandlerBase
         };
         var propertyKeyWords = new List<string>()
         {
-            "property", "activeProperty", "exclude"
+            "property", "activeProperty", "partitionProperty", "watermarkProperty", "exclude"
         };
         if (className != null && ((isListElement || isInlineList) && propertyListKeyWords.Contains(currentKey.Key)
                                 || propertyKeyWords.Contains(currentKey.Key)))
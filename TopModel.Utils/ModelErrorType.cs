@@ -222,6 +222,16 @@ public enum ModelErrorType
     /// </summary>
     TMD2000,
 
+    /// <summary>
+    /// Le flux de données partitionné doit définir une 'partitionProperty', car la classe source '{classe}' n'a pas de clé primaire simple.
+    /// </summary>
+    TMD2001,
+
+    /// <summary>
+    /// Le flux de données incrémental doit définir une 'watermarkProperty'.
+    /// </summary>
+    TMD2002,
+
     /// <summary>
     /// Le fichier '{relativePath}' ne sera pas regénéré pour le motif : '{motif}'
     /// </summary>
@@ -0,0 +1,58 @@
+package topmodel.jpa.sample.demo.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilRead;
+import topmodel.jpa.sample.demo.entities.securite.profil.Droit;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.TypeUtilisateur;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+
+/**
+ * Jeux de données des benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+        // private constructor to hide implicite public one
+    }
+
+    static Profil profil() {
+        Profil profil = new Profil();
+        profil.setId(1);
+        profil.setLibelle("Administrateur");
+        profil.setDroits(new HashSet<>(Arrays.asList(Droit.CREATE, Droit.READ, Droit.UPDATE, Droit.DELETE)));
+        return profil;
+    }
+
+    static Utilisateur utilisateur(int id) {
+        Utilisateur utilisateur = new Utilisateur();
+        utilisateur.setId(id);
+        utilisateur.setNom("Doe");
+        utilisateur.setPrenom("John");
+        utilisateur.setEmail("john.doe." + id + "@example.com");
+        utilisateur.setDateNaissance(LocalDate.of(1990, 1, 1));
+        utilisateur.setAdresse("123 Main St");
+        utilisateur.setActif(true);
+        utilisateur.setProfil(profil());
+        utilisateur.setTypeUtilisateur(TypeUtilisateur.ADMIN);
+        utilisateur.setDateCreation(LocalDateTime.of(2024, 1, 1, 12, 0));
+        utilisateur.setDateModification(LocalDateTime.of(2024, 6, 1, 12, 0));
+        return utilisateur;
+    }
+
+    static ProfilRead profilRead() {
+        return new ProfilRead(
+                1,
+                "Administrateur",
+                Arrays.asList(DroitCode.CREATE, DroitCode.READ, DroitCode.UPDATE, DroitCode.DELETE),
+                LocalDateTime.of(2024, 1, 1, 12, 0),
+                null,
+                List.of());
+    }
+}
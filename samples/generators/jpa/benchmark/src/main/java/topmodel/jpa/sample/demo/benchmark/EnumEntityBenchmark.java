@@ -0,0 +1,63 @@
+package topmodel.jpa.sample.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Droit;
+import topmodel.jpa.sample.demo.entities.securite.profil.TypeDroit;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+import topmodel.jpa.sample.demo.enums.securite.profil.TypeDroitCode;
+
+/**
+ * Benchmarks des constructeurs des entités de liste de référence, comparés à la récupération
+ * de l'instance partagée via {@code valueOf}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumEntityBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TypeDroitState {
+        @Param
+        TypeDroitCode code;
+    }
+
+    @State(Scope.Benchmark)
+    public static class DroitState {
+        @Param
+        DroitCode code;
+    }
+
+    @Benchmark
+    public TypeDroit newTypeDroit(TypeDroitState state) {
+        return new TypeDroit(state.code);
+    }
+
+    @Benchmark
+    public Droit newDroit(DroitState state) {
+        return new Droit(state.code);
+    }
+
+    @Benchmark
+    public TypeDroit valueOfTypeDroit(TypeDroitState state) {
+        return TypeDroit.valueOf(state.code);
+    }
+
+    @Benchmark
+    public Droit valueOfDroit(DroitState state) {
+        return Droit.valueOf(state.code);
+    }
+}
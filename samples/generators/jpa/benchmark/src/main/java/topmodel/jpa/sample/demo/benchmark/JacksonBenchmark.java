@@ -0,0 +1,78 @@
+package topmodel.jpa.sample.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilRead;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.SecuriteUtilisateurMappers;
+
+/**
+ * Benchmarks de la (dé)sérialisation Jackson des DTOs générés.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private UtilisateurRead utilisateurRead;
+
+    private String utilisateurReadJson;
+
+    private ProfilRead profilRead;
+
+    private String profilReadJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        // Même configuration que l'ObjectMapper de Spring Boot
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        utilisateurRead = SecuriteUtilisateurMappers.createUtilisateurRead(BenchmarkData.utilisateur(1));
+        utilisateurReadJson = objectMapper.writeValueAsString(utilisateurRead);
+        profilRead = BenchmarkData.profilRead();
+        profilReadJson = objectMapper.writeValueAsString(profilRead);
+    }
+
+    @Benchmark
+    public String serializeUtilisateurRead() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(utilisateurRead);
+    }
+
+    @Benchmark
+    public UtilisateurRead deserializeUtilisateurRead() throws JsonProcessingException {
+        return objectMapper.readValue(utilisateurReadJson, UtilisateurRead.class);
+    }
+
+    @Benchmark
+    public String serializeProfilRead() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(profilRead);
+    }
+
+    @Benchmark
+    public ProfilRead deserializeProfilRead() throws JsonProcessingException {
+        return objectMapper.readValue(profilReadJson, ProfilRead.class);
+    }
+}
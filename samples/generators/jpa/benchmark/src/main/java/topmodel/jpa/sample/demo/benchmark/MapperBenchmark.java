@@ -0,0 +1,90 @@
+package topmodel.jpa.sample.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilWrite;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.profil.SecuriteProfilMappers;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.SecuriteUtilisateurMappers;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+
+/**
+ * Benchmarks des mappers générés.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class UtilisateurState {
+        Utilisateur utilisateur;
+
+        @Setup
+        public void setup() {
+            utilisateur = BenchmarkData.utilisateur(1);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UtilisateurListState {
+        @Param({ "100", "10000" })
+        int size;
+
+        List<Utilisateur> utilisateurs;
+
+        @Setup
+        public void setup() {
+            utilisateurs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                utilisateurs.add(BenchmarkData.utilisateur(i));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ProfilWriteState {
+        ProfilWrite profilWrite;
+
+        @Setup
+        public void setup() {
+            profilWrite = new ProfilWrite();
+            profilWrite.setLibelle("Gestionnaire");
+            profilWrite.setDroits(Arrays.asList(DroitCode.CREATE, DroitCode.READ, DroitCode.UPDATE));
+        }
+    }
+
+    @Benchmark
+    public UtilisateurRead createUtilisateurRead(UtilisateurState state) {
+        return SecuriteUtilisateurMappers.createUtilisateurRead(state.utilisateur);
+    }
+
+    @Benchmark
+    public List<UtilisateurRead> createUtilisateurReadList(UtilisateurListState state) {
+        return SecuriteUtilisateurMappers.createUtilisateurReadList(state.utilisateurs);
+    }
+
+    @Benchmark
+    public Profil toProfil(ProfilWriteState state) {
+        return SecuriteProfilMappers.toProfil(state.profilWrite, null);
+    }
+}
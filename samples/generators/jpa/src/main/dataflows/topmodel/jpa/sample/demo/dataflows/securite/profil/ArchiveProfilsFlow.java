@@ -0,0 +1,299 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dataflows.securite.profil;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.bytefish.pgbulkinsert.mapping.AbstractMapping;
+import de.bytefish.pgbulkinsert.model.ColumnDefinition;
+import de.bytefish.pgbulkinsert.pgsql.constants.DataType;
+import de.bytefish.pgbulkinsert.pgsql.PgBinaryWriter;
+
+import io.github.kleecontrib.spring.batch.bulk.mapping.AbstractUpsertMapping;
+import io.github.kleecontrib.spring.batch.bulk.upsert.BulkItemWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.profil.ProfilRowMapper;
+
+@Configuration
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ArchiveProfilsFlow {
+
+	protected ArchiveProfilsFlow() {
+		// protected constructor to hide implicite public one
+	}
+
+	@Bean("ArchiveProfilsFlow")
+	public static Flow archiveProfilsFlow(
+				@Qualifier("ArchiveProfilsStep") Step archiveProfilsStep) {
+		return new FlowBuilder<Flow>("ArchiveProfilsFlow") //
+			.start(archiveProfilsStep) //
+			.build();
+	}
+
+	@Bean("ArchiveProfilsStep")
+	public static Step archiveProfilsStep(
+			JobRepository jobRepository, //
+			PlatformTransactionManager transactionManager, //
+			@Qualifier("ArchiveProfilsReader") ItemReader<Profil> reader, //
+			MeterRegistry meterRegistry, //
+			@Qualifier("ArchiveProfilsWriter") ItemWriter<Profil> writer //
+	) {
+		AdaptiveChunkPolicy chunkPolicy = new AdaptiveChunkPolicy(50000, 1000, 64, new ProfilMapping(null));
+		MetricsListener metricsListener = new MetricsListener(meterRegistry);
+		return new StepBuilder("ArchiveProfilsStep", jobRepository) //
+			.<Profil, Profil>chunk(chunkPolicy, transactionManager) //
+			.reader(reader) //
+			.listener((ChunkListener) chunkPolicy) //
+			.listener((ItemWriteListener<Profil>) chunkPolicy) //
+			.listener((ItemReadListener<Profil>) metricsListener) //
+			.listener((ItemProcessListener<Profil, Profil>) metricsListener) //
+			.listener((ItemWriteListener<Profil>) metricsListener) //
+			.faultTolerant() //
+			.skipPolicy(new AlwaysSkipItemSkipPolicy()) //
+			.listener((SkipListener<Profil, Profil>) metricsListener) //
+			.writer(writer) //
+			.build();
+	}
+
+	@Bean("ArchiveProfilsReader")
+	public static ItemReader<Profil> archiveProfilsReader( //
+			@Qualifier("dataSource") DataSource datasource) {
+		return new JdbcCursorItemReaderBuilder<Profil>() //
+				.name("ArchiveProfilsReader") //
+				.rowMapper(new ProfilRowMapper()) //
+				.sql("select " + ProfilRowMapper.COLUMNS + " from PROFIL") //
+				.fetchSize(2000) //
+				.dataSource(datasource) //
+				.build();
+	}
+
+	/**
+	 * Politique de taille des chunks du flux, ajustée après chaque écriture selon le débit observé et la largeur des lignes écrites.
+	 * La taille commence au dixième de la taille maximale. La taille choisie est conservée dans le contexte d'exécution du step ('chunkSize').
+	 */
+	private static class AdaptiveChunkPolicy extends SimpleCompletionPolicy implements ChunkListener, ItemWriteListener<Profil> {
+
+		/**
+		 * Nombre maximal d'éléments de chaque chunk encodés pour mesurer la largeur des lignes.
+		 */
+		private static final int WIDTH_SAMPLE_SIZE = 100;
+
+		/**
+		 * Taille de l'en-tête (19 octets) et de la fin (2 octets) du flux binaire de la commande COPY, qui ne font pas partie des lignes.
+		 */
+		private static final int COPY_ENVELOPE_SIZE = 21;
+
+		private final int maxChunkSize;
+
+		private final long targetNanos;
+
+		private final long maxChunkBytes;
+
+		private final AbstractMapping<Profil> mapping;
+
+		// Les partitions d'un flux partitionné partagent la politique
+		private final ThreadLocal<Long> writeStart = new ThreadLocal<>();
+
+		public AdaptiveChunkPolicy(int maxChunkSize, long targetMillis, long maxChunkMegabytes, AbstractMapping<Profil> mapping) {
+			super(Math.max(1, maxChunkSize / 10));
+			this.maxChunkSize = maxChunkSize;
+			this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+			this.maxChunkBytes = maxChunkMegabytes * 1024 * 1024;
+			this.mapping = mapping;
+		}
+
+		@Override
+		public void beforeWrite(Chunk<? extends Profil> items) {
+			writeStart.set(System.nanoTime());
+		}
+
+		@Override
+		public void afterWrite(Chunk<? extends Profil> items) {
+			if (items.isEmpty() || writeStart.get() == null) {
+				return;
+			}
+
+			long elapsed = Math.max(1, System.nanoTime() - writeStart.get());
+			// Taille proportionnelle au débit observé, sans plus que doubler ou diviser par deux d'un chunk à l'autre
+			long size = items.size() * targetNanos / elapsed;
+			size = Math.max(getChunkSize() / 2, Math.min(size, getChunkSize() * 2L));
+			// Sans dépasser la mémoire allouée aux lignes d'un chunk
+			size = Math.min(size, maxChunkBytes / rowWidth(items));
+			setChunkSize((int) Math.max(1, Math.min(size, maxChunkSize)));
+		}
+
+		@Override
+		public void afterChunk(ChunkContext context) {
+			context.getStepContext().getStepExecution().getExecutionContext().putInt("chunkSize", getChunkSize());
+		}
+
+		/**
+		 * Largeur moyenne (en octets) des lignes du chunk, mesurée en encodant un échantillon de ses éléments au format binaire de la commande COPY, avec le mapping du writer.
+		 */
+		private long rowWidth(Chunk<? extends Profil> items) {
+			long[] bytes = new long[1];
+			OutputStream counter = new OutputStream() {
+				@Override
+				public void write(int b) {
+					bytes[0]++;
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) {
+					bytes[0] += len;
+				}
+			};
+
+			List<? extends Profil> sample = items.getItems();
+			int count = Math.min(sample.size(), WIDTH_SAMPLE_SIZE);
+			try (PgBinaryWriter writer = new PgBinaryWriter(counter)) {
+				for (int i = 0; i < count; i++) {
+					// Éléments répartis sur tout le chunk
+					Profil item = sample.get(i * sample.size() / count);
+					writer.startRow(mapping.getColumns().size());
+					for (ColumnDefinition<Profil> column : mapping.getColumns()) {
+						column.getWrite().accept(writer, item);
+					}
+				}
+			}
+
+			return Math.max(1, (bytes[0] - COPY_ENVELOPE_SIZE) / count);
+		}
+	}
+
+	/**
+	 * Listener qui publie les métriques Micrometer du flux : durées de lecture, de transformation et d'écriture, éléments lus, écrits et ignorés.
+	 */
+	private static class MetricsListener implements ItemReadListener<Profil>, ItemProcessListener<Profil, Profil>, ItemWriteListener<Profil>, SkipListener<Profil, Profil> {
+
+		private final Timer readTimer;
+
+		private final Timer processTimer;
+
+		private final Timer writeTimer;
+
+		private final Counter readItems;
+
+		private final Counter writtenItems;
+
+		private final Counter readSkips;
+
+		private final Counter processSkips;
+
+		private final Counter writeSkips;
+
+		// Début de la lecture, de la transformation et de l'écriture en cours (les partitions d'un flux partitionné partagent le listener)
+		private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[3]);
+
+		public MetricsListener(MeterRegistry registry) {
+			Tags tags = Tags.of("flow", "ArchiveProfils", "module", "Securite.Profil");
+			readTimer = Timer.builder("dataflow.read").description("Durée de lecture d'un élément").tags(tags).register(registry);
+			processTimer = Timer.builder("dataflow.process").description("Durée de transformation d'un élément").tags(tags).register(registry);
+			writeTimer = Timer.builder("dataflow.write").description("Durée d'écriture d'un chunk").tags(tags).register(registry);
+			readItems = Counter.builder("dataflow.items.read").description("Éléments lus").tags(tags).register(registry);
+			writtenItems = Counter.builder("dataflow.items.written").description("Éléments écrits").tags(tags).register(registry);
+			readSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "read").register(registry);
+			processSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "process").register(registry);
+			writeSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "write").register(registry);
+		}
+
+		@Override
+		public void beforeRead() {
+			starts.get()[0] = System.nanoTime();
+		}
+
+		@Override
+		public void afterRead(Profil item) {
+			readTimer.record(System.nanoTime() - starts.get()[0], TimeUnit.NANOSECONDS);
+			readItems.increment();
+		}
+
+		@Override
+		public void beforeProcess(Profil item) {
+			starts.get()[1] = System.nanoTime();
+		}
+
+		@Override
+		public void afterProcess(Profil item, Profil result) {
+			processTimer.record(System.nanoTime() - starts.get()[1], TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void beforeWrite(Chunk<? extends Profil> items) {
+			starts.get()[2] = System.nanoTime();
+		}
+
+		@Override
+		public void afterWrite(Chunk<? extends Profil> items) {
+			writeTimer.record(System.nanoTime() - starts.get()[2], TimeUnit.NANOSECONDS);
+			writtenItems.increment(items.size());
+		}
+
+		@Override
+		public void onSkipInRead(Throwable t) {
+			readSkips.increment();
+		}
+
+		@Override
+		public void onSkipInProcess(Profil item, Throwable t) {
+			processSkips.increment();
+		}
+
+		@Override
+		public void onSkipInWrite(Profil item, Throwable t) {
+			writeSkips.increment();
+		}
+	}
+
+	@Bean("ArchiveProfilsWriter")
+	public static ItemWriter<Profil> archiveProfilsWriter(@Qualifier("historiqueDataSource") HikariDataSource targetDataSource) {
+		return new BulkItemWriter<>(targetDataSource, new ProfilMapping(targetDataSource.getSchema()));
+	}
+
+	private static class ProfilMapping extends AbstractUpsertMapping<Profil> {
+		public ProfilMapping(String schema) {
+			super(schema, "PROFIL", "PRO_ID");
+			map("PRO_ID", DataType.Int4, Profil::getId);
+			map("PRO_LIBELLE", DataType.VarChar, Profil::getLibelle);
+			map("PRO_DATE_CREATION", DataType.Timestamp, Profil::getDateCreation);
+			map("PRO_DATE_MODIFICATION", DataType.Timestamp, Profil::getDateModification);
+		}
+	}
+}
@@ -0,0 +1,299 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dataflows.securite.profil;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.PGConnection;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.bytefish.pgbulkinsert.pgsql.constants.DataType;
+
+import io.github.kleecontrib.spring.batch.bulk.mapping.AbstractUpsertMapping;
+import io.github.kleecontrib.spring.batch.bulk.upsert.BulkItemWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+
+@Configuration
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ImportProfilsHistoriqueFlow {
+
+	protected ImportProfilsHistoriqueFlow() {
+		// protected constructor to hide implicite public one
+	}
+
+	@Bean("ImportProfilsHistoriqueFlow")
+	public static Flow importProfilsHistoriqueFlow(
+				@Qualifier("ImportProfilsHistoriqueStep") Step importProfilsHistoriqueStep) {
+		return new FlowBuilder<Flow>("ImportProfilsHistoriqueFlow") //
+			.start(importProfilsHistoriqueStep) //
+			.build();
+	}
+
+	@Bean("ImportProfilsHistoriqueStep")
+	public static Step importProfilsHistoriqueStep(
+			JobRepository jobRepository, //
+			PlatformTransactionManager transactionManager, //
+			@Qualifier("ImportProfilsHistoriqueReader") ItemReader<Profil> reader, //
+			MeterRegistry meterRegistry, //
+			@Qualifier("ImportProfilsHistoriqueWriter") ItemWriter<Profil> writer //
+	) {
+		MetricsListener metricsListener = new MetricsListener(meterRegistry);
+		return new StepBuilder("ImportProfilsHistoriqueStep", jobRepository) //
+			.<Profil, Profil>chunk(100000, transactionManager) //
+			.reader(reader) //
+			.listener((ItemReadListener<Profil>) metricsListener) //
+			.listener((ItemProcessListener<Profil, Profil>) metricsListener) //
+			.listener((ItemWriteListener<Profil>) metricsListener) //
+			.faultTolerant() //
+			.skipPolicy(new AlwaysSkipItemSkipPolicy()) //
+			.listener((SkipListener<Profil, Profil>) metricsListener) //
+			.writer(writer) //
+			.build();
+	}
+
+	@Bean("ImportProfilsHistoriqueReader")
+	public static ItemReader<Profil> importProfilsHistoriqueReader( //
+			@Qualifier("historiqueDataSource") DataSource datasource) {
+		return new ProfilCopyReader("ImportProfilsHistoriqueReader", datasource, "COPY (select PRO_ID, PRO_LIBELLE, PRO_DATE_CREATION, PRO_DATE_MODIFICATION from PROFIL) TO STDOUT (FORMAT binary)");
+	}
+
+	/**
+	 * Reader de 'Profil', qui décode le flux binaire de la commande COPY de PostgreSQL.
+	 */
+	private static class ProfilCopyReader extends AbstractItemCountingItemStreamItemReader<Profil> {
+
+		private static final byte[] SIGNATURE = "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+
+		private final DataSource dataSource;
+
+		private final String query;
+
+		private Connection connection;
+
+		private DataInputStream input;
+
+		public ProfilCopyReader(String name, DataSource dataSource, String query) {
+			this.dataSource = dataSource;
+			this.query = query;
+			setName(name);
+		}
+
+		@Override
+		protected void doOpen() throws Exception {
+			connection = dataSource.getConnection();
+			input = new DataInputStream(new BufferedInputStream(new PGCopyInputStream(connection.unwrap(PGConnection.class), query), 65536));
+			if (!Arrays.equals(input.readNBytes(SIGNATURE.length), SIGNATURE)) {
+				throw new IllegalStateException("Le flux lu n'est pas au format binaire de la commande COPY");
+			}
+
+			// Flags, puis extension de l'en-tête
+			input.readInt();
+			input.readNBytes(input.readInt());
+		}
+
+		@Override
+		protected Profil doRead() throws Exception {
+			// Nombre de colonnes de la ligne, ou -1 à la fin du flux
+			if (input.readShort() == -1) {
+				return null;
+			}
+
+			Profil profil = new Profil();
+			profil.setId(readInteger(input));
+			profil.setLibelle(readString(input));
+			profil.setDateCreation(readLocalDateTime(input));
+			profil.setDateModification(readLocalDateTime(input));
+
+			return profil;
+		}
+
+		@Override
+		protected void doClose() throws Exception {
+			// La fermeture du flux annule la commande COPY si elle n'a pas été lue jusqu'au bout
+			if (input != null) {
+				input.close();
+				input = null;
+			}
+
+			if (connection != null) {
+				connection.close();
+				connection = null;
+			}
+		}
+
+		private static String readString(DataInputStream input) throws IOException {
+			int length = input.readInt();
+			return length == -1 ? null : new String(input.readNBytes(length), StandardCharsets.UTF_8);
+		}
+
+		private static Integer readInteger(DataInputStream input) throws IOException {
+			Long value = readLong(input);
+			return value == null ? null : value.intValue();
+		}
+
+		private static Long readLong(DataInputStream input) throws IOException {
+			// Les entiers sont lus selon leur taille (smallint, integer ou bigint)
+			int length = input.readInt();
+			if (length == -1) {
+				return null;
+			} else if (length == 2) {
+				return (long) input.readShort();
+			} else if (length == 4) {
+				return (long) input.readInt();
+			}
+
+			return input.readLong();
+		}
+
+		private static LocalDateTime readLocalDateTime(DataInputStream input) throws IOException {
+			// Les dates sont lues selon leur taille (date ou timestamp), à partir du 01/01/2000
+			int length = input.readInt();
+			if (length == -1) {
+				return null;
+			} else if (length == 4) {
+				return LocalDate.of(2000, 1, 1).plusDays(input.readInt()).atStartOfDay();
+			}
+
+			return LocalDateTime.of(2000, 1, 1, 0, 0).plus(input.readLong(), ChronoUnit.MICROS);
+		}
+	}
+
+	/**
+	 * Listener qui publie les métriques Micrometer du flux : durées de lecture, de transformation et d'écriture, éléments lus, écrits et ignorés.
+	 */
+	private static class MetricsListener implements ItemReadListener<Profil>, ItemProcessListener<Profil, Profil>, ItemWriteListener<Profil>, SkipListener<Profil, Profil> {
+
+		private final Timer readTimer;
+
+		private final Timer processTimer;
+
+		private final Timer writeTimer;
+
+		private final Counter readItems;
+
+		private final Counter writtenItems;
+
+		private final Counter readSkips;
+
+		private final Counter processSkips;
+
+		private final Counter writeSkips;
+
+		// Début de la lecture, de la transformation et de l'écriture en cours (les partitions d'un flux partitionné partagent le listener)
+		private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[3]);
+
+		public MetricsListener(MeterRegistry registry) {
+			Tags tags = Tags.of("flow", "ImportProfilsHistorique", "module", "Securite.Profil");
+			readTimer = Timer.builder("dataflow.read").description("Durée de lecture d'un élément").tags(tags).register(registry);
+			processTimer = Timer.builder("dataflow.process").description("Durée de transformation d'un élément").tags(tags).register(registry);
+			writeTimer = Timer.builder("dataflow.write").description("Durée d'écriture d'un chunk").tags(tags).register(registry);
+			readItems = Counter.builder("dataflow.items.read").description("Éléments lus").tags(tags).register(registry);
+			writtenItems = Counter.builder("dataflow.items.written").description("Éléments écrits").tags(tags).register(registry);
+			readSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "read").register(registry);
+			processSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "process").register(registry);
+			writeSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "write").register(registry);
+		}
+
+		@Override
+		public void beforeRead() {
+			starts.get()[0] = System.nanoTime();
+		}
+
+		@Override
+		public void afterRead(Profil item) {
+			readTimer.record(System.nanoTime() - starts.get()[0], TimeUnit.NANOSECONDS);
+			readItems.increment();
+		}
+
+		@Override
+		public void beforeProcess(Profil item) {
+			starts.get()[1] = System.nanoTime();
+		}
+
+		@Override
+		public void afterProcess(Profil item, Profil result) {
+			processTimer.record(System.nanoTime() - starts.get()[1], TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void beforeWrite(Chunk<? extends Profil> items) {
+			starts.get()[2] = System.nanoTime();
+		}
+
+		@Override
+		public void afterWrite(Chunk<? extends Profil> items) {
+			writeTimer.record(System.nanoTime() - starts.get()[2], TimeUnit.NANOSECONDS);
+			writtenItems.increment(items.size());
+		}
+
+		@Override
+		public void onSkipInRead(Throwable t) {
+			readSkips.increment();
+		}
+
+		@Override
+		public void onSkipInProcess(Profil item, Throwable t) {
+			processSkips.increment();
+		}
+
+		@Override
+		public void onSkipInWrite(Profil item, Throwable t) {
+			writeSkips.increment();
+		}
+	}
+
+	@Bean("ImportProfilsHistoriqueWriter")
+	public static ItemWriter<Profil> importProfilsHistoriqueWriter(@Qualifier("dataSource") HikariDataSource targetDataSource) {
+		return new BulkItemWriter<>(targetDataSource, new ProfilMapping(targetDataSource.getSchema()));
+	}
+
+	private static class ProfilMapping extends AbstractUpsertMapping<Profil> {
+		public ProfilMapping(String schema) {
+			super(schema, "PROFIL", "PRO_ID");
+			map("PRO_ID", DataType.Int4, Profil::getId);
+			map("PRO_LIBELLE", DataType.VarChar, Profil::getLibelle);
+			map("PRO_DATE_CREATION", DataType.Timestamp, Profil::getDateCreation);
+			map("PRO_DATE_MODIFICATION", DataType.Timestamp, Profil::getDateModification);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dataflows.securite.profil;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskExecutor;
+
+import jakarta.annotation.Generated;
+
+@Configuration
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+@Import({ImportProfilsHistoriqueFlow.class, ArchiveProfilsFlow.class})
+public class SecuriteProfilJobConfiguration {
+	@Bean("SecuriteProfilJob")
+	public Job securiteProfilJob( //
+				JobRepository jobRepository, //
+				TaskExecutor taskExecutor, //
+			@Qualifier("ImportProfilsHistoriqueFlow") Flow importProfilsHistoriqueFlow, //
+			@Qualifier("ArchiveProfilsFlow") Flow archiveProfilsFlow
+	) {
+		return new JobBuilder("SecuriteProfilJob", jobRepository) //
+				.incrementer(new RunIdIncrementer()) //
+				.start( //
+		          new FlowBuilder<Flow>("ImportProfilsHistorique-ArchiveProfils") //
+		            .split(taskExecutor) //
+		            .add( //
+		              importProfilsHistoriqueFlow, //
+		              archiveProfilsFlow //
+		          ) //
+		          .build())
+				.end() //
+				.build();
+	}
+}
@@ -0,0 +1,349 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dataflows.securite.utilisateur;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.bytefish.pgbulkinsert.pgsql.constants.DataType;
+
+import io.github.kleecontrib.spring.batch.bulk.mapping.AbstractUpsertMapping;
+import io.github.kleecontrib.spring.batch.bulk.upsert.BulkItemWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.profil.ProfilRowMapper;
+
+@Configuration
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ImportProfilsFlow {
+
+	protected ImportProfilsFlow() {
+		// protected constructor to hide implicite public one
+	}
+
+	@Bean("ImportProfilsFlow")
+	public static Flow importProfilsFlow(
+				@Qualifier("ImportProfilsStep") Step importProfilsStep) {
+		return new FlowBuilder<Flow>("ImportProfilsFlow") //
+			.start(importProfilsStep) //
+			.build();
+	}
+
+	@Bean("ImportProfilsStep")
+	public static Step importProfilsStep(
+			JobRepository jobRepository, //
+			PlatformTransactionManager transactionManager, //
+			@Qualifier("ImportProfilsReader") ItemReader<Profil> reader, //
+			JobExplorer jobExplorer, //
+			MeterRegistry meterRegistry, //
+			@Qualifier("ImportProfilsWriter") ItemWriter<Profil> writer //
+	) {
+		ProfilWatermarkListener watermarkListener = new ProfilWatermarkListener(jobExplorer);
+		MetricsListener metricsListener = new MetricsListener(meterRegistry);
+		return new StepBuilder("ImportProfilsStep", jobRepository) //
+			.<Profil, Profil>chunk(100000, transactionManager) //
+			.reader(reader) //
+			.listener((StepExecutionListener) watermarkListener) //
+			.listener((ItemReadListener<Profil>) watermarkListener) //
+			.listener((ChunkListener) watermarkListener) //
+			.listener((ItemReadListener<Profil>) metricsListener) //
+			.listener((ItemProcessListener<Profil, Profil>) metricsListener) //
+			.listener((ItemWriteListener<Profil>) metricsListener) //
+			.faultTolerant() //
+			.skipPolicy(new AlwaysSkipItemSkipPolicy()) //
+			.listener((SkipListener<Profil, Profil>) metricsListener) //
+			.listener((SkipListener<Profil, Profil>) watermarkListener) //
+			.writer(writer) //
+			.build();
+	}
+
+	@Bean("ImportProfilsReader")
+	@StepScope
+	public static JdbcCursorItemReader<Profil> importProfilsReader( //
+			@Qualifier("referentielDataSource") DataSource datasource, //
+			@Value("#{stepExecutionContext['watermark']}") LocalDateTime watermark) {
+		// Sans exécution précédente, toute la source est lue
+		return new JdbcCursorItemReaderBuilder<Profil>() //
+				.name("ImportProfilsReader") //
+				.rowMapper(new ProfilRowMapper()) //
+				.sql(watermark == null //
+						? "select " + ProfilRowMapper.COLUMNS + " from PROFIL order by PRO_DATE_MODIFICATION" //
+						: "select " + ProfilRowMapper.COLUMNS + " from PROFIL where PRO_DATE_MODIFICATION >= ? order by PRO_DATE_MODIFICATION") //
+				.queryArguments(watermark == null ? new Object[0] : new Object[] { watermark }) //
+				.fetchSize(100000) //
+				.dataSource(datasource) //
+				.build();
+	}
+
+	/**
+	 * Listener qui publie les métriques Micrometer du flux : durées de lecture, de transformation et d'écriture, éléments lus, écrits et ignorés.
+	 */
+	private static class MetricsListener implements ItemReadListener<Profil>, ItemProcessListener<Profil, Profil>, ItemWriteListener<Profil>, SkipListener<Profil, Profil> {
+
+		private final Timer readTimer;
+
+		private final Timer processTimer;
+
+		private final Timer writeTimer;
+
+		private final Counter readItems;
+
+		private final Counter writtenItems;
+
+		private final Counter readSkips;
+
+		private final Counter processSkips;
+
+		private final Counter writeSkips;
+
+		// Début de la lecture, de la transformation et de l'écriture en cours (les partitions d'un flux partitionné partagent le listener)
+		private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[3]);
+
+		public MetricsListener(MeterRegistry registry) {
+			Tags tags = Tags.of("flow", "ImportProfils", "module", "Securite.Utilisateur");
+			readTimer = Timer.builder("dataflow.read").description("Durée de lecture d'un élément").tags(tags).register(registry);
+			processTimer = Timer.builder("dataflow.process").description("Durée de transformation d'un élément").tags(tags).register(registry);
+			writeTimer = Timer.builder("dataflow.write").description("Durée d'écriture d'un chunk").tags(tags).register(registry);
+			readItems = Counter.builder("dataflow.items.read").description("Éléments lus").tags(tags).register(registry);
+			writtenItems = Counter.builder("dataflow.items.written").description("Éléments écrits").tags(tags).register(registry);
+			readSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "read").register(registry);
+			processSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "process").register(registry);
+			writeSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "write").register(registry);
+		}
+
+		@Override
+		public void beforeRead() {
+			starts.get()[0] = System.nanoTime();
+		}
+
+		@Override
+		public void afterRead(Profil item) {
+			readTimer.record(System.nanoTime() - starts.get()[0], TimeUnit.NANOSECONDS);
+			readItems.increment();
+		}
+
+		@Override
+		public void beforeProcess(Profil item) {
+			starts.get()[1] = System.nanoTime();
+		}
+
+		@Override
+		public void afterProcess(Profil item, Profil result) {
+			processTimer.record(System.nanoTime() - starts.get()[1], TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void beforeWrite(Chunk<? extends Profil> items) {
+			starts.get()[2] = System.nanoTime();
+		}
+
+		@Override
+		public void afterWrite(Chunk<? extends Profil> items) {
+			writeTimer.record(System.nanoTime() - starts.get()[2], TimeUnit.NANOSECONDS);
+			writtenItems.increment(items.size());
+		}
+
+		@Override
+		public void onSkipInRead(Throwable t) {
+			readSkips.increment();
+		}
+
+		@Override
+		public void onSkipInProcess(Profil item, Throwable t) {
+			processSkips.increment();
+		}
+
+		@Override
+		public void onSkipInWrite(Profil item, Throwable t) {
+			writeSkips.increment();
+		}
+	}
+
+	/**
+	 * Listener du flux incrémental, qui conserve dans le contexte d'exécution du step la plus grande valeur de 'dateModification' écrite.
+	 * Le reader ne lit que les lignes dont la valeur est supérieure ou égale à celle de la dernière exécution terminée.
+	 * La valeur n'avance qu'à la fin de chaque chunk écrit. Si des éléments sont ignorés par la politique de skip, la valeur conservée est celle de l'élément ignoré (ou du début de son chunk), pour qu'il soit relu par l'exécution suivante.
+	 */
+	private static class ProfilWatermarkListener implements StepExecutionListener, ItemReadListener<Profil>, ChunkListener, SkipListener<Profil, Profil> {
+
+		/**
+		 * Nombre maximal d'instances du job parcourues pour trouver la dernière exécution terminée du step.
+		 */
+		private static final int MAX_JOB_INSTANCES = 100;
+
+		private final JobExplorer jobExplorer;
+
+		// Plus grande valeur des chunks écrits
+		private LocalDateTime watermark;
+
+		// Plus grande valeur lue, conservée à la fin du chunk en cours
+		private LocalDateTime readWatermark;
+
+		// Valeur de début du chunk en cours
+		private LocalDateTime chunkWatermark;
+
+		// Plus petite valeur à relire, si des éléments ont été ignorés
+		private LocalDateTime skipWatermark;
+
+		private boolean skipped;
+
+		public ProfilWatermarkListener(JobExplorer jobExplorer) {
+			this.jobExplorer = jobExplorer;
+		}
+
+		@Override
+		public void beforeStep(StepExecution stepExecution) {
+			ExecutionContext context = stepExecution.getExecutionContext();
+			// En cas de reprise, le contexte contient déjà la valeur utilisée par l'exécution interrompue
+			if (!context.containsKey("watermark")) {
+				LocalDateTime previous = findLastWatermark(stepExecution);
+				if (previous != null) {
+					context.put("watermark", previous);
+				}
+			}
+
+			watermark = (LocalDateTime) context.get("watermark");
+			readWatermark = watermark;
+			skipWatermark = null;
+			skipped = false;
+		}
+
+		@Override
+		public void beforeChunk(ChunkContext context) {
+			chunkWatermark = watermark;
+		}
+
+		@Override
+		public void afterRead(Profil item) {
+			LocalDateTime value = item.getDateModification();
+			if (value != null && (readWatermark == null || value.compareTo(readWatermark) > 0)) {
+				readWatermark = value;
+			}
+		}
+
+		@Override
+		public void afterChunk(ChunkContext context) {
+			// Le chunk est écrit : les éléments lus (triés selon la valeur) n'ont plus à être relus
+			// Après une erreur d'écriture, les éléments du chunk sont réécrits un par un, chacun dans sa transaction : la valeur n'avance qu'une fois tout le chunk traité
+			if (context.isComplete()) {
+				watermark = readWatermark;
+			}
+		}
+
+		@Override
+		public void onSkipInRead(Throwable t) {
+			// La valeur de la ligne ignorée n'est pas connue : le chunk sera relu depuis son début
+			skip(chunkWatermark);
+		}
+
+		@Override
+		public void onSkipInProcess(Profil item, Throwable t) {
+			skip(item.getDateModification());
+		}
+
+		@Override
+		public void onSkipInWrite(Profil item, Throwable t) {
+			skip(chunkWatermark);
+		}
+
+		@Override
+		public ExitStatus afterStep(StepExecution stepExecution) {
+			LocalDateTime value = skipped ? skipWatermark : watermark;
+			if (stepExecution.getStatus() == BatchStatus.COMPLETED && value != null) {
+				stepExecution.getExecutionContext().put("watermark", value);
+			}
+
+			return stepExecution.getExitStatus();
+		}
+
+		/**
+		 * Abaisse la valeur conservée à celle d'un élément ignoré (null : toute la source sera relue).
+		 */
+		private void skip(LocalDateTime value) {
+			if (!skipped || (skipWatermark != null && (value == null || value.compareTo(skipWatermark) < 0))) {
+				skipWatermark = value;
+			}
+
+			skipped = true;
+		}
+
+		/**
+		 * Recherche la valeur conservée par la dernière exécution terminée du step, parmi les instances du job les plus récentes.
+		 * Si aucune n'est trouvée, toute la source est relue (le writer fait un upsert).
+		 */
+		private LocalDateTime findLastWatermark(StepExecution stepExecution) {
+			String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+			for (JobInstance instance : jobExplorer.getJobInstances(jobName, 0, MAX_JOB_INSTANCES)) {
+				for (JobExecution jobExecution : jobExplorer.getJobExecutions(instance)) {
+					for (StepExecution previous : jobExecution.getStepExecutions()) {
+						if (previous.getStepName().equals(stepExecution.getStepName()) && previous.getStatus() == BatchStatus.COMPLETED
+								&& previous.getExecutionContext().containsKey("watermark")) {
+							return (LocalDateTime) previous.getExecutionContext().get("watermark");
+						}
+					}
+				}
+			}
+
+			return null;
+		}
+	}
+
+	@Bean("ImportProfilsWriter")
+	public static ItemWriter<Profil> importProfilsWriter(@Qualifier("dataSource") HikariDataSource targetDataSource) {
+		return new BulkItemWriter<>(targetDataSource, new ProfilMapping(targetDataSource.getSchema()));
+	}
+
+	private static class ProfilMapping extends AbstractUpsertMapping<Profil> {
+		public ProfilMapping(String schema) {
+			super(schema, "PROFIL", "PRO_ID");
+			map("PRO_ID", DataType.Int4, Profil::getId);
+			map("PRO_LIBELLE", DataType.VarChar, Profil::getLibelle);
+			map("PRO_DATE_CREATION", DataType.Timestamp, Profil::getDateCreation);
+			map("PRO_DATE_MODIFICATION", DataType.Timestamp, Profil::getDateModification);
+		}
+	}
+}
@@ -0,0 +1,391 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dataflows.securite.utilisateur;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.PGConnection;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.bytefish.pgbulkinsert.pgsql.constants.DataType;
+
+import io.github.kleecontrib.spring.batch.bulk.mapping.AbstractUpsertMapping;
+import io.github.kleecontrib.spring.batch.bulk.upsert.BulkItemWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.TypeUtilisateur;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+@Configuration
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ImportUtilisateursFlow {
+
+	protected ImportUtilisateursFlow() {
+		// protected constructor to hide implicite public one
+	}
+
+	@Bean("ImportUtilisateursFlow")
+	public static Flow importUtilisateursFlow(
+				@Qualifier("ImportUtilisateursStep") Step importUtilisateursStep) {
+		return new FlowBuilder<Flow>("ImportUtilisateursFlow") //
+			.start(importUtilisateursStep) //
+			.build();
+	}
+
+	@Bean("ImportUtilisateursWorkerStep")
+	public static Step importUtilisateursWorkerStep(
+			JobRepository jobRepository, //
+			PlatformTransactionManager transactionManager, //
+			@Qualifier("ImportUtilisateursReader") ItemReader<Utilisateur> reader, //
+			MeterRegistry meterRegistry, //
+			@Qualifier("ImportUtilisateursWriter") ItemWriter<Utilisateur> writer //
+	) {
+		MetricsListener metricsListener = new MetricsListener(meterRegistry);
+		return new StepBuilder("ImportUtilisateursWorkerStep", jobRepository) //
+			.<Utilisateur, Utilisateur>chunk(20000, transactionManager) //
+			.reader(reader) //
+			.listener((ItemReadListener<Utilisateur>) metricsListener) //
+			.listener((ItemProcessListener<Utilisateur, Utilisateur>) metricsListener) //
+			.listener((ItemWriteListener<Utilisateur>) metricsListener) //
+			.faultTolerant() //
+			.skipPolicy(new AlwaysSkipItemSkipPolicy()) //
+			.listener((SkipListener<Utilisateur, Utilisateur>) metricsListener) //
+			.writer(writer) //
+			.build();
+	}
+
+	@Bean("ImportUtilisateursStep")
+	public static Step importUtilisateursStep( //
+			JobRepository jobRepository, //
+			@Qualifier("ImportUtilisateursPartitioner") Partitioner partitioner, //
+			@Qualifier("ImportUtilisateursWorkerStep") Step workerStep) {
+		// Exécuteur dédié, pour que les partitions ne soient pas en concurrence avec les flux exécutés en parallèle par le job
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("ImportUtilisateurs-");
+		taskExecutor.setConcurrencyLimit(4);
+		return new StepBuilder("ImportUtilisateursStep", jobRepository) //
+			.partitioner("ImportUtilisateursWorkerStep", partitioner) //
+			.step(workerStep) //
+			.gridSize(4) //
+			.taskExecutor(taskExecutor) //
+			.build();
+	}
+
+	/**
+	 * Découpe la source en partitions de même étendue de valeurs de 'UTI_ID'.
+	 */
+	@Bean("ImportUtilisateursPartitioner")
+	public static Partitioner importUtilisateursPartitioner(@Qualifier("historiqueDataSource") DataSource dataSource) {
+		return gridSize -> {
+			Map<String, Object> bounds = new JdbcTemplate(dataSource).queryForMap("select min(UTI_ID) as min_value, max(UTI_ID) as max_value from UTILISATEUR");
+			Number minValue = (Number) bounds.get("min_value");
+			Number maxValue = (Number) bounds.get("max_value");
+			long min = minValue == null ? 0 : minValue.longValue();
+			long max = maxValue == null ? -1 : maxValue.longValue();
+			long size = (max - min) / gridSize + 1;
+			Map<String, ExecutionContext> partitions = new HashMap<>();
+			for (int i = 0; i < gridSize && (i == 0 || min + i * size <= max); i++) {
+				ExecutionContext context = new ExecutionContext();
+				context.putLong("minValue", min + i * size);
+				context.putLong("maxValue", Math.min(min + (i + 1) * size - 1, max));
+				partitions.put("partition" + i, context);
+			}
+
+			return partitions;
+		};
+	}
+
+	@Bean("ImportUtilisateursReader")
+	@StepScope
+	public static AbstractItemCountingItemStreamItemReader<Utilisateur> importUtilisateursReader( //
+			@Qualifier("historiqueDataSource") DataSource datasource, //
+			@Value("#{stepExecutionContext['minValue']}") Long minValue, //
+			@Value("#{stepExecutionContext['maxValue']}") Long maxValue) {
+		return new UtilisateurCopyReader("ImportUtilisateursReader", datasource, //
+				"COPY (select UTI_ID, UTI_NOM, UTI_PRENOM, UTI_EMAIL, UTI_DATE_NAISSANCE, UTI_ADRESSE, UTI_ACTIF, PRO_ID, TUT_CODE, UTI_DATE_CREATION, UTI_DATE_MODIFICATION from UTILISATEUR where UTI_ID >= " + minValue + " and UTI_ID <= " + maxValue + ") TO STDOUT (FORMAT binary)");
+	}
+
+	/**
+	 * Reader de 'Utilisateur', qui décode le flux binaire de la commande COPY de PostgreSQL.
+	 */
+	private static class UtilisateurCopyReader extends AbstractItemCountingItemStreamItemReader<Utilisateur> {
+
+		private static final byte[] SIGNATURE = "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+
+		private final DataSource dataSource;
+
+		private final String query;
+
+		private Connection connection;
+
+		private DataInputStream input;
+
+		public UtilisateurCopyReader(String name, DataSource dataSource, String query) {
+			this.dataSource = dataSource;
+			this.query = query;
+			setName(name);
+		}
+
+		@Override
+		protected void doOpen() throws Exception {
+			connection = dataSource.getConnection();
+			input = new DataInputStream(new BufferedInputStream(new PGCopyInputStream(connection.unwrap(PGConnection.class), query), 65536));
+			if (!Arrays.equals(input.readNBytes(SIGNATURE.length), SIGNATURE)) {
+				throw new IllegalStateException("Le flux lu n'est pas au format binaire de la commande COPY");
+			}
+
+			// Flags, puis extension de l'en-tête
+			input.readInt();
+			input.readNBytes(input.readInt());
+		}
+
+		@Override
+		protected Utilisateur doRead() throws Exception {
+			// Nombre de colonnes de la ligne, ou -1 à la fin du flux
+			if (input.readShort() == -1) {
+				return null;
+			}
+
+			Utilisateur utilisateur = new Utilisateur();
+			utilisateur.setId(readInteger(input));
+			utilisateur.setNom(readString(input));
+			utilisateur.setPrenom(readString(input));
+			utilisateur.setEmail(readString(input));
+			utilisateur.setDateNaissance(readLocalDate(input));
+			utilisateur.setAdresse(readString(input));
+			utilisateur.setActif(readBoolean(input));
+			Integer profilId = readInteger(input);
+			if (profilId != null) {
+				Profil profil = new Profil();
+				profil.setId(profilId);
+				utilisateur.setProfil(profil);
+			}
+			String typeUtilisateurCodeCode = readString(input);
+			utilisateur.setTypeUtilisateur(typeUtilisateurCodeCode == null ? null : TypeUtilisateur.valueOf(TypeUtilisateurCode.valueOf(typeUtilisateurCodeCode)));
+			utilisateur.setDateCreation(readLocalDateTime(input));
+			utilisateur.setDateModification(readLocalDateTime(input));
+
+			return utilisateur;
+		}
+
+		@Override
+		protected void doClose() throws Exception {
+			// La fermeture du flux annule la commande COPY si elle n'a pas été lue jusqu'au bout
+			if (input != null) {
+				input.close();
+				input = null;
+			}
+
+			if (connection != null) {
+				connection.close();
+				connection = null;
+			}
+		}
+
+		private static String readString(DataInputStream input) throws IOException {
+			int length = input.readInt();
+			return length == -1 ? null : new String(input.readNBytes(length), StandardCharsets.UTF_8);
+		}
+
+		private static Integer readInteger(DataInputStream input) throws IOException {
+			Long value = readLong(input);
+			return value == null ? null : value.intValue();
+		}
+
+		private static Long readLong(DataInputStream input) throws IOException {
+			// Les entiers sont lus selon leur taille (smallint, integer ou bigint)
+			int length = input.readInt();
+			if (length == -1) {
+				return null;
+			} else if (length == 2) {
+				return (long) input.readShort();
+			} else if (length == 4) {
+				return (long) input.readInt();
+			}
+
+			return input.readLong();
+		}
+
+		private static Boolean readBoolean(DataInputStream input) throws IOException {
+			int length = input.readInt();
+			return length == -1 ? null : input.readByte() != 0;
+		}
+
+		private static LocalDate readLocalDate(DataInputStream input) throws IOException {
+			// Les dates sont lues selon leur taille (date ou timestamp), à partir du 01/01/2000
+			int length = input.readInt();
+			if (length == -1) {
+				return null;
+			} else if (length == 4) {
+				return LocalDate.of(2000, 1, 1).plusDays(input.readInt());
+			}
+
+			return LocalDateTime.of(2000, 1, 1, 0, 0).plus(input.readLong(), ChronoUnit.MICROS).toLocalDate();
+		}
+
+		private static LocalDateTime readLocalDateTime(DataInputStream input) throws IOException {
+			// Les dates sont lues selon leur taille (date ou timestamp), à partir du 01/01/2000
+			int length = input.readInt();
+			if (length == -1) {
+				return null;
+			} else if (length == 4) {
+				return LocalDate.of(2000, 1, 1).plusDays(input.readInt()).atStartOfDay();
+			}
+
+			return LocalDateTime.of(2000, 1, 1, 0, 0).plus(input.readLong(), ChronoUnit.MICROS);
+		}
+	}
+
+	/**
+	 * Listener qui publie les métriques Micrometer du flux : durées de lecture, de transformation et d'écriture, éléments lus, écrits et ignorés.
+	 */
+	private static class MetricsListener implements ItemReadListener<Utilisateur>, ItemProcessListener<Utilisateur, Utilisateur>, ItemWriteListener<Utilisateur>, SkipListener<Utilisateur, Utilisateur> {
+
+		private final Timer readTimer;
+
+		private final Timer processTimer;
+
+		private final Timer writeTimer;
+
+		private final Counter readItems;
+
+		private final Counter writtenItems;
+
+		private final Counter readSkips;
+
+		private final Counter processSkips;
+
+		private final Counter writeSkips;
+
+		// Début de la lecture, de la transformation et de l'écriture en cours (les partitions d'un flux partitionné partagent le listener)
+		private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[3]);
+
+		public MetricsListener(MeterRegistry registry) {
+			Tags tags = Tags.of("flow", "ImportUtilisateurs", "module", "Securite.Utilisateur");
+			readTimer = Timer.builder("dataflow.read").description("Durée de lecture d'un élément").tags(tags).register(registry);
+			processTimer = Timer.builder("dataflow.process").description("Durée de transformation d'un élément").tags(tags).register(registry);
+			writeTimer = Timer.builder("dataflow.write").description("Durée d'écriture d'un chunk").tags(tags).register(registry);
+			readItems = Counter.builder("dataflow.items.read").description("Éléments lus").tags(tags).register(registry);
+			writtenItems = Counter.builder("dataflow.items.written").description("Éléments écrits").tags(tags).register(registry);
+			readSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "read").register(registry);
+			processSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "process").register(registry);
+			writeSkips = Counter.builder("dataflow.skips").description("Éléments ignorés").tags(tags).tag("phase", "write").register(registry);
+		}
+
+		@Override
+		public void beforeRead() {
+			starts.get()[0] = System.nanoTime();
+		}
+
+		@Override
+		public void afterRead(Utilisateur item) {
+			readTimer.record(System.nanoTime() - starts.get()[0], TimeUnit.NANOSECONDS);
+			readItems.increment();
+		}
+
+		@Override
+		public void beforeProcess(Utilisateur item) {
+			starts.get()[1] = System.nanoTime();
+		}
+
+		@Override
+		public void afterProcess(Utilisateur item, Utilisateur result) {
+			processTimer.record(System.nanoTime() - starts.get()[1], TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void beforeWrite(Chunk<? extends Utilisateur> items) {
+			starts.get()[2] = System.nanoTime();
+		}
+
+		@Override
+		public void afterWrite(Chunk<? extends Utilisateur> items) {
+			writeTimer.record(System.nanoTime() - starts.get()[2], TimeUnit.NANOSECONDS);
+			writtenItems.increment(items.size());
+		}
+
+		@Override
+		public void onSkipInRead(Throwable t) {
+			readSkips.increment();
+		}
+
+		@Override
+		public void onSkipInProcess(Utilisateur item, Throwable t) {
+			processSkips.increment();
+		}
+
+		@Override
+		public void onSkipInWrite(Utilisateur item, Throwable t) {
+			writeSkips.increment();
+		}
+	}
+
+	@Bean("ImportUtilisateursWriter")
+	public static ItemWriter<Utilisateur> importUtilisateursWriter(@Qualifier("dataSource") HikariDataSource targetDataSource) {
+		return new BulkItemWriter<>(targetDataSource, new UtilisateurMapping(targetDataSource.getSchema()));
+	}
+
+	private static class UtilisateurMapping extends AbstractUpsertMapping<Utilisateur> {
+		public UtilisateurMapping(String schema) {
+			super(schema, "UTILISATEUR", "UTI_ID");
+			map("UTI_ID", DataType.Int4, Utilisateur::getId);
+			map("UTI_NOM", DataType.VarChar, Utilisateur::getNom);
+			map("UTI_PRENOM", DataType.VarChar, Utilisateur::getPrenom);
+			map("UTI_EMAIL", DataType.VarChar, Utilisateur::getEmail);
+			map("UTI_DATE_NAISSANCE", DataType.Date, Utilisateur::getDateNaissance);
+			map("UTI_ADRESSE", DataType.VarChar, Utilisateur::getAdresse);
+			map("UTI_ACTIF", DataType.Boolean, Utilisateur::isActif);
+			map("PRO_ID", DataType.Int4, item -> item.getProfil() == null ? null : item.getProfil().getId());
+			map("TUT_CODE", DataType.VarChar, item -> item.getTypeUtilisateur() == null ? null : item.getTypeUtilisateur().getCode().name());
+			map("UTI_DATE_CREATION", DataType.Timestamp, Utilisateur::getDateCreation);
+			map("UTI_DATE_MODIFICATION", DataType.Timestamp, Utilisateur::getDateModification);
+		}
+	}
+}
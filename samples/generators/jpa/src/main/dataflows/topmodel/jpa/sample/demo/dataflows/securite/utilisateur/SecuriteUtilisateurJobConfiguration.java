@@ -0,0 +1,42 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dataflows.securite.utilisateur;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskExecutor;
+
+import jakarta.annotation.Generated;
+
+@Configuration
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+@Import({ImportProfilsFlow.class, ImportUtilisateursFlow.class})
+public class SecuriteUtilisateurJobConfiguration {
+	@Bean("SecuriteUtilisateurJob")
+	public Job securiteUtilisateurJob( //
+				JobRepository jobRepository, //
+				TaskExecutor taskExecutor, //
+			@Qualifier("ImportProfilsFlow") Flow importProfilsFlow, //
+			@Qualifier("ImportUtilisateursFlow") Flow importUtilisateursFlow
+	) {
+		return new JobBuilder("SecuriteUtilisateurJob", jobRepository) //
+				.incrementer(new RunIdIncrementer()) //
+				.start( //
+		          new FlowBuilder<Flow>("ImportProfils-ImportUtilisateurs") //
+		            .start(importProfilsFlow) //
+		            .next(importUtilisateursFlow) //
+		          .build())
+				.end() //
+				.build();
+	}
+}
@@ -0,0 +1,6 @@
+package topmodel.jpa.sample.demo.api;
+
+import java.util.List;
+
+public record KeysetPage<T, C>(List<T> items, C nextCursor) {
+}
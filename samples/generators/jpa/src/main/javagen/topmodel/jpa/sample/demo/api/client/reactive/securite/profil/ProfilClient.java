@@ -0,0 +1,77 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.api.client.reactive.securite.profil;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
+
+import jakarta.annotation.Generated;
+import jakarta.validation.Valid;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import topmodel.jpa.sample.demo.api.KeysetPage;
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilItem;
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilRead;
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilWrite;
+
+@HttpExchange("api/profils")
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public interface ProfilClient {
+
+
+	/**
+	 * Ajoute un Profil.
+	 * @param profil Profil à sauvegarder
+	 * @return Profil sauvegardé
+	 */
+	@PreAuthorize("hasRole('CREATE')")
+	@PostExchange("/")
+	Mono<ProfilRead> addProfil(@RequestBody @Valid ProfilWrite profil);
+
+	/**
+	 * Charge le détail d'un Profil.
+	 * @param proId Id technique
+	 * @return Le détail de l'Profil
+	 */
+	@PreAuthorize("hasRole('READ')")
+	@GetExchange("/{proId}")
+	Mono<ProfilRead> getProfil(@PathVariable("proId") Integer proId);
+
+	/**
+	 * Liste tous les Profils.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si non renseigné)
+	 * @param limit Nombre maximum d'éléments à retourner
+	 * @return Profils matchant les critères
+	 */
+	@PreAuthorize("hasRole('READ')")
+	@GetExchange("/")
+	Mono<KeysetPage<ProfilItem, Integer>> getProfils(@RequestParam(value = "after", required = false) Integer after, @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit);
+
+	/**
+	 * Liste tous les Profils, au fil de l'eau.
+	 * @return Profils matchant les critères
+	 */
+	@PreAuthorize("hasRole('READ')")
+	@GetExchange(value = "/stream", accept = { "application/x-ndjson" })
+	Flux<ProfilItem> getProfilsStream();
+
+	/**
+	 * Sauvegarde un Profil.
+	 * @param proId Id technique
+	 * @param profil Profil à sauvegarder
+	 * @return Profil sauvegardé
+	 */
+	@PreAuthorize("hasRole('UPDATE')")
+	@PutExchange("/{proId}")
+	Mono<ProfilRead> updateProfil(@PathVariable("proId") Integer proId, @RequestBody @Valid ProfilWrite profil);
+}
@@ -4,12 +4,11 @@
 
 package topmodel.jpa.sample.demo.api.client.securite.profil;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
@@ -18,6 +17,7 @@ import org.springframework.web.service.annotation.PutExchange;
 import jakarta.annotation.Generated;
 import jakarta.validation.Valid;
 
+import topmodel.jpa.sample.demo.api.KeysetPage;
 import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilItem;
 import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilRead;
 import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilWrite;
@@ -47,11 +47,13 @@ public interface ProfilClient {
 
 	/**
 	 * Liste tous les Profils.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si non renseigné)
+	 * @param limit Nombre maximum d'éléments à retourner
 	 * @return Profils matchant les critères
 	 */
 	@PreAuthorize("hasRole('READ')")
 	@GetExchange("/")
-	ResponseEntity<List<ProfilItem>> getProfils();
+	ResponseEntity<KeysetPage<ProfilItem, Integer>> getProfils(@RequestParam(value = "after", required = false) Integer after, @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit);
 
 	/**
 	 * Sauvegarde un Profil.
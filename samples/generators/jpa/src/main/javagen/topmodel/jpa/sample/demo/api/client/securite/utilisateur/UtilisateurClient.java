@@ -5,7 +5,6 @@
 package topmodel.jpa.sample.demo.api.client.securite.utilisateur;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,6 +20,7 @@ import org.springframework.web.service.annotation.PutExchange;
 import jakarta.annotation.Generated;
 import jakarta.validation.Valid;
 
+import topmodel.jpa.sample.demo.api.KeysetPage;
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurItem;
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurWrite;
@@ -67,11 +67,13 @@ public interface UtilisateurClient {
 	 * @param actif Si l'utilisateur est actif
 	 * @param profilId Profil de l'utilisateur
 	 * @param typeUtilisateurCode Type d'utilisateur
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si non renseigné)
+	 * @param limit Nombre maximum d'éléments à retourner
 	 * @return Utilisateurs matchant les critères
 	 */
 	@PreAuthorize("hasRole('READ')")
 	@GetExchange("/")
-	ResponseEntity<List<UtilisateurItem>> searchUtilisateur(@RequestParam(value = "nom", required = false) String nom, @RequestParam(value = "prenom", required = false) String prenom, @RequestParam(value = "email", required = false) String email, @RequestParam(value = "dateNaissance", required = false) LocalDate dateNaissance, @RequestParam(value = "adresse", required = false) String adresse, @RequestParam(value = "actif", required = false) Boolean actif, @RequestParam(value = "profilId", required = false) Integer profilId, @RequestParam(value = "typeUtilisateurCode", required = false) TypeUtilisateurCode typeUtilisateurCode);
+	ResponseEntity<KeysetPage<UtilisateurItem, Integer>> searchUtilisateur(@RequestParam(value = "nom", required = false) String nom, @RequestParam(value = "prenom", required = false) String prenom, @RequestParam(value = "email", required = false) String email, @RequestParam(value = "dateNaissance", required = false) LocalDate dateNaissance, @RequestParam(value = "adresse", required = false) String adresse, @RequestParam(value = "actif", required = false) Boolean actif, @RequestParam(value = "profilId", required = false) Integer profilId, @RequestParam(value = "typeUtilisateurCode", required = false) TypeUtilisateurCode typeUtilisateurCode, @RequestParam(value = "after", required = false) Integer after, @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit);
 
 	/**
 	 * Sauvegarde un utilisateur.
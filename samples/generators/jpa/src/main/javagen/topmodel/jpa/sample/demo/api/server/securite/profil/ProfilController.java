@@ -4,8 +4,6 @@
 
 package topmodel.jpa.sample.demo.api.server.securite.profil;
 
-import java.util.List;
-
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,10 +11,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import jakarta.annotation.Generated;
 import jakarta.validation.Valid;
 
+import reactor.core.publisher.Flux;
+
+import topmodel.jpa.sample.demo.api.KeysetPage;
 import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilItem;
 import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilRead;
 import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilWrite;
@@ -45,11 +47,21 @@ public interface ProfilController {
 
 	/**
 	 * Liste tous les Profils.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si non renseigné)
+	 * @param limit Nombre maximum d'éléments à retourner
 	 * @return Profils matchant les critères
 	 */
 	@PreAuthorize("hasRole('READ')")
 	@GetMapping(path = "/")
-	List<ProfilItem> getProfils();
+	KeysetPage<ProfilItem, Integer> getProfils(@RequestParam(value = "after", required = false) Integer after, @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit);
+
+	/**
+	 * Liste tous les Profils, au fil de l'eau.
+	 * @return Profils matchant les critères
+	 */
+	@PreAuthorize("hasRole('READ')")
+	@GetMapping(path = "/stream", produces = "application/x-ndjson")
+	Flux<ProfilItem> getProfilsStream();
 
 	/**
 	 * Sauvegarde un Profil.
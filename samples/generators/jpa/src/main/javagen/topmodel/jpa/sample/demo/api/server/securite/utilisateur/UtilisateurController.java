@@ -5,7 +5,6 @@
 package topmodel.jpa.sample.demo.api.server.securite.utilisateur;
 
 import java.time.LocalDate;
-import java.util.List;
 
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +19,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import jakarta.annotation.Generated;
 import jakarta.validation.Valid;
 
+import reactor.core.publisher.Flux;
+
+import topmodel.jpa.sample.demo.api.KeysetPage;
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurItem;
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurWrite;
@@ -65,11 +67,29 @@ public interface UtilisateurController {
 	 * @param actif Si l'utilisateur est actif
 	 * @param profilId Profil de l'utilisateur
 	 * @param typeUtilisateurCode Type d'utilisateur
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si non renseigné)
+	 * @param limit Nombre maximum d'éléments à retourner
 	 * @return Utilisateurs matchant les critères
 	 */
 	@PreAuthorize("hasRole('READ')")
 	@GetMapping(path = "/")
-	List<UtilisateurItem> searchUtilisateur(@RequestParam(value = "nom", required = false) String nom, @RequestParam(value = "prenom", required = false) String prenom, @RequestParam(value = "email", required = false) String email, @RequestParam(value = "dateNaissance", required = false) LocalDate dateNaissance, @RequestParam(value = "adresse", required = false) String adresse, @RequestParam(value = "actif", required = false) Boolean actif, @RequestParam(value = "profilId", required = false) Integer profilId, @RequestParam(value = "typeUtilisateurCode", required = false) TypeUtilisateurCode typeUtilisateurCode);
+	KeysetPage<UtilisateurItem, Integer> searchUtilisateur(@RequestParam(value = "nom", required = false) String nom, @RequestParam(value = "prenom", required = false) String prenom, @RequestParam(value = "email", required = false) String email, @RequestParam(value = "dateNaissance", required = false) LocalDate dateNaissance, @RequestParam(value = "adresse", required = false) String adresse, @RequestParam(value = "actif", required = false) Boolean actif, @RequestParam(value = "profilId", required = false) Integer profilId, @RequestParam(value = "typeUtilisateurCode", required = false) TypeUtilisateurCode typeUtilisateurCode, @RequestParam(value = "after", required = false) Integer after, @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit);
+
+	/**
+	 * Recherche des utilisateurs, au fil de l'eau.
+	 * @param nom Nom de l'utilisateur
+	 * @param prenom Nom de l'utilisateur
+	 * @param email Email de l'utilisateur
+	 * @param dateNaissance Age de l'utilisateur
+	 * @param adresse Adresse de l'utilisateur
+	 * @param actif Si l'utilisateur est actif
+	 * @param profilId Profil de l'utilisateur
+	 * @param typeUtilisateurCode Type d'utilisateur
+	 * @return Utilisateurs matchant les critères
+	 */
+	@PreAuthorize("hasRole('READ')")
+	@GetMapping(path = "/stream", produces = "application/x-ndjson")
+	Flux<UtilisateurItem> searchUtilisateurStream(@RequestParam(value = "nom", required = false) String nom, @RequestParam(value = "prenom", required = false) String prenom, @RequestParam(value = "email", required = false) String email, @RequestParam(value = "dateNaissance", required = false) LocalDate dateNaissance, @RequestParam(value = "adresse", required = false) String adresse, @RequestParam(value = "actif", required = false) Boolean actif, @RequestParam(value = "profilId", required = false) Integer profilId, @RequestParam(value = "typeUtilisateurCode", required = false) TypeUtilisateurCode typeUtilisateurCode);
 
 	/**
 	 * Sauvegarde un utilisateur.
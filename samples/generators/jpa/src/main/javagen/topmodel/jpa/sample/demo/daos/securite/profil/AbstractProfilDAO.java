@@ -4,12 +4,82 @@
 
 package topmodel.jpa.sample.demo.daos.securite.profil;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import jakarta.persistence.QueryHint;
+
 import topmodel.jpa.sample.demo.daos.repository.CustomCrudRepository;
 import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
 
 @NoRepositoryBean
 interface AbstractProfilDAO extends CustomCrudRepository<Profil, Integer> {
 
+	/**
+	 * Charge une instance de 'Profil' avec les associations nécessaires au mapping vers 'ProfilRead'.
+	 * @param id Id technique.
+	 *
+	 * @return L'instance de 'Profil' correspondante, si elle existe.
+	 */
+	@EntityGraph("Profil.ProfilRead")
+	Optional<Profil> findForProfilReadById(Integer id);
+
+	/**
+	 * Charge les instances de 'Profil' avec les associations nécessaires au mapping vers 'ProfilRead'.
+	 * @param ids Liste des identifiants de 'Profil'.
+	 *
+	 * @return Les instances de 'Profil' correspondantes.
+	 */
+	@EntityGraph("Profil.ProfilRead")
+	List<Profil> findAllForProfilReadByIdIn(Collection<Integer> ids);
+
+	/**
+	 * Charge la première page des instances de 'Profil', triées par 'id'.
+	 * @param pageable Taille de la page.
+	 *
+	 * @return La page d'instances de 'Profil'.
+	 */
+	Slice<Profil> findAllByOrderByIdAsc(Pageable pageable);
+
+	/**
+	 * Charge la page des instances de 'Profil' qui suivent le curseur, triées par 'id'.
+	 * @param id Valeur de 'id' du dernier élément de la page précédente.
+	 * @param pageable Taille de la page.
+	 *
+	 * @return La page d'instances de 'Profil'.
+	 */
+	Slice<Profil> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	/**
+	 * Charge la page des instances de 'Profil' qui suivent le curseur, triées par 'id', en bornant sa taille.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si null).
+	 * @param limit Nombre maximum d'éléments à retourner, ramené entre 1 et 1000 (50 si null).
+	 *
+	 * @return La page d'instances de 'Profil'.
+	 */
+	default Slice<Profil> findPageOrderById(Integer after, Integer limit) {
+		Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(limit == null ? 50 : limit, 1000)));
+		return after == null ? findAllByOrderByIdAsc(pageable) : findByIdGreaterThanOrderByIdAsc(after, pageable);
+	}
+
+	/**
+	 * Lit toutes les instances de 'Profil' au fil de l'eau, sans les charger toutes en mémoire.
+	 * Le stream doit être consommé dans une transaction, puis fermé. Les instances lues restent attachées au contexte de persistance : les détacher au fur et à mesure pour que la mémoire utilisée reste constante.
+	 *
+	 * @return Les instances de 'Profil'.
+	 */
+	@Query("select profil from Profil profil")
+	@QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000"), @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+	Stream<Profil> streamAll();
+
 }
@@ -4,12 +4,188 @@
 
 package topmodel.jpa.sample.demo.daos.securite.utilisateur;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
 
 import topmodel.jpa.sample.demo.daos.repository.CustomCrudRepository;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
 import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
 
 @NoRepositoryBean
 interface AbstractUtilisateurDAO extends CustomCrudRepository<Utilisateur, Integer> {
 
+	/**
+	 * Charge une instance de 'UtilisateurRead' en ne sélectionnant que les champs mappés depuis 'Utilisateur'.
+	 * @param id Id de l'utilisateur.
+	 *
+	 * @return L'instance de 'UtilisateurRead' correspondante, si elle existe.
+	 */
+	@Query("select new topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead(utilisateur.id, utilisateur.nom, utilisateur.prenom, utilisateur.email, utilisateur.dateNaissance, utilisateur.adresse, utilisateur.actif, utilisateur.profil.id, utilisateur.typeUtilisateur.code, utilisateur.dateCreation, utilisateur.dateModification) from Utilisateur utilisateur where utilisateur.id = :id")
+	Optional<UtilisateurRead> findUtilisateurReadById(@Param("id") Integer id);
+
+	/**
+	 * Charge les instances de 'UtilisateurRead' en ne sélectionnant que les champs mappés depuis 'Utilisateur'.
+	 * @param ids Liste des identifiants de 'Utilisateur'.
+	 *
+	 * @return Les instances de 'UtilisateurRead' correspondantes.
+	 */
+	@Query("select new topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead(utilisateur.id, utilisateur.nom, utilisateur.prenom, utilisateur.email, utilisateur.dateNaissance, utilisateur.adresse, utilisateur.actif, utilisateur.profil.id, utilisateur.typeUtilisateur.code, utilisateur.dateCreation, utilisateur.dateModification) from Utilisateur utilisateur where utilisateur.id in :ids")
+	List<UtilisateurRead> findUtilisateurReadByIdIn(@Param("ids") Collection<Integer> ids);
+
+	/**
+	 * Charge la première page des instances de 'Utilisateur', triées par 'id'.
+	 * @param pageable Taille de la page.
+	 *
+	 * @return La page d'instances de 'Utilisateur'.
+	 */
+	Slice<Utilisateur> findAllByOrderByIdAsc(Pageable pageable);
+
+	/**
+	 * Charge la page des instances de 'Utilisateur' qui suivent le curseur, triées par 'id'.
+	 * @param id Valeur de 'id' du dernier élément de la page précédente.
+	 * @param pageable Taille de la page.
+	 *
+	 * @return La page d'instances de 'Utilisateur'.
+	 */
+	Slice<Utilisateur> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	/**
+	 * Charge la page des instances de 'Utilisateur' qui suivent le curseur, triées par 'id', en bornant sa taille.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si null).
+	 * @param limit Nombre maximum d'éléments à retourner, ramené entre 1 et 1000 (50 si null).
+	 *
+	 * @return La page d'instances de 'Utilisateur'.
+	 */
+	default Slice<Utilisateur> findPageOrderById(Integer after, Integer limit) {
+		Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(limit == null ? 50 : limit, 1000)));
+		return after == null ? findAllByOrderByIdAsc(pageable) : findByIdGreaterThanOrderByIdAsc(after, pageable);
+	}
+
+	/**
+	 * Charge la page des instances de 'Utilisateur' qui respectent les critères de l'endpoint 'SearchUtilisateur' et suivent le curseur, triées par 'id'.
+	 * Un critère null n'est pas appliqué.
+	 * @param nom Nom de l'utilisateur.
+	 * @param prenom Nom de l'utilisateur.
+	 * @param email Email de l'utilisateur.
+	 * @param dateNaissance Age de l'utilisateur.
+	 * @param adresse Adresse de l'utilisateur.
+	 * @param actif Si l'utilisateur est actif.
+	 * @param profilId Profil de l'utilisateur.
+	 * @param typeUtilisateurCode Type d'utilisateur.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si null).
+	 * @param pageable Taille de la page.
+	 *
+	 * @return La page d'instances de 'Utilisateur'.
+	 */
+	@Query("select utilisateur from Utilisateur utilisateur where (:nom is null or utilisateur.nom = :nom) and (:prenom is null or utilisateur.prenom = :prenom) and (:email is null or utilisateur.email = :email) and (:dateNaissance is null or utilisateur.dateNaissance = :dateNaissance) and (:adresse is null or utilisateur.adresse = :adresse) and (:actif is null or utilisateur.actif = :actif) and (:profilId is null or utilisateur.profil.id = :profilId) and (:typeUtilisateurCode is null or utilisateur.typeUtilisateur.code = :typeUtilisateurCode) and (:after is null or utilisateur.id > :after) order by utilisateur.id asc")
+	Slice<Utilisateur> findSearchUtilisateurPageAfter(@Param("nom") String nom, @Param("prenom") String prenom, @Param("email") String email, @Param("dateNaissance") LocalDate dateNaissance, @Param("adresse") String adresse, @Param("actif") Boolean actif, @Param("profilId") Integer profilId, @Param("typeUtilisateurCode") TypeUtilisateurCode typeUtilisateurCode, @Param("after") Integer after, Pageable pageable);
+
+	/**
+	 * Charge la page des instances de 'Utilisateur' qui respectent les critères de l'endpoint 'SearchUtilisateur' et suivent le curseur, triées par 'id', en bornant sa taille.
+	 * Un critère null n'est pas appliqué.
+	 * @param nom Nom de l'utilisateur.
+	 * @param prenom Nom de l'utilisateur.
+	 * @param email Email de l'utilisateur.
+	 * @param dateNaissance Age de l'utilisateur.
+	 * @param adresse Adresse de l'utilisateur.
+	 * @param actif Si l'utilisateur est actif.
+	 * @param profilId Profil de l'utilisateur.
+	 * @param typeUtilisateurCode Type d'utilisateur.
+	 * @param after Valeur de 'id' du dernier élément de la page précédente (première page si null).
+	 * @param limit Nombre maximum d'éléments à retourner, ramené entre 1 et 1000 (50 si null).
+	 *
+	 * @return La page d'instances de 'Utilisateur'.
+	 */
+	default Slice<Utilisateur> findSearchUtilisateurPage(String nom, String prenom, String email, LocalDate dateNaissance, String adresse, Boolean actif, Integer profilId, TypeUtilisateurCode typeUtilisateurCode, Integer after, Integer limit) {
+		Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(limit == null ? 50 : limit, 1000)));
+		return findSearchUtilisateurPageAfter(nom, prenom, email, dateNaissance, adresse, actif, profilId, typeUtilisateurCode, after, pageable);
+	}
+
+	/**
+	 * Compte les instances de 'Utilisateur' associées à une instance de 'Profil'.
+	 * @param profilId Valeur de 'id' de 'Profil'.
+	 *
+	 * @return Le nombre d'instances de 'Utilisateur'.
+	 */
+	long countUtilisateursByProfilId(Integer profilId);
+
+	/**
+	 * Vérifie s'il existe des instances de 'Utilisateur' associées à une instance de 'Profil', sans les compter.
+	 * @param profilId Valeur de 'id' de 'Profil'.
+	 *
+	 * @return Vrai s'il existe au moins une instance de 'Utilisateur'.
+	 */
+	boolean existsUtilisateursByProfilId(Integer profilId);
+
+	/**
+	 * Compte en une seule requête les instances de 'Utilisateur' associées à chacune des instances de 'Profil'.
+	 * @param profilIds Liste des valeurs de 'id' de 'Profil'.
+	 *
+	 * @return Les lignes (valeur de 'id' de 'Profil', nombre d'instances de 'Utilisateur'), sans les instances qui n'en ont aucune.
+	 */
+	@Query("select utilisateur.profil.id, count(utilisateur) from Utilisateur utilisateur where utilisateur.profil.id in :profilIds group by utilisateur.profil.id")
+	List<Object[]> countUtilisateursGroupByProfilId(@Param("profilIds") Collection<Integer> profilIds);
+
+	/**
+	 * Nombre d'instances de 'Utilisateur' associées à chacune des instances de 'Profil', calculé en une seule requête (pour toute une page de résultats).
+	 * @param profilIds Liste des valeurs de 'id' de 'Profil'.
+	 *
+	 * @return Le nombre d'instances de 'Utilisateur' par valeur de 'id' de 'Profil' (0 pour celles qui n'en ont aucune).
+	 */
+	default Map<Integer, Long> countUtilisateursByProfilIdIn(Collection<Integer> profilIds) {
+		Map<Integer, Long> counts = new HashMap<>();
+		for (Integer profilId : profilIds) {
+			counts.put(profilId, 0L);
+		}
+
+		for (Object[] row : countUtilisateursGroupByProfilId(profilIds)) {
+			counts.put((Integer) row[0], (Long) row[1]);
+		}
+
+		return counts;
+	}
+
+	/**
+	 * Lit toutes les instances de 'Utilisateur' au fil de l'eau, sans les charger toutes en mémoire.
+	 * Le stream doit être consommé dans une transaction, puis fermé. Les instances lues restent attachées au contexte de persistance : les détacher au fur et à mesure pour que la mémoire utilisée reste constante.
+	 *
+	 * @return Les instances de 'Utilisateur'.
+	 */
+	@Query("select utilisateur from Utilisateur utilisateur")
+	@QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000"), @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+	Stream<Utilisateur> streamAll();
+	/**
+	 * Lit au fil de l'eau les instances de 'Utilisateur' qui respectent les critères de l'endpoint 'SearchUtilisateur', sans les charger toutes en mémoire.
+	 * Un critère null n'est pas appliqué. Le stream doit être consommé dans une transaction, puis fermé, et les instances lues détachées au fur et à mesure.
+	 * @param nom Nom de l'utilisateur.
+	 * @param prenom Nom de l'utilisateur.
+	 * @param email Email de l'utilisateur.
+	 * @param dateNaissance Age de l'utilisateur.
+	 * @param adresse Adresse de l'utilisateur.
+	 * @param actif Si l'utilisateur est actif.
+	 * @param profilId Profil de l'utilisateur.
+	 * @param typeUtilisateurCode Type d'utilisateur.
+	 *
+	 * @return Les instances de 'Utilisateur'.
+	 */
+	@Query("select utilisateur from Utilisateur utilisateur where (:nom is null or utilisateur.nom = :nom) and (:prenom is null or utilisateur.prenom = :prenom) and (:email is null or utilisateur.email = :email) and (:dateNaissance is null or utilisateur.dateNaissance = :dateNaissance) and (:adresse is null or utilisateur.adresse = :adresse) and (:actif is null or utilisateur.actif = :actif) and (:profilId is null or utilisateur.profil.id = :profilId) and (:typeUtilisateurCode is null or utilisateur.typeUtilisateur.code = :typeUtilisateurCode)")
+	@QueryHints({@QueryHint(name = "org.hibernate.fetchSize", value = "1000"), @QueryHint(name = "org.hibernate.readOnly", value = "true")})
+	Stream<Utilisateur> streamSearchUtilisateur(@Param("nom") String nom, @Param("prenom") String prenom, @Param("email") String email, @Param("dateNaissance") LocalDate dateNaissance, @Param("adresse") String adresse, @Param("actif") Boolean actif, @Param("profilId") Integer profilId, @Param("typeUtilisateurCode") TypeUtilisateurCode typeUtilisateurCode);
+
 }
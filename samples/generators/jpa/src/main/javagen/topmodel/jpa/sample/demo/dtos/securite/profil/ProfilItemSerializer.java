@@ -0,0 +1,72 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.profil;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Serializer Jackson de 'ProfilItem', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ProfilItemSerializer extends StdSerializer<ProfilItem> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString ID = new SerializedString("id");
+
+	private static final SerializedString LIBELLE = new SerializedString("libelle");
+
+	private static final SerializedString NOMBRE_UTILISATEURS = new SerializedString("nombreUtilisateurs");
+
+	public ProfilItemSerializer() {
+		super(ProfilItem.class);
+	}
+
+	@Override
+	public void serialize(ProfilItem value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(ProfilItem.class).getValueInclusion();
+		gen.writeStartObject(value);
+		if (include(value.getId(), inclusion, provider)) {
+			gen.writeFieldName(ID);
+			if (value.getId() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.getId());
+			}
+		}
+		if (include(value.getLibelle(), inclusion, provider)) {
+			gen.writeFieldName(LIBELLE);
+			gen.writeString(value.getLibelle());
+		}
+		if (include(value.getNombreUtilisateurs(), inclusion, provider)) {
+			gen.writeFieldName(NOMBRE_UTILISATEURS);
+			if (value.getNombreUtilisateurs() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.getNombreUtilisateurs());
+			}
+		}
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY).
+	 */
+	private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {
+		return switch (inclusion) {
+			case ALWAYS, USE_DEFAULTS -> true;
+			case NON_NULL, NON_ABSENT -> value != null;
+			default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);
+		};
+	}
+}
@@ -0,0 +1,92 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.profil;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurItem;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+
+/**
+ * Deserializer Jackson de 'ProfilRead', qui alimente directement le constructeur du record sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ProfilReadDeserializer extends StdDeserializer<ProfilRead> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final JavaType DROITS_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<DroitCode>>() { });
+
+	private static final JavaType UTILISATEURS_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<UtilisateurItem>>() { });
+
+	public ProfilReadDeserializer() {
+		super(ProfilRead.class);
+	}
+
+	@Override
+	public ProfilRead deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.START_OBJECT) {
+			token = p.nextToken();
+		} else if (token != JsonToken.FIELD_NAME) {
+			return (ProfilRead) ctxt.handleUnexpectedToken(ProfilRead.class, p);
+		}
+
+		Integer id = null;
+		String libelle = null;
+		List<DroitCode> droits = null;
+		LocalDateTime dateCreation = null;
+		LocalDateTime dateModification = null;
+		List<UtilisateurItem> utilisateurs = null;
+		for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+			String fieldName = p.currentName();
+			p.nextToken();
+			switch (fieldName) {
+				case "id":
+					id = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? Integer.valueOf(p.getIntValue()) : readValue(p, ctxt, Integer.class);
+					break;
+				case "libelle":
+					libelle = p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class);
+					break;
+				case "droits":
+					droits = readValue(p, ctxt, DROITS_TYPE);
+					break;
+				case "dateCreation":
+					dateCreation = readValue(p, ctxt, LocalDateTime.class);
+					break;
+				case "dateModification":
+					dateModification = readValue(p, ctxt, LocalDateTime.class);
+					break;
+				case "utilisateurs":
+					utilisateurs = readValue(p, ctxt, UTILISATEURS_TYPE);
+					break;
+				default:
+					ctxt.handleUnknownProperty(p, this, ProfilRead.class, fieldName);
+			}
+		}
+
+		return new ProfilRead(id, libelle, droits, dateCreation, dateModification, utilisateurs);
+	}
+
+	private static <T> T readValue(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+		return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);
+	}
+
+	private static <T> T readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {
+		return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);
+	}
+}
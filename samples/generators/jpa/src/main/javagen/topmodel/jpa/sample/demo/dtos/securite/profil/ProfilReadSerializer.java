@@ -0,0 +1,86 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.profil;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Serializer Jackson de 'ProfilRead', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ProfilReadSerializer extends StdSerializer<ProfilRead> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString ID = new SerializedString("id");
+
+	private static final SerializedString LIBELLE = new SerializedString("libelle");
+
+	private static final SerializedString DROITS = new SerializedString("droits");
+
+	private static final SerializedString DATE_CREATION = new SerializedString("dateCreation");
+
+	private static final SerializedString DATE_MODIFICATION = new SerializedString("dateModification");
+
+	private static final SerializedString UTILISATEURS = new SerializedString("utilisateurs");
+
+	public ProfilReadSerializer() {
+		super(ProfilRead.class);
+	}
+
+	@Override
+	public void serialize(ProfilRead value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(ProfilRead.class).getValueInclusion();
+		gen.writeStartObject(value);
+		if (include(value.id(), inclusion, provider)) {
+			gen.writeFieldName(ID);
+			if (value.id() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.id());
+			}
+		}
+		if (include(value.libelle(), inclusion, provider)) {
+			gen.writeFieldName(LIBELLE);
+			gen.writeString(value.libelle());
+		}
+		if (include(value.droits(), inclusion, provider)) {
+			gen.writeFieldName(DROITS);
+			provider.defaultSerializeValue(value.droits(), gen);
+		}
+		if (include(value.dateCreation(), inclusion, provider)) {
+			gen.writeFieldName(DATE_CREATION);
+			provider.defaultSerializeValue(value.dateCreation(), gen);
+		}
+		if (include(value.dateModification(), inclusion, provider)) {
+			gen.writeFieldName(DATE_MODIFICATION);
+			provider.defaultSerializeValue(value.dateModification(), gen);
+		}
+		if (include(value.utilisateurs(), inclusion, provider)) {
+			gen.writeFieldName(UTILISATEURS);
+			provider.defaultSerializeValue(value.utilisateurs(), gen);
+		}
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY).
+	 */
+	private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {
+		return switch (inclusion) {
+			case ALWAYS, USE_DEFAULTS -> true;
+			case NON_NULL, NON_ABSENT -> value != null;
+			default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);
+		};
+	}
+}
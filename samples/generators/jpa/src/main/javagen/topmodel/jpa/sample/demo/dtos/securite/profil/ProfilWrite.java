@@ -5,6 +5,8 @@
 package topmodel.jpa.sample.demo.dtos.securite.profil;
 
 import java.io.Serializable;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.List;
 
 import jakarta.annotation.Generated;
@@ -85,18 +87,43 @@ public class ProfilWrite implements Serializable {
 	/**
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.dtos.securite.profil.ProfilWrite ProfilWrite}.
 	 */
+	@SuppressWarnings("unchecked")
 	public enum Fields  {
-        LIBELLE(String.class), //
-        DROITS(List.class);
+        LIBELLE(String.class, ProfilWrite::getLibelle, (item, value) -> item.setLibelle((String) value)), //
+        DROITS(List.class, ProfilWrite::getDroits, (item, value) -> item.setDroits((List<DroitCode>) value));
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final Function<ProfilWrite, ?> getter;
+
+		private final BiConsumer<ProfilWrite, Object> setter;
+
+		Fields(Class<?> type, Function<ProfilWrite, ?> getter, BiConsumer<ProfilWrite, Object> setter) {
 			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<ProfilWrite, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<ProfilWrite, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
@@ -0,0 +1,71 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.profil;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+
+/**
+ * Deserializer Jackson de 'ProfilWrite', qui alimente directement les setters sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ProfilWriteDeserializer extends StdDeserializer<ProfilWrite> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final JavaType DROITS_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<DroitCode>>() { });
+
+	public ProfilWriteDeserializer() {
+		super(ProfilWrite.class);
+	}
+
+	@Override
+	public ProfilWrite deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.START_OBJECT) {
+			token = p.nextToken();
+		} else if (token != JsonToken.FIELD_NAME) {
+			return (ProfilWrite) ctxt.handleUnexpectedToken(ProfilWrite.class, p);
+		}
+
+		ProfilWrite dto = new ProfilWrite();
+		for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+			String fieldName = p.currentName();
+			p.nextToken();
+			switch (fieldName) {
+				case "libelle":
+					dto.setLibelle(p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class));
+					break;
+				case "droits":
+					dto.setDroits(readValue(p, ctxt, DROITS_TYPE));
+					break;
+				default:
+					ctxt.handleUnknownProperty(p, this, dto, fieldName);
+			}
+		}
+
+		return dto;
+	}
+
+	private static <T> T readValue(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+		return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);
+	}
+
+	private static <T> T readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {
+		return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);
+	}
+}
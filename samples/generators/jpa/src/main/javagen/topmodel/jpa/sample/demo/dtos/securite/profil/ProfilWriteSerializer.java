@@ -0,0 +1,58 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.profil;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Serializer Jackson de 'ProfilWrite', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ProfilWriteSerializer extends StdSerializer<ProfilWrite> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString LIBELLE = new SerializedString("libelle");
+
+	private static final SerializedString DROITS = new SerializedString("droits");
+
+	public ProfilWriteSerializer() {
+		super(ProfilWrite.class);
+	}
+
+	@Override
+	public void serialize(ProfilWrite value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(ProfilWrite.class).getValueInclusion();
+		gen.writeStartObject(value);
+		if (include(value.getLibelle(), inclusion, provider)) {
+			gen.writeFieldName(LIBELLE);
+			gen.writeString(value.getLibelle());
+		}
+		if (include(value.getDroits(), inclusion, provider)) {
+			gen.writeFieldName(DROITS);
+			provider.defaultSerializeValue(value.getDroits(), gen);
+		}
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY).
+	 */
+	private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {
+		return switch (inclusion) {
+			case ALWAYS, USE_DEFAULTS -> true;
+			case NON_NULL, NON_ABSENT -> value != null;
+			default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);
+		};
+	}
+}
@@ -0,0 +1,31 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.profil;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Module Jackson qui enregistre les serializers et deserializers générés des DTOs du module 'Securite.Profil'.
+ * Spring Boot l'ajoute automatiquement à l'ObjectMapper de l'application.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+@Component
+public class SecuriteProfilJacksonModule extends SimpleModule {
+
+	private static final long serialVersionUID = 1L;
+
+	public SecuriteProfilJacksonModule() {
+		super("SecuriteProfilJacksonModule");
+		addSerializer(ProfilItem.class, new ProfilItemSerializer());
+		addSerializer(ProfilRead.class, new ProfilReadSerializer());
+		addDeserializer(ProfilRead.class, new ProfilReadDeserializer());
+		addSerializer(ProfilWrite.class, new ProfilWriteSerializer());
+		addDeserializer(ProfilWrite.class, new ProfilWriteDeserializer());
+	}
+}
@@ -0,0 +1,31 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Module Jackson qui enregistre les serializers et deserializers générés des DTOs du module 'Securite.Utilisateur'.
+ * Spring Boot l'ajoute automatiquement à l'ObjectMapper de l'application.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+@Component
+public class SecuriteUtilisateurJacksonModule extends SimpleModule {
+
+	private static final long serialVersionUID = 1L;
+
+	public SecuriteUtilisateurJacksonModule() {
+		super("SecuriteUtilisateurJacksonModule");
+		addSerializer(UtilisateurItem.class, new UtilisateurItemSerializer());
+		addSerializer(UtilisateurRead.class, new UtilisateurReadSerializer());
+		addDeserializer(UtilisateurRead.class, new UtilisateurReadDeserializer());
+		addSerializer(UtilisateurWrite.class, new UtilisateurWriteSerializer());
+		addDeserializer(UtilisateurWrite.class, new UtilisateurWriteDeserializer());
+	}
+}
@@ -0,0 +1,80 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Serializer Jackson de 'UtilisateurItem', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class UtilisateurItemSerializer extends StdSerializer<UtilisateurItem> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString ID = new SerializedString("id");
+
+	private static final SerializedString NOM = new SerializedString("nom");
+
+	private static final SerializedString PRENOM = new SerializedString("prenom");
+
+	private static final SerializedString EMAIL = new SerializedString("email");
+
+	private static final SerializedString TYPE_UTILISATEUR_CODE = new SerializedString("typeUtilisateurCode");
+
+	public UtilisateurItemSerializer() {
+		super(UtilisateurItem.class);
+	}
+
+	@Override
+	public void serialize(UtilisateurItem value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(UtilisateurItem.class).getValueInclusion();
+		gen.writeStartObject(value);
+		if (include(value.getId(), inclusion, provider)) {
+			gen.writeFieldName(ID);
+			if (value.getId() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.getId());
+			}
+		}
+		if (include(value.getNom(), inclusion, provider)) {
+			gen.writeFieldName(NOM);
+			gen.writeString(value.getNom());
+		}
+		if (include(value.getPrenom(), inclusion, provider)) {
+			gen.writeFieldName(PRENOM);
+			gen.writeString(value.getPrenom());
+		}
+		if (include(value.getEmail(), inclusion, provider)) {
+			gen.writeFieldName(EMAIL);
+			gen.writeString(value.getEmail());
+		}
+		if (include(value.getTypeUtilisateurCode(), inclusion, provider)) {
+			gen.writeFieldName(TYPE_UTILISATEUR_CODE);
+			provider.defaultSerializeValue(value.getTypeUtilisateurCode(), gen);
+		}
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY).
+	 */
+	private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {
+		return switch (inclusion) {
+			case ALWAYS, USE_DEFAULTS -> true;
+			case NON_NULL, NON_ABSENT -> value != null;
+			default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);
+		};
+	}
+}
@@ -0,0 +1,100 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+/**
+ * Deserializer Jackson de 'UtilisateurRead', qui alimente directement le constructeur du record sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class UtilisateurReadDeserializer extends StdDeserializer<UtilisateurRead> {
+
+	private static final long serialVersionUID = 1L;
+
+	public UtilisateurReadDeserializer() {
+		super(UtilisateurRead.class);
+	}
+
+	@Override
+	public UtilisateurRead deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.START_OBJECT) {
+			token = p.nextToken();
+		} else if (token != JsonToken.FIELD_NAME) {
+			return (UtilisateurRead) ctxt.handleUnexpectedToken(UtilisateurRead.class, p);
+		}
+
+		Integer id = null;
+		String nom = null;
+		String prenom = null;
+		String email = null;
+		LocalDate dateNaissance = null;
+		String adresse = null;
+		Boolean actif = null;
+		Integer profilId = null;
+		TypeUtilisateurCode typeUtilisateurCode = null;
+		LocalDateTime dateCreation = null;
+		LocalDateTime dateModification = null;
+		for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+			String fieldName = p.currentName();
+			p.nextToken();
+			switch (fieldName) {
+				case "id":
+					id = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? Integer.valueOf(p.getIntValue()) : readValue(p, ctxt, Integer.class);
+					break;
+				case "nom":
+					nom = p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class);
+					break;
+				case "prenom":
+					prenom = p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class);
+					break;
+				case "email":
+					email = p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class);
+					break;
+				case "dateNaissance":
+					dateNaissance = readValue(p, ctxt, LocalDate.class);
+					break;
+				case "adresse":
+					adresse = p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class);
+					break;
+				case "actif":
+					actif = p.currentToken().isBoolean() ? Boolean.valueOf(p.getBooleanValue()) : readValue(p, ctxt, Boolean.class);
+					break;
+				case "profilId":
+					profilId = p.hasToken(JsonToken.VALUE_NUMBER_INT) ? Integer.valueOf(p.getIntValue()) : readValue(p, ctxt, Integer.class);
+					break;
+				case "typeUtilisateurCode":
+					typeUtilisateurCode = readValue(p, ctxt, TypeUtilisateurCode.class);
+					break;
+				case "dateCreation":
+					dateCreation = readValue(p, ctxt, LocalDateTime.class);
+					break;
+				case "dateModification":
+					dateModification = readValue(p, ctxt, LocalDateTime.class);
+					break;
+				default:
+					ctxt.handleUnknownProperty(p, this, UtilisateurRead.class, fieldName);
+			}
+		}
+
+		return new UtilisateurRead(id, nom, prenom, email, dateNaissance, adresse, actif, profilId, typeUtilisateurCode, dateCreation, dateModification);
+	}
+
+	private static <T> T readValue(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+		return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);
+	}
+}
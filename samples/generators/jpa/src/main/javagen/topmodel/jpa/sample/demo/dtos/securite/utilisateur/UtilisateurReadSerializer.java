@@ -0,0 +1,124 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Serializer Jackson de 'UtilisateurRead', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class UtilisateurReadSerializer extends StdSerializer<UtilisateurRead> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString ID = new SerializedString("id");
+
+	private static final SerializedString NOM = new SerializedString("nom");
+
+	private static final SerializedString PRENOM = new SerializedString("prenom");
+
+	private static final SerializedString EMAIL = new SerializedString("email");
+
+	private static final SerializedString DATE_NAISSANCE = new SerializedString("dateNaissance");
+
+	private static final SerializedString ADRESSE = new SerializedString("adresse");
+
+	private static final SerializedString ACTIF = new SerializedString("actif");
+
+	private static final SerializedString PROFIL_ID = new SerializedString("profilId");
+
+	private static final SerializedString TYPE_UTILISATEUR_CODE = new SerializedString("typeUtilisateurCode");
+
+	private static final SerializedString DATE_CREATION = new SerializedString("dateCreation");
+
+	private static final SerializedString DATE_MODIFICATION = new SerializedString("dateModification");
+
+	public UtilisateurReadSerializer() {
+		super(UtilisateurRead.class);
+	}
+
+	@Override
+	public void serialize(UtilisateurRead value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(UtilisateurRead.class).getValueInclusion();
+		gen.writeStartObject(value);
+		if (include(value.id(), inclusion, provider)) {
+			gen.writeFieldName(ID);
+			if (value.id() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.id());
+			}
+		}
+		if (include(value.nom(), inclusion, provider)) {
+			gen.writeFieldName(NOM);
+			gen.writeString(value.nom());
+		}
+		if (include(value.prenom(), inclusion, provider)) {
+			gen.writeFieldName(PRENOM);
+			gen.writeString(value.prenom());
+		}
+		if (include(value.email(), inclusion, provider)) {
+			gen.writeFieldName(EMAIL);
+			gen.writeString(value.email());
+		}
+		if (include(value.dateNaissance(), inclusion, provider)) {
+			gen.writeFieldName(DATE_NAISSANCE);
+			provider.defaultSerializeValue(value.dateNaissance(), gen);
+		}
+		if (include(value.adresse(), inclusion, provider)) {
+			gen.writeFieldName(ADRESSE);
+			gen.writeString(value.adresse());
+		}
+		if (include(value.actif(), inclusion, provider)) {
+			gen.writeFieldName(ACTIF);
+			if (value.actif() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeBoolean(value.actif());
+			}
+		}
+		if (include(value.profilId(), inclusion, provider)) {
+			gen.writeFieldName(PROFIL_ID);
+			if (value.profilId() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.profilId());
+			}
+		}
+		if (include(value.typeUtilisateurCode(), inclusion, provider)) {
+			gen.writeFieldName(TYPE_UTILISATEUR_CODE);
+			provider.defaultSerializeValue(value.typeUtilisateurCode(), gen);
+		}
+		if (include(value.dateCreation(), inclusion, provider)) {
+			gen.writeFieldName(DATE_CREATION);
+			provider.defaultSerializeValue(value.dateCreation(), gen);
+		}
+		if (include(value.dateModification(), inclusion, provider)) {
+			gen.writeFieldName(DATE_MODIFICATION);
+			provider.defaultSerializeValue(value.dateModification(), gen);
+		}
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY).
+	 */
+	private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {
+		return switch (inclusion) {
+			case ALWAYS, USE_DEFAULTS -> true;
+			case NON_NULL, NON_ABSENT -> value != null;
+			default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);
+		};
+	}
+}
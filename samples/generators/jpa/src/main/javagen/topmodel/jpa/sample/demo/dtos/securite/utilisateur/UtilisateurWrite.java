@@ -6,6 +6,8 @@ package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import jakarta.annotation.Generated;
 import jakarta.validation.constraints.Email;
@@ -233,23 +235,47 @@ public class UtilisateurWrite implements Serializable {
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurWrite UtilisateurWrite}.
 	 */
 	public enum Fields  {
-        NOM(String.class), //
-        PRENOM(String.class), //
-        EMAIL(String.class), //
-        DATE_NAISSANCE(LocalDate.class), //
-        ADRESSE(String.class), //
-        ACTIF(Boolean.class), //
-        PROFIL_ID(Integer.class), //
-        TYPE_UTILISATEUR_CODE(TypeUtilisateurCode.class);
+        NOM(String.class, UtilisateurWrite::getNom, (item, value) -> item.setNom((String) value)), //
+        PRENOM(String.class, UtilisateurWrite::getPrenom, (item, value) -> item.setPrenom((String) value)), //
+        EMAIL(String.class, UtilisateurWrite::getEmail, (item, value) -> item.setEmail((String) value)), //
+        DATE_NAISSANCE(LocalDate.class, UtilisateurWrite::getDateNaissance, (item, value) -> item.setDateNaissance((LocalDate) value)), //
+        ADRESSE(String.class, UtilisateurWrite::getAdresse, (item, value) -> item.setAdresse((String) value)), //
+        ACTIF(Boolean.class, UtilisateurWrite::getActif, (item, value) -> item.setActif((Boolean) value)), //
+        PROFIL_ID(Integer.class, UtilisateurWrite::getProfilId, (item, value) -> item.setProfilId((Integer) value)), //
+        TYPE_UTILISATEUR_CODE(TypeUtilisateurCode.class, UtilisateurWrite::getTypeUtilisateurCode, (item, value) -> item.setTypeUtilisateurCode((TypeUtilisateurCode) value));
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final Function<UtilisateurWrite, ?> getter;
+
+		private final BiConsumer<UtilisateurWrite, Object> setter;
+
+		Fields(Class<?> type, Function<UtilisateurWrite, ?> getter, BiConsumer<UtilisateurWrite, Object> setter) {
 			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<UtilisateurWrite, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<UtilisateurWrite, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
@@ -0,0 +1,80 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+/**
+ * Deserializer Jackson de 'UtilisateurWrite', qui alimente directement les setters sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class UtilisateurWriteDeserializer extends StdDeserializer<UtilisateurWrite> {
+
+	private static final long serialVersionUID = 1L;
+
+	public UtilisateurWriteDeserializer() {
+		super(UtilisateurWrite.class);
+	}
+
+	@Override
+	public UtilisateurWrite deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.START_OBJECT) {
+			token = p.nextToken();
+		} else if (token != JsonToken.FIELD_NAME) {
+			return (UtilisateurWrite) ctxt.handleUnexpectedToken(UtilisateurWrite.class, p);
+		}
+
+		UtilisateurWrite dto = new UtilisateurWrite();
+		for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+			String fieldName = p.currentName();
+			p.nextToken();
+			switch (fieldName) {
+				case "nom":
+					dto.setNom(p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class));
+					break;
+				case "prenom":
+					dto.setPrenom(p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class));
+					break;
+				case "email":
+					dto.setEmail(p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class));
+					break;
+				case "dateNaissance":
+					dto.setDateNaissance(readValue(p, ctxt, LocalDate.class));
+					break;
+				case "adresse":
+					dto.setAdresse(p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : readValue(p, ctxt, String.class));
+					break;
+				case "actif":
+					dto.setActif(p.currentToken().isBoolean() ? Boolean.valueOf(p.getBooleanValue()) : readValue(p, ctxt, Boolean.class));
+					break;
+				case "profilId":
+					dto.setProfilId(p.hasToken(JsonToken.VALUE_NUMBER_INT) ? Integer.valueOf(p.getIntValue()) : readValue(p, ctxt, Integer.class));
+					break;
+				case "typeUtilisateurCode":
+					dto.setTypeUtilisateurCode(readValue(p, ctxt, TypeUtilisateurCode.class));
+					break;
+				default:
+					ctxt.handleUnknownProperty(p, this, dto, fieldName);
+			}
+		}
+
+		return dto;
+	}
+
+	private static <T> T readValue(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+		return p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.readValue(p, type);
+	}
+}
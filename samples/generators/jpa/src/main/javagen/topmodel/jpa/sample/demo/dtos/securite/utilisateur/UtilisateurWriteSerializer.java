@@ -0,0 +1,102 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.dtos.securite.utilisateur;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Serializer Jackson de 'UtilisateurWrite', qui écrit directement les propriétés avec des noms pré-encodés, sans introspection de la classe.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class UtilisateurWriteSerializer extends StdSerializer<UtilisateurWrite> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString NOM = new SerializedString("nom");
+
+	private static final SerializedString PRENOM = new SerializedString("prenom");
+
+	private static final SerializedString EMAIL = new SerializedString("email");
+
+	private static final SerializedString DATE_NAISSANCE = new SerializedString("dateNaissance");
+
+	private static final SerializedString ADRESSE = new SerializedString("adresse");
+
+	private static final SerializedString ACTIF = new SerializedString("actif");
+
+	private static final SerializedString PROFIL_ID = new SerializedString("profilId");
+
+	private static final SerializedString TYPE_UTILISATEUR_CODE = new SerializedString("typeUtilisateurCode");
+
+	public UtilisateurWriteSerializer() {
+		super(UtilisateurWrite.class);
+	}
+
+	@Override
+	public void serialize(UtilisateurWrite value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(UtilisateurWrite.class).getValueInclusion();
+		gen.writeStartObject(value);
+		if (include(value.getNom(), inclusion, provider)) {
+			gen.writeFieldName(NOM);
+			gen.writeString(value.getNom());
+		}
+		if (include(value.getPrenom(), inclusion, provider)) {
+			gen.writeFieldName(PRENOM);
+			gen.writeString(value.getPrenom());
+		}
+		if (include(value.getEmail(), inclusion, provider)) {
+			gen.writeFieldName(EMAIL);
+			gen.writeString(value.getEmail());
+		}
+		if (include(value.getDateNaissance(), inclusion, provider)) {
+			gen.writeFieldName(DATE_NAISSANCE);
+			provider.defaultSerializeValue(value.getDateNaissance(), gen);
+		}
+		if (include(value.getAdresse(), inclusion, provider)) {
+			gen.writeFieldName(ADRESSE);
+			gen.writeString(value.getAdresse());
+		}
+		if (include(value.getActif(), inclusion, provider)) {
+			gen.writeFieldName(ACTIF);
+			if (value.getActif() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeBoolean(value.getActif());
+			}
+		}
+		if (include(value.getProfilId(), inclusion, provider)) {
+			gen.writeFieldName(PROFIL_ID);
+			if (value.getProfilId() == null) {
+				gen.writeNull();
+			} else {
+				gen.writeNumber(value.getProfilId());
+			}
+		}
+		if (include(value.getTypeUtilisateurCode(), inclusion, provider)) {
+			gen.writeFieldName(TYPE_UTILISATEUR_CODE);
+			provider.defaultSerializeValue(value.getTypeUtilisateurCode(), gen);
+		}
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Indique si une propriété doit être écrite, selon l'inclusion configurée sur l'ObjectMapper (NON_DEFAULT et CUSTOM sont traités comme NON_EMPTY).
+	 */
+	private static boolean include(Object value, JsonInclude.Include inclusion, SerializerProvider provider) throws IOException {
+		return switch (inclusion) {
+			case ALWAYS, USE_DEFAULTS -> true;
+			case NON_NULL, NON_ABSENT -> value != null;
+			default -> value != null && !provider.findValueSerializer(value.getClass()).isEmpty(provider, value);
+		};
+	}
+}
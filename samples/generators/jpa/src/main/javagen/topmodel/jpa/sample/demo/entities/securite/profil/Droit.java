@@ -4,6 +4,12 @@
 
 package topmodel.jpa.sample.demo.entities.securite.profil;
 
+import java.util.EnumMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.Map;
+import java.util.Objects;
+
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Immutable;
@@ -41,6 +47,16 @@ public class Droit {
 	@Transient
 	public static final Droit UPDATE = new Droit(DroitCode.UPDATE);
 
+	@Transient
+	private static final Map<DroitCode, Droit> VALUES = new EnumMap<>(DroitCode.class);
+
+	static {
+		VALUES.put(DroitCode.CREATE, CREATE);
+		VALUES.put(DroitCode.DELETE, DELETE);
+		VALUES.put(DroitCode.READ, READ);
+		VALUES.put(DroitCode.UPDATE, UPDATE);
+	}
+
 	/**
 	 * Code du droit.
 	 */
@@ -95,6 +111,16 @@ public class Droit {
 		}
 	}
 
+	/**
+	 * Retourne l'instance partagée de 'Droit' correspondant au code.
+	 * @param code Code dont on veut obtenir l'instance.
+	 *
+	 * @return Instance de 'Droit', ou null si le code est null.
+	 */
+	public static Droit valueOf(DroitCode code) {
+		return VALUES.get(code);
+	}
+
 	/**
 	 * Getter for code.
 	 *
@@ -122,22 +148,76 @@ public class Droit {
 		return this.typeDroit;
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if(o == this) {
+			return true;
+		}
+
+		if(!(o instanceof Droit other)) {
+			return false;
+		}
+
+		return Objects.equals(this.getCode(), other.getCode());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.getCode());
+	}
+
 	/**
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.entities.securite.profil.Droit Droit}.
 	 */
 	public enum Fields  {
-        CODE(DroitCode.class), //
-        LIBELLE(String.class), //
-        TYPE_DROIT(TypeDroit.class);
+        CODE(DroitCode.class, "DRO_CODE", Droit::getCode, null), //
+        LIBELLE(String.class, "DRO_LIBELLE", Droit::getLibelle, null), //
+        TYPE_DROIT(TypeDroit.class, "TDR_CODE", Droit::getTypeDroit, null);
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final String columnName;
+
+		private final Function<Droit, ?> getter;
+
+		private final BiConsumer<Droit, Object> setter;
+
+		Fields(Class<?> type, String columnName, Function<Droit, ?> getter, BiConsumer<Droit, Object> setter) {
 			this.type = type;
+			this.columnName = columnName;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Nom de la colonne du champ en base de données.
+		 *
+		 * @return Nom de la colonne, ou null si le champ n'est pas porté par la table.
+		 */
+		public String getColumnName() {
+			return this.columnName;
+		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<Droit, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<Droit, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
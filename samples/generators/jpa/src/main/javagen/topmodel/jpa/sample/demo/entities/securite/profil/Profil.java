@@ -6,8 +6,15 @@ package topmodel.jpa.sample.demo.entities.securite.profil;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -24,8 +31,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
@@ -37,12 +46,14 @@ import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
 @EntityListeners(AuditingEntityListener.class)
 @Entity
 @Table(name = "PROFIL")
+@NamedEntityGraph(name = "Profil.ProfilRead", attributeNodes = {@NamedAttributeNode("droits")})
 public class Profil {
 
 	/**
 	 * Id technique.
 	 */
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SequenceGenerator(sequenceName = "SEQ_PROFIL", name = "SEQ_PROFIL", initialValue = 1000, allocationSize = 50)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_PROFIL")
 	@Id
 	@Column(name = "PRO_ID", nullable = false, columnDefinition = "int")
 	private Integer id;
@@ -58,8 +69,8 @@ public class Profil {
 	 */
 	@ManyToMany(fetch = FetchType.LAZY)
 	@JoinTable(name = "PROFIL_DROIT", joinColumns = @JoinColumn(name = "PRO_ID"), inverseJoinColumns = @JoinColumn(name = "DRO_CODE"))
-	@OrderBy("code ASC")
-	private List<Droit> droits;
+	@Fetch(FetchMode.SUBSELECT)
+	private Set<Droit> droits;
 
 	/**
 	 * Date de création de l'utilisateur.
@@ -79,7 +90,8 @@ public class Profil {
 	 * Association réciproque de Utilisateur.ProfilId.
 	 */
 	@OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.LAZY, mappedBy = "profil")
-	private Utilisateur utilisateurs;
+	@BatchSize(size = 50)
+	private List<Utilisateur> utilisateurs;
 
 	/**
 	 * Getter for id.
@@ -104,9 +116,9 @@ public class Profil {
 	 *
 	 * @return value of {@link topmodel.jpa.sample.demo.entities.securite.profil.Profil#droits droits}.
 	 */
-	public List<Droit> getDroits() {
+	public Set<Droit> getDroits() {
 		if(this.droits == null) {
-			this.droits = new ArrayList<>();
+			this.droits = new HashSet<>();
 		}
 		return this.droits;
 	}
@@ -134,7 +146,10 @@ public class Profil {
 	 *
 	 * @return value of {@link topmodel.jpa.sample.demo.entities.securite.profil.Profil#utilisateurs utilisateurs}.
 	 */
-	public Utilisateur getUtilisateurs() {
+	public List<Utilisateur> getUtilisateurs() {
+		if(this.utilisateurs == null) {
+			this.utilisateurs = new ArrayList<>();
+		}
 		return this.utilisateurs;
 	}
 
@@ -158,7 +173,7 @@ public class Profil {
 	 * Set the value of {@link topmodel.jpa.sample.demo.entities.securite.profil.Profil#droits droits}.
 	 * @param droits value to set.
 	 */
-	public void setDroits(List<Droit> droits) {
+	public void setDroits(Set<Droit> droits) {
 		this.droits = droits;
 	}
 
@@ -182,7 +197,7 @@ public class Profil {
 	 * Set the value of {@link topmodel.jpa.sample.demo.entities.securite.profil.Profil#utilisateurs utilisateurs}.
 	 * @param utilisateurs value to set.
 	 */
-	public void setUtilisateurs(Utilisateur utilisateurs) {
+	public void setUtilisateurs(List<Utilisateur> utilisateurs) {
 		this.utilisateurs = utilisateurs;
 	}
 
@@ -199,22 +214,59 @@ public class Profil {
 	/**
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.entities.securite.profil.Profil Profil}.
 	 */
+	@SuppressWarnings("unchecked")
 	public enum Fields  {
-        ID(Integer.class), //
-        LIBELLE(String.class), //
-        DROITS(List.class), //
-        DATE_CREATION(LocalDateTime.class), //
-        DATE_MODIFICATION(LocalDateTime.class), //
-        UTILISATEURS(Utilisateur.class);
+        ID(Integer.class, "PRO_ID", Profil::getId, (item, value) -> item.setId((Integer) value)), //
+        LIBELLE(String.class, "PRO_LIBELLE", Profil::getLibelle, (item, value) -> item.setLibelle((String) value)), //
+        DROITS(Set.class, null, Profil::getDroits, (item, value) -> item.setDroits((Set<Droit>) value)), //
+        DATE_CREATION(LocalDateTime.class, "PRO_DATE_CREATION", Profil::getDateCreation, (item, value) -> item.setDateCreation((LocalDateTime) value)), //
+        DATE_MODIFICATION(LocalDateTime.class, "PRO_DATE_MODIFICATION", Profil::getDateModification, (item, value) -> item.setDateModification((LocalDateTime) value)), //
+        UTILISATEURS(List.class, null, Profil::getUtilisateurs, (item, value) -> item.setUtilisateurs((List<Utilisateur>) value));
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final String columnName;
+
+		private final Function<Profil, ?> getter;
+
+		private final BiConsumer<Profil, Object> setter;
+
+		Fields(Class<?> type, String columnName, Function<Profil, ?> getter, BiConsumer<Profil, Object> setter) {
 			this.type = type;
+			this.columnName = columnName;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Nom de la colonne du champ en base de données.
+		 *
+		 * @return Nom de la colonne, ou null si le champ n'est pas porté par la table.
+		 */
+		public String getColumnName() {
+			return this.columnName;
+		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<Profil, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<Profil, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
@@ -0,0 +1,37 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.entities.securite.profil;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import jakarta.annotation.Generated;
+
+/**
+ * RowMapper de 'Profil', qui lit les colonnes par leur position.
+ * Les requêtes qui l'utilisent doivent sélectionner les colonnes {@link #COLUMNS}, dans cet ordre.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class ProfilRowMapper implements RowMapper<Profil> {
+
+	/**
+	 * Colonnes lues par le RowMapper, dans l'ordre attendu.
+	 */
+	public static final String COLUMNS = "PRO_ID, PRO_LIBELLE, PRO_DATE_CREATION, PRO_DATE_MODIFICATION";
+
+	@Override
+	public Profil mapRow(ResultSet rs, int rowNum) throws SQLException {
+		Profil profil = new Profil();
+		profil.setId(rs.getInt(1));
+		profil.setLibelle(rs.getString(2));
+		profil.setDateCreation(rs.getObject(3, LocalDateTime.class));
+		profil.setDateModification(rs.getObject(4, LocalDateTime.class));
+
+		return profil;
+	}
+}
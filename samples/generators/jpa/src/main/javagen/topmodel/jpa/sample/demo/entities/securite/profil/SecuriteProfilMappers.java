@@ -4,6 +4,9 @@
 
 package topmodel.jpa.sample.demo.entities.securite.profil;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -20,29 +23,45 @@ public class SecuriteProfilMappers {
 	}
 
 	/**
-	 * Map les champs des classes passées en paramètre dans l'objet target'.
-	 * @param target Instance de 'ProfilRead' (ou null pour créer une nouvelle instance).
+	 * Crée une nouvelle instance de 'ProfilRead' à partir des classes passées en paramètre.
 	 * @param profil Instance de 'Profil'.
 	 *
-	 * @return Une nouvelle instance de 'ProfilRead' ou bien l'instance passée en paramètres sur lesquels les champs sources ont été mappée.
+	 * @return Une nouvelle instance de 'ProfilRead'.
 	 */
-	public static ProfilRead createProfilRead(Profil profil, ProfilRead target) {
-		if (target == null) {
-			target = new ProfilRead();
-		}
-
+	public static ProfilRead createProfilRead(Profil profil) {
 		if (profil == null) {
 			throw new IllegalArgumentException("profil cannot be null");
 		}
 
-		target.setId(profil.getId());
-		target.setLibelle(profil.getLibelle());
-		if (profil.getDroits() != null) {
-			target.setDroits(profil.getDroits().stream().filter(Objects::nonNull).map(Droit::getCode).collect(Collectors.toList()));
+		return createProfilReadUnchecked(profil);
+	}
+
+	private static ProfilRead createProfilReadUnchecked(Profil profil) {
+		return new ProfilRead(
+				profil.getId(),
+				profil.getLibelle(),
+				profil.getDroits() == null ? null : profil.getDroits().stream().filter(Objects::nonNull).map(Droit::getCode).sorted().collect(Collectors.toList()),
+				profil.getDateCreation(),
+				profil.getDateModification(),
+				null);
+	}
+
+	/**
+	 * Mappe une liste de 'Profil' vers une nouvelle liste de 'ProfilRead'.
+	 * @param sources Instances de 'Profil', non null.
+	 *
+	 * @return Une nouvelle liste de 'ProfilRead', dans l'ordre des instances sources.
+	 */
+	public static List<ProfilRead> createProfilReadList(Collection<Profil> sources) {
+		if (sources == null) {
+			throw new IllegalArgumentException("sources cannot be null");
+		}
+
+		List<ProfilRead> target = new ArrayList<>(sources.size());
+		for (Profil source : sources) {
+			target.add(createProfilReadUnchecked(source));
 		}
 
-		target.setDateCreation(profil.getDateCreation());
-		target.setDateModification(profil.getDateModification());
 		return target;
 	}
 
@@ -62,11 +81,34 @@ public class SecuriteProfilMappers {
 			target = new Profil();
 		}
 
+		return toProfilUnchecked(source, target);
+	}
+
+	private static Profil toProfilUnchecked(Profil source, Profil target) {
 		target.setLibelle(source.getLibelle());
 		target.setDroits(source.getDroits());
 		return target;
 	}
 
+	/**
+	 * Mappe une liste de 'Profil' vers une nouvelle liste de 'Profil'.
+	 * @param sources Instances de 'Profil', non null.
+	 *
+	 * @return Une nouvelle liste de 'Profil', dans l'ordre des instances sources.
+	 */
+	public static List<Profil> toProfilListFromProfil(Collection<Profil> sources) {
+		if (sources == null) {
+			throw new IllegalArgumentException("sources cannot be null");
+		}
+
+		List<Profil> target = new ArrayList<>(sources.size());
+		for (Profil source : sources) {
+			target.add(toProfilUnchecked(source, new Profil()));
+		}
+
+		return target;
+	}
+
 	/**
 	 * Mappe 'ProfilWrite' vers 'Profil'.
 	 * @param source Instance de 'ProfilWrite'.
@@ -83,8 +125,31 @@ public class SecuriteProfilMappers {
 			target = new Profil();
 		}
 
+		return toProfilUnchecked(source, target);
+	}
+
+	private static Profil toProfilUnchecked(ProfilWrite source, Profil target) {
 		target.setLibelle(source.getLibelle());
-		target.setDroits(source.getDroits().stream().map(Droit::new).collect(Collectors.toList()));
+		target.setDroits(source.getDroits().stream().map(Droit::valueOf).collect(Collectors.toSet()));
+		return target;
+	}
+
+	/**
+	 * Mappe une liste de 'ProfilWrite' vers une nouvelle liste de 'Profil'.
+	 * @param sources Instances de 'ProfilWrite', non null.
+	 *
+	 * @return Une nouvelle liste de 'Profil', dans l'ordre des instances sources.
+	 */
+	public static List<Profil> toProfilListFromProfilWrite(Collection<ProfilWrite> sources) {
+		if (sources == null) {
+			throw new IllegalArgumentException("sources cannot be null");
+		}
+
+		List<Profil> target = new ArrayList<>(sources.size());
+		for (ProfilWrite source : sources) {
+			target.add(toProfilUnchecked(source, new Profil()));
+		}
+
 		return target;
 	}
 }
@@ -0,0 +1,138 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.entities.securite.profil;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.function.Function;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.Generated;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+import topmodel.jpa.sample.demo.enums.securite.profil.TypeDroitCode;
+
+/**
+ * Cache des listes de référence du module 'Securite.Profil', chargé au démarrage de l'application.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+@Component
+public class SecuriteProfilReferenceDataCache {
+
+	private final EntityManager entityManager;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private Map<DroitCode, Droit> droitValues = Collections.emptyMap();
+
+	private Map<TypeDroitCode, TypeDroit> typeDroitValues = Collections.emptyMap();
+
+	public SecuriteProfilReferenceDataCache(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Charge les listes de référence du module et vérifie que la base de données contient toutes les valeurs des enums générées.
+	 */
+	@PostConstruct
+	public void load() {
+		droitValues = load("select droit from Droit droit left join fetch droit.typeDroit", Droit.class, DroitCode.class, Droit::getCode);
+		typeDroitValues = load("select typeDroit from TypeDroit typeDroit", TypeDroit.class, TypeDroitCode.class, TypeDroit::getCode);
+	}
+
+	/**
+	 * Retourne l'instance de 'Droit' chargée au démarrage correspondant au code.
+	 * Si le cache n'est pas (encore) chargé, retourne une référence obtenue par l'EntityManager dans une transaction, ou l'instance lue en base hors transaction (une référence ne pourrait pas y être initialisée).
+	 * @param code Code de 'Droit'.
+	 *
+	 * @return Instance de 'Droit', ou null si le code est null.
+	 */
+	public Droit getDroit(DroitCode code) {
+		if (code == null) {
+			return null;
+		}
+
+		Droit value = droitValues.get(code);
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+
+		misses.increment();
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return entityManager.getReference(Droit.class, code);
+		}
+
+		return entityManager.find(Droit.class, code);
+	}
+
+	/**
+	 * Retourne l'instance de 'TypeDroit' chargée au démarrage correspondant au code.
+	 * Si le cache n'est pas (encore) chargé, retourne une référence obtenue par l'EntityManager dans une transaction, ou l'instance lue en base hors transaction (une référence ne pourrait pas y être initialisée).
+	 * @param code Code de 'TypeDroit'.
+	 *
+	 * @return Instance de 'TypeDroit', ou null si le code est null.
+	 */
+	public TypeDroit getTypeDroit(TypeDroitCode code) {
+		if (code == null) {
+			return null;
+		}
+
+		TypeDroit value = typeDroitValues.get(code);
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+
+		misses.increment();
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return entityManager.getReference(TypeDroit.class, code);
+		}
+
+		return entityManager.find(TypeDroit.class, code);
+	}
+
+	/**
+	 * Nombre de lectures servies par le cache.
+	 *
+	 * @return Nombre de lectures servies par le cache.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Nombre de lectures non servies par le cache.
+	 *
+	 * @return Nombre de lectures non servies par le cache.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	private <C extends Enum<C>, E> Map<C, E> load(String query, Class<E> entityClass, Class<C> codeClass, Function<E, C> getCode) {
+		Map<C, E> values = new EnumMap<>(codeClass);
+		for (E value : entityManager.createQuery(query, entityClass).getResultList()) {
+			values.put(getCode.apply(value), value);
+		}
+
+		EnumSet<C> missing = EnumSet.allOf(codeClass);
+		missing.removeAll(values.keySet());
+		if (!missing.isEmpty()) {
+			throw new IllegalStateException("Valeurs manquantes en base de données pour " + entityClass.getSimpleName() + " : " + missing);
+		}
+
+		return Collections.unmodifiableMap(values);
+	}
+}
@@ -4,6 +4,11 @@
 
 package topmodel.jpa.sample.demo.entities.securite.profil;
 
+import java.util.EnumMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.Map;
+
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Immutable;
@@ -36,6 +41,15 @@ public class TypeDroit {
 	@Transient
 	public static final TypeDroit WRITE = new TypeDroit(TypeDroitCode.WRITE);
 
+	@Transient
+	private static final Map<TypeDroitCode, TypeDroit> VALUES = new EnumMap<>(TypeDroitCode.class);
+
+	static {
+		VALUES.put(TypeDroitCode.ADMIN, ADMIN);
+		VALUES.put(TypeDroitCode.READ, READ);
+		VALUES.put(TypeDroitCode.WRITE, WRITE);
+	}
+
 	/**
 	 * Code du type de droit.
 	 */
@@ -76,6 +90,16 @@ public class TypeDroit {
 		}
 	}
 
+	/**
+	 * Retourne l'instance partagée de 'TypeDroit' correspondant au code.
+	 * @param code Code dont on veut obtenir l'instance.
+	 *
+	 * @return Instance de 'TypeDroit', ou null si le code est null.
+	 */
+	public static TypeDroit valueOf(TypeDroitCode code) {
+		return VALUES.get(code);
+	}
+
 	/**
 	 * Getter for code.
 	 *
@@ -98,17 +122,53 @@ public class TypeDroit {
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.entities.securite.profil.TypeDroit TypeDroit}.
 	 */
 	public enum Fields  {
-        CODE(TypeDroitCode.class), //
-        LIBELLE(String.class);
+        CODE(TypeDroitCode.class, "TDR_CODE", TypeDroit::getCode, null), //
+        LIBELLE(String.class, "TDR_LIBELLE", TypeDroit::getLibelle, null);
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final String columnName;
+
+		private final Function<TypeDroit, ?> getter;
+
+		private final BiConsumer<TypeDroit, Object> setter;
+
+		Fields(Class<?> type, String columnName, Function<TypeDroit, ?> getter, BiConsumer<TypeDroit, Object> setter) {
 			this.type = type;
+			this.columnName = columnName;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Nom de la colonne du champ en base de données.
+		 *
+		 * @return Nom de la colonne, ou null si le champ n'est pas porté par la table.
+		 */
+		public String getColumnName() {
+			return this.columnName;
+		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<TypeDroit, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<TypeDroit, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
@@ -4,6 +4,10 @@
 
 package topmodel.jpa.sample.demo.entities.securite.utilisateur;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import jakarta.annotation.Generated;
 
 import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
@@ -17,38 +21,50 @@ public class SecuriteUtilisateurMappers {
 	}
 
 	/**
-	 * Map les champs des classes passées en paramètre dans l'objet target'.
-	 * @param target Instance de 'UtilisateurRead' (ou null pour créer une nouvelle instance).
+	 * Crée une nouvelle instance de 'UtilisateurRead' à partir des classes passées en paramètre.
 	 * @param utilisateur Instance de 'Utilisateur'.
 	 *
-	 * @return Une nouvelle instance de 'UtilisateurRead' ou bien l'instance passée en paramètres sur lesquels les champs sources ont été mappée.
+	 * @return Une nouvelle instance de 'UtilisateurRead'.
 	 */
-	public static UtilisateurRead createUtilisateurRead(Utilisateur utilisateur, UtilisateurRead target) {
-		if (target == null) {
-			target = new UtilisateurRead();
-		}
-
+	public static UtilisateurRead createUtilisateurRead(Utilisateur utilisateur) {
 		if (utilisateur == null) {
 			throw new IllegalArgumentException("utilisateur cannot be null");
 		}
 
-		target.setId(utilisateur.getId());
-		target.setNom(utilisateur.getNom());
-		target.setPrenom(utilisateur.getPrenom());
-		target.setEmail(utilisateur.getEmail());
-		target.setDateNaissance(utilisateur.getDateNaissance());
-		target.setAdresse(utilisateur.getAdresse());
-		target.setActif(utilisateur.getActif());
-		if (utilisateur.getProfil() != null) {
-			target.setProfilId(utilisateur.getProfil().getId());
+		return createUtilisateurReadUnchecked(utilisateur);
+	}
+
+	private static UtilisateurRead createUtilisateurReadUnchecked(Utilisateur utilisateur) {
+		return new UtilisateurRead(
+				utilisateur.getId(),
+				utilisateur.getNom(),
+				utilisateur.getPrenom(),
+				utilisateur.getEmail(),
+				utilisateur.getDateNaissance(),
+				utilisateur.getAdresse(),
+				utilisateur.isActif(),
+				utilisateur.getProfil() == null ? null : utilisateur.getProfil().getId(),
+				utilisateur.getTypeUtilisateur() == null ? null : utilisateur.getTypeUtilisateur().getCode(),
+				utilisateur.getDateCreation(),
+				utilisateur.getDateModification());
+	}
+
+	/**
+	 * Mappe une liste de 'Utilisateur' vers une nouvelle liste de 'UtilisateurRead'.
+	 * @param sources Instances de 'Utilisateur', non null.
+	 *
+	 * @return Une nouvelle liste de 'UtilisateurRead', dans l'ordre des instances sources.
+	 */
+	public static List<UtilisateurRead> createUtilisateurReadList(Collection<Utilisateur> sources) {
+		if (sources == null) {
+			throw new IllegalArgumentException("sources cannot be null");
 		}
 
-		if (utilisateur.getTypeUtilisateur() != null) {
-			target.setTypeUtilisateurCode(utilisateur.getTypeUtilisateur().getCode());
+		List<UtilisateurRead> target = new ArrayList<>(sources.size());
+		for (Utilisateur source : sources) {
+			target.add(createUtilisateurReadUnchecked(source));
 		}
 
-		target.setDateCreation(utilisateur.getDateCreation());
-		target.setDateModification(utilisateur.getDateModification());
 		return target;
 	}
 
@@ -68,14 +84,40 @@ public class SecuriteUtilisateurMappers {
 			target = new Utilisateur();
 		}
 
+		return toUtilisateurUnchecked(source, target);
+	}
+
+	private static Utilisateur toUtilisateurUnchecked(UtilisateurWrite source, Utilisateur target) {
 		target.setNom(source.getNom());
 		target.setPrenom(source.getPrenom());
 		target.setEmail(source.getEmail());
 		target.setDateNaissance(source.getDateNaissance());
 		target.setAdresse(source.getAdresse());
-		target.setActif(source.getActif());
+		if (source.getActif() != null) {
+			target.setActif(source.getActif());
+		}
+
 		if (source.getTypeUtilisateurCode() != null) {
-			target.setTypeUtilisateur(new TypeUtilisateur(source.getTypeUtilisateurCode()));
+			target.setTypeUtilisateur(TypeUtilisateur.valueOf(source.getTypeUtilisateurCode()));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Mappe une liste de 'UtilisateurWrite' vers une nouvelle liste de 'Utilisateur'.
+	 * @param sources Instances de 'UtilisateurWrite', non null.
+	 *
+	 * @return Une nouvelle liste de 'Utilisateur', dans l'ordre des instances sources.
+	 */
+	public static List<Utilisateur> toUtilisateurList(Collection<UtilisateurWrite> sources) {
+		if (sources == null) {
+			throw new IllegalArgumentException("sources cannot be null");
+		}
+
+		List<Utilisateur> target = new ArrayList<>(sources.size());
+		for (UtilisateurWrite source : sources) {
+			target.add(toUtilisateurUnchecked(source, new Utilisateur()));
 		}
 
 		return target;
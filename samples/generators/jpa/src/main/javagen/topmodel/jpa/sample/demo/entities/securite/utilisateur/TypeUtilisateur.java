@@ -4,6 +4,11 @@
 
 package topmodel.jpa.sample.demo.entities.securite.utilisateur;
 
+import java.util.EnumMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.Map;
+
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Immutable;
@@ -36,6 +41,15 @@ public class TypeUtilisateur {
 	@Transient
 	public static final TypeUtilisateur GEST = new TypeUtilisateur(TypeUtilisateurCode.GEST);
 
+	@Transient
+	private static final Map<TypeUtilisateurCode, TypeUtilisateur> VALUES = new EnumMap<>(TypeUtilisateurCode.class);
+
+	static {
+		VALUES.put(TypeUtilisateurCode.ADMIN, ADMIN);
+		VALUES.put(TypeUtilisateurCode.CLIENT, CLIENT);
+		VALUES.put(TypeUtilisateurCode.GEST, GEST);
+	}
+
 	/**
 	 * Code du type d'utilisateur.
 	 */
@@ -76,6 +90,16 @@ public class TypeUtilisateur {
 		}
 	}
 
+	/**
+	 * Retourne l'instance partagée de 'TypeUtilisateur' correspondant au code.
+	 * @param code Code dont on veut obtenir l'instance.
+	 *
+	 * @return Instance de 'TypeUtilisateur', ou null si le code est null.
+	 */
+	public static TypeUtilisateur valueOf(TypeUtilisateurCode code) {
+		return VALUES.get(code);
+	}
+
 	/**
 	 * Getter for code.
 	 *
@@ -98,17 +122,53 @@ public class TypeUtilisateur {
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.entities.securite.utilisateur.TypeUtilisateur TypeUtilisateur}.
 	 */
 	public enum Fields  {
-        CODE(TypeUtilisateurCode.class), //
-        LIBELLE(String.class);
+        CODE(TypeUtilisateurCode.class, "TUT_CODE", TypeUtilisateur::getCode, null), //
+        LIBELLE(String.class, "TUT_LIBELLE", TypeUtilisateur::getLibelle, null);
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final String columnName;
+
+		private final Function<TypeUtilisateur, ?> getter;
+
+		private final BiConsumer<TypeUtilisateur, Object> setter;
+
+		Fields(Class<?> type, String columnName, Function<TypeUtilisateur, ?> getter, BiConsumer<TypeUtilisateur, Object> setter) {
 			this.type = type;
+			this.columnName = columnName;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Nom de la colonne du champ en base de données.
+		 *
+		 * @return Nom de la colonne, ou null si le champ n'est pas porté par la table.
+		 */
+		public String getColumnName() {
+			return this.columnName;
+		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<TypeUtilisateur, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<TypeUtilisateur, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
@@ -6,6 +6,8 @@ package topmodel.jpa.sample.demo.entities.securite.utilisateur;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -21,6 +23,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -39,7 +42,8 @@ public class Utilisateur {
 	/**
 	 * Id de l'utilisateur.
 	 */
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SequenceGenerator(sequenceName = "SEQ_UTILISATEUR", name = "SEQ_UTILISATEUR", initialValue = 1000, allocationSize = 50)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_UTILISATEUR")
 	@Id
 	@Column(name = "UTI_ID", nullable = false, columnDefinition = "int")
 	private Integer id;
@@ -78,7 +82,7 @@ public class Utilisateur {
 	 * Si l'utilisateur est actif.
 	 */
 	@Column(name = "UTI_ACTIF", nullable = false, columnDefinition = "boolean")
-	private Boolean actif = true;
+	private boolean actif = true;
 
 	/**
 	 * Profil de l'utilisateur.
@@ -92,7 +96,7 @@ public class Utilisateur {
 	 */
 	@ManyToOne(fetch = FetchType.LAZY, optional = false, targetEntity = TypeUtilisateur.class)
 	@JoinColumn(name = "TUT_CODE", referencedColumnName = "TUT_CODE")
-	private TypeUtilisateur typeUtilisateur = new TypeUtilisateur(TypeUtilisateurCode.GEST);
+	private TypeUtilisateur typeUtilisateur = TypeUtilisateur.valueOf(TypeUtilisateurCode.GEST);
 
 	/**
 	 * Date de création de l'utilisateur.
@@ -167,7 +171,7 @@ public class Utilisateur {
 	 *
 	 * @return value of {@link topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur#actif actif}.
 	 */
-	public Boolean getActif() {
+	public boolean isActif() {
 		return this.actif;
 	}
 
@@ -259,7 +263,7 @@ public class Utilisateur {
 	 * Set the value of {@link topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur#actif actif}.
 	 * @param actif value to set.
 	 */
-	public void setActif(Boolean actif) {
+	public void setActif(boolean actif) {
 		this.actif = actif;
 	}
 
@@ -299,26 +303,62 @@ public class Utilisateur {
 	 * Enumération des champs de la classe {@link topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur Utilisateur}.
 	 */
 	public enum Fields  {
-        ID(Integer.class), //
-        NOM(String.class), //
-        PRENOM(String.class), //
-        EMAIL(String.class), //
-        DATE_NAISSANCE(LocalDate.class), //
-        ADRESSE(String.class), //
-        ACTIF(Boolean.class), //
-        PROFIL(Profil.class), //
-        TYPE_UTILISATEUR(TypeUtilisateur.class), //
-        DATE_CREATION(LocalDateTime.class), //
-        DATE_MODIFICATION(LocalDateTime.class);
+        ID(Integer.class, "UTI_ID", Utilisateur::getId, (item, value) -> item.setId((Integer) value)), //
+        NOM(String.class, "UTI_NOM", Utilisateur::getNom, (item, value) -> item.setNom((String) value)), //
+        PRENOM(String.class, "UTI_PRENOM", Utilisateur::getPrenom, (item, value) -> item.setPrenom((String) value)), //
+        EMAIL(String.class, "UTI_EMAIL", Utilisateur::getEmail, (item, value) -> item.setEmail((String) value)), //
+        DATE_NAISSANCE(LocalDate.class, "UTI_DATE_NAISSANCE", Utilisateur::getDateNaissance, (item, value) -> item.setDateNaissance((LocalDate) value)), //
+        ADRESSE(String.class, "UTI_ADRESSE", Utilisateur::getAdresse, (item, value) -> item.setAdresse((String) value)), //
+        ACTIF(Boolean.class, "UTI_ACTIF", Utilisateur::isActif, (item, value) -> item.setActif((boolean) value)), //
+        PROFIL(Profil.class, "PRO_ID", Utilisateur::getProfil, (item, value) -> item.setProfil((Profil) value)), //
+        TYPE_UTILISATEUR(TypeUtilisateur.class, "TUT_CODE", Utilisateur::getTypeUtilisateur, (item, value) -> item.setTypeUtilisateur((TypeUtilisateur) value)), //
+        DATE_CREATION(LocalDateTime.class, "UTI_DATE_CREATION", Utilisateur::getDateCreation, (item, value) -> item.setDateCreation((LocalDateTime) value)), //
+        DATE_MODIFICATION(LocalDateTime.class, "UTI_DATE_MODIFICATION", Utilisateur::getDateModification, (item, value) -> item.setDateModification((LocalDateTime) value));
 
 		private final Class<?> type;
 
-		Fields(Class<?> type) {
+		private final String columnName;
+
+		private final Function<Utilisateur, ?> getter;
+
+		private final BiConsumer<Utilisateur, Object> setter;
+
+		Fields(Class<?> type, String columnName, Function<Utilisateur, ?> getter, BiConsumer<Utilisateur, Object> setter) {
 			this.type = type;
+			this.columnName = columnName;
+			this.getter = getter;
+			this.setter = setter;
 		}
 
 		public Class<?> getType() {
 			return this.type;
 		}
+
+		/**
+		 * Nom de la colonne du champ en base de données.
+		 *
+		 * @return Nom de la colonne, ou null si le champ n'est pas porté par la table.
+		 */
+		public String getColumnName() {
+			return this.columnName;
+		}
+
+		/**
+		 * Accesseur en lecture du champ, sans réflexion.
+		 *
+		 * @return Getter du champ, ou null si la classe n'en expose pas.
+		 */
+		public Function<Utilisateur, ?> getGetter() {
+			return this.getter;
+		}
+
+		/**
+		 * Accesseur en écriture du champ, sans réflexion.
+		 *
+		 * @return Setter du champ, ou null si la classe n'en expose pas.
+		 */
+		public BiConsumer<Utilisateur, Object> getSetter() {
+			return this.setter;
+		}
 	}
 }
@@ -0,0 +1,50 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.entities.securite.utilisateur;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+/**
+ * RowMapper de 'Utilisateur', qui lit les colonnes par leur position.
+ * Les requêtes qui l'utilisent doivent sélectionner les colonnes {@link #COLUMNS}, dans cet ordre.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public class UtilisateurRowMapper implements RowMapper<Utilisateur> {
+
+	/**
+	 * Colonnes lues par le RowMapper, dans l'ordre attendu.
+	 */
+	public static final String COLUMNS = "UTI_ID, UTI_NOM, UTI_PRENOM, UTI_EMAIL, UTI_DATE_NAISSANCE, UTI_ADRESSE, UTI_ACTIF, PRO_ID, TUT_CODE, UTI_DATE_CREATION, UTI_DATE_MODIFICATION";
+
+	@Override
+	public Utilisateur mapRow(ResultSet rs, int rowNum) throws SQLException {
+		Utilisateur utilisateur = new Utilisateur();
+		utilisateur.setId(rs.getInt(1));
+		utilisateur.setNom(rs.getString(2));
+		utilisateur.setPrenom(rs.getString(3));
+		utilisateur.setEmail(rs.getString(4));
+		utilisateur.setDateNaissance(rs.getObject(5, LocalDate.class));
+		utilisateur.setAdresse(rs.getString(6));
+		utilisateur.setActif(rs.getBoolean(7));
+		Profil profil = new Profil();
+		profil.setId(rs.getInt(8));
+		utilisateur.setProfil(profil);
+		utilisateur.setTypeUtilisateur(TypeUtilisateur.valueOf(TypeUtilisateurCode.valueOf(rs.getString(9))));
+		utilisateur.setDateCreation(rs.getObject(10, LocalDateTime.class));
+		utilisateur.setDateModification(rs.getObject(11, LocalDateTime.class));
+
+		return utilisateur;
+	}
+}
@@ -0,0 +1,56 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.enums.common;
+
+import java.util.Locale;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Catalogue des libellés du module 'Common'.
+ * Les libellés de chaque langue sont chargés à la première utilisation de la langue.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public final class CommonLabels {
+
+	/**
+	 * Clés des libellés du module 'Common'.
+	 */
+	public enum Key {
+		ENTITY_LISTENERS_DATE_CREATION("common.entityListeners.dateCreation"), //
+		ENTITY_LISTENERS_DATE_MODIFICATION("common.entityListeners.dateModification");
+
+		private final String resourceKey;
+
+		Key(String resourceKey) {
+			this.resourceKey = resourceKey;
+		}
+
+		/**
+		 * Clé du libellé dans les fichiers de ressources.
+		 * @return Clé du libellé
+		 */
+		public String getResourceKey() {
+			return resourceKey;
+		}
+	}
+
+	private CommonLabels() {
+	}
+
+	/**
+	 * Libellé correspondant à la clé, dans la langue demandée.
+	 * @param key Clé du libellé
+	 * @param locale Langue du libellé
+	 * @return Libellé
+	 */
+	public static String label(Key key, Locale locale) {
+		return values(locale)[key.ordinal()];
+	}
+
+	private static String[] values(Locale locale) {
+		return CommonLabelsDefault.VALUES;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.enums.common;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Libellés du module 'Common', dans l'ordre des clés de {@link CommonLabels.Key}.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+final class CommonLabelsDefault {
+
+	static final String[] VALUES = {
+		"Date de création", //
+		"Date de modification"
+	};
+
+	private CommonLabelsDefault() {
+	}
+}
\ No newline at end of file
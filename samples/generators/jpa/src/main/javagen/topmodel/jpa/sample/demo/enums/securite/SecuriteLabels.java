@@ -0,0 +1,113 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.enums.securite;
+
+import java.util.Locale;
+
+import jakarta.annotation.Generated;
+
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+import topmodel.jpa.sample.demo.enums.securite.profil.TypeDroitCode;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+/**
+ * Catalogue des libellés du module 'Securite'.
+ * Les libellés de chaque langue sont chargés à la première utilisation de la langue.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+public final class SecuriteLabels {
+
+	/**
+	 * Clés des libellés du module 'Securite'.
+	 */
+	public enum Key {
+		PROFIL_DROIT_CODE("securite.profil.droit.code"), //
+		PROFIL_DROIT_LIBELLE("securite.profil.droit.libelle"), //
+		PROFIL_DROIT_VALUES_CREATE("securite.profil.droit.values.Create"), //
+		PROFIL_DROIT_VALUES_DELETE("securite.profil.droit.values.Delete"), //
+		PROFIL_DROIT_VALUES_READ("securite.profil.droit.values.Read"), //
+		PROFIL_DROIT_VALUES_UPDATE("securite.profil.droit.values.Update"), //
+		PROFIL_PROFIL_ID("securite.profil.profil.id"), //
+		PROFIL_PROFIL_LIBELLE("securite.profil.profil.libelle"), //
+		PROFIL_PROFIL_DROITS("securite.profil.profil.droits"), //
+		PROFIL_PROFIL_ITEM_NOMBRE_UTILISATEURS("securite.profil.profilItem.nombreUtilisateurs"), //
+		PROFIL_TYPE_DROIT_CODE("securite.profil.typeDroit.code"), //
+		PROFIL_TYPE_DROIT_VALUES_ADMIN("securite.profil.typeDroit.values.Admin"), //
+		PROFIL_TYPE_DROIT_VALUES_READ("securite.profil.typeDroit.values.Read"), //
+		PROFIL_TYPE_DROIT_VALUES_WRITE("securite.profil.typeDroit.values.Write"), //
+		UTILISATEUR_TYPE_UTILISATEUR_CODE("securite.utilisateur.typeUtilisateur.code"), //
+		UTILISATEUR_TYPE_UTILISATEUR_VALUES_ADMIN("securite.utilisateur.typeUtilisateur.values.Admin"), //
+		UTILISATEUR_TYPE_UTILISATEUR_VALUES_CLIENT("securite.utilisateur.typeUtilisateur.values.Client"), //
+		UTILISATEUR_TYPE_UTILISATEUR_VALUES_GESTIONNAIRE("securite.utilisateur.typeUtilisateur.values.Gestionnaire"), //
+		UTILISATEUR_UTILISATEUR_ID("securite.utilisateur.utilisateur.id"), //
+		UTILISATEUR_UTILISATEUR_PRENOM("securite.utilisateur.utilisateur.prenom"), //
+		UTILISATEUR_UTILISATEUR_EMAIL("securite.utilisateur.utilisateur.email"), //
+		UTILISATEUR_UTILISATEUR_DATE_NAISSANCE("securite.utilisateur.utilisateur.dateNaissance"), //
+		UTILISATEUR_UTILISATEUR_ADRESSE("securite.utilisateur.utilisateur.adresse"), //
+		UTILISATEUR_UTILISATEUR_PROFIL_ID("securite.utilisateur.utilisateur.profilId"), //
+		UTILISATEUR_UTILISATEUR_TYPE_UTILISATEUR_CODE("securite.utilisateur.utilisateur.typeUtilisateurCode");
+
+		private final String resourceKey;
+
+		Key(String resourceKey) {
+			this.resourceKey = resourceKey;
+		}
+
+		/**
+		 * Clé du libellé dans les fichiers de ressources.
+		 * @return Clé du libellé
+		 */
+		public String getResourceKey() {
+			return resourceKey;
+		}
+	}
+
+	private SecuriteLabels() {
+	}
+
+	/**
+	 * Libellé correspondant à la clé, dans la langue demandée.
+	 * @param key Clé du libellé
+	 * @param locale Langue du libellé
+	 * @return Libellé
+	 */
+	public static String label(Key key, Locale locale) {
+		return values(locale)[key.ordinal()];
+	}
+
+	/**
+	 * Libellé de la valeur de 'Droit' correspondant au code, dans la langue demandée.
+	 * @param code Code de 'Droit'
+	 * @param locale Langue du libellé
+	 * @return Libellé
+	 */
+	public static String label(DroitCode code, Locale locale) {
+		return values(locale)[Key.PROFIL_DROIT_VALUES_CREATE.ordinal() + code.ordinal()];
+	}
+
+	/**
+	 * Libellé de la valeur de 'TypeDroit' correspondant au code, dans la langue demandée.
+	 * @param code Code de 'TypeDroit'
+	 * @param locale Langue du libellé
+	 * @return Libellé
+	 */
+	public static String label(TypeDroitCode code, Locale locale) {
+		return values(locale)[Key.PROFIL_TYPE_DROIT_VALUES_ADMIN.ordinal() + code.ordinal()];
+	}
+
+	/**
+	 * Libellé de la valeur de 'TypeUtilisateur' correspondant au code, dans la langue demandée.
+	 * @param code Code de 'TypeUtilisateur'
+	 * @param locale Langue du libellé
+	 * @return Libellé
+	 */
+	public static String label(TypeUtilisateurCode code, Locale locale) {
+		return values(locale)[Key.UTILISATEUR_TYPE_UTILISATEUR_VALUES_ADMIN.ordinal() + code.ordinal()];
+	}
+
+	private static String[] values(Locale locale) {
+		return SecuriteLabelsDefault.VALUES;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.enums.securite;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Libellés du module 'Securite', dans l'ordre des clés de {@link SecuriteLabels.Key}.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+final class SecuriteLabelsDefault {
+
+	static final String[] VALUES = {
+		"Droit", //
+		"Droit", //
+		"Création", //
+		"Suppression", //
+		"Lecture", //
+		"Mise à jour", //
+		"Id technique du profil", //
+		"Libellé du profil", //
+		"Droits", //
+		"Nombre d'utilisateurs affectés", //
+		"Type de droit", //
+		"Administration", //
+		"Lecture", //
+		"Ecriture", //
+		"Type d'utilisateur", //
+		"Administrateur", //
+		"Client", //
+		"Gestionnaire", //
+		"Id technique", //
+		"Prénom", //
+		"Adresse email", //
+		"Date de naissance", //
+		"Adresse", //
+		"Profil", //
+		"Type d'utilisateur"
+	};
+
+	private SecuriteLabelsDefault() {
+	}
+}
\ No newline at end of file
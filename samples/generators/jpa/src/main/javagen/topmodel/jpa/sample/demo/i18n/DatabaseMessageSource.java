@@ -0,0 +1,218 @@
+////
+//// ATTENTION CE FICHIER EST GENERE AUTOMATIQUEMENT !
+////
+
+package topmodel.jpa.sample.demo.i18n;
+
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.annotation.Generated;
+
+/**
+ * MessageSource des traductions de la table 'TRANSLATION'.
+ * Les traductions d'une langue sont chargées en une seule requête à sa première utilisation, puis mises à jour par {@link #refresh()}, qui n'est jamais appelée par le code généré : l'application doit planifier son appel.
+ * Ce composant remplace le MessageSource de Spring Boot : les messages absents de la table sont lus dans les fichiers de ressources de {@code spring.messages.basename}.
+ */
+@Generated("TopModel : https://github.com/klee-contrib/topmodel")
+@Component("messageSource")
+public class DatabaseMessageSource extends AbstractMessageSource {
+
+	private static final String QUERY = "select RESOURCE_KEY, LABEL, VERSION from TRANSLATION";
+
+	private static final String REFRESH_QUERY = QUERY + " where VERSION > ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Map<String, Labels> labels = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder refreshes = new LongAdder();
+
+	public DatabaseMessageSource(JdbcTemplate jdbcTemplate, @Value("${spring.messages.basename:messages}") String basenames, @Value("${spring.messages.encoding:UTF-8}") String encoding) {
+		this.jdbcTemplate = jdbcTemplate;
+
+		// Mêmes fichiers de ressources que le MessageSource de Spring Boot, que ce composant remplace
+		ResourceBundleMessageSource parent = new ResourceBundleMessageSource();
+		parent.setBasenames(StringUtils.commaDelimitedListToStringArray(StringUtils.trimAllWhitespace(basenames)));
+		parent.setDefaultEncoding(encoding);
+		parent.setFallbackToSystemLocale(false);
+		setParentMessageSource(parent);
+	}
+
+	/**
+	 * Traduction correspondant à la clé, dans la langue demandée (ou dans la langue par défaut si elle n'y est pas traduite).
+	 * @param key Clé de traduction
+	 * @param locale Langue de la traduction
+	 * @return Traduction, ou null si la clé n'existe pas
+	 */
+	public String getLabel(String key, Locale locale) {
+		String label = labels(lang(locale)).get(key);
+		if (label == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+
+		return label;
+	}
+
+	/**
+	 * Met à jour les langues déjà chargées avec les traductions modifiées depuis le dernier chargement (colonne 'VERSION').
+	 * Les traductions supprimées de la table ne sont pas retirées.
+	 */
+	public void refresh() {
+		labels.replaceAll((lang, current) -> load(lang, current));
+		refreshes.increment();
+	}
+
+	/**
+	 * Nombre de traductions trouvées.
+	 * @return Nombre de traductions trouvées
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Nombre de traductions non trouvées.
+	 * @return Nombre de traductions non trouvées
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Nombre de mises à jour des traductions.
+	 * @return Nombre de mises à jour des traductions
+	 */
+	public long getRefreshCount() {
+		return refreshes.sum();
+	}
+
+	@Override
+	protected String resolveCodeWithoutArguments(String code, Locale locale) {
+		return getLabel(code, locale);
+	}
+
+	@Override
+	protected MessageFormat resolveCode(String code, Locale locale) {
+		String label = getLabel(code, locale);
+		return label == null ? null : createMessageFormat(label, locale);
+	}
+
+	private Labels labels(String lang) {
+		return labels.computeIfAbsent(lang, l -> load(l, null));
+	}
+
+	private Labels load(String lang, Labels current) {
+		Labels result = current == null ? new Labels(256) : current.copy();
+		RowCallbackHandler handler = rs -> {
+			result.put(rs.getString(1), rs.getString(2));
+			result.version = Math.max(result.version, rs.getLong(3));
+		};
+
+		if (current == null) {
+			jdbcTemplate.query(QUERY, handler);
+		} else {
+			jdbcTemplate.query(REFRESH_QUERY, handler, current.version);
+		}
+
+		return result;
+	}
+
+	private static String lang(Locale locale) {
+		return "";
+	}
+
+	/**
+	 * Traductions d'une langue, dans une table de hachage à adressage ouvert (sondage linéaire).
+	 * Une table n'est plus modifiée une fois publiée : les mises à jour travaillent sur une copie.
+	 */
+	private static final class Labels {
+
+		private String[] keys;
+
+		private String[] values;
+
+		private int size;
+
+		private long version;
+
+		private Labels(int capacity) {
+			keys = new String[Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1];
+			values = new String[keys.length];
+		}
+
+		private String get(String key) {
+			int mask = keys.length - 1;
+			for (int i = hash(key) & mask; keys[i] != null; i = (i + 1) & mask) {
+				if (keys[i].equals(key)) {
+					return values[i];
+				}
+			}
+
+			return null;
+		}
+
+		private void put(String key, String value) {
+			if (2 * (size + 1) > keys.length) {
+				resize(keys.length * 2);
+			}
+
+			int mask = keys.length - 1;
+			int i = hash(key) & mask;
+			while (keys[i] != null && !keys[i].equals(key)) {
+				i = (i + 1) & mask;
+			}
+
+			if (keys[i] == null) {
+				keys[i] = key;
+				size++;
+			}
+
+			values[i] = value;
+		}
+
+		private Labels copy() {
+			Labels copy = new Labels(keys.length);
+			copy.keys = keys.clone();
+			copy.values = values.clone();
+			copy.size = size;
+			copy.version = version;
+			return copy;
+		}
+
+		private void resize(int capacity) {
+			String[] oldKeys = keys;
+			String[] oldValues = values;
+			keys = new String[capacity];
+			values = new String[capacity];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					put(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+
+		private static int hash(String key) {
+			int h = key.hashCode();
+			return h ^ (h >>> 16);
+		}
+	}
+}
\ No newline at end of file
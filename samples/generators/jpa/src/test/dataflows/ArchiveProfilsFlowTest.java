@@ -0,0 +1,80 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import topmodel.jpa.sample.demo.dataflows.securite.profil.ArchiveProfilsFlow;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+
+class ArchiveProfilsFlowTest {
+
+    @Test
+    void fastWritesGrowChunksUpToChunkSize() throws Exception {
+        // GIVEN
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        // WHEN
+        StepExecution stepExecution = execute(profils(100000, "Administrateur"), chunk -> chunkSizes.add(chunk.size()));
+
+        // THEN
+        assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(chunkSizes).startsWith(5000, 10000, 20000, 40000);
+        assertThat(stepExecution.getExecutionContext().getInt("chunkSize")).isEqualTo(50000);
+    }
+
+    @Test
+    void wideRowsLimitChunkMemory() throws Exception {
+        // GIVEN
+        String libelle = "x".repeat(65536);
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        // WHEN
+        StepExecution stepExecution = execute(profils(7000, libelle), chunk -> chunkSizes.add(chunk.size()));
+
+        // THEN
+        // Ligne au format binaire de COPY : nombre de colonnes, puis longueur et valeur de chaque colonne (dates nulles)
+        long width = 2 + (4 + 4) + (4 + libelle.getBytes(StandardCharsets.UTF_8).length) + 4 + 4;
+        int expected = (int) (64L * 1024 * 1024 / width);
+        assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(chunkSizes).startsWith(5000, expected);
+        assertThat(stepExecution.getExecutionContext().getInt("chunkSize")).isEqualTo(expected);
+    }
+
+    private static StepExecution execute(List<Profil> profils, ItemWriter<Profil> writer) throws Exception {
+        JobRepository jobRepository = new ResourcelessJobRepository();
+        JobExecution jobExecution = jobRepository.createJobExecution("SecuriteProfilJob", new JobParameters());
+        Step step = ArchiveProfilsFlow.archiveProfilsStep(jobRepository, new ResourcelessTransactionManager(), new ListItemReader<>(profils),
+                new SimpleMeterRegistry(), writer);
+        StepExecution stepExecution = jobExecution.createStepExecution("ArchiveProfilsStep");
+        jobRepository.add(stepExecution);
+        step.execute(stepExecution);
+        return stepExecution;
+    }
+
+    private static List<Profil> profils(int count, String libelle) {
+        List<Profil> profils = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Profil profil = new Profil();
+            profil.setId(i);
+            profil.setLibelle(libelle);
+            profils.add(profil);
+        }
+
+        return profils;
+    }
+}
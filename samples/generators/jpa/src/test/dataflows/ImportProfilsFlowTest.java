@@ -0,0 +1,129 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import topmodel.jpa.sample.demo.dataflows.securite.utilisateur.ImportProfilsFlow;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+
+class ImportProfilsFlowTest {
+
+    private static final LocalDateTime PREVIOUS = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void readerFiltersOnWatermark() {
+        // WHEN
+        JdbcCursorItemReader<Profil> full = ImportProfilsFlow.importProfilsReader(mock(DataSource.class), null);
+        JdbcCursorItemReader<Profil> incremental = ImportProfilsFlow.importProfilsReader(mock(DataSource.class), PREVIOUS);
+
+        // THEN
+        assertThat(full.getSql()).endsWith("from PROFIL order by PRO_DATE_MODIFICATION");
+        assertThat(incremental.getSql()).endsWith("from PROFIL where PRO_DATE_MODIFICATION >= ? order by PRO_DATE_MODIFICATION");
+    }
+
+    @Test
+    void stepStoresGreatestWrittenWatermark() throws Exception {
+        // GIVEN
+        List<Profil> written = new ArrayList<>();
+
+        // WHEN
+        StepExecution stepExecution = execute(
+                List.of(profil(1, PREVIOUS.plusDays(1)), profil(2, PREVIOUS.plusDays(3)), profil(3, null)),
+                chunk -> written.addAll(chunk.getItems()));
+
+        // THEN
+        assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(written).hasSize(3);
+        assertThat(stepExecution.getExecutionContext().get("watermark")).isEqualTo(PREVIOUS.plusDays(3));
+    }
+
+    @Test
+    void stepKeepsPreviousWatermarkWithoutRows() throws Exception {
+        // WHEN
+        StepExecution stepExecution = execute(List.of(), chunk -> {
+        });
+
+        // THEN
+        assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(stepExecution.getExecutionContext().get("watermark")).isEqualTo(PREVIOUS);
+    }
+
+    @Test
+    void stepKeepsChunkStartWhenWriteIsSkipped() throws Exception {
+        // GIVEN
+        List<Profil> written = new ArrayList<>();
+
+        // WHEN
+        StepExecution stepExecution = execute(
+                List.of(profil(1, PREVIOUS.plusDays(1)), profil(2, PREVIOUS.plusDays(2)), profil(3, PREVIOUS.plusDays(3))),
+                chunk -> {
+                    if (chunk.getItems().stream().anyMatch(profil -> profil.getId() == 2)) {
+                        throw new IllegalStateException("Écriture refusée");
+                    }
+
+                    written.addAll(chunk.getItems());
+                });
+
+        // THEN
+        assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(stepExecution.getWriteSkipCount()).isEqualTo(1);
+        assertThat(written).extracting(Profil::getId).containsExactly(1, 3);
+        assertThat(stepExecution.getExecutionContext().get("watermark")).isEqualTo(PREVIOUS);
+    }
+
+    private static StepExecution execute(List<Profil> profils, ItemWriter<Profil> writer) throws Exception {
+        JobRepository jobRepository = new ResourcelessJobRepository();
+        JobExecution jobExecution = jobRepository.createJobExecution("SecuriteUtilisateurJob", new JobParameters());
+        Step step = ImportProfilsFlow.importProfilsStep(jobRepository, new ResourcelessTransactionManager(), new ListItemReader<>(profils),
+                jobExplorer(), new SimpleMeterRegistry(), writer);
+        StepExecution stepExecution = jobExecution.createStepExecution("ImportProfilsStep");
+        jobRepository.add(stepExecution);
+        step.execute(stepExecution);
+        return stepExecution;
+    }
+
+    // Exploreur qui retrouve une exécution précédente terminée, avec sa valeur de suivi
+    private static JobExplorer jobExplorer() {
+        JobInstance instance = new JobInstance(1L, "SecuriteUtilisateurJob");
+        JobExecution previous = new JobExecution(instance, 1L, new JobParameters());
+        StepExecution previousStep = previous.createStepExecution("ImportProfilsStep");
+        previousStep.setStatus(BatchStatus.COMPLETED);
+        previousStep.getExecutionContext().put("watermark", PREVIOUS);
+        JobExplorer jobExplorer = mock(JobExplorer.class);
+        when(jobExplorer.getJobInstances(anyString(), anyInt(), anyInt())).thenReturn(List.of(instance));
+        when(jobExplorer.getJobExecutions(any(JobInstance.class))).thenReturn(List.of(previous));
+        return jobExplorer;
+    }
+
+    private static Profil profil(int id, LocalDateTime dateModification) {
+        Profil profil = new Profil();
+        profil.setId(id);
+        profil.setDateModification(dateModification);
+        return profil;
+    }
+}
@@ -0,0 +1,130 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+
+import topmodel.jpa.sample.demo.dataflows.securite.profil.ImportProfilsHistoriqueFlow;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+
+class ImportProfilsHistoriqueFlowTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Test
+    void readerDecodesCopyBinaryRows() throws Exception {
+        // GIVEN
+        LocalDateTime dateCreation = LocalDateTime.of(2024, 3, 1, 8, 30, 15);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = header(bytes);
+        out.writeShort(4);
+        writeInt(out, 1);
+        writeString(out, "Administrateur");
+        writeTimestamp(out, dateCreation);
+        out.writeInt(-1);
+        out.writeShort(4);
+        writeInt(out, 2);
+        out.writeInt(-1);
+        // Colonne de type date : minuit du jour lu
+        out.writeInt(4);
+        out.writeInt(3);
+        out.writeInt(-1);
+        out.writeShort(-1);
+        Connection connection = mock(Connection.class);
+        CopyManager copyManager = copyManager(connection, bytes.toByteArray());
+
+        // WHEN
+        ItemReader<Profil> reader = ImportProfilsHistoriqueFlow.importProfilsHistoriqueReader(dataSource(connection));
+        ((ItemStream) reader).open(new ExecutionContext());
+        Profil administrateur = reader.read();
+        Profil anonyme = reader.read();
+        Profil end = reader.read();
+        ((ItemStream) reader).close();
+
+        // THEN
+        verify(copyManager).copyOut("COPY (select PRO_ID, PRO_LIBELLE, PRO_DATE_CREATION, PRO_DATE_MODIFICATION from PROFIL) TO STDOUT (FORMAT binary)");
+        assertThat(administrateur.getId()).isEqualTo(1);
+        assertThat(administrateur.getLibelle()).isEqualTo("Administrateur");
+        assertThat(administrateur.getDateCreation()).isEqualTo(dateCreation);
+        assertThat(administrateur.getDateModification()).isNull();
+        assertThat(anonyme.getId()).isEqualTo(2);
+        assertThat(anonyme.getLibelle()).isNull();
+        assertThat(anonyme.getDateCreation()).isEqualTo(LocalDateTime.of(2000, 1, 4, 0, 0));
+        assertThat(end).isNull();
+        verify(connection).close();
+    }
+
+    @Test
+    void readerRejectsTextFormat() throws Exception {
+        // GIVEN
+        Connection connection = mock(Connection.class);
+        copyManager(connection, "1\tAdministrateur\t\\N\t\\N\n".getBytes(StandardCharsets.UTF_8));
+        ItemReader<Profil> reader = ImportProfilsHistoriqueFlow.importProfilsHistoriqueReader(dataSource(connection));
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> ((ItemStream) reader).open(new ExecutionContext()))
+                .isInstanceOf(ItemStreamException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static DataSource dataSource(Connection connection) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static CopyManager copyManager(Connection connection, byte[] data) throws Exception {
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        CopyOut copyOut = mock(CopyOut.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyOut(anyString())).thenReturn(copyOut);
+        when(copyOut.readFromCopy()).thenReturn(data, (byte[]) null);
+        return copyManager;
+    }
+
+    private static DataOutputStream header(ByteArrayOutputStream bytes) throws IOException {
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write("PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeInt(0);
+        out.writeInt(0);
+        return out;
+    }
+
+    private static void writeInt(DataOutputStream out, int value) throws IOException {
+        out.writeInt(4);
+        out.writeInt(value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeInt(8);
+        out.writeLong(ChronoUnit.MICROS.between(EPOCH, value));
+    }
+}
@@ -0,0 +1,83 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import topmodel.jpa.sample.demo.dataflows.securite.utilisateur.ImportUtilisateursFlow;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+
+class ImportUtilisateursFlowTest {
+
+    @Test
+    void partitionsPublishSharedMetrics() throws Exception {
+        // GIVEN
+        Queue<Utilisateur> source = new ConcurrentLinkedQueue<>();
+        for (int i = 1; i <= 1000; i++) {
+            Utilisateur utilisateur = new Utilisateur();
+            utilisateur.setId(i);
+            source.add(utilisateur);
+        }
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JobRepository jobRepository = new ResourcelessJobRepository();
+        // Les partitions lisent la même file, et l'écriture de l'utilisateur 500 échoue
+        Step workerStep = ImportUtilisateursFlow.importUtilisateursWorkerStep(jobRepository, new ResourcelessTransactionManager(), source::poll, registry,
+                chunk -> {
+                    if (chunk.getItems().stream().anyMatch(utilisateur -> utilisateur.getId() == 500)) {
+                        throw new IllegalStateException("Écriture refusée");
+                    }
+                });
+        JobExecution jobExecution = jobRepository.createJobExecution("SecuriteUtilisateurJob", new JobParameters());
+        List<StepExecution> stepExecutions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            StepExecution stepExecution = jobExecution.createStepExecution("ImportUtilisateursWorkerStep:partition" + i);
+            jobRepository.add(stepExecution);
+            stepExecutions.add(stepExecution);
+        }
+
+        // WHEN
+        // Comme le step partitionné, les partitions exécutent le même step (et donc le même listener) en parallèle
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> partitions = new ArrayList<>();
+        for (StepExecution stepExecution : stepExecutions) {
+            partitions.add(executor.submit(() -> {
+                workerStep.execute(stepExecution);
+                return null;
+            }));
+        }
+
+        for (Future<?> partition : partitions) {
+            partition.get();
+        }
+
+        executor.shutdown();
+
+        // THEN
+        assertThat(stepExecutions).extracting(StepExecution::getStatus).containsOnly(BatchStatus.COMPLETED);
+        assertThat(registry.get("dataflow.items.read").tag("flow", "ImportUtilisateurs").tag("module", "Securite.Utilisateur").counter().count())
+                .isEqualTo(1000);
+        assertThat(registry.get("dataflow.items.written").counter().count()).isEqualTo(999);
+        assertThat(registry.get("dataflow.skips").tag("phase", "write").counter().count()).isEqualTo(1);
+        assertThat(registry.get("dataflow.skips").tag("phase", "read").counter().count()).isZero();
+        assertThat(registry.get("dataflow.read").timer().count()).isEqualTo(1000);
+        assertThat(registry.get("dataflow.process").timer().count()).isZero();
+        assertThat(registry.get("dataflow.write").timer().count()).isPositive();
+    }
+}
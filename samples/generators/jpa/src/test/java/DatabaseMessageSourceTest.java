@@ -0,0 +1,130 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import topmodel.jpa.sample.demo.i18n.DatabaseMessageSource;
+
+class DatabaseMessageSourceTest {
+
+    private static class TranslationTable extends JdbcTemplate {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private final List<String> queries = new ArrayList<>();
+
+        private void add(String key, String label, long version) {
+            rows.add(new Object[] { key, label, version });
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            query(sql, rch, new Object[0]);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            queries.add(sql);
+            long version = args.length == 0 ? Long.MIN_VALUE : (Long) args[0];
+            try {
+                for (Object[] row : rows) {
+                    if ((Long) row[2] > version) {
+                        ResultSet rs = mock(ResultSet.class);
+                        when(rs.getString(1)).thenReturn((String) row[0]);
+                        when(rs.getString(2)).thenReturn((String) row[1]);
+                        when(rs.getLong(3)).thenReturn((Long) row[2]);
+                        rch.processRow(rs);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Test
+    void testLoadOnce() {
+        // GIVEN
+        TranslationTable table = new TranslationTable();
+        table.add("securite.profil.droit.values.Create", "Création", 1);
+        table.add("securite.utilisateur.bienvenue", "Bienvenue {0}", 1);
+        DatabaseMessageSource messageSource = new DatabaseMessageSource(table, "messages", "UTF-8");
+
+        // WHEN
+        String create = messageSource.getLabel("securite.profil.droit.values.Create", Locale.FRENCH);
+        String bienvenue = messageSource.getMessage("securite.utilisateur.bienvenue", new Object[] { "Jean" }, Locale.FRENCH);
+        String missing = messageSource.getLabel("securite.inconnu", Locale.FRENCH);
+
+        // THEN
+        assertThat(create).isEqualTo("Création");
+        assertThat(bienvenue).isEqualTo("Bienvenue Jean");
+        assertThat(missing).isNull();
+        assertThat(table.queries).hasSize(1);
+        assertThat(messageSource.getHitCount()).isEqualTo(2);
+        assertThat(messageSource.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRefresh() {
+        // GIVEN
+        TranslationTable table = new TranslationTable();
+        table.add("securite.profil.droit.values.Create", "Création", 1);
+        DatabaseMessageSource messageSource = new DatabaseMessageSource(table, "messages", "UTF-8");
+        messageSource.getLabel("securite.profil.droit.values.Create", Locale.FRENCH);
+        table.add("securite.profil.droit.values.Create", "Créer", 2);
+        table.add("securite.profil.droit.values.Read", "Lire", 2);
+
+        // WHEN
+        messageSource.refresh();
+
+        // THEN
+        assertThat(messageSource.getLabel("securite.profil.droit.values.Create", Locale.FRENCH)).isEqualTo("Créer");
+        assertThat(messageSource.getLabel("securite.profil.droit.values.Read", Locale.FRENCH)).isEqualTo("Lire");
+        assertThat(table.queries).hasSize(2);
+        assertThat(table.queries.get(1)).endsWith("where VERSION > ?");
+        assertThat(messageSource.getRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testManyKeys() {
+        // GIVEN
+        TranslationTable table = new TranslationTable();
+        for (int i = 0; i < 1000; i++) {
+            table.add("cle." + i, "Libellé " + i, i);
+        }
+
+        DatabaseMessageSource messageSource = new DatabaseMessageSource(table, "messages", "UTF-8");
+
+        // WHEN / THEN
+        for (int i = 0; i < 1000; i++) {
+            assertThat(messageSource.getLabel("cle." + i, Locale.FRENCH)).isEqualTo("Libellé " + i);
+        }
+
+        assertThat(messageSource.getMissCount()).isZero();
+    }
+
+    @Test
+    void testParentMessageSource() {
+        // GIVEN
+        TranslationTable table = new TranslationTable();
+        table.add("securite.profil.droit.values.Create", "Créer", 1);
+        DatabaseMessageSource messageSource = new DatabaseMessageSource(table, "i18n/model/securite", "ISO-8859-1");
+
+        // WHEN
+        String create = messageSource.getMessage("securite.profil.droit.values.Create", null, Locale.FRENCH);
+        String code = messageSource.getMessage("securite.profil.droit.code", null, Locale.FRENCH);
+
+        // THEN
+        assertThat(create).isEqualTo("Créer");
+        assertThat(code).isEqualTo("Droit");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import topmodel.jpa.sample.demo.daos.securite.utilisateur.UtilisateurDAO;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
+import topmodel.jpa.sample.demo.entities.securite.profil.Droit;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.profil.TypeDroit;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.TypeUtilisateur;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+
+/**
+ * Démarre Hibernate sur les entités générées, sans base de données, avec les propriétés "spring.jpa.properties" de
+ * l'application.
+ */
+class HibernateMetamodelTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactory() throws IOException {
+        StandardServiceRegistryBuilder registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.javax.cache.missing_cache_strategy", "create");
+
+        Properties properties = new Properties();
+        try (InputStream stream = HibernateMetamodelTest.class.getResourceAsStream("/application.properties")) {
+            properties.load(stream);
+        }
+
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith("spring.jpa.properties."))
+                .forEach(name -> registry.applySetting(name.substring("spring.jpa.properties.".length()), properties.getProperty(name)));
+
+        sessionFactory = new MetadataSources(registry.build())
+                .addAnnotatedClasses(Droit.class, Profil.class, TypeDroit.class, TypeUtilisateur.class, Utilisateur.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void idsUsePooledLoOptimizer() {
+        // GIVEN
+        var metamodel = sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+
+        // WHEN
+        var profilGenerator = metamodel.getEntityDescriptor(Profil.class).getGenerator();
+        var utilisateurGenerator = metamodel.getEntityDescriptor(Utilisateur.class).getGenerator();
+
+        // THEN
+        assertThat(profilGenerator).isInstanceOf(SequenceStyleGenerator.class);
+        assertThat(((SequenceStyleGenerator) profilGenerator).getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+        assertThat(((SequenceStyleGenerator) profilGenerator).getOptimizer().getIncrementSize()).isEqualTo(50);
+        assertThat(((SequenceStyleGenerator) utilisateurGenerator).getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+    }
+
+    @Test
+    void insertsAreBatched() {
+        // GIVEN
+        var options = sessionFactory.getSessionFactoryOptions();
+
+        // WHEN / THEN
+        assertThat(options.getJdbcBatchSize()).isEqualTo(50);
+        assertThat(options.isOrderInsertsEnabled()).isTrue();
+        assertThat(options.isOrderUpdatesEnabled()).isTrue();
+    }
+
+    @Test
+    void projectionQueriesAreValid() {
+        // GIVEN
+        List<String> queries = Arrays.stream(UtilisateurDAO.class.getMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .map(method -> method.getAnnotation(Query.class).value())
+                .filter(query -> query.startsWith("select new " + UtilisateurRead.class.getName() + "("))
+                .toList();
+
+        // WHEN / THEN
+        assertThat(queries).hasSize(2);
+        try (var session = sessionFactory.openSession()) {
+            // La requête est analysée (entités, propriétés, constructeur du record) à sa création, sans base de données.
+            queries.forEach(query -> assertThat(session.createQuery(query, UtilisateurRead.class)).isNotNull());
+        }
+    }
+
+    @Test
+    void streamSearchQueryIsValid() {
+        // GIVEN
+        String query = Arrays.stream(UtilisateurDAO.class.getMethods())
+                .filter(method -> method.getName().equals("streamSearchUtilisateur"))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+
+        // WHEN / THEN
+        try (var session = sessionFactory.openSession()) {
+            assertThat(session.createQuery(query, Utilisateur.class)).isNotNull();
+        }
+    }
+
+    @Test
+    void keysetSearchQueryIsValid() {
+        // GIVEN
+        String query = Arrays.stream(UtilisateurDAO.class.getMethods())
+                .filter(method -> method.getName().equals("findSearchUtilisateurPageAfter"))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+
+        // WHEN / THEN
+        try (var session = sessionFactory.openSession()) {
+            assertThat(session.createQuery(query, Utilisateur.class)).isNotNull();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
 
+import topmodel.jpa.sample.demo.api.KeysetPage;
 import topmodel.jpa.sample.demo.api.server.securite.profil.ProfilController;
 
 class ProfilControllerTest {
@@ -11,4 +15,16 @@ class ProfilControllerTest {
                 .isInterface()
                 .hasMethods("addProfil", "getProfil", "getProfils", "updateProfil");
     }
+
+    @Test
+    void getProfilsIsKeysetPaginated() throws NoSuchMethodException {
+        var method = ProfilController.class.getMethod("getProfils", Integer.class, Integer.class);
+        assertThat(method.getReturnType()).isEqualTo(KeysetPage.class);
+        assertThat(method.getParameters())
+                .extracting(p -> p.getAnnotation(RequestParam.class))
+                .extracting(RequestParam::value, RequestParam::required, RequestParam::defaultValue)
+                .containsExactly(
+                        tuple("after", false, ValueConstants.DEFAULT_NONE),
+                        tuple("limit", false, "50"));
+    }
 }
@@ -0,0 +1,35 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
+
+import topmodel.jpa.sample.demo.daos.securite.profil.ProfilDAO;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+
+class ProfilDAOTest {
+    @Test
+    void isInterfaceWithMethods() {
+        assertThat(ProfilDAO.class)
+                .isInterface()
+                .hasMethods("findForProfilReadById", "findAllForProfilReadByIdIn",
+                        "findAllByOrderByIdAsc", "findByIdGreaterThanOrderByIdAsc", "findPageOrderById", "streamAll");
+    }
+
+    @Test
+    void hasEntityGraph() {
+        NamedEntityGraph entityGraph = Profil.class.getAnnotation(NamedEntityGraph.class);
+        assertThat(entityGraph.name()).isEqualTo("Profil.ProfilRead");
+        assertThat(entityGraph.attributeNodes()).extracting(n -> n.value()).containsExactly("droits");
+    }
+
+    @Test
+    void idUsesSequence() throws NoSuchFieldException {
+        SequenceGenerator generator = Profil.class.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        assertThat(generator.name()).isEqualTo("SEQ_PROFIL");
+        assertThat(generator.sequenceName()).isEqualTo("SEQ_PROFIL");
+        assertThat(generator.initialValue()).isEqualTo(1000);
+        assertThat(generator.allocationSize()).isEqualTo(50);
+    }
+}
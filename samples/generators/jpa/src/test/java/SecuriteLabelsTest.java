@@ -0,0 +1,51 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.Test;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Droit;
+import topmodel.jpa.sample.demo.enums.securite.SecuriteLabels;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+import topmodel.jpa.sample.demo.enums.securite.profil.TypeDroitCode;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+class SecuriteLabelsTest {
+
+    @Test
+    void testLabelByCode() {
+        // WHEN / THEN
+        assertThat(SecuriteLabels.label(DroitCode.CREATE, Locale.FRENCH)).isEqualTo("Création");
+        assertThat(SecuriteLabels.label(DroitCode.UPDATE, Locale.FRENCH)).isEqualTo("Mise à jour");
+        assertThat(SecuriteLabels.label(TypeDroitCode.WRITE, Locale.FRENCH)).isEqualTo("Ecriture");
+        assertThat(SecuriteLabels.label(TypeUtilisateurCode.GEST, Locale.FRENCH)).isEqualTo("Gestionnaire");
+    }
+
+    @Test
+    void testLabelByCodeMatchesEntityResourceKey() {
+        for (DroitCode code : DroitCode.values()) {
+            // GIVEN
+            Droit droit = new Droit(code);
+
+            // WHEN
+            SecuriteLabels.Key key = SecuriteLabels.Key.values()[SecuriteLabels.Key.PROFIL_DROIT_VALUES_CREATE.ordinal() + code.ordinal()];
+
+            // THEN
+            assertThat(key.getResourceKey()).isEqualTo(droit.getLibelle());
+            assertThat(SecuriteLabels.label(code, Locale.FRENCH)).isEqualTo(SecuriteLabels.label(key, Locale.FRENCH));
+        }
+    }
+
+    @Test
+    void testLabelsMatchResourceBundle() {
+        // GIVEN
+        ResourceBundle bundle = ResourceBundle.getBundle("i18n.model.securite", Locale.ROOT);
+
+        // WHEN / THEN
+        assertThat(SecuriteLabels.Key.values()).hasSize(bundle.keySet().size());
+        for (SecuriteLabels.Key key : SecuriteLabels.Key.values()) {
+            assertThat(SecuriteLabels.label(key, Locale.ENGLISH)).isEqualTo(bundle.getString(key.getResourceKey()));
+        }
+    }
+}
\ No newline at end of file
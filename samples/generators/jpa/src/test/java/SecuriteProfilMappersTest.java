@@ -2,6 +2,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,18 +23,18 @@ public class SecuriteProfilMappersTest {
         Profil profil = new Profil();
         profil.setId(1);
         profil.setLibelle("Test Profil");
-        profil.setDroits(Arrays.asList(Droit.DELETE, Droit.CREATE));
+        profil.setDroits(Set.of(Droit.DELETE, Droit.CREATE));
 
         // WHEN
-        // Call the createProfilRead method with the Profil object and a null target
-        ProfilRead profilRead = SecuriteProfilMappers.createProfilRead(profil, null);
+        // Call the createProfilRead method with the Profil object
+        ProfilRead profilRead = SecuriteProfilMappers.createProfilRead(profil);
 
         // THEN
         // Verify that the ProfilRead object has the same data as the Profil object
-        assertThat(profilRead.getId()).isEqualTo(profil.getId());
-        assertThat(profilRead.getLibelle()).isEqualTo(profil.getLibelle());
-        assertThat(profilRead.getDroits()).hasSize(profil.getDroits().size());
-        assertThat(profilRead.getDroits()).containsAll(Arrays.asList(DroitCode.DELETE, DroitCode.CREATE));
+        assertThat(profilRead.id()).isEqualTo(profil.getId());
+        assertThat(profilRead.libelle()).isEqualTo(profil.getLibelle());
+        assertThat(profilRead.droits()).hasSize(profil.getDroits().size());
+        assertThat(profilRead.droits()).containsExactly(DroitCode.CREATE, DroitCode.DELETE);
     }
 
     @Test
@@ -41,7 +43,7 @@ public class SecuriteProfilMappersTest {
         // Create a source Profil object with some data
         Profil source = new Profil();
         source.setLibelle("Source Profil");
-        source.setDroits(Arrays.asList(Droit.CREATE, Droit.DELETE));
+        source.setDroits(Set.of(Droit.CREATE, Droit.DELETE));
 
         // WHEN
         // Call the toProfil method with the source Profil object and a null target
@@ -70,6 +72,24 @@ public class SecuriteProfilMappersTest {
         assertThat(target.getLibelle()).isEqualTo(source.getLibelle());
         assertThat(target.getDroits()).hasSize(source.getDroits().size());
         assertThat(target.getDroits().stream().map(Droit::getCode)).containsAll(source.getDroits());
+        assertThat(target.getDroits()).containsExactlyInAnyOrder(Droit.CREATE, Droit.DELETE);
+    }
+
+    @Test
+    public void testToProfilFromProfilWriteWithDuplicateDroits() {
+        // GIVEN
+        // Create a source ProfilWrite object with the same right twice
+        ProfilWrite source = new ProfilWrite();
+        source.setDroits(Arrays.asList(DroitCode.CREATE, DroitCode.CREATE));
+
+        // WHEN
+        Profil target = SecuriteProfilMappers.toProfil(source, null);
+
+        // THEN
+        // Verify that the rights are compared on their code
+        assertThat(target.getDroits()).containsExactly(Droit.CREATE);
+        assertThat(target.getDroits()).contains(new Droit(DroitCode.CREATE));
+        assertThat(new Droit(DroitCode.CREATE)).hasSameHashCodeAs(Droit.CREATE);
     }
 
     @Test
@@ -78,12 +98,12 @@ public class SecuriteProfilMappersTest {
         // Create a source Profil object with some data
         Profil source = new Profil();
         source.setLibelle("Source Profil");
-        source.setDroits(Arrays.asList(Droit.CREATE, Droit.DELETE));
+        source.setDroits(Set.of(Droit.CREATE, Droit.DELETE));
 
         // Create a target Profil object with some data
         Profil target = new Profil();
         target.setLibelle("Target Profil");
-        target.setDroits(Arrays.asList(Droit.CREATE, Droit.DELETE));
+        target.setDroits(Set.of(Droit.CREATE, Droit.DELETE));
 
         // WHEN
         // Call the toProfil method with the source Profil object and the target Profil object
@@ -106,7 +126,7 @@ public class SecuriteProfilMappersTest {
         // Create a target Profil object with some data
         Profil target = new Profil();
         target.setLibelle("Target Profil");
-        target.setDroits(Arrays.asList(Droit.CREATE, Droit.DELETE));
+        target.setDroits(Set.of(Droit.CREATE, Droit.DELETE));
 
         // WHEN
         // Call the toProfil method with the source ProfilWrite object and the target Profil object
@@ -137,7 +157,33 @@ public class SecuriteProfilMappersTest {
         // WHEN & THEN
         // Verify that calling the createProfilRead method with a null source Profil object throws an IllegalArgumentException
         assertThatThrownBy(() -> {
-            SecuriteProfilMappers.createProfilRead(null, null);
+            SecuriteProfilMappers.createProfilRead(null);
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCreateProfilReadList() {
+        // GIVEN
+        Profil profil1 = new Profil();
+        profil1.setId(1);
+        profil1.setDroits(Set.of(Droit.CREATE));
+        Profil profil2 = new Profil();
+        profil2.setId(2);
+        profil2.setDroits(Set.of(Droit.DELETE));
+
+        // WHEN
+        List<ProfilRead> profilReads = SecuriteProfilMappers.createProfilReadList(Arrays.asList(profil1, profil2));
+
+        // THEN
+        assertThat(profilReads).extracting(ProfilRead::id).containsExactly(1, 2);
+        assertThat(profilReads.get(1).droits()).containsExactly(DroitCode.DELETE);
+    }
+
+    @Test
+    public void testToProfilListFromProfilWriteWithNullSources() {
+        // WHEN & THEN
+        assertThatThrownBy(() -> {
+            SecuriteProfilMappers.toProfilListFromProfilWrite(null);
         }).isInstanceOf(IllegalArgumentException.class);
     }
 }
@@ -0,0 +1,102 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import topmodel.jpa.sample.demo.entities.securite.profil.Droit;
+import topmodel.jpa.sample.demo.entities.securite.profil.SecuriteProfilReferenceDataCache;
+import topmodel.jpa.sample.demo.entities.securite.profil.TypeDroit;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+import topmodel.jpa.sample.demo.enums.securite.profil.TypeDroitCode;
+
+class SecuriteProfilReferenceDataCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private static EntityManager mockEntityManager(List<Droit> droits, List<TypeDroit> typeDroits) {
+        EntityManager entityManager = mock(EntityManager.class);
+        TypedQuery<Droit> droitQuery = mock(TypedQuery.class);
+        TypedQuery<TypeDroit> typeDroitQuery = mock(TypedQuery.class);
+        when(droitQuery.getResultList()).thenReturn(droits);
+        when(typeDroitQuery.getResultList()).thenReturn(typeDroits);
+        when(entityManager.createQuery(anyString(), eq(Droit.class))).thenReturn(droitQuery);
+        when(entityManager.createQuery(anyString(), eq(TypeDroit.class))).thenReturn(typeDroitQuery);
+        return entityManager;
+    }
+
+    @Test
+    void testLoadAndGet() {
+        // GIVEN
+        Droit create = new Droit(DroitCode.CREATE);
+        EntityManager entityManager = mockEntityManager(
+                Arrays.asList(create, Droit.DELETE, Droit.READ, Droit.UPDATE),
+                Arrays.asList(TypeDroit.ADMIN, TypeDroit.READ, TypeDroit.WRITE));
+        SecuriteProfilReferenceDataCache cache = new SecuriteProfilReferenceDataCache(entityManager);
+
+        // WHEN
+        cache.load();
+
+        // THEN
+        assertThat(cache.getDroit(DroitCode.CREATE)).isSameAs(create);
+        assertThat(cache.getTypeDroit(TypeDroitCode.WRITE)).isSameAs(TypeDroit.WRITE);
+        assertThat(cache.getDroit(null)).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    void testLoadWithMissingValues() {
+        // GIVEN
+        EntityManager entityManager = mockEntityManager(
+                Arrays.asList(Droit.CREATE, Droit.READ),
+                Arrays.asList(TypeDroit.ADMIN, TypeDroit.READ, TypeDroit.WRITE));
+        SecuriteProfilReferenceDataCache cache = new SecuriteProfilReferenceDataCache(entityManager);
+
+        // WHEN & THEN
+        assertThatThrownBy(cache::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Droit")
+                .hasMessageContaining("DELETE")
+                .hasMessageContaining("UPDATE");
+    }
+
+    @Test
+    void testGetBeforeLoad() {
+        // GIVEN
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.find(Droit.class, DroitCode.READ)).thenReturn(Droit.READ);
+        SecuriteProfilReferenceDataCache cache = new SecuriteProfilReferenceDataCache(entityManager);
+
+        // WHEN & THEN
+        assertThat(cache.getDroit(DroitCode.READ)).isSameAs(Droit.READ);
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetBeforeLoadInTransaction() {
+        // GIVEN
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.getReference(Droit.class, DroitCode.READ)).thenReturn(Droit.READ);
+        SecuriteProfilReferenceDataCache cache = new SecuriteProfilReferenceDataCache(entityManager);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // WHEN & THEN
+        try {
+            assertThat(cache.getDroit(DroitCode.READ)).isSameAs(Droit.READ);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+}
@@ -2,7 +2,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -30,23 +30,38 @@ public class SecuriteUtilisateurMappersTest {
         utilisateur.setActif(true);
         var profil = new Profil();
         profil.setId(2);
-        profil.setDroits(Arrays.asList(Droit.CREATE, Droit.DELETE));
+        profil.setDroits(Set.of(Droit.CREATE, Droit.DELETE));
         utilisateur.setProfil(profil);
         utilisateur.setTypeUtilisateur(new TypeUtilisateur(TypeUtilisateurCode.ADMIN));
 
         // WHEN
-        UtilisateurRead utilisateurRead = SecuriteUtilisateurMappers.createUtilisateurRead(utilisateur, null);
+        UtilisateurRead utilisateurRead = SecuriteUtilisateurMappers.createUtilisateurRead(utilisateur);
 
         // THEN
-        assertThat(utilisateurRead.getId()).isEqualTo(utilisateur.getId());
-        assertThat(utilisateurRead.getNom()).isEqualTo(utilisateur.getNom());
-        assertThat(utilisateurRead.getPrenom()).isEqualTo(utilisateur.getPrenom());
-        assertThat(utilisateurRead.getEmail()).isEqualTo(utilisateur.getEmail());
-        assertThat(utilisateurRead.getDateNaissance()).isEqualTo(utilisateur.getDateNaissance());
-        assertThat(utilisateurRead.getAdresse()).isEqualTo(utilisateur.getAdresse());
-        assertThat(utilisateurRead.getActif()).isEqualTo(utilisateur.getActif());
-        assertThat(utilisateurRead.getProfilId()).isEqualTo(utilisateur.getProfil().getId());
-        assertThat(utilisateurRead.getTypeUtilisateurCode()).isEqualTo(utilisateur.getTypeUtilisateur().getCode());
+        assertThat(utilisateurRead.id()).isEqualTo(utilisateur.getId());
+        assertThat(utilisateurRead.nom()).isEqualTo(utilisateur.getNom());
+        assertThat(utilisateurRead.prenom()).isEqualTo(utilisateur.getPrenom());
+        assertThat(utilisateurRead.email()).isEqualTo(utilisateur.getEmail());
+        assertThat(utilisateurRead.dateNaissance()).isEqualTo(utilisateur.getDateNaissance());
+        assertThat(utilisateurRead.adresse()).isEqualTo(utilisateur.getAdresse());
+        assertThat(utilisateurRead.actif()).isEqualTo(utilisateur.isActif());
+        assertThat(utilisateurRead.profilId()).isEqualTo(utilisateur.getProfil().getId());
+        assertThat(utilisateurRead.typeUtilisateurCode()).isEqualTo(utilisateur.getTypeUtilisateur().getCode());
+    }
+
+    @Test
+    public void testCreateUtilisateurReadWithoutProfil() {
+        // GIVEN
+        Utilisateur utilisateur = new Utilisateur();
+        utilisateur.setId(1);
+        utilisateur.setNom("Doe");
+
+        // WHEN
+        UtilisateurRead utilisateurRead = SecuriteUtilisateurMappers.createUtilisateurRead(utilisateur);
+
+        // THEN
+        assertThat(utilisateurRead.nom()).isEqualTo("Doe");
+        assertThat(utilisateurRead.profilId()).isNull();
     }
 
     @Test
@@ -70,8 +85,22 @@ public class SecuriteUtilisateurMappersTest {
         assertThat(target.getEmail()).isEqualTo(source.getEmail());
         assertThat(target.getDateNaissance()).isEqualTo(source.getDateNaissance());
         assertThat(target.getAdresse()).isEqualTo(source.getAdresse());
-        assertThat(target.getActif()).isEqualTo(source.getActif());
+        assertThat(target.isActif()).isEqualTo(source.getActif());
         assertThat(target.getTypeUtilisateur().getCode()).isEqualTo(source.getTypeUtilisateurCode());
+        assertThat(target.getTypeUtilisateur()).isSameAs(TypeUtilisateur.ADMIN);
+    }
+
+    @Test
+    public void testToUtilisateurKeepsPrimitiveDefaultWhenSourceIsNull() {
+        // GIVEN
+        UtilisateurWrite source = new UtilisateurWrite();
+        source.setActif(null);
+
+        // WHEN
+        Utilisateur target = SecuriteUtilisateurMappers.toUtilisateur(source, null);
+
+        // THEN
+        assertThat(target.isActif()).isTrue();
     }
 
     @Test
@@ -86,7 +115,7 @@ public class SecuriteUtilisateurMappersTest {
     public void testCreateUtilisateurReadWithNullUtilisateur() {
         // WHEN & THEN
         assertThatThrownBy(() -> {
-            SecuriteUtilisateurMappers.createUtilisateurRead(null, null);
+            SecuriteUtilisateurMappers.createUtilisateurRead(null);
         }).isInstanceOf(IllegalArgumentException.class);
     }
 }
@@ -1,6 +1,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import topmodel.jpa.sample.demo.api.client.securite.utilisateur.UtilisateurClient;
 
@@ -13,6 +14,20 @@ class UtilisateurClientTest {
                         "updateUtilisateur");
     }
 
+    @Test
+    void searchUtilisateurIsKeysetPaginated() {
+        assertThat(UtilisateurClient.class.getMethods())
+                .filteredOn(method -> method.getName().equals("searchUtilisateur"))
+                .singleElement()
+                .satisfies(method -> {
+                    assertThat(method.getGenericReturnType().getTypeName()).isEqualTo(
+                            "org.springframework.http.ResponseEntity<topmodel.jpa.sample.demo.api.KeysetPage<topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurItem, java.lang.Integer>>");
+                    assertThat(method.getParameters())
+                            .extracting(p -> p.getAnnotation(RequestParam.class).value())
+                            .endsWith("after", "limit");
+                });
+    }
+
     @Test
     void getIdHasAnnotations() {
         try {
@@ -1,6 +1,9 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import reactor.core.publisher.Flux;
 
 import topmodel.jpa.sample.demo.api.server.securite.utilisateur.UtilisateurController;
 
@@ -10,6 +13,19 @@ class UtilisateurControllerTest {
         assertThat(UtilisateurController.class)
                 .isInterface()
                 .hasMethods("addUtilisateur", "deleteUtilisateur", "getUtilisateur", "searchUtilisateur",
-                        "updateUtilisateur");
+                        "searchUtilisateurStream", "updateUtilisateur");
+    }
+
+    @Test
+    void searchUtilisateurStreamReturnsNdjsonFlux() {
+        assertThat(UtilisateurController.class.getMethods())
+                .filteredOn(method -> method.getName().equals("searchUtilisateurStream"))
+                .singleElement()
+                .satisfies(method -> {
+                    assertThat(method.getReturnType()).isEqualTo(Flux.class);
+                    GetMapping mapping = method.getAnnotation(GetMapping.class);
+                    assertThat(mapping.path()).containsExactly("/stream");
+                    assertThat(mapping.produces()).containsExactly("application/x-ndjson");
+                });
     }
 }
@@ -0,0 +1,93 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import topmodel.jpa.sample.demo.daos.securite.utilisateur.UtilisateurDAO;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+class UtilisateurDAOTest {
+    @Test
+    void isInterfaceWithMethods() {
+        assertThat(UtilisateurDAO.class)
+                .isInterface()
+                .hasMethods("findUtilisateurReadById", "findUtilisateurReadByIdIn",
+                        "findAllByOrderByIdAsc", "findByIdGreaterThanOrderByIdAsc", "findPageOrderById",
+                        "findSearchUtilisateurPageAfter", "findSearchUtilisateurPage", "streamAll", "streamSearchUtilisateur",
+                        "countUtilisateursByProfilId", "existsUtilisateursByProfilId",
+                        "countUtilisateursGroupByProfilId", "countUtilisateursByProfilIdIn");
+    }
+
+    @Test
+    void countUtilisateursByProfilIdInFillsMissingProfils() {
+        // GIVEN
+        UtilisateurDAO dao = mock(UtilisateurDAO.class, CALLS_REAL_METHODS);
+        List<Integer> profilIds = List.of(1, 2, 3);
+        doReturn(List.of(new Object[] { 1, 4L }, new Object[] { 3, 1L })).when(dao).countUtilisateursGroupByProfilId(profilIds);
+
+        // WHEN
+        var counts = dao.countUtilisateursByProfilIdIn(profilIds);
+
+        // THEN
+        assertThat(counts).containsEntry(1, 4L).containsEntry(2, 0L).containsEntry(3, 1L).hasSize(3);
+    }
+
+    @Test
+    void findPageOrderByIdClampsLimit() {
+        // GIVEN
+        UtilisateurDAO dao = mock(UtilisateurDAO.class, CALLS_REAL_METHODS);
+        doReturn(null).when(dao).findAllByOrderByIdAsc(PageRequest.ofSize(1000));
+        doReturn(null).when(dao).findByIdGreaterThanOrderByIdAsc(10, PageRequest.ofSize(50));
+
+        // WHEN
+        dao.findPageOrderById(null, 1_000_000);
+        dao.findPageOrderById(10, null);
+
+        // THEN
+        verify(dao).findAllByOrderByIdAsc(PageRequest.ofSize(1000));
+        verify(dao).findByIdGreaterThanOrderByIdAsc(10, PageRequest.ofSize(50));
+    }
+
+    @Test
+    void findSearchUtilisateurPagePassesCriteriaAndClampsLimit() {
+        // GIVEN
+        UtilisateurDAO dao = mock(UtilisateurDAO.class, CALLS_REAL_METHODS);
+        doReturn(null).when(dao).findSearchUtilisateurPageAfter("Dupont", null, null, null, null, true, 3, TypeUtilisateurCode.ADMIN, 10, PageRequest.ofSize(1000));
+
+        // WHEN
+        dao.findSearchUtilisateurPage("Dupont", null, null, null, null, true, 3, TypeUtilisateurCode.ADMIN, 10, 1_000_000);
+
+        // THEN
+        verify(dao).findSearchUtilisateurPageAfter("Dupont", null, null, null, null, true, 3, TypeUtilisateurCode.ADMIN, 10, PageRequest.ofSize(1000));
+    }
+
+    @Test
+    void streamAllUsesFetchSize() throws NoSuchMethodException {
+        QueryHints hints = UtilisateurDAO.class.getMethod("streamAll").getAnnotation(QueryHints.class);
+        assertThat(hints.value())
+                .extracting(QueryHint::name, QueryHint::value)
+                .containsExactly(
+                        tuple("org.hibernate.fetchSize", "1000"),
+                        tuple("org.hibernate.readOnly", "true"));
+    }
+
+    @Test
+    void hasProjectionConstructor() throws NoSuchMethodException {
+        assertThat(UtilisateurRead.class.getConstructor(Integer.class, String.class, String.class, String.class,
+                LocalDate.class, String.class, Boolean.class, Integer.class, TypeUtilisateurCode.class,
+                LocalDateTime.class, LocalDateTime.class)).isNotNull();
+    }
+}
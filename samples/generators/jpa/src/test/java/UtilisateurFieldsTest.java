@@ -0,0 +1,63 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurRead;
+import topmodel.jpa.sample.demo.entities.securite.profil.Profil;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.TypeUtilisateur;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+
+class UtilisateurFieldsTest {
+
+    @Test
+    void accessorsReadAndWriteEntityFields() {
+        // GIVEN
+        Utilisateur utilisateur = new Utilisateur();
+
+        // WHEN
+        Utilisateur.Fields.NOM.getSetter().accept(utilisateur, "Dupont");
+        Utilisateur.Fields.ID.getSetter().accept(utilisateur, 42);
+
+        // THEN
+        assertThat(utilisateur.getNom()).isEqualTo("Dupont");
+        assertThat(Utilisateur.Fields.ID.getGetter().apply(utilisateur)).isEqualTo(42);
+        assertThat(Utilisateur.Fields.NOM.getColumnName()).isEqualTo("UTI_NOM");
+        assertThat(Utilisateur.Fields.PROFIL.getColumnName()).isEqualTo("PRO_ID");
+    }
+
+    @Test
+    void accessorsReadRecordFields() {
+        // GIVEN
+        UtilisateurRead utilisateur = new UtilisateurRead(1, "NOM", "PRENOM", "EMAIL", null, null, true, 2, null, null, null);
+
+        // WHEN
+        Object email = UtilisateurRead.Fields.EMAIL.getGetter().apply(utilisateur);
+
+        // THEN
+        assertThat(email).isEqualTo("EMAIL");
+        assertThat(UtilisateurRead.Fields.PROFIL_ID.getGetter().apply(utilisateur)).isEqualTo(2);
+        assertThat(UtilisateurRead.Fields.NOM.getSetter()).isNull();
+    }
+
+    @Test
+    void reverseAssociationIsACollection() {
+        // GIVEN
+        Profil profil = new Profil();
+        Utilisateur utilisateur = new Utilisateur();
+
+        // WHEN
+        profil.getUtilisateurs().add(utilisateur);
+
+        // THEN
+        assertThat(Profil.Fields.UTILISATEURS.getType()).isEqualTo(List.class);
+        assertThat(profil.getUtilisateurs()).containsExactly(utilisateur);
+    }
+
+    @Test
+    void referenceListsHaveNoSetter() {
+        assertThat(TypeUtilisateur.Fields.LIBELLE.getSetter()).isNull();
+        assertThat(TypeUtilisateur.Fields.LIBELLE.getGetter().apply(TypeUtilisateur.ADMIN)).isEqualTo(TypeUtilisateur.ADMIN.getLibelle());
+    }
+}
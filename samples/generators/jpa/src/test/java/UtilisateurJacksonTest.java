@@ -0,0 +1,130 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilItem;
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilItemSerializer;
+import topmodel.jpa.sample.demo.dtos.securite.profil.ProfilWrite;
+import topmodel.jpa.sample.demo.dtos.securite.profil.SecuriteProfilJacksonModule;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.SecuriteUtilisateurJacksonModule;
+import topmodel.jpa.sample.demo.dtos.securite.utilisateur.UtilisateurWrite;
+import topmodel.jpa.sample.demo.enums.securite.profil.DroitCode;
+import topmodel.jpa.sample.demo.enums.securite.utilisateur.TypeUtilisateurCode;
+
+class UtilisateurJacksonTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SecuriteProfilJacksonModule())
+            .registerModule(new SecuriteUtilisateurJacksonModule());
+
+    @Test
+    void serializesPropertiesInModelOrder() throws Exception {
+        // GIVEN
+        UtilisateurWrite utilisateur = new UtilisateurWrite();
+        utilisateur.setNom("Dupont");
+        utilisateur.setProfilId(3);
+
+        // WHEN
+        String json = mapper.writeValueAsString(utilisateur);
+
+        // THEN
+        assertThat(json).isEqualTo("{\"nom\":\"Dupont\",\"prenom\":null,\"email\":null,\"dateNaissance\":null,\"adresse\":null,"
+                + "\"actif\":true,\"profilId\":3,\"typeUtilisateurCode\":\"GEST\"}");
+    }
+
+    @Test
+    void serializationFollowsMapperInclusion() throws Exception {
+        // GIVEN
+        UtilisateurWrite utilisateur = new UtilisateurWrite();
+        utilisateur.setNom("Dupont");
+        ProfilWrite profil = new ProfilWrite();
+        profil.setLibelle("");
+        profil.setDroits(List.of());
+
+        // WHEN
+        String nonNull = mapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL).writeValueAsString(utilisateur);
+        String nonEmpty = mapper.copy().setSerializationInclusion(JsonInclude.Include.NON_EMPTY).writeValueAsString(profil);
+
+        // THEN
+        assertThat(nonNull).isEqualTo("{\"nom\":\"Dupont\",\"actif\":true,\"typeUtilisateurCode\":\"GEST\"}");
+        assertThat(nonEmpty).isEqualTo("{}");
+    }
+
+    @Test
+    void serializesItemInterfaces() throws Exception {
+        // GIVEN
+        ProfilItem profil = new ProfilItem() {
+
+            @Override
+            public Integer getId() {
+                return 1;
+            }
+
+            @Override
+            public String getLibelle() {
+                return "Administrateur";
+            }
+
+            @Override
+            public Long getNombreUtilisateurs() {
+                return 4L;
+            }
+
+            @Override
+            public void hydrate(Integer id, String libelle, Long nombreUtilisateurs) {
+            }
+        };
+
+        // WHEN
+        String json = mapper.writeValueAsString(profil);
+
+        // THEN
+        assertThat(mapper.getSerializerProviderInstance().findValueSerializer(profil.getClass())).isInstanceOf(ProfilItemSerializer.class);
+        assertThat(json).isEqualTo("{\"id\":1,\"libelle\":\"Administrateur\",\"nombreUtilisateurs\":4}");
+    }
+
+    @Test
+    void roundTripsDtos() throws Exception {
+        // GIVEN
+        UtilisateurWrite utilisateur = new UtilisateurWrite();
+        utilisateur.setNom("Dupont");
+        utilisateur.setDateNaissance(LocalDate.of(1990, 5, 17));
+        utilisateur.setActif(false);
+        utilisateur.setTypeUtilisateurCode(TypeUtilisateurCode.ADMIN);
+        ProfilWrite profil = new ProfilWrite();
+        profil.setLibelle("Administrateur");
+        profil.setDroits(List.of(DroitCode.CREATE, DroitCode.READ));
+
+        // WHEN
+        UtilisateurWrite utilisateurLu = mapper.readValue(mapper.writeValueAsString(utilisateur), UtilisateurWrite.class);
+        ProfilWrite profilLu = mapper.readValue(mapper.writeValueAsString(profil), ProfilWrite.class);
+
+        // THEN
+        assertThat(utilisateurLu).usingRecursiveComparison().isEqualTo(utilisateur);
+        assertThat(profilLu.getDroits()).containsExactly(DroitCode.CREATE, DroitCode.READ);
+    }
+
+    @Test
+    void unknownPropertiesFollowMapperConfiguration() throws Exception {
+        String json = "{\"nom\":\"Dupont\",\"inconnu\":{\"a\":1},\"profilId\":\"4\"}";
+
+        assertThatThrownBy(() -> mapper.readValue(json, UtilisateurWrite.class)).isInstanceOf(UnrecognizedPropertyException.class);
+
+        UtilisateurWrite utilisateur = mapper.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json, UtilisateurWrite.class);
+        assertThat(utilisateur.getNom()).isEqualTo("Dupont");
+        assertThat(utilisateur.getProfilId()).isEqualTo(4);
+    }
+}
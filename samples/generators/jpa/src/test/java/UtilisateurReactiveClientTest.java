@@ -0,0 +1,28 @@
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import topmodel.jpa.sample.demo.api.client.reactive.securite.utilisateur.UtilisateurClient;
+
+class UtilisateurReactiveClientTest {
+    @Test
+    void isInterfaceWithMethods() {
+        assertThat(UtilisateurClient.class)
+                .isInterface()
+                .hasMethods("addUtilisateur", "deleteUtilisateur", "getUtilisateur", "searchUtilisateur",
+                        "searchUtilisateurStream", "updateUtilisateur");
+    }
+
+    @Test
+    void returnsReactiveTypes() {
+        assertThat(UtilisateurClient.class.getMethods())
+                .allSatisfy(method -> assertThat(method.getReturnType()).isIn(Mono.class, Flux.class));
+        assertThat(UtilisateurClient.class.getMethods())
+                .filteredOn(method -> method.getName().equals("searchUtilisateurStream"))
+                .singleElement()
+                .satisfies(method -> assertThat(method.getReturnType()).isEqualTo(Flux.class));
+    }
+}
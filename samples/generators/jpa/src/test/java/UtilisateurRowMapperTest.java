@@ -0,0 +1,58 @@
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.TypeUtilisateur;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.Utilisateur;
+import topmodel.jpa.sample.demo.entities.securite.utilisateur.UtilisateurRowMapper;
+
+class UtilisateurRowMapperTest {
+
+    @Test
+    void mapRowReadsColumnsByIndex() throws SQLException {
+        // GIVEN
+        LocalDateTime dateCreation = LocalDateTime.of(2024, 1, 1, 12, 0);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt(1)).thenReturn(42);
+        when(rs.getString(2)).thenReturn("Dupont");
+        when(rs.getString(3)).thenReturn("Jean");
+        when(rs.getString(4)).thenReturn("jean.dupont@example.com");
+        when(rs.getObject(5, LocalDate.class)).thenReturn(null);
+        when(rs.getString(6)).thenReturn(null);
+        when(rs.getBoolean(7)).thenReturn(true);
+        when(rs.getInt(8)).thenReturn(7);
+        when(rs.getString(9)).thenReturn("ADMIN");
+        when(rs.getObject(10, LocalDateTime.class)).thenReturn(dateCreation);
+        when(rs.getObject(11, LocalDateTime.class)).thenReturn(null);
+
+        // WHEN
+        Utilisateur utilisateur = new UtilisateurRowMapper().mapRow(rs, 0);
+
+        // THEN
+        assertThat(utilisateur.getId()).isEqualTo(42);
+        assertThat(utilisateur.getNom()).isEqualTo("Dupont");
+        assertThat(utilisateur.getEmail()).isEqualTo("jean.dupont@example.com");
+        assertThat(utilisateur.getDateNaissance()).isNull();
+        assertThat(utilisateur.getAdresse()).isNull();
+        assertThat(utilisateur.isActif()).isTrue();
+        assertThat(utilisateur.getProfil().getId()).isEqualTo(7);
+        assertThat(utilisateur.getTypeUtilisateur()).isSameAs(TypeUtilisateur.ADMIN);
+        assertThat(utilisateur.getDateCreation()).isEqualTo(dateCreation);
+        assertThat(utilisateur.getDateModification()).isNull();
+    }
+
+    @Test
+    void columnsMatchReadOrder() {
+        assertThat(UtilisateurRowMapper.COLUMNS.split(", "))
+                .startsWith("UTI_ID", "UTI_NOM")
+                .contains("PRO_ID", "TUT_CODE")
+                .hasSize(11);
+    }
+}
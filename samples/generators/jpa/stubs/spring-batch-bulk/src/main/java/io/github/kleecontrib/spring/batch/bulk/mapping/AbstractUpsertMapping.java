@@ -0,0 +1,14 @@
+package io.github.kleecontrib.spring.batch.bulk.mapping;
+
+import de.bytefish.pgbulkinsert.mapping.AbstractMapping;
+
+/**
+ * Mapping d'une entité vers les colonnes de sa table, pour un upsert par COPY sur les colonnes de clé.
+ * Stub de compilation : seule l'API utilisée par les flux de données générés est déclarée.
+ */
+public abstract class AbstractUpsertMapping<TEntity> extends AbstractMapping<TEntity> {
+
+    protected AbstractUpsertMapping(String schemaName, String tableName, String... keyColumns) {
+        super(schemaName, tableName);
+    }
+}